@@ -62,3 +62,132 @@ CREATE TABLE IF NOT EXISTS retails (
     INDEX idx_product_id (product_id)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
 
+
+-- 4. inventory_movements 테이블 생성 (재고 변동 이력, append-only)
+CREATE TABLE IF NOT EXISTS inventory_movements (
+    inventory_movement_id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    inventory_id BIGINT NOT NULL,
+    movement_type VARCHAR(40) NOT NULL,
+    display_delta DECIMAL(10, 3) NOT NULL,
+    warehouse_delta DECIMAL(10, 3) NOT NULL,
+    outgoing_delta DECIMAL(10, 3) NOT NULL,
+    incoming_delta DECIMAL(10, 3) NOT NULL,
+    inventory_revision BIGINT NOT NULL,
+    created_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+    FOREIGN KEY (inventory_id) REFERENCES inventories(inventory_id) ON DELETE RESTRICT,
+    INDEX idx_movement_inventory_created (inventory_id, created_at),
+    INDEX idx_movement_inventory_revision (inventory_id, inventory_revision),
+    INDEX idx_movement_created (created_at)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- 기존 재고는 현재 수량을 초기 이력(INITIAL)으로 한 번 적재해야 시점 조회 결과가 맞습니다. (변경 순번은 8번 적용 직후 값인 0)
+-- INSERT INTO inventory_movements (inventory_id, movement_type, display_delta, warehouse_delta, outgoing_delta, incoming_delta, inventory_revision)
+-- SELECT inventory_id, 'INITIAL', display_stock, warehouse_stock, outgoing_reserved, incoming_reserved, 0
+-- FROM inventories
+-- WHERE inventory_id NOT IN (SELECT DISTINCT inventory_id FROM inventory_movements);
+
+-- 5. inventory_snapshots 테이블 생성 (재고 변동 이력 누적 스냅샷)
+CREATE TABLE IF NOT EXISTS inventory_snapshots (
+    inventory_snapshot_id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    inventory_id BIGINT NOT NULL,
+    last_revision BIGINT NOT NULL,
+    last_movement_id BIGINT NOT NULL,
+    snapshot_at DATETIME NOT NULL,
+    display_stock DECIMAL(10, 3) NOT NULL,
+    warehouse_stock DECIMAL(10, 3) NOT NULL,
+    outgoing_reserved DECIMAL(10, 3) NOT NULL,
+    incoming_reserved DECIMAL(10, 3) NOT NULL,
+    created_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+    FOREIGN KEY (inventory_id) REFERENCES inventories(inventory_id) ON DELETE RESTRICT,
+    INDEX idx_snapshot_inventory_at (inventory_id, snapshot_at),
+    INDEX idx_snapshot_inventory_revision (inventory_id, last_revision)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- 6. retail_upload_jobs 테이블 생성 (소매 엑셀 비동기 업로드 작업)
+CREATE TABLE IF NOT EXISTS retail_upload_jobs (
+    retail_upload_job_id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    store_id BIGINT NOT NULL,
+    user_id BIGINT NOT NULL,
+    original_filename VARCHAR(255),
+    stored_file_path VARCHAR(500) NOT NULL,
+    sold_date DATE NOT NULL,
+    content_hash CHAR(64) NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    processed_count INT NOT NULL DEFAULT 0,
+    skipped_count INT NOT NULL DEFAULT 0,
+    skipped_products LONGTEXT,
+    error_message VARCHAR(500),
+    started_at DATETIME,
+    completed_at DATETIME,
+    claim_token VARCHAR(36),
+    created_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+    FOREIGN KEY (store_id) REFERENCES stores(store_id) ON DELETE RESTRICT,
+    INDEX idx_retail_upload_job_store_created (store_id, created_at),
+    INDEX idx_retail_upload_job_status_updated (status, updated_at)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- 7. retails 상품별 판매일 인덱스 (자동 발주의 최근 판매 속도 집계용)
+CREATE INDEX idx_product_sold_date ON retails (product_id, sold_date);
+
+-- 8. inventories 상점/재고 상태/변경 순번 컬럼 (재주문 필요 재고 목록, 자동 발주 대상 조회용)
+-- 변경 순번은 수량/상태를 바꾸는 UPDATE 마다 1씩 증가하며, 재고 변경 이벤트 순서 판별과 변동 이력 누적 기준으로 씀
+ALTER TABLE inventories
+    ADD COLUMN store_id BIGINT NULL AFTER product_id,
+    ADD COLUMN status VARCHAR(20) NOT NULL DEFAULT 'NORMAL' AFTER reorder_trigger_point,
+    ADD COLUMN revision BIGINT NOT NULL DEFAULT 0 AFTER status;
+
+UPDATE inventories i
+JOIN products p ON p.product_id = i.product_id
+SET i.store_id = p.store_id;
+
+UPDATE inventories
+SET status = CASE
+    WHEN warehouse_stock = 0 THEN 'OUT_OF_STOCK'
+    WHEN warehouse_stock <= reorder_trigger_point THEN 'LOW'
+    ELSE 'NORMAL'
+END;
+
+ALTER TABLE inventories
+    MODIFY COLUMN store_id BIGINT NOT NULL,
+    ADD CONSTRAINT fk_inventory_store FOREIGN KEY (store_id) REFERENCES stores(store_id) ON DELETE RESTRICT;
+
+CREATE INDEX idx_inventory_store_status ON inventories (store_id, status);
+CREATE INDEX idx_inventory_status ON inventories (status);
+
+-- 9. customer_order_sync_cursors 테이블 생성 (카페24 주문 pull 동기화 진행 위치와 노드 간 임대)
+CREATE TABLE IF NOT EXISTS customer_order_sync_cursors (
+    sync_key VARCHAR(50) PRIMARY KEY,
+    last_order_at DATETIME,
+    last_order_id VARCHAR(50),
+    resume_date DATE NOT NULL,
+    lease_owner VARCHAR(50),
+    lease_until DATETIME,
+    last_synced_at DATETIME,
+    created_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- 10. customer_order_inbox 테이블 생성 (카페24 주문 웹훅 수신함, 소비자가 선점 후 묶음 반영)
+CREATE TABLE IF NOT EXISTS customer_order_inbox (
+    customer_order_inbox_id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    cafe24_order_id VARCHAR(50) NOT NULL,
+    payload LONGTEXT NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    attempts INT NOT NULL DEFAULT 0,
+    next_attempt_at DATETIME NOT NULL,
+    claim_token VARCHAR(36),
+    claimed_until DATETIME,
+    last_error VARCHAR(500),
+    processed_at DATETIME,
+    created_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+    INDEX idx_customer_order_inbox_status_next (status, next_attempt_at),
+    INDEX idx_customer_order_inbox_claim_token (claim_token)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- 11. 고객 주문 항목 재고 예약 상태 (결제 완료 + 미취소 주문만 출고 예정 수량을 잡음)
+ALTER TABLE customer_order_items
+    ADD COLUMN reservation_status VARCHAR(20) NOT NULL DEFAULT 'UNRESERVED' AFTER item_code;
@@ -0,0 +1,248 @@
+package com.almang.inventory.cafe24.client;
+
+import com.almang.inventory.global.config.properties.Cafe24ClientProperties;
+import com.almang.inventory.global.config.properties.Cafe24Properties;
+import com.almang.inventory.global.exception.BaseException;
+import com.almang.inventory.global.exception.ErrorCode;
+import com.almang.inventory.user.auth.service.RedisService;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.net.URI;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpStatusCodeException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * 카페24 Admin API 호출 클라이언트입니다.
+ * - keep-alive 커넥션 풀을 쓰는 cafe24RestTemplate 으로 호출
+ * - 호출 전 몰 호출 버킷(Cafe24CallLimiter)에 자리가 날 때까지 대기하고, 응답의 X-Api-Call-Limit 으로 버킷 상태를 갱신
+ * - 429 와 5xx(조회/멱등 요청만), 연결 오류는 지터를 준 지수 백오프로 재시도
+ * - 엔드포인트별 지연 시간, 대기 시간, 재시도/한도 초과 횟수를 Micrometer 지표로 기록
+ */
+@Slf4j
+@Component
+public class Cafe24ApiClient {
+
+    static final String CALL_LIMIT_HEADER = "X-Api-Call-Limit";
+    static final String API_VERSION_HEADER = "X-Cafe24-Api-Version";
+
+    private static final String REQUEST_METRIC = "cafe24.api.requests";
+    private static final String THROTTLE_WAIT_METRIC = "cafe24.api.throttle.wait";
+    private static final String THROTTLED_METRIC = "cafe24.api.throttled";
+    private static final String RETRY_METRIC = "cafe24.api.retries";
+    private static final String BUCKET_LEVEL_METRIC = "cafe24.api.bucket.level";
+
+    private final RestTemplate restTemplate;
+    private final Cafe24Properties cafe24Properties;
+    private final Cafe24ClientProperties clientProperties;
+    private final RedisService redisService;
+    private final MeterRegistry meterRegistry;
+    private final Cafe24CallLimiter callLimiter;
+
+    public Cafe24ApiClient(
+            @Qualifier("cafe24RestTemplate") RestTemplate restTemplate,
+            Cafe24Properties cafe24Properties,
+            Cafe24ClientProperties clientProperties,
+            RedisService redisService,
+            MeterRegistry meterRegistry
+    ) {
+        this.restTemplate = restTemplate;
+        this.cafe24Properties = cafe24Properties;
+        this.clientProperties = clientProperties;
+        this.redisService = redisService;
+        this.meterRegistry = meterRegistry;
+        // 연동된 몰이 하나이므로 몰 버킷도 하나
+        this.callLimiter = new Cafe24CallLimiter(
+                clientProperties.getBucketSize(), clientProperties.getLeakRatePerSecond(), clientProperties.getBucketReserve());
+        Gauge.builder(BUCKET_LEVEL_METRIC, callLimiter, Cafe24CallLimiter::level)
+                .description("카페24 몰 호출 버킷의 추정 사용량")
+                .register(meterRegistry);
+    }
+
+    /**
+     * @param path         base-url 뒤의 경로 템플릿 (예: "/admin/orders?start_date={startDate}"), 물음표 앞부분이 지표의 endpoint 태그가 됨
+     * @param uriVariables 경로 템플릿 변수
+     */
+    public <T> T get(String path, Class<T> responseType, Map<String, ?> uriVariables) {
+        return exchange(HttpMethod.GET, path, null, responseType, uriVariables);
+    }
+
+    public <T> T post(String path, Object body, Class<T> responseType, Map<String, ?> uriVariables) {
+        return exchange(HttpMethod.POST, path, body, responseType, uriVariables);
+    }
+
+    public <T> T put(String path, Object body, Class<T> responseType, Map<String, ?> uriVariables) {
+        return exchange(HttpMethod.PUT, path, body, responseType, uriVariables);
+    }
+
+    private <T> T exchange(HttpMethod method, String path, Object body, Class<T> responseType, Map<String, ?> uriVariables) {
+        String endpoint = endpointOf(path);
+        URI uri = restTemplate.getUriTemplateHandler().expand(cafe24Properties.getBaseUrl() + path, uriVariables);
+        HttpEntity<Object> request = new HttpEntity<>(body, headers());
+
+        for (int attempt = 0; ; attempt++) {
+            awaitCallSlot(endpoint);
+            long startNanos = System.nanoTime();
+            try {
+                ResponseEntity<T> response = restTemplate.exchange(uri, method, request, responseType);
+                recordRequest(endpoint, method, String.valueOf(response.getStatusCode().value()), startNanos);
+                observeCallLimit(response.getHeaders());
+                return response.getBody();
+            } catch (HttpStatusCodeException e) {
+                HttpStatusCode status = e.getStatusCode();
+                recordRequest(endpoint, method, String.valueOf(status.value()), startNanos);
+                observeCallLimit(e.getResponseHeaders());
+                if (status.value() == 429) {
+                    callLimiter.throttled();
+                    meterRegistry.counter(THROTTLED_METRIC, "endpoint", endpoint).increment();
+                }
+                if (!isRetryable(method, status) || attempt >= clientProperties.getMaxRetries()) {
+                    throw toBaseException(method, endpoint, e);
+                }
+                retryAfterBackoff(endpoint, method, attempt, String.valueOf(status.value()), retryAfter(e.getResponseHeaders()));
+            } catch (ResourceAccessException e) {
+                recordRequest(endpoint, method, "IO_ERROR", startNanos);
+                if (!isIdempotent(method) || attempt >= clientProperties.getMaxRetries()) {
+                    log.error("[Cafe24ApiClient] 카페24 API 연결 실패 - {} {}", method, endpoint, e);
+                    throw new BaseException(ErrorCode.CAFE24_API_ERROR, "카페24 API 연결 실패: " + e.getMessage(), e);
+                }
+                retryAfterBackoff(endpoint, method, attempt, "IO_ERROR", null);
+            }
+        }
+    }
+
+    private HttpHeaders headers() {
+        String accessToken = redisService.getCafe24AccessToken();
+        if (accessToken == null || accessToken.isEmpty()) {
+            throw new BaseException(ErrorCode.CAFE24_ACCESS_TOKEN_NOT_FOUND);
+        }
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBearerAuth(accessToken);
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        String apiVersion = clientProperties.getApiVersion();
+        if (apiVersion != null && !apiVersion.isBlank()) {
+            headers.set(API_VERSION_HEADER, apiVersion);
+        }
+        return headers;
+    }
+
+    private void awaitCallSlot(String endpoint) {
+        long waitNanos = callLimiter.reserve();
+        if (waitNanos <= 0) {
+            return;
+        }
+        meterRegistry.timer(THROTTLE_WAIT_METRIC, "endpoint", endpoint).record(waitNanos, TimeUnit.NANOSECONDS);
+        log.debug("[Cafe24ApiClient] 호출 버킷 대기 - endpoint: {}, {}ms", endpoint, TimeUnit.NANOSECONDS.toMillis(waitNanos));
+        sleep(Duration.ofNanos(waitNanos));
+    }
+
+    // 응답 헤더 예: "X-Api-Call-Limit: 12/40"
+    private void observeCallLimit(HttpHeaders headers) {
+        String callLimit = headers != null ? headers.getFirst(CALL_LIMIT_HEADER) : null;
+        if (callLimit == null) {
+            return;
+        }
+
+        int separator = callLimit.indexOf('/');
+        if (separator < 0) {
+            return;
+        }
+        try {
+            int used = Integer.parseInt(callLimit.substring(0, separator).trim());
+            int max = Integer.parseInt(callLimit.substring(separator + 1).trim());
+            callLimiter.observe(used, max);
+        } catch (NumberFormatException e) {
+            log.warn("[Cafe24ApiClient] {} 헤더를 해석할 수 없습니다: {}", CALL_LIMIT_HEADER, callLimit);
+        }
+    }
+
+    private void retryAfterBackoff(String endpoint, HttpMethod method, int attempt, String reason, Duration retryAfter) {
+        Duration delay = backoff(attempt, retryAfter);
+        meterRegistry.counter(RETRY_METRIC, "endpoint", endpoint, "reason", reason).increment();
+        log.warn("[Cafe24ApiClient] 카페24 API 재시도 - {} {}, 사유: {}, 시도: {}, 대기: {}ms",
+                method, endpoint, reason, attempt + 1, delay.toMillis());
+        sleep(delay);
+    }
+
+    // full jitter: 0 ~ min(최대, 기본 * 2^attempt) 사이 임의 값 (Retry-After 가 있으면 그 이상)
+    private Duration backoff(int attempt, Duration retryAfter) {
+        long ceiling = Math.min(
+                clientProperties.getBackoffMax().toMillis(),
+                clientProperties.getBackoffBase().toMillis() << Math.min(attempt, 20)
+        );
+        long jittered = ThreadLocalRandom.current().nextLong(ceiling + 1);
+        if (retryAfter != null) {
+            jittered = Math.max(jittered, retryAfter.toMillis());
+        }
+        return Duration.ofMillis(jittered);
+    }
+
+    private Duration retryAfter(HttpHeaders headers) {
+        String retryAfter = headers != null ? headers.getFirst(HttpHeaders.RETRY_AFTER) : null;
+        if (retryAfter == null) {
+            return null;
+        }
+        try {
+            return Duration.ofSeconds(Long.parseLong(retryAfter.trim()));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private boolean isRetryable(HttpMethod method, HttpStatusCode status) {
+        if (status.value() == 429) {
+            return true; // 한도 초과 응답은 처리되지 않은 요청이므로 메서드와 관계없이 재시도
+        }
+        return status.is5xxServerError() && isIdempotent(method);
+    }
+
+    // POST 는 서버에서 처리된 뒤 실패했을 수 있어 중복 생성을 막기 위해 재시도하지 않음
+    private boolean isIdempotent(HttpMethod method) {
+        return method != HttpMethod.POST;
+    }
+
+    private BaseException toBaseException(HttpMethod method, String endpoint, HttpStatusCodeException e) {
+        log.error("[Cafe24ApiClient] 카페24 API 호출 실패 - {} {}, status: {}, body: {}",
+                method, endpoint, e.getStatusCode(), e.getResponseBodyAsString());
+        ErrorCode errorCode = e.getStatusCode().value() == 429 ? ErrorCode.CAFE24_RATE_LIMITED : ErrorCode.CAFE24_API_ERROR;
+        return new BaseException(errorCode, "카페24 API 호출 실패 (" + e.getStatusCode().value() + "): " + endpoint, e);
+    }
+
+    private void recordRequest(String endpoint, HttpMethod method, String status, long startNanos) {
+        Timer.builder(REQUEST_METRIC)
+                .tag("endpoint", endpoint)
+                .tag("method", method.name())
+                .tag("status", status)
+                .register(meterRegistry)
+                .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private static String endpointOf(String path) {
+        int query = path.indexOf('?');
+        return query < 0 ? path : path.substring(0, query);
+    }
+
+    private static void sleep(Duration duration) {
+        try {
+            TimeUnit.NANOSECONDS.sleep(duration.toNanos());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BaseException(ErrorCode.CAFE24_API_ERROR, "카페24 API 호출 대기 중 인터럽트되었습니다.", e);
+        }
+    }
+}
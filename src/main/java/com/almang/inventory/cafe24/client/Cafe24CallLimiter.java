@@ -0,0 +1,76 @@
+package com.almang.inventory.cafe24.client;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * 카페24 몰 호출 버킷을 로컬에서 흉내 내는 leaky bucket 입니다.
+ * 호출마다 버킷에 1을 더하고 초당 leakRate 만큼 비워지며, 여유분을 남긴 한도를 넘는 호출은 자리가 날 때까지 기다립니다.
+ * 응답의 X-Api-Call-Limit(사용량/버킷 크기)로 실제 버킷 상태를 반영하므로 다른 노드의 호출도 고려됩니다.
+ */
+final class Cafe24CallLimiter {
+
+    private static final double NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final double leakPerNano;
+    private final int reserve;
+    private final LongSupplier nanoClock;
+
+    private int capacity;
+    private double level;
+    private long lastLeakNanos;
+
+    Cafe24CallLimiter(int capacity, double leakRatePerSecond, int reserve) {
+        this(capacity, leakRatePerSecond, reserve, System::nanoTime);
+    }
+
+    Cafe24CallLimiter(int capacity, double leakRatePerSecond, int reserve, LongSupplier nanoClock) {
+        this.capacity = capacity;
+        this.leakPerNano = leakRatePerSecond / NANOS_PER_SECOND;
+        this.reserve = reserve;
+        this.nanoClock = nanoClock;
+        this.lastLeakNanos = nanoClock.getAsLong();
+    }
+
+    /**
+     * 호출 한 건의 자리를 예약하고, 호출 전에 기다려야 하는 시간(나노초)을 반환합니다.
+     * 기다리는 호출도 미리 자리를 잡으므로 뒤에 온 호출은 그만큼 더 기다립니다.
+     */
+    synchronized long reserve() {
+        leak();
+        double limit = Math.max(capacity - reserve, 1);
+        double overflow = level + 1 - limit;
+        level += 1;
+        return overflow <= 0 ? 0 : (long) Math.ceil(overflow / leakPerNano);
+    }
+
+    // 응답 헤더의 실제 사용량이 로컬 추정보다 크면 그 값을 따름 (작으면 로컬 예약분을 유지)
+    synchronized void observe(int used, int max) {
+        leak();
+        if (max > 0) {
+            capacity = max;
+        }
+        level = Math.max(level, used);
+    }
+
+    // 429 응답: 버킷이 가득 찬 것으로 보고 이후 호출을 늦춤
+    synchronized void throttled() {
+        leak();
+        level = Math.max(level, capacity);
+    }
+
+    synchronized double level() {
+        leak();
+        return level;
+    }
+
+    synchronized int capacity() {
+        return capacity;
+    }
+
+    private void leak() {
+        long now = nanoClock.getAsLong();
+        level = Math.max(0, level - (now - lastLeakNanos) * leakPerNano);
+        lastLeakNanos = now;
+    }
+}
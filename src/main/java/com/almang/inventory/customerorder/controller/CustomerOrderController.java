@@ -1,13 +1,17 @@
 package com.almang.inventory.customerorder.controller;
 
-import com.almang.inventory.customerorder.dto.request.CustomerOrderRequest;
-import com.almang.inventory.customerorder.service.CustomerOrderService;
+import com.almang.inventory.customerorder.dto.response.CustomerOrderInboxResponse;
+import com.almang.inventory.customerorder.dto.response.CustomerOrderShipmentResponse;
+import com.almang.inventory.customerorder.service.CustomerOrderInboxService;
+import com.almang.inventory.customerorder.service.CustomerOrderReservationService;
 import com.almang.inventory.global.api.ApiResponse;
 import com.almang.inventory.global.api.SuccessMessage;
-import jakarta.validation.Valid;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 @Slf4j
@@ -16,22 +20,47 @@ import org.springframework.web.bind.annotation.*;
 @RequestMapping("/api/v1/customer-orders") // 카페24 연동을 위한 기본 경로
 public class CustomerOrderController {
 
-    private final CustomerOrderService customerOrderService;
+    private final CustomerOrderInboxService customerOrderInboxService;
+    private final CustomerOrderReservationService customerOrderReservationService;
 
     /**
-     * 카페24로부터 주문 정보를 수신하고 처리하는 API 엔드포인트
-     * (재고 감소 로직은 CustomerOrderService에서 정책에 따라 구현 대기 중)
+     * 카페24로부터 주문 웹훅을 수신하는 API 엔드포인트
+     * 원본 payload 를 검증해 수신함에 적재만 하고 202 로 응답하며, 주문 반영은 CustomerOrderInboxWorker 가 묶음으로 처리합니다.
      */
-    @PostMapping
-    @ResponseStatus(HttpStatus.CREATED) // 성공적으로 생성되었음을 의미
-    public ApiResponse<Long> receiveCafe24Order(@Valid @RequestBody CustomerOrderRequest request) {
-        log.info("카페24로부터 주문 정보 수신: Order ID = {}", request.getCafe24OrderId());
+    @PostMapping(consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<ApiResponse<Long>> receiveCafe24Order(@RequestBody String payload) {
+        Long inboxId = customerOrderInboxService.enqueue(payload);
+        log.info("카페24로부터 주문 정보 수신: Inbox ID = {}", inboxId);
 
-        Long customerOrderId = customerOrderService.createCustomerOrderAndProcessStock(request);
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(ApiResponse.success(SuccessMessage.CUSTOMER_ORDER_ACCEPTED.getMessage(), inboxId));
+    }
+
+    // 온라인 주문 출고 확정 (예약된 출고 예정 수량만큼 창고 재고 차감)
+    @PostMapping("/{customerOrderId}/shipment")
+    public ResponseEntity<ApiResponse<CustomerOrderShipmentResponse>> shipCustomerOrder(
+            @PathVariable Long customerOrderId
+    ) {
+        CustomerOrderShipmentResponse response = customerOrderReservationService.ship(customerOrderId);
 
-        return ApiResponse.success(SuccessMessage.CUSTOMER_ORDER_CREATED, customerOrderId);
+        return ResponseEntity.ok(ApiResponse.success(SuccessMessage.SHIP_CUSTOMER_ORDER_SUCCESS.getMessage(), response));
     }
 
-    // 추가적인 고객 주문 관련 API 엔드포인트가 필요할 수 있습니다.
-    // 예: 특정 기간 동안의 고객 주문 조회, 특정 고객의 주문 내역 조회 등
+    @GetMapping("/inbox/dead-letters")
+    public ResponseEntity<ApiResponse<List<CustomerOrderInboxResponse>>> getDeadLetters(
+            @RequestParam(required = false) Integer limit
+    ) {
+        List<CustomerOrderInboxResponse> response = customerOrderInboxService.getDeadLetters(limit);
+
+        return ResponseEntity.ok(
+                ApiResponse.success(SuccessMessage.GET_CUSTOMER_ORDER_DEAD_LETTERS_SUCCESS.getMessage(), response)
+        );
+    }
+
+    @PostMapping("/inbox/{inboxId}/requeue")
+    public ResponseEntity<ApiResponse<CustomerOrderInboxResponse>> requeueDeadLetter(@PathVariable Long inboxId) {
+        CustomerOrderInboxResponse response = customerOrderInboxService.requeue(inboxId);
+
+        return ResponseEntity.ok(ApiResponse.success(SuccessMessage.REQUEUE_CUSTOMER_ORDER_SUCCESS.getMessage(), response));
+    }
 }
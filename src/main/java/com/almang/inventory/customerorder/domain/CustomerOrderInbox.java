@@ -0,0 +1,122 @@
+package com.almang.inventory.customerorder.domain;
+
+import com.almang.inventory.global.entity.BaseTimeEntity;
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+import lombok.*;
+
+/**
+ * 카페24 주문 웹훅 수신함 (outbox)
+ * 웹훅 요청은 원본 payload 를 여기에 적재만 하고 바로 응답하며, 실제 주문 반영은 CustomerOrderInboxWorker 가 묶음으로 처리합니다.
+ * 여러 노드의 소비자는 claimToken 으로 서로 다른 행을 가져가고, claimedUntil 이 지난 PROCESSING 행은 다시 가져갈 수 있습니다.
+ */
+@Entity
+@Table(
+        name = "customer_order_inbox",
+        indexes = {
+                @Index(name = "idx_customer_order_inbox_status_next", columnList = "status,next_attempt_at"),
+                @Index(name = "idx_customer_order_inbox_claim_token", columnList = "claim_token")
+        }
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class CustomerOrderInbox extends BaseTimeEntity {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "customer_order_inbox_id")
+    private Long id;
+
+    @Column(name = "cafe24_order_id", nullable = false, length = 50)
+    private String cafe24OrderId;
+
+    // 웹훅 요청 본문 원문
+    @Lob
+    @Column(name = "payload", nullable = false)
+    private String payload;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private CustomerOrderInboxStatus status;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "claim_token", length = 36)
+    private String claimToken;
+
+    @Column(name = "claimed_until")
+    private LocalDateTime claimedUntil;
+
+    @Column(name = "last_error", length = MAX_ERROR_LENGTH)
+    private String lastError;
+
+    @Column(name = "processed_at")
+    private LocalDateTime processedAt;
+
+    public static CustomerOrderInbox received(String cafe24OrderId, String payload, LocalDateTime now) {
+        return CustomerOrderInbox.builder()
+                .cafe24OrderId(cafe24OrderId)
+                .payload(payload)
+                .status(CustomerOrderInboxStatus.PENDING)
+                .attempts(0)
+                .nextAttemptAt(now)
+                .build();
+    }
+
+    public void complete(LocalDateTime now) {
+        this.status = CustomerOrderInboxStatus.DONE;
+        this.attempts++;
+        this.processedAt = now;
+        this.lastError = null;
+        releaseClaim();
+    }
+
+    // 재시도 한도 안이면 nextAttemptAt 에 다시 처리하고, 넘으면 dead-letter 로 옮김
+    public void fail(String error, LocalDateTime nextAttemptAt, int maxAttempts) {
+        this.attempts++;
+        this.lastError = truncate(error);
+        if (attempts >= maxAttempts) {
+            this.status = CustomerOrderInboxStatus.DEAD;
+        } else {
+            this.status = CustomerOrderInboxStatus.PENDING;
+            this.nextAttemptAt = nextAttemptAt;
+        }
+        releaseClaim();
+    }
+
+    // 해석할 수 없는 payload 등 재시도해도 소용없는 경우
+    public void deadLetter(String error) {
+        this.attempts++;
+        this.status = CustomerOrderInboxStatus.DEAD;
+        this.lastError = truncate(error);
+        releaseClaim();
+    }
+
+    // dead-letter 를 수동으로 다시 처리 대기열에 넣음
+    public void requeue(LocalDateTime now) {
+        this.status = CustomerOrderInboxStatus.PENDING;
+        this.attempts = 0;
+        this.nextAttemptAt = now;
+        releaseClaim();
+    }
+
+    private void releaseClaim() {
+        this.claimToken = null;
+        this.claimedUntil = null;
+    }
+
+    private static String truncate(String error) {
+        if (error == null || error.length() <= MAX_ERROR_LENGTH) {
+            return error;
+        }
+        return error.substring(0, MAX_ERROR_LENGTH);
+    }
+}
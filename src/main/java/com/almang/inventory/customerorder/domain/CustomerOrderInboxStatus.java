@@ -0,0 +1,8 @@
+package com.almang.inventory.customerorder.domain;
+
+public enum CustomerOrderInboxStatus {
+    PENDING,     // 처리 대기 (재시도 대기 포함)
+    PROCESSING,  // 소비자가 가져가 처리 중
+    DONE,        // 반영 완료
+    DEAD         // 재시도 한도를 넘었거나 해석할 수 없어 처리 중단 (dead-letter)
+}
@@ -54,6 +54,12 @@ public class CustomerOrderItem extends BaseTimeEntity {
     @Column(name = "item_code", length = 50)
     private String itemCode;
 
+    // 재고 예약 상태, 전이는 CustomerOrderItemRepository.transitionReservation 의 조건부 UPDATE 로만 수행
+    @Enumerated(EnumType.STRING)
+    @Column(name = "reservation_status", nullable = false, length = 20)
+    @Builder.Default
+    private CustomerOrderItemReservationStatus reservationStatus = CustomerOrderItemReservationStatus.UNRESERVED;
+
     // 편의 메서드: 부모 주문 설정
     public void setCustomerOrder(CustomerOrder customerOrder) {
         this.customerOrder = customerOrder;
@@ -63,4 +69,9 @@ public class CustomerOrderItem extends BaseTimeEntity {
     public void setProduct(Product product) {
         this.product = product;
     }
+
+    // 조건부 UPDATE 로 바꾼 예약 상태를 영속성 컨텍스트의 엔티티에도 맞춤
+    public void syncReservationStatus(CustomerOrderItemReservationStatus reservationStatus) {
+        this.reservationStatus = reservationStatus;
+    }
 }
@@ -0,0 +1,8 @@
+package com.almang.inventory.customerorder.domain;
+
+// 고객 주문 항목별 재고 예약 상태 (결제 완료 + 미취소 주문만 출고 예정 수량을 잡음)
+public enum CustomerOrderItemReservationStatus {
+    UNRESERVED,   // 출고 예정 미반영 (미결제, 취소, 또는 가용 재고 부족)
+    RESERVED,     // 출고 예정 수량에 반영됨
+    SHIPPED       // 출고 확정으로 창고 재고까지 차감됨
+}
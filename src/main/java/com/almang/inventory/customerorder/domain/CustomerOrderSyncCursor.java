@@ -0,0 +1,63 @@
+package com.almang.inventory.customerorder.domain;
+
+import com.almang.inventory.global.entity.BaseTimeEntity;
+import jakarta.persistence.*;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import lombok.*;
+
+/**
+ * 카페24 주문 pull 동기화의 진행 위치
+ * - lastOrderAt/lastOrderId: 지금까지 반영한 가장 마지막 주문 (주문일시, 주문번호 순)
+ * - resumeDate: 다음 동기화를 시작할 주문일 (이전 날짜 구간은 다시 조회하지 않음)
+ * - leaseOwner/leaseUntil: 여러 서버 노드 중 한 곳에서만 동기화하도록 잡는 임대
+ */
+@Entity
+@Table(name = "customer_order_sync_cursors")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class CustomerOrderSyncCursor extends BaseTimeEntity {
+
+    @Id
+    @Column(name = "sync_key", length = 50)
+    private String syncKey;
+
+    @Column(name = "last_order_at")
+    private LocalDateTime lastOrderAt;
+
+    @Column(name = "last_order_id", length = 50)
+    private String lastOrderId;
+
+    @Column(name = "resume_date", nullable = false)
+    private LocalDate resumeDate;
+
+    @Column(name = "lease_owner", length = 50)
+    private String leaseOwner;
+
+    @Column(name = "lease_until")
+    private LocalDateTime leaseUntil;
+
+    @Column(name = "last_synced_at")
+    private LocalDateTime lastSyncedAt;
+
+    // 커서보다 뒤(주문일시, 같으면 주문번호 기준)의 주문인지 확인
+    public boolean isAfterCursor(LocalDateTime orderAt, String orderId) {
+        if (lastOrderAt == null) {
+            return true;
+        }
+        int compared = orderAt.compareTo(lastOrderAt);
+        return compared > 0 || (compared == 0 && orderId.compareTo(lastOrderId) > 0);
+    }
+
+    // 한 구간(날짜 구간 또는 하루 안의 1시간 구간)을 끝까지 반영한 뒤 호출
+    public void advance(LocalDateTime orderAt, String orderId, LocalDate resumeDate, LocalDateTime syncedAt) {
+        if (orderAt != null && isAfterCursor(orderAt, orderId)) {
+            this.lastOrderAt = orderAt;
+            this.lastOrderId = orderId;
+        }
+        this.resumeDate = resumeDate;
+        this.lastSyncedAt = syncedAt;
+    }
+}
@@ -0,0 +1,9 @@
+package com.almang.inventory.customerorder.dto.cafe24;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+// GET /admin/orders/count 응답
+public record Cafe24CountResponse(
+        @JsonProperty("count") int count
+) {
+}
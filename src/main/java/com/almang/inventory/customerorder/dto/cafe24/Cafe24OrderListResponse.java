@@ -0,0 +1,14 @@
+package com.almang.inventory.customerorder.dto.cafe24;
+
+import com.almang.inventory.customerorder.dto.request.CustomerOrderRequest;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.util.List;
+
+// GET /admin/orders 응답 (embed=items 로 주문 상품까지 포함, 주문 형식은 웹훅 수신과 동일)
+public record Cafe24OrderListResponse(
+        @JsonProperty("orders") List<CustomerOrderRequest> orders
+) {
+    public List<CustomerOrderRequest> ordersOrEmpty() {
+        return orders != null ? orders : List.of();
+    }
+}
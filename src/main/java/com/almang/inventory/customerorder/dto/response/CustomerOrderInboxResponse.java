@@ -0,0 +1,27 @@
+package com.almang.inventory.customerorder.dto.response;
+
+import com.almang.inventory.customerorder.domain.CustomerOrderInbox;
+import com.almang.inventory.customerorder.domain.CustomerOrderInboxStatus;
+import java.time.LocalDateTime;
+
+public record CustomerOrderInboxResponse(
+        Long inboxId,
+        String cafe24OrderId,
+        CustomerOrderInboxStatus status,
+        int attempts,
+        String lastError,
+        LocalDateTime receivedAt,
+        LocalDateTime updatedAt
+) {
+    public static CustomerOrderInboxResponse from(CustomerOrderInbox inbox) {
+        return new CustomerOrderInboxResponse(
+                inbox.getId(),
+                inbox.getCafe24OrderId(),
+                inbox.getStatus(),
+                inbox.getAttempts(),
+                inbox.getLastError(),
+                inbox.getCreatedAt(),
+                inbox.getUpdatedAt()
+        );
+    }
+}
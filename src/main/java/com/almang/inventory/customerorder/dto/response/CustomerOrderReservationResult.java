@@ -0,0 +1,12 @@
+package com.almang.inventory.customerorder.dto.response;
+
+// 고객 주문 재고 예약 반영 결과 (예약, 해제한 항목 수와 가용 재고가 부족해 예약하지 못한 항목 수)
+public record CustomerOrderReservationResult(
+        int reserved,
+        int released,
+        int shortage
+) {
+    public static CustomerOrderReservationResult empty() {
+        return new CustomerOrderReservationResult(0, 0, 0);
+    }
+}
@@ -0,0 +1,7 @@
+package com.almang.inventory.customerorder.dto.response;
+
+public record CustomerOrderShipmentResponse(
+        Long customerOrderId,
+        String cafe24OrderId,
+        int shippedItemCount
+) {}
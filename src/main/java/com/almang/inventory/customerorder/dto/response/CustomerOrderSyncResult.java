@@ -0,0 +1,12 @@
+package com.almang.inventory.customerorder.dto.response;
+
+// 카페24 주문 pull 동기화 한 회차의 결과 (acquired 가 false 면 다른 노드가 동기화 중이라 건너뜀)
+public record CustomerOrderSyncResult(
+        boolean acquired,
+        int fetched,
+        CustomerOrderUpsertResult upserted
+) {
+    public static CustomerOrderSyncResult notAcquired() {
+        return new CustomerOrderSyncResult(false, 0, CustomerOrderUpsertResult.empty());
+    }
+}
@@ -0,0 +1,25 @@
+package com.almang.inventory.customerorder.dto.response;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// 카페24 주문 일괄 반영 결과 (신규 저장, 결제/취소 상태 갱신 수와 상품/재고가 없어 건너뛴 주문 ID)
+public record CustomerOrderUpsertResult(
+        int created,
+        int updated,
+        List<String> skippedOrderIds
+) {
+    public static CustomerOrderUpsertResult empty() {
+        return new CustomerOrderUpsertResult(0, 0, List.of());
+    }
+
+    public int skipped() {
+        return skippedOrderIds.size();
+    }
+
+    public CustomerOrderUpsertResult plus(CustomerOrderUpsertResult other) {
+        List<String> skipped = new ArrayList<>(skippedOrderIds);
+        skipped.addAll(other.skippedOrderIds);
+        return new CustomerOrderUpsertResult(created + other.created, updated + other.updated, skipped);
+    }
+}
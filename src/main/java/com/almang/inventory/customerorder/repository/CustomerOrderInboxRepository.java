@@ -0,0 +1,71 @@
+package com.almang.inventory.customerorder.repository;
+
+import com.almang.inventory.customerorder.domain.CustomerOrderInbox;
+import com.almang.inventory.customerorder.domain.CustomerOrderInboxStatus;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+public interface CustomerOrderInboxRepository extends JpaRepository<CustomerOrderInbox, Long> {
+
+    // 처리할 차례가 된 대기 행과, 처리 중이던 노드가 제한 시간 안에 끝내지 못한 행
+    @Query("""
+        SELECT inbox.id
+        FROM CustomerOrderInbox inbox
+        WHERE (inbox.status = :pending AND inbox.nextAttemptAt <= :now)
+           OR (inbox.status = :processing AND inbox.claimedUntil < :now)
+        ORDER BY inbox.id ASC
+        """)
+    List<Long> findClaimableIds(
+            @Param("pending") CustomerOrderInboxStatus pending,
+            @Param("processing") CustomerOrderInboxStatus processing,
+            @Param("now") LocalDateTime now,
+            Pageable pageable
+    );
+
+    // 조회와 선점 사이에 다른 노드가 먼저 가져간 행은 조건에서 빠지므로, 같은 행을 두 노드가 동시에 처리하지 않음
+    @Transactional
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("""
+        UPDATE CustomerOrderInbox inbox
+        SET inbox.status = :processing, inbox.claimToken = :claimToken, inbox.claimedUntil = :claimedUntil
+        WHERE inbox.id IN :ids
+          AND ((inbox.status = :pending AND inbox.nextAttemptAt <= :now)
+            OR (inbox.status = :processing AND inbox.claimedUntil < :now))
+        """)
+    int claim(
+            @Param("ids") Collection<Long> ids,
+            @Param("pending") CustomerOrderInboxStatus pending,
+            @Param("processing") CustomerOrderInboxStatus processing,
+            @Param("claimToken") String claimToken,
+            @Param("now") LocalDateTime now,
+            @Param("claimedUntil") LocalDateTime claimedUntil
+    );
+
+    List<CustomerOrderInbox> findAllByClaimTokenOrderByIdAsc(String claimToken);
+
+    long countByStatusIn(Collection<CustomerOrderInboxStatus> statuses);
+
+    long countByStatus(CustomerOrderInboxStatus status);
+
+    // 아직 처리되지 않은 가장 오래된 수신 시각 (적체 지연 지표용)
+    @Query("SELECT MIN(inbox.createdAt) FROM CustomerOrderInbox inbox WHERE inbox.status IN :statuses")
+    LocalDateTime findOldestCreatedAtByStatusIn(@Param("statuses") Collection<CustomerOrderInboxStatus> statuses);
+
+    List<CustomerOrderInbox> findAllByStatusOrderByIdDesc(CustomerOrderInboxStatus status, Pageable pageable);
+
+    // 보관 기간이 지난 처리 완료 행 정리
+    @Transactional
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("DELETE FROM CustomerOrderInbox inbox WHERE inbox.status = :status AND inbox.processedAt < :before")
+    int deleteProcessedBefore(
+            @Param("status") CustomerOrderInboxStatus status,
+            @Param("before") LocalDateTime before
+    );
+}
@@ -0,0 +1,73 @@
+package com.almang.inventory.customerorder.repository;
+
+import com.almang.inventory.customerorder.domain.CustomerOrderItem;
+import com.almang.inventory.customerorder.domain.CustomerOrderItemReservationStatus;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface CustomerOrderItemRepository extends JpaRepository<CustomerOrderItem, Long> {
+
+    /*
+     * 주문 상태와 예약 상태가 어긋난 항목 (결제 완료 + 미취소인데 미예약, 또는 미결제/취소인데 예약됨)
+     * 재고 행을 항상 productId 순서로 잠그도록 상품 id, 항목 id 순으로 정렬합니다.
+     */
+    @Query("""
+        SELECT item
+        FROM CustomerOrderItem item
+        JOIN FETCH item.customerOrder customerOrder
+        WHERE customerOrder.id IN :customerOrderIds
+          AND (
+                (customerOrder.isPaid = true AND customerOrder.isCanceled = false
+                    AND item.reservationStatus = com.almang.inventory.customerorder.domain.CustomerOrderItemReservationStatus.UNRESERVED)
+             OR ((customerOrder.isPaid = false OR customerOrder.isCanceled = true)
+                    AND item.reservationStatus = com.almang.inventory.customerorder.domain.CustomerOrderItemReservationStatus.RESERVED)
+          )
+        ORDER BY item.product.id ASC, item.id ASC
+        """)
+    List<CustomerOrderItem> findReservationMismatches(@Param("customerOrderIds") Collection<Long> customerOrderIds);
+
+    // 재고 부족으로 미예약 항목이 남은 결제 완료 + 미취소 주문 (주문 id 순, afterId 이후)
+    @Query("""
+        SELECT DISTINCT customerOrder.id
+        FROM CustomerOrderItem item
+        JOIN item.customerOrder customerOrder
+        WHERE customerOrder.id > :afterId
+          AND customerOrder.isPaid = true
+          AND customerOrder.isCanceled = false
+          AND item.reservationStatus = com.almang.inventory.customerorder.domain.CustomerOrderItemReservationStatus.UNRESERVED
+        ORDER BY customerOrder.id ASC
+        """)
+    List<Long> findOrderIdsWithUnreservedItems(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("""
+        SELECT item
+        FROM CustomerOrderItem item
+        WHERE item.customerOrder.id = :customerOrderId
+          AND item.reservationStatus = :status
+        ORDER BY item.product.id ASC, item.id ASC
+        """)
+    List<CustomerOrderItem> findAllByCustomerOrderIdAndStatus(
+            @Param("customerOrderId") Long customerOrderId,
+            @Param("status") CustomerOrderItemReservationStatus status
+    );
+
+    // 항목 행 잠금으로 같은 주문을 동시에 반영하는 요청을 직렬화하고, from 상태일 때만 바꾸므로 재시도해도 한 번만 전이됨
+    @Modifying(flushAutomatically = true)
+    @Query("""
+        UPDATE CustomerOrderItem item
+        SET item.reservationStatus = :to,
+            item.updatedAt = LOCAL_DATETIME
+        WHERE item.id = :itemId
+          AND item.reservationStatus = :from
+        """)
+    int transitionReservation(
+            @Param("itemId") Long itemId,
+            @Param("from") CustomerOrderItemReservationStatus from,
+            @Param("to") CustomerOrderItemReservationStatus to
+    );
+}
@@ -4,6 +4,8 @@ import com.almang.inventory.customerorder.domain.CustomerOrder;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -11,4 +13,7 @@ public interface CustomerOrderRepository extends JpaRepository<CustomerOrder, Lo
 
     // 카페24 주문 ID로 고객 주문을 조회하는 메서드
     Optional<CustomerOrder> findByCafe24OrderId(String cafe24OrderId);
+
+    // 카페24 주문 ID 목록으로 일괄 조회 (주문 pull 동기화의 기존 주문 판별용)
+    List<CustomerOrder> findAllByCafe24OrderIdIn(Collection<String> cafe24OrderIds);
 }
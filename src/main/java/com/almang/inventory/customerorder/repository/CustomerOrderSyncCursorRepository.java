@@ -0,0 +1,37 @@
+package com.almang.inventory.customerorder.repository;
+
+import com.almang.inventory.customerorder.domain.CustomerOrderSyncCursor;
+import java.time.LocalDateTime;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+public interface CustomerOrderSyncCursorRepository extends JpaRepository<CustomerOrderSyncCursor, String> {
+
+    // 임대가 비어 있거나 만료되었을 때만 획득 (같은 노드면 연장), 반환값 1이면 획득 성공
+    @Transactional
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("""
+        UPDATE CustomerOrderSyncCursor c
+        SET c.leaseOwner = :owner, c.leaseUntil = :leaseUntil
+        WHERE c.syncKey = :syncKey
+          AND (c.leaseUntil IS NULL OR c.leaseUntil < :now OR c.leaseOwner = :owner)
+        """)
+    int acquireLease(
+            @Param("syncKey") String syncKey,
+            @Param("owner") String owner,
+            @Param("now") LocalDateTime now,
+            @Param("leaseUntil") LocalDateTime leaseUntil
+    );
+
+    @Transactional
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("""
+        UPDATE CustomerOrderSyncCursor c
+        SET c.leaseOwner = NULL, c.leaseUntil = NULL
+        WHERE c.syncKey = :syncKey AND c.leaseOwner = :owner
+        """)
+    int releaseLease(@Param("syncKey") String syncKey, @Param("owner") String owner);
+}
@@ -0,0 +1,89 @@
+package com.almang.inventory.customerorder.service;
+
+import com.almang.inventory.customerorder.domain.CustomerOrderInbox;
+import com.almang.inventory.customerorder.domain.CustomerOrderInboxStatus;
+import com.almang.inventory.customerorder.dto.request.CustomerOrderRequest;
+import com.almang.inventory.customerorder.dto.response.CustomerOrderInboxResponse;
+import com.almang.inventory.customerorder.repository.CustomerOrderInboxRepository;
+import com.almang.inventory.global.exception.BaseException;
+import com.almang.inventory.global.exception.ErrorCode;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class CustomerOrderInboxService {
+
+    private static final int MAX_DEAD_LETTER_LIMIT = 100;
+
+    private final CustomerOrderInboxRepository customerOrderInboxRepository;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+
+    /**
+     * 카페24 주문 웹훅 payload 를 검증한 뒤 원문 그대로 수신함에 적재합니다.
+     * 상품/재고 조회와 주문 저장은 CustomerOrderInboxWorker 가 묶음으로 처리하므로 웹훅 스레드는 INSERT 한 번만 수행합니다.
+     */
+    @Transactional
+    public Long enqueue(String payload) {
+        CustomerOrderRequest request = parse(payload);
+        Set<ConstraintViolation<CustomerOrderRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            String message = violations.stream()
+                    .map(violation -> violation.getPropertyPath() + " " + violation.getMessage())
+                    .collect(Collectors.joining(", "));
+            throw new BaseException(ErrorCode.INVALID_INPUT_VALUE, message);
+        }
+
+        CustomerOrderInbox inbox = customerOrderInboxRepository.save(
+                CustomerOrderInbox.received(request.getCafe24OrderId(), payload, LocalDateTime.now())
+        );
+        log.info("[CustomerOrderInboxService] 카페24 주문 수신함 적재 - inboxId: {}, cafe24OrderId: {}",
+                inbox.getId(), request.getCafe24OrderId());
+        return inbox.getId();
+    }
+
+    public List<CustomerOrderInboxResponse> getDeadLetters(Integer limit) {
+        int size = limit == null ? 20 : Math.min(Math.max(limit, 1), MAX_DEAD_LETTER_LIMIT);
+        return customerOrderInboxRepository.findAllByStatusOrderByIdDesc(
+                        CustomerOrderInboxStatus.DEAD, PageRequest.of(0, size)
+                ).stream()
+                .map(CustomerOrderInboxResponse::from)
+                .toList();
+    }
+
+    @Transactional
+    public CustomerOrderInboxResponse requeue(Long inboxId) {
+        CustomerOrderInbox inbox = customerOrderInboxRepository.findById(inboxId)
+                .orElseThrow(() -> new BaseException(ErrorCode.CUSTOMER_ORDER_INBOX_NOT_FOUND));
+        if (inbox.getStatus() != CustomerOrderInboxStatus.DEAD) {
+            throw new BaseException(ErrorCode.CUSTOMER_ORDER_INBOX_NOT_DEAD);
+        }
+
+        inbox.requeue(LocalDateTime.now());
+        log.info("[CustomerOrderInboxService] 처리 실패 주문 재처리 요청 - inboxId: {}, cafe24OrderId: {}",
+                inboxId, inbox.getCafe24OrderId());
+        return CustomerOrderInboxResponse.from(inbox);
+    }
+
+    private CustomerOrderRequest parse(String payload) {
+        try {
+            return objectMapper.readValue(payload, CustomerOrderRequest.class);
+        } catch (JsonProcessingException e) {
+            throw new BaseException(ErrorCode.INVALID_INPUT_VALUE, "카페24 주문 payload 를 해석할 수 없습니다.");
+        }
+    }
+}
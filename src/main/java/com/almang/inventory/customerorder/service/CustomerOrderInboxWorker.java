@@ -0,0 +1,248 @@
+package com.almang.inventory.customerorder.service;
+
+import com.almang.inventory.customerorder.domain.CustomerOrderInbox;
+import com.almang.inventory.customerorder.domain.CustomerOrderInboxStatus;
+import com.almang.inventory.customerorder.dto.request.CustomerOrderRequest;
+import com.almang.inventory.customerorder.dto.response.CustomerOrderUpsertResult;
+import com.almang.inventory.customerorder.repository.CustomerOrderInboxRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 카페24 주문 수신함 소비자
+ * 대기 중인 웹훅을 batchSize 개씩 선점해 CustomerOrderService.upsertCafe24Orders 로 한 번에 반영합니다.
+ * - 상품/재고를 찾지 못해 건너뛴 주문은 지수 백오프로 재시도하고, maxAttempts 를 넘으면 dead-letter(DEAD) 로 옮김
+ * - 묶음 반영이 예외로 실패하면 한 건씩 다시 반영하여, 문제 있는 주문만 재시도 대상으로 남김
+ */
+@Slf4j
+@Component
+public class CustomerOrderInboxWorker {
+
+    static final String DEPTH_METRIC = "cafe24.order.inbox.depth";
+    static final String LAG_METRIC = "cafe24.order.inbox.lag";
+    static final String RESULT_METRIC = "cafe24.order.inbox.results";
+
+    private static final List<CustomerOrderInboxStatus> UNPROCESSED_STATUSES =
+            List.of(CustomerOrderInboxStatus.PENDING, CustomerOrderInboxStatus.PROCESSING);
+
+    private final CustomerOrderInboxRepository inboxRepository;
+    private final CustomerOrderService customerOrderService;
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration backoffBase;
+    private final Duration backoffMax;
+    private final Duration claimTimeout;
+    private final Duration retention;
+
+    private final AtomicLong pendingDepth = new AtomicLong();
+    private final AtomicLong deadDepth = new AtomicLong();
+    private final AtomicLong lagSeconds = new AtomicLong();
+    private final Counter doneCounter;
+    private final Counter retryCounter;
+    private final Counter deadCounter;
+
+    public CustomerOrderInboxWorker(
+            CustomerOrderInboxRepository inboxRepository,
+            CustomerOrderService customerOrderService,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${customer-order.inbox.enabled:true}") boolean enabled,
+            @Value("${customer-order.inbox.batch-size:50}") int batchSize,
+            @Value("${customer-order.inbox.max-attempts:8}") int maxAttempts,
+            @Value("${customer-order.inbox.backoff-base:PT5S}") Duration backoffBase,
+            @Value("${customer-order.inbox.backoff-max:PT10M}") Duration backoffMax,
+            @Value("${customer-order.inbox.claim-timeout:PT2M}") Duration claimTimeout,
+            @Value("${customer-order.inbox.retention:P7D}") Duration retention
+    ) {
+        this.inboxRepository = inboxRepository;
+        this.customerOrderService = customerOrderService;
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.backoffBase = backoffBase;
+        this.backoffMax = backoffMax;
+        this.claimTimeout = claimTimeout;
+        this.retention = retention;
+
+        Gauge.builder(DEPTH_METRIC, pendingDepth, AtomicLong::get)
+                .description("처리 대기 중인 카페24 주문 웹훅 수")
+                .tag("status", "pending")
+                .register(meterRegistry);
+        Gauge.builder(DEPTH_METRIC, deadDepth, AtomicLong::get)
+                .description("재시도 한도를 넘겨 dead-letter 로 옮겨진 카페24 주문 웹훅 수")
+                .tag("status", "dead")
+                .register(meterRegistry);
+        Gauge.builder(LAG_METRIC, lagSeconds, AtomicLong::get)
+                .description("처리되지 않은 가장 오래된 웹훅의 대기 시간(초)")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        this.doneCounter = resultCounter(meterRegistry, "done");
+        this.retryCounter = resultCounter(meterRegistry, "retry");
+        this.deadCounter = resultCounter(meterRegistry, "dead");
+    }
+
+    @Scheduled(
+            fixedDelayString = "${customer-order.inbox.poll-interval-ms:500}",
+            initialDelayString = "${customer-order.inbox.poll-interval-ms:500}"
+    )
+    public void scheduledDrain() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            drain();
+        } catch (Exception e) {
+            log.error("[CustomerOrderInboxWorker] 카페24 주문 수신함 처리 실패", e);
+        }
+    }
+
+    @Scheduled(cron = "${customer-order.inbox.purge-cron:0 0 5 * * *}", zone = "Asia/Seoul")
+    public void scheduledPurge() {
+        if (!enabled) {
+            return;
+        }
+        int deleted = inboxRepository.deleteProcessedBefore(
+                CustomerOrderInboxStatus.DONE, LocalDateTime.now().minus(retention)
+        );
+        log.info("[CustomerOrderInboxWorker] 보관 기간이 지난 처리 완료 웹훅 정리 - {}건", deleted);
+    }
+
+    /**
+     * 선점할 행이 남지 않을 때까지 묶음 단위로 처리합니다.
+     * @return 이번 호출에서 선점하여 처리한 행 수
+     */
+    public int drain() {
+        int processed = 0;
+        int claimed;
+        do {
+            claimed = drainBatch();
+            processed += claimed;
+        } while (claimed == batchSize);
+        refreshGauges();
+        return processed;
+    }
+
+    private int drainBatch() {
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> ids = inboxRepository.findClaimableIds(
+                CustomerOrderInboxStatus.PENDING, CustomerOrderInboxStatus.PROCESSING, now, PageRequest.of(0, batchSize)
+        );
+        if (ids.isEmpty()) {
+            return 0;
+        }
+
+        String claimToken = UUID.randomUUID().toString();
+        inboxRepository.claim(
+                ids, CustomerOrderInboxStatus.PENDING, CustomerOrderInboxStatus.PROCESSING,
+                claimToken, now, now.plus(claimTimeout)
+        );
+        List<CustomerOrderInbox> rows = inboxRepository.findAllByClaimTokenOrderByIdAsc(claimToken);
+        if (rows.isEmpty()) {
+            // 다른 노드가 먼저 선점함, 다음 묶음에서 다시 시도
+            return ids.size();
+        }
+
+        Map<CustomerOrderInbox, CustomerOrderRequest> requests = new LinkedHashMap<>();
+        for (CustomerOrderInbox row : rows) {
+            try {
+                requests.put(row, objectMapper.readValue(row.getPayload(), CustomerOrderRequest.class));
+            } catch (JsonProcessingException e) {
+                row.deadLetter("payload 해석 실패: " + e.getOriginalMessage());
+                deadCounter.increment();
+                log.warn("[CustomerOrderInboxWorker] 해석할 수 없는 웹훅을 dead-letter 로 이동 - inboxId: {}", row.getId());
+            }
+        }
+
+        if (!requests.isEmpty()) {
+            applyAll(requests, LocalDateTime.now());
+        }
+        inboxRepository.saveAll(rows);
+        return ids.size();
+    }
+
+    private void applyAll(Map<CustomerOrderInbox, CustomerOrderRequest> requests, LocalDateTime now) {
+        try {
+            CustomerOrderUpsertResult result = customerOrderService.upsertCafe24Orders(new ArrayList<>(requests.values()));
+            Set<String> skippedOrderIds = new HashSet<>(result.skippedOrderIds());
+            requests.forEach((row, request) -> {
+                if (skippedOrderIds.contains(request.getCafe24OrderId())) {
+                    retry(row, "상품 또는 재고 정보를 찾을 수 없어 반영하지 못했습니다.", now);
+                } else {
+                    row.complete(now);
+                    doneCounter.increment();
+                }
+            });
+            log.info("[CustomerOrderInboxWorker] 카페24 주문 웹훅 묶음 반영 - 신규: {}, 갱신: {}, 재시도: {}",
+                    result.created(), result.updated(), result.skipped());
+        } catch (Exception batchFailure) {
+            log.warn("[CustomerOrderInboxWorker] 묶음 반영 실패, 한 건씩 다시 반영 - {}건", requests.size(), batchFailure);
+            requests.forEach((row, request) -> applyOne(row, request, now));
+        }
+    }
+
+    private void applyOne(CustomerOrderInbox row, CustomerOrderRequest request, LocalDateTime now) {
+        try {
+            CustomerOrderUpsertResult result = customerOrderService.upsertCafe24Orders(List.of(request));
+            if (result.skipped() > 0) {
+                retry(row, "상품 또는 재고 정보를 찾을 수 없어 반영하지 못했습니다.", now);
+            } else {
+                row.complete(now);
+                doneCounter.increment();
+            }
+        } catch (Exception e) {
+            retry(row, e.getMessage(), now);
+        }
+    }
+
+    private void retry(CustomerOrderInbox row, String error, LocalDateTime now) {
+        row.fail(error, now.plus(backoff(row.getAttempts())), maxAttempts);
+        if (row.getStatus() == CustomerOrderInboxStatus.DEAD) {
+            deadCounter.increment();
+            log.warn("[CustomerOrderInboxWorker] 재시도 한도 초과로 dead-letter 로 이동 - inboxId: {}, cafe24OrderId: {}",
+                    row.getId(), row.getCafe24OrderId());
+        } else {
+            retryCounter.increment();
+        }
+    }
+
+    // 이전 시도 횟수 기준 지수 백오프 (base * 2^attempts, 최대 backoffMax)
+    private Duration backoff(int attempts) {
+        Duration delay = backoffBase.multipliedBy(1L << Math.min(attempts, 20));
+        return delay.compareTo(backoffMax) > 0 ? backoffMax : delay;
+    }
+
+    private void refreshGauges() {
+        pendingDepth.set(inboxRepository.countByStatusIn(UNPROCESSED_STATUSES));
+        deadDepth.set(inboxRepository.countByStatus(CustomerOrderInboxStatus.DEAD));
+        LocalDateTime oldest = inboxRepository.findOldestCreatedAtByStatusIn(UNPROCESSED_STATUSES);
+        lagSeconds.set(oldest == null ? 0 : Math.max(0, Duration.between(oldest, LocalDateTime.now()).toSeconds()));
+    }
+
+    private static Counter resultCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder(RESULT_METRIC)
+                .description("카페24 주문 웹훅 처리 결과")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,149 @@
+package com.almang.inventory.customerorder.service;
+
+import com.almang.inventory.customerorder.domain.CustomerOrder;
+import com.almang.inventory.customerorder.domain.CustomerOrderItem;
+import com.almang.inventory.customerorder.domain.CustomerOrderItemReservationStatus;
+import com.almang.inventory.customerorder.dto.response.CustomerOrderReservationResult;
+import com.almang.inventory.customerorder.dto.response.CustomerOrderShipmentResponse;
+import com.almang.inventory.customerorder.repository.CustomerOrderItemRepository;
+import com.almang.inventory.customerorder.repository.CustomerOrderRepository;
+import com.almang.inventory.global.exception.BaseException;
+import com.almang.inventory.global.exception.ErrorCode;
+import com.almang.inventory.inventory.service.InventoryService;
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 온라인(카페24) 주문의 재고 예약
+ * - 결제 완료 + 미취소 주문의 항목은 가용 재고 범위에서 출고 예정(outgoingReserved)으로 잡고, 취소/결제 취소되면 되돌림
+ * - 항목 예약 상태를 조건부 UPDATE 로 먼저 전이한 뒤 재고를 반영하므로, 웹훅 재전송이나 동시 반영에도 항목당 한 번만 반영됨
+ * - 재고 행은 항상 productId 순서로 잠가, 같은 상품에 주문이 몰려도 교착 상태 없이 순서대로 처리됨
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class CustomerOrderReservationService {
+
+    private final CustomerOrderRepository customerOrderRepository;
+    private final CustomerOrderItemRepository customerOrderItemRepository;
+    private final InventoryService inventoryService;
+
+    /**
+     * 주문들의 결제/취소 상태에 맞게 항목 예약을 맞춥니다. 이미 맞는 항목은 조회되지 않으므로 여러 번 호출해도 결과가 같습니다.
+     * 가용 재고가 부족한 항목은 미예약으로 남기고, {@link CustomerOrderReservationSweeper} 가 주기적으로 다시 시도합니다.
+     */
+    @Transactional
+    public CustomerOrderReservationResult reconcile(Collection<Long> customerOrderIds) {
+        if (customerOrderIds.isEmpty()) {
+            return CustomerOrderReservationResult.empty();
+        }
+
+        int reserved = 0;
+        int released = 0;
+        int shortage = 0;
+        for (CustomerOrderItem item : customerOrderItemRepository.findReservationMismatches(customerOrderIds)) {
+            if (item.getReservationStatus() == CustomerOrderItemReservationStatus.UNRESERVED) {
+                if (!transition(item, CustomerOrderItemReservationStatus.UNRESERVED, CustomerOrderItemReservationStatus.RESERVED)) {
+                    continue;
+                }
+                if (reserveStock(item)) {
+                    reserved++;
+                } else {
+                    shortage++;
+                }
+            } else if (release(item)) {
+                released++;
+            }
+        }
+
+        if (reserved + released + shortage > 0) {
+            log.info("[CustomerOrderReservationService] 고객 주문 재고 예약 반영 - 예약: {}, 해제: {}, 재고 부족: {}",
+                    reserved, released, shortage);
+        }
+        return new CustomerOrderReservationResult(reserved, released, shortage);
+    }
+
+    /**
+     * 고객 주문 출고를 확정합니다. 미예약 항목은 먼저 다시 예약해 보고, 그래도 남아 있으면 출고할 수 없습니다.
+     * 예약된 수량만큼 출고 예정과 창고 재고를 함께 차감합니다.
+     */
+    @Transactional
+    public CustomerOrderShipmentResponse ship(Long customerOrderId) {
+        CustomerOrder customerOrder = customerOrderRepository.findById(customerOrderId)
+                .orElseThrow(() -> new BaseException(ErrorCode.CUSTOMER_ORDER_NOT_FOUND));
+        if (!customerOrder.isPaid() || customerOrder.isCanceled()) {
+            throw new BaseException(ErrorCode.CUSTOMER_ORDER_NOT_SHIPPABLE);
+        }
+
+        reconcile(List.of(customerOrderId));
+        List<CustomerOrderItem> unreserved = customerOrderItemRepository.findAllByCustomerOrderIdAndStatus(
+                customerOrderId, CustomerOrderItemReservationStatus.UNRESERVED
+        );
+        if (!unreserved.isEmpty()) {
+            throw new BaseException(ErrorCode.NOT_ENOUGH_STOCK,
+                    String.format("재고를 예약하지 못한 주문 항목이 있어 출고할 수 없습니다. (상품 코드: %s)",
+                            unreserved.get(0).getProductCode()));
+        }
+
+        int shipped = 0;
+        for (CustomerOrderItem item : customerOrderItemRepository.findAllByCustomerOrderIdAndStatus(
+                customerOrderId, CustomerOrderItemReservationStatus.RESERVED)) {
+            if (!transition(item, CustomerOrderItemReservationStatus.RESERVED, CustomerOrderItemReservationStatus.SHIPPED)) {
+                continue;
+            }
+            if (!inventoryService.confirmOutgoingForCustomerOrder(item.getProduct(), quantityOf(item))) {
+                throw new BaseException(ErrorCode.WAREHOUSE_STOCK_NOT_ENOUGH,
+                        String.format("상품 코드 %s 의 창고 재고가 부족하여 출고할 수 없습니다.", item.getProductCode()));
+            }
+            shipped++;
+        }
+
+        log.info("[CustomerOrderReservationService] 고객 주문 출고 확정 - customerOrderId: {}, 항목: {}",
+                customerOrderId, shipped);
+        return new CustomerOrderShipmentResponse(customerOrderId, customerOrder.getCafe24OrderId(), shipped);
+    }
+
+    private boolean reserveStock(CustomerOrderItem item) {
+        if (inventoryService.reserveOutgoingForCustomerOrder(item.getProduct(), quantityOf(item))) {
+            return true;
+        }
+        // 가용 재고 부족: 항목 상태를 되돌려 재시도 주기나 출고 확정 때 다시 시도
+        transition(item, CustomerOrderItemReservationStatus.RESERVED, CustomerOrderItemReservationStatus.UNRESERVED);
+        log.warn("[CustomerOrderReservationService] 가용 재고 부족으로 출고 예정을 잡지 못했습니다. - cafe24OrderId: {}, 상품 코드: {}, 수량: {}",
+                item.getCustomerOrder().getCafe24OrderId(), item.getProductCode(), item.getQuantity());
+        return false;
+    }
+
+    private boolean release(CustomerOrderItem item) {
+        if (!transition(item, CustomerOrderItemReservationStatus.RESERVED, CustomerOrderItemReservationStatus.UNRESERVED)) {
+            return false;
+        }
+        if (!inventoryService.releaseOutgoingForCustomerOrder(item.getProduct(), quantityOf(item))) {
+            // 수동 수정 등으로 출고 예정이 이미 줄어든 경우, 항목 상태만 되돌리고 재고는 그대로 둠
+            log.warn("[CustomerOrderReservationService] 해제할 출고 예정 수량이 부족합니다. - cafe24OrderId: {}, 상품 코드: {}",
+                    item.getCustomerOrder().getCafe24OrderId(), item.getProductCode());
+        }
+        return true;
+    }
+
+    // 다른 요청이 먼저 전이했으면 0건이 갱신되므로 false
+    private boolean transition(
+            CustomerOrderItem item, CustomerOrderItemReservationStatus from, CustomerOrderItemReservationStatus to
+    ) {
+        if (customerOrderItemRepository.transitionReservation(item.getId(), from, to) == 0) {
+            return false;
+        }
+        item.syncReservationStatus(to);
+        return true;
+    }
+
+    private BigDecimal quantityOf(CustomerOrderItem item) {
+        return BigDecimal.valueOf(item.getQuantity());
+    }
+}
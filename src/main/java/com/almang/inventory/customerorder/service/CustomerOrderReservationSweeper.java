@@ -0,0 +1,80 @@
+package com.almang.inventory.customerorder.service;
+
+import com.almang.inventory.customerorder.dto.response.CustomerOrderReservationResult;
+import com.almang.inventory.customerorder.repository.CustomerOrderItemRepository;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 재고 부족으로 미예약으로 남은 고객 주문 항목 재시도
+ * 웹훅 수신함은 이미 처리 완료로 표시되고 주문 동기화 커서도 지나간 주문이므로, 입고 등으로 재고가 들어온 뒤
+ * 결제 완료 + 미취소 주문의 미예약 항목을 주문 id 순으로 batchSize 개씩 다시 예약합니다.
+ * 항목 예약은 조건부 상태 전이로 한 번만 반영되므로 여러 노드에서 동시에 실행되어도 안전합니다.
+ */
+@Slf4j
+@Component
+public class CustomerOrderReservationSweeper {
+
+    private final CustomerOrderItemRepository customerOrderItemRepository;
+    private final CustomerOrderReservationService customerOrderReservationService;
+    private final boolean enabled;
+    private final int batchSize;
+
+    public CustomerOrderReservationSweeper(
+            CustomerOrderItemRepository customerOrderItemRepository,
+            CustomerOrderReservationService customerOrderReservationService,
+            @Value("${customer-order.reservation.enabled:true}") boolean enabled,
+            @Value("${customer-order.reservation.batch-size:100}") int batchSize
+    ) {
+        this.customerOrderItemRepository = customerOrderItemRepository;
+        this.customerOrderReservationService = customerOrderReservationService;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(
+            fixedDelayString = "${customer-order.reservation.retry-interval-ms:60000}",
+            initialDelayString = "${customer-order.reservation.retry-interval-ms:60000}"
+    )
+    public void scheduledSweep() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            sweep();
+        } catch (Exception e) {
+            log.error("[CustomerOrderReservationSweeper] 미예약 주문 항목 재시도 실패", e);
+        }
+    }
+
+    /**
+     * 미예약 항목이 남은 주문을 끝까지 한 번 훑으며 다시 예약합니다. (묶음마다 별도 트랜잭션)
+     * @return 이번 호출에서 새로 예약한 항목 수
+     */
+    public int sweep() {
+        int reserved = 0;
+        int shortage = 0;
+        long afterId = 0L;
+        while (true) {
+            List<Long> customerOrderIds = customerOrderItemRepository.findOrderIdsWithUnreservedItems(
+                    afterId, PageRequest.of(0, batchSize)
+            );
+            if (customerOrderIds.isEmpty()) {
+                break;
+            }
+            CustomerOrderReservationResult result = customerOrderReservationService.reconcile(customerOrderIds);
+            reserved += result.reserved();
+            shortage += result.shortage();
+            afterId = customerOrderIds.get(customerOrderIds.size() - 1);
+        }
+
+        if (reserved + shortage > 0) {
+            log.info("[CustomerOrderReservationSweeper] 미예약 주문 항목 재시도 - 예약: {}, 재고 부족: {}", reserved, shortage);
+        }
+        return reserved;
+    }
+}
@@ -4,10 +4,10 @@ import com.almang.inventory.customerorder.domain.CustomerOrder;
 import com.almang.inventory.customerorder.domain.CustomerOrderItem;
 import com.almang.inventory.customerorder.dto.request.CustomerOrderItemRequest;
 import com.almang.inventory.customerorder.dto.request.CustomerOrderRequest;
+import com.almang.inventory.customerorder.dto.response.CustomerOrderUpsertResult;
 import com.almang.inventory.customerorder.repository.CustomerOrderRepository;
 import com.almang.inventory.global.exception.BaseException;
 import com.almang.inventory.global.exception.ErrorCode;
-import com.almang.inventory.inventory.domain.Inventory;
 import com.almang.inventory.inventory.repository.InventoryRepository;
 import com.almang.inventory.product.domain.Product;
 import com.almang.inventory.product.repository.ProductRepository;
@@ -18,8 +18,13 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -31,6 +36,7 @@ public class CustomerOrderService {
     private final CustomerOrderRepository customerOrderRepository;
     private final ProductRepository productRepository; // 기존 product 도메인의 Repository
     private final InventoryRepository inventoryRepository; // 기존 inventory 도메인의 Repository
+    private final CustomerOrderReservationService customerOrderReservationService;
 
     @Transactional
     public Long createCustomerOrderAndProcessStock(CustomerOrderRequest request) {
@@ -41,60 +47,150 @@ public class CustomerOrderService {
                 });
 
         // 2. CustomerOrder 엔티티 생성
-        CustomerOrder customerOrder = CustomerOrder.builder()
-                .cafe24OrderId(request.getCafe24OrderId())
-                .orderAt(request.getOrderAt())
-                .isPaid(request.getIsPaid().equalsIgnoreCase("T")) // 'T'/'F' 문자열을 boolean으로 변환
-                .isCanceled(request.getIsCanceled().equalsIgnoreCase("T")) // 'T'/'F' 문자열을 boolean으로 변환
-                .paymentMethod(request.getPaymentMethodName() != null && !request.getPaymentMethodName().isEmpty() ? request.getPaymentMethodName().get(0) : null)
-                .paymentAmount(request.getPaymentAmount())
-                .billingName(request.getBillingName())
-                .memberId(request.getMemberId())
-                .memberEmail(request.getMemberEmail())
-                .initialOrderPriceAmount(request.getInitialOrderAmount().getOrderPriceAmount())
-                .shippingFee(request.getInitialOrderAmount().getShippingFee())
-                .build();
+        CustomerOrder customerOrder = toCustomerOrder(request);
 
-        // 3. CustomerOrderItem 처리 및 재고 처리 (감소 로직은 Placeholder)
+        // 3. CustomerOrderItem 처리
         if (request.getItems() != null && !request.getItems().isEmpty()) {
             for (CustomerOrderItemRequest itemRequest : request.getItems()) {
                 // 3.1. 상품 조회 (productCode 사용)
                 Product product = productRepository.findByCode(itemRequest.getProductCode())
                         .orElseThrow(() -> new BaseException(ErrorCode.PRODUCT_NOT_FOUND, "Product not found with code: " + itemRequest.getProductCode()));
 
-                // 3.2. Inventory 조회 (상품과 연결된 재고 정보)
-                Inventory inventory = inventoryRepository.findByProduct(product)
+                // 3.2. Inventory 존재 확인 (상품과 연결된 재고 정보)
+                inventoryRepository.findByProduct(product)
                         .orElseThrow(() -> new BaseException(ErrorCode.INVENTORY_NOT_FOUND, "Inventory not found for product: " + product.getName()));
 
-                // 3.3. 재고 감소 로직 (Placeholder)
-                //      ========================================================================
-                //      TODO: 카페24 연동 정책에 따라 정확한 재고 감소 로직을 여기에 구현해야 합니다.
-                //      예: inventory.decreaseWarehouse(new BigDecimal(itemRequest.getQuantity()));
-                //      현재는 재고 감소 로직이 적용되지 않습니다.
-                //      ========================================================================
-                log.warn("카페24 주문 ID {}의 상품 {} (수량 {})에 대한 재고 감소 로직이 정의되지 않았습니다.",
-                        request.getCafe24OrderId(), itemRequest.getProductName(), itemRequest.getQuantity());
-
-                // 3.4. CustomerOrderItem 엔티티 생성 및 CustomerOrder에 추가
-                CustomerOrderItem customerOrderItem = CustomerOrderItem.builder()
-                        .product(product) // Product 엔티티와 연관 관계 설정
-                        .productCode(itemRequest.getProductCode())
-                        .productName(itemRequest.getProductName())
-                        .quantity(itemRequest.getQuantity())
-                        .optionValue(itemRequest.getOptionValue())
-                        .variantCode(itemRequest.getVariantCode())
-                        .itemCode(itemRequest.getItemCode())
-                        .build();
-                customerOrder.addOrderItem(customerOrderItem); // CustomerOrder에 주문 항목 추가
+                // 3.3. CustomerOrderItem 엔티티 생성 및 CustomerOrder에 추가
+                customerOrder.addOrderItem(toCustomerOrderItem(itemRequest, product)); // CustomerOrder에 주문 항목 추가
             }
         } else {
             log.warn("카페24 주문 ID {}에 상품 항목이 없습니다. 재고 처리가 수행되지 않습니다.", request.getCafe24OrderId());
         }
 
-        // 4. CustomerOrder 저장
+        // 4. CustomerOrder 저장 후 결제 완료 주문이면 출고 예정 수량 예약
         CustomerOrder savedOrder = customerOrderRepository.save(customerOrder);
+        customerOrderReservationService.reconcile(List.of(savedOrder.getId()));
         return savedOrder.getId();
     }
 
+    /**
+     * 카페24 주문 pull 동기화로 가져온 주문들을 한 트랜잭션에서 일괄 반영합니다.
+     * - 이미 있는 주문은 결제/취소 상태만 갱신하고, 없는 주문은 웹훅 수신과 같은 형태로 저장
+     * - 같은 주문이 여러 번 있으면 순서대로 반영하여 마지막 결제/취소 상태를 남김
+     * - 기존 주문, 상품, 재고는 주문 수와 관계없이 IN 조회 한 번씩으로 확인
+     * - 상품이나 재고를 찾을 수 없는 주문은 배치 전체를 실패시키지 않고 건너뜀
+     * - 저장/갱신 후 배치의 모든 주문에 대해 재고 예약을 결제/취소 상태에 맞춤 (이전에 재고 부족으로 못 잡은 항목도 다시 시도)
+     */
+    @Transactional
+    public CustomerOrderUpsertResult upsertCafe24Orders(List<CustomerOrderRequest> requests) {
+        if (requests.isEmpty()) {
+            return CustomerOrderUpsertResult.empty();
+        }
+
+        Map<String, CustomerOrder> existingOrders = customerOrderRepository.findAllByCafe24OrderIdIn(
+                requests.stream().map(CustomerOrderRequest::getCafe24OrderId).toList()
+        ).stream().collect(Collectors.toMap(CustomerOrder::getCafe24OrderId, order -> order));
+
+        Set<String> productCodes = requests.stream()
+                .filter(request -> !existingOrders.containsKey(request.getCafe24OrderId()))
+                .flatMap(request -> itemsOf(request).stream())
+                .map(CustomerOrderItemRequest::getProductCode)
+                .collect(Collectors.toSet());
+        Map<String, Product> productsByCode = productCodes.isEmpty() ? Map.of()
+                : productRepository.findAllByCodeIn(productCodes).stream()
+                        .collect(Collectors.toMap(Product::getCode, product -> product, (first, second) -> first));
+        Set<Long> productIdsWithInventory = productsByCode.isEmpty() ? Set.of()
+                : inventoryRepository.findAllByProduct_IdIn(
+                        productsByCode.values().stream().map(Product::getId).toList()
+                ).stream().map(inventory -> inventory.getProduct().getId()).collect(Collectors.toSet());
+
+        int created = 0;
+        List<String> skippedOrderIds = new ArrayList<>();
+        List<CustomerOrder> newOrders = new ArrayList<>();
+        Set<String> updatedOrderIds = new HashSet<>();
+        // 같은 주문의 웹훅이 한 배치에 여러 번 오면(주문 생성 → 결제 → 취소 등) 들어온 순서대로 상태를 반영해 마지막 상태가 남도록 함
+        Map<String, CustomerOrder> ordersInBatch = new HashMap<>(existingOrders);
+        for (CustomerOrderRequest request : requests) {
+            if (skippedOrderIds.contains(request.getCafe24OrderId())) {
+                continue;
+            }
+
+            CustomerOrder known = ordersInBatch.get(request.getCafe24OrderId());
+            if (known != null) {
+                boolean isPaid = request.getIsPaid().equalsIgnoreCase("T");
+                boolean isCanceled = request.getIsCanceled().equalsIgnoreCase("T");
+                if (known.isPaid() != isPaid || known.isCanceled() != isCanceled) {
+                    known.updatePaidStatus(isPaid);
+                    known.updateCanceledStatus(isCanceled);
+                    if (existingOrders.containsKey(request.getCafe24OrderId())) {
+                        updatedOrderIds.add(request.getCafe24OrderId());
+                    }
+                }
+                continue;
+            }
+
+            CustomerOrder customerOrder = toCustomerOrder(request);
+            String missingProductCode = null;
+            for (CustomerOrderItemRequest itemRequest : itemsOf(request)) {
+                Product product = productsByCode.get(itemRequest.getProductCode());
+                if (product == null || !productIdsWithInventory.contains(product.getId())) {
+                    missingProductCode = itemRequest.getProductCode();
+                    break;
+                }
+                customerOrder.addOrderItem(toCustomerOrderItem(itemRequest, product));
+            }
+            if (missingProductCode != null) {
+                log.warn("카페24 주문 ID {}의 상품 코드 {}에 해당하는 상품 또는 재고가 없어 반영하지 않습니다.",
+                        request.getCafe24OrderId(), missingProductCode);
+                skippedOrderIds.add(request.getCafe24OrderId());
+                continue;
+            }
+            ordersInBatch.put(request.getCafe24OrderId(), customerOrder);
+            newOrders.add(customerOrder);
+            created++;
+        }
+
+        customerOrderRepository.saveAll(newOrders);
+
+        List<Long> customerOrderIds = new ArrayList<>(existingOrders.size() + newOrders.size());
+        existingOrders.values().forEach(order -> customerOrderIds.add(order.getId()));
+        newOrders.forEach(order -> customerOrderIds.add(order.getId()));
+        customerOrderReservationService.reconcile(customerOrderIds);
+
+        return new CustomerOrderUpsertResult(created, updatedOrderIds.size(), skippedOrderIds);
+    }
+
+    private CustomerOrder toCustomerOrder(CustomerOrderRequest request) {
+        return CustomerOrder.builder()
+                .cafe24OrderId(request.getCafe24OrderId())
+                .orderAt(request.getOrderAt())
+                .isPaid(request.getIsPaid().equalsIgnoreCase("T")) // 'T'/'F' 문자열을 boolean으로 변환
+                .isCanceled(request.getIsCanceled().equalsIgnoreCase("T")) // 'T'/'F' 문자열을 boolean으로 변환
+                .paymentMethod(request.getPaymentMethodName() != null && !request.getPaymentMethodName().isEmpty() ? request.getPaymentMethodName().get(0) : null)
+                .paymentAmount(request.getPaymentAmount())
+                .billingName(request.getBillingName())
+                .memberId(request.getMemberId())
+                .memberEmail(request.getMemberEmail())
+                .initialOrderPriceAmount(request.getInitialOrderAmount().getOrderPriceAmount())
+                .shippingFee(request.getInitialOrderAmount().getShippingFee())
+                .build();
+    }
+
+    private CustomerOrderItem toCustomerOrderItem(CustomerOrderItemRequest itemRequest, Product product) {
+        return CustomerOrderItem.builder()
+                .product(product) // Product 엔티티와 연관 관계 설정
+                .productCode(itemRequest.getProductCode())
+                .productName(itemRequest.getProductName())
+                .quantity(itemRequest.getQuantity())
+                .optionValue(itemRequest.getOptionValue())
+                .variantCode(itemRequest.getVariantCode())
+                .itemCode(itemRequest.getItemCode())
+                .build();
+    }
+
+    private List<CustomerOrderItemRequest> itemsOf(CustomerOrderRequest request) {
+        return request.getItems() != null ? request.getItems() : List.of();
+    }
+
     // 추가적인 고객 주문 관련 비즈니스 로직은 여기에 구현될 수 있습니다. F_TEST
 }
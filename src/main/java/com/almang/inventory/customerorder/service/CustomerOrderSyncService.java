@@ -0,0 +1,315 @@
+package com.almang.inventory.customerorder.service;
+
+import com.almang.inventory.cafe24.client.Cafe24ApiClient;
+import com.almang.inventory.customerorder.domain.CustomerOrderSyncCursor;
+import com.almang.inventory.customerorder.dto.cafe24.Cafe24CountResponse;
+import com.almang.inventory.customerorder.dto.cafe24.Cafe24OrderListResponse;
+import com.almang.inventory.customerorder.dto.request.CustomerOrderRequest;
+import com.almang.inventory.customerorder.dto.response.CustomerOrderSyncResult;
+import com.almang.inventory.customerorder.dto.response.CustomerOrderUpsertResult;
+import com.almang.inventory.customerorder.repository.CustomerOrderSyncCursorRepository;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * 카페24 주문 pull 동기화
+ * 웹훅을 놓친 주문을 주기적으로 주문 목록 API 에서 가져와 CustomerOrderService 로 일괄 반영합니다.
+ * - 커서(마지막 주문일시+주문번호, 다음 시작일)를 DB 에 저장하여, 이미 끝낸 날짜 구간은 다시 조회하지 않고
+ *   커서가 들어 있는 구간은 마지막으로 반영한 주문 일시부터 조회
+ * - 날짜 구간별로 건수를 먼저 조회한 뒤, 최대 concurrency 개 페이지씩 병렬로 가져와 페이지 묶음 단위로 반영
+ * - 하루 주문이 조회 한도를 넘으면 그날은 1시간 단위로 나눠 가져오고, 1시간도 한도를 넘으면 커서를 그 앞에서 멈춤
+ * - 구간을 끝까지 반영한 뒤에만 커서를 옮기므로, 중간에 실패하면 해당 구간만 다시 가져옴 (반영은 멱등)
+ */
+@Slf4j
+@Service
+public class CustomerOrderSyncService {
+
+    static final String SYNC_KEY = "cafe24-orders";
+
+    private static final ZoneId SEOUL_ZONE = ZoneId.of("Asia/Seoul");
+    private static final String ORDERS_PATH = "/admin/orders"
+            + "?start_date={startDate}&end_date={endDate}&date_type=order_date&embed=items"
+            + "&sort=order_date&order=asc&limit={limit}&offset={offset}";
+    private static final String ORDERS_COUNT_PATH = "/admin/orders/count"
+            + "?start_date={startDate}&end_date={endDate}&date_type=order_date";
+    // 카페24 주문 목록 API 의 offset 상한, 한 구간의 주문이 이보다 많으면 구간을 나눔
+    private static final int MAX_OFFSET = 15000;
+    private static final DateTimeFormatter DATE_TIME_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss");
+    private static final Comparator<CustomerOrderRequest> ORDER_POSITION =
+            Comparator.comparing(CustomerOrderRequest::getOrderAt).thenComparing(CustomerOrderRequest::getCafe24OrderId);
+
+    private final Cafe24ApiClient cafe24ApiClient;
+    private final CustomerOrderService customerOrderService;
+    private final CustomerOrderSyncCursorRepository cursorRepository;
+    private final Executor syncExecutor;
+    private final boolean enabled;
+    private final int pageSize;
+    private final int concurrency;
+    private final int windowDays;
+    private final int initialLookbackDays;
+    private final Duration leaseDuration;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    public CustomerOrderSyncService(
+            Cafe24ApiClient cafe24ApiClient,
+            CustomerOrderService customerOrderService,
+            CustomerOrderSyncCursorRepository cursorRepository,
+            @Qualifier("customerOrderSyncExecutor") Executor syncExecutor,
+            @Value("${customer-order.sync.enabled:true}") boolean enabled,
+            @Value("${customer-order.sync.page-size:100}") int pageSize,
+            @Value("${customer-order.sync.concurrency:4}") int concurrency,
+            @Value("${customer-order.sync.window-days:7}") int windowDays,
+            @Value("${customer-order.sync.initial-lookback-days:3}") int initialLookbackDays,
+            @Value("${customer-order.sync.lease:PT10M}") Duration leaseDuration
+    ) {
+        this.cafe24ApiClient = cafe24ApiClient;
+        this.customerOrderService = customerOrderService;
+        this.cursorRepository = cursorRepository;
+        this.syncExecutor = syncExecutor;
+        this.enabled = enabled;
+        this.pageSize = pageSize;
+        this.concurrency = concurrency;
+        this.windowDays = windowDays;
+        this.initialLookbackDays = initialLookbackDays;
+        this.leaseDuration = leaseDuration;
+    }
+
+    @Scheduled(
+            fixedDelayString = "${customer-order.sync.interval-ms:300000}",
+            initialDelayString = "${customer-order.sync.interval-ms:300000}"
+    )
+    public void scheduledSync() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            synchronize();
+        } catch (Exception e) {
+            log.error("[CustomerOrderSyncService] 카페24 주문 동기화 실패", e);
+        }
+    }
+
+    public CustomerOrderSyncResult synchronize() {
+        LocalDate today = LocalDate.now(SEOUL_ZONE);
+        createCursorIfAbsent(today);
+        if (!renewLease()) {
+            log.info("[CustomerOrderSyncService] 다른 노드에서 카페24 주문 동기화 중이므로 건너뜀");
+            return CustomerOrderSyncResult.notAcquired();
+        }
+
+        long startedAt = System.currentTimeMillis();
+        SyncProgress progress = new SyncProgress();
+        try {
+            LocalDate from = cursorRepository.findById(SYNC_KEY).orElseThrow().getResumeDate();
+            while (!from.isAfter(today)) {
+                // 구간마다 임대를 연장하고 커서를 다시 읽음 (save 시 연장한 임대 값을 덮어쓰지 않도록)
+                if (!renewLease()) {
+                    log.warn("[CustomerOrderSyncService] 동기화 임대가 만료되어 다른 노드에 넘어갔으므로 중단합니다. ({}부터 미처리)", from);
+                    break;
+                }
+                CustomerOrderSyncCursor cursor = cursorRepository.findById(SYNC_KEY).orElseThrow();
+                LocalDate to = min(from.plusDays(windowDays - 1L), today);
+                if (!syncWindow(cursor, from, to, today, progress)) {
+                    break;
+                }
+                from = to.plusDays(1);
+            }
+        } finally {
+            cursorRepository.releaseLease(SYNC_KEY, nodeId);
+        }
+
+        log.info("[CustomerOrderSyncService] 카페24 주문 동기화 완료 - fetched: {}, created: {}, updated: {}, skipped: {}, {}ms",
+                progress.fetched, progress.upserted.created(), progress.upserted.updated(), progress.upserted.skipped(),
+                System.currentTimeMillis() - startedAt);
+        return new CustomerOrderSyncResult(true, progress.fetched, progress.upserted);
+    }
+
+    private void createCursorIfAbsent(LocalDate today) {
+        if (cursorRepository.existsById(SYNC_KEY)) {
+            return;
+        }
+        try {
+            cursorRepository.saveAndFlush(CustomerOrderSyncCursor.builder()
+                    .syncKey(SYNC_KEY)
+                    .resumeDate(today.minusDays(initialLookbackDays))
+                    .build());
+        } catch (DataIntegrityViolationException e) {
+            log.debug("[CustomerOrderSyncService] 다른 노드가 동기화 커서를 먼저 만들었습니다.");
+        }
+    }
+
+    private boolean renewLease() {
+        LocalDateTime now = LocalDateTime.now(SEOUL_ZONE);
+        return cursorRepository.acquireLease(SYNC_KEY, nodeId, now, now.plus(leaseDuration)) > 0;
+    }
+
+    /**
+     * @return 구간을 끝까지 반영했으면 true, 중간에 멈췄으면 false (커서는 반영한 곳까지만 옮김)
+     */
+    private boolean syncWindow(CustomerOrderSyncCursor cursor, LocalDate from, LocalDate to, LocalDate today,
+                               SyncProgress progress) {
+        // 커서가 구간 안에 있으면 마지막으로 반영한 주문 일시부터 조회 (같은 시각의 이미 반영한 주문은 커서 비교로 거름)
+        LocalDateTime resumeAt = cursor.getLastOrderAt();
+        boolean fromCursor = resumeAt != null
+                && !resumeAt.toLocalDate().isBefore(from) && !resumeAt.toLocalDate().isAfter(to);
+        String startDate = fromCursor ? DATE_TIME_FORMAT.format(resumeAt) : from.toString();
+        String endDate = fromCursor ? DATE_TIME_FORMAT.format(to.atTime(LocalTime.of(23, 59, 59))) : to.toString();
+
+        int count = countOrders(startDate, endDate);
+        if (count > MAX_OFFSET && from.isBefore(to)) {
+            LocalDate middle = from.plusDays(ChronoUnit.DAYS.between(from, to) / 2);
+            return syncWindow(cursor, from, middle, today, progress)
+                    && syncWindow(cursorRepository.findById(SYNC_KEY).orElseThrow(), middle.plusDays(1), to, today,
+                    progress);
+        }
+        if (count > MAX_OFFSET) {
+            log.info("[CustomerOrderSyncService] {} 하루 주문이 {}건으로 조회 한도({})를 넘어 1시간 단위로 나눠 동기화합니다.",
+                    from, count, MAX_OFFSET);
+            return syncDayByHour(from, today, progress);
+        }
+
+        CustomerOrderRequest last = syncRange(cursor, startDate, endDate, count, progress);
+        advance(cursor, last, resumeDateAfter(to, today));
+        log.info("[CustomerOrderSyncService] 주문 구간 동기화 - {} ~ {}, count: {}", startDate, endDate, count);
+        return true;
+    }
+
+    // 하루를 1시간 구간으로 나눠 반영하며, 시간 구간마다 임대를 연장하고 주문 위치 커서를 저장
+    private boolean syncDayByHour(LocalDate day, LocalDate today, SyncProgress progress) {
+        for (int hour = 0; hour < 24; hour++) {
+            LocalDateTime start = day.atTime(hour, 0);
+            LocalDateTime end = start.plusHours(1).minusSeconds(1);
+            if (!renewLease()) {
+                log.warn("[CustomerOrderSyncService] 동기화 임대가 만료되어 다른 노드에 넘어갔으므로 중단합니다. ({}부터 미처리)", start);
+                return false;
+            }
+            CustomerOrderSyncCursor cursor = cursorRepository.findById(SYNC_KEY).orElseThrow();
+            // 커서 위치보다 앞선 시간 구간은 이미 반영되었고, 커서가 들어 있는 구간은 커서 위치부터 조회
+            LocalDateTime resumeAt = cursor.getLastOrderAt();
+            if (resumeAt != null && end.isBefore(resumeAt)) {
+                continue;
+            }
+
+            String startDate = DATE_TIME_FORMAT.format(resumeAt != null && resumeAt.isAfter(start) ? resumeAt : start);
+            String endDate = DATE_TIME_FORMAT.format(end);
+            int count = countOrders(startDate, endDate);
+            if (count > MAX_OFFSET) {
+                log.error("[CustomerOrderSyncService] {} ~ {} 주문이 {}건으로 조회 한도({})를 넘어 커서를 옮기지 않고 중단합니다.",
+                        startDate, endDate, count, MAX_OFFSET);
+                return false;
+            }
+            CustomerOrderRequest last = syncRange(cursor, startDate, endDate, count, progress);
+            // 하루를 끝내기 전에는 재시작 날짜를 그대로 두고 주문 위치만 옮김
+            advance(cursor, last, hour < 23 ? day : resumeDateAfter(day, today));
+        }
+        log.info("[CustomerOrderSyncService] 주문 구간 동기화 - {} (1시간 단위)", day);
+        return true;
+    }
+
+    // 한 구간의 주문을 concurrency 개 페이지씩 가져와 반영하고, 반영한 가장 마지막 주문을 반환
+    private CustomerOrderRequest syncRange(CustomerOrderSyncCursor cursor, String startDate, String endDate, int count,
+                                           SyncProgress progress) {
+        int pages = (count + pageSize - 1) / pageSize;
+        CustomerOrderRequest last = null;
+        for (int firstPage = 0; firstPage < pages; firstPage += concurrency) {
+            int endPage = Math.min(firstPage + concurrency, pages);
+            List<CustomerOrderRequest> fresh = fetchPages(startDate, endDate, firstPage, endPage)
+                    .stream()
+                    .filter(order -> cursor.isAfterCursor(order.getOrderAt(), order.getCafe24OrderId()))
+                    .sorted(ORDER_POSITION)
+                    .toList();
+            if (fresh.isEmpty()) {
+                continue;
+            }
+
+            progress.fetched += fresh.size();
+            progress.upserted = progress.upserted.plus(customerOrderService.upsertCafe24Orders(fresh));
+            CustomerOrderRequest newest = fresh.get(fresh.size() - 1);
+            if (last == null || ORDER_POSITION.compare(newest, last) > 0) {
+                last = newest;
+            }
+        }
+        return last;
+    }
+
+    private void advance(CustomerOrderSyncCursor cursor, CustomerOrderRequest last, LocalDate resumeDate) {
+        cursor.advance(
+                last != null ? last.getOrderAt() : null, last != null ? last.getCafe24OrderId() : null,
+                resumeDate, LocalDateTime.now(SEOUL_ZONE)
+        );
+        cursorRepository.save(cursor);
+    }
+
+    // 오늘이 포함된 구간은 아직 주문이 더 들어올 수 있으므로 다음에도 오늘부터 다시 조회
+    private static LocalDate resumeDateAfter(LocalDate to, LocalDate today) {
+        return to.isBefore(today) ? to.plusDays(1) : today;
+    }
+
+    // startDate/endDate 는 날짜(yyyy-MM-dd) 또는 일시(yyyy-MM-ddTHH:mm:ss)
+    private int countOrders(String startDate, String endDate) {
+        Cafe24CountResponse response = cafe24ApiClient.get(
+                ORDERS_COUNT_PATH, Cafe24CountResponse.class,
+                Map.of("startDate", startDate, "endDate", endDate)
+        );
+        return response != null ? response.count() : 0;
+    }
+
+    // [firstPage, endPage) 페이지를 동기화 전용 실행기에서 병렬로 가져와 페이지 순서대로 합침
+    private List<CustomerOrderRequest> fetchPages(String startDate, String endDate, int firstPage, int endPage) {
+        List<CompletableFuture<List<CustomerOrderRequest>>> futures = new ArrayList<>();
+        for (int page = firstPage; page < endPage; page++) {
+            int offset = page * pageSize;
+            futures.add(CompletableFuture.supplyAsync(() -> fetchPage(startDate, endDate, offset), syncExecutor));
+        }
+
+        List<CustomerOrderRequest> orders = new ArrayList<>();
+        try {
+            for (CompletableFuture<List<CustomerOrderRequest>> future : futures) {
+                orders.addAll(future.join());
+            }
+        } catch (CompletionException e) {
+            futures.forEach(future -> future.cancel(true));
+            throw e.getCause() instanceof RuntimeException cause ? cause : e;
+        }
+        return orders;
+    }
+
+    private List<CustomerOrderRequest> fetchPage(String startDate, String endDate, int offset) {
+        Cafe24OrderListResponse response = cafe24ApiClient.get(
+                ORDERS_PATH, Cafe24OrderListResponse.class,
+                Map.of(
+                        "startDate", startDate, "endDate", endDate,
+                        "limit", pageSize, "offset", offset
+                )
+        );
+        return response != null ? response.ordersOrEmpty() : List.of();
+    }
+
+    private static LocalDate min(LocalDate first, LocalDate second) {
+        return first.isBefore(second) ? first : second;
+    }
+
+    private static final class SyncProgress {
+        private int fetched;
+        private CustomerOrderUpsertResult upserted = CustomerOrderUpsertResult.empty();
+    }
+}
@@ -0,0 +1,33 @@
+package com.almang.inventory.global.api;
+
+import com.almang.inventory.global.util.PageCursor;
+import java.util.List;
+import java.util.function.Function;
+import org.springframework.data.domain.Slice;
+
+/**
+ * 커서 기반 목록 응답입니다. 전체 개수를 세지 않으므로 totalElements/totalPages 가 없고,
+ * 다음 페이지가 있으면 nextCursor 를 그대로 다음 요청의 cursor 로 넘기면 됩니다.
+ */
+public record CursorResponse<T>(
+        List<T> content,
+        int size,
+        String nextCursor,
+        boolean hasNext
+) {
+    public static <E, T> CursorResponse<T> from(
+            Slice<E> slice, Function<E, T> mapper, Function<E, PageCursor> cursorOf
+    ) {
+        List<E> content = slice.getContent();
+        String nextCursor = slice.hasNext() && !content.isEmpty()
+                ? cursorOf.apply(content.get(content.size() - 1)).encode()
+                : null;
+
+        return new CursorResponse<>(
+                content.stream().map(mapper).toList(),
+                slice.getSize(),
+                nextCursor,
+                slice.hasNext()
+        );
+    }
+}
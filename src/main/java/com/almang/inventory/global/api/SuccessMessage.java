@@ -28,6 +28,7 @@ public enum SuccessMessage {
     GET_PRODUCT_DETAIL_SUCCESS("품목 상세 조회 성공"),
     GET_PRODUCT_LIST_SUCCESS("품목 목록 조회 성공"),
     DELETE_PRODUCT_SUCCESS("품목 삭제 성공"),
+    AUTOCOMPLETE_PRODUCT_SUCCESS("품목 자동완성 조회 성공"),
 
     // VENDOR
     CREATE_VENDOR_SUCCESS("발주처 등록 성공"),
@@ -69,10 +70,21 @@ public enum SuccessMessage {
     GET_INVENTORY_SUCCESS("재고 조회 성공"),
     GET_INVENTORY_BY_PRODUCT_SUCCESS("품목 기준 재고 조회 성공"),
     GET_STORE_INVENTORY_SUCCESS("상점 내 재고 리스트 조회 성공"),
+    GET_LOW_STOCK_INVENTORY_SUCCESS("재주문 필요 재고 조회 성공"),
     MOVE_INVENTORY_SUCCESS("재고 이동 성공"),
+    GET_INVENTORY_MOVEMENTS_SUCCESS("재고 변동 이력 조회 성공"),
+    GET_INVENTORY_AS_OF_SUCCESS("시점 재고 조회 성공"),
 
     // CUSTOMER_ORDER
     CUSTOMER_ORDER_CREATED("고객 주문 생성 성공"),
+    CUSTOMER_ORDER_ACCEPTED("고객 주문 접수 성공"),
+    GET_CUSTOMER_ORDER_DEAD_LETTERS_SUCCESS("처리 실패 고객 주문 목록 조회 성공"),
+    REQUEUE_CUSTOMER_ORDER_SUCCESS("고객 주문 재처리 요청 성공"),
+    SHIP_CUSTOMER_ORDER_SUCCESS("고객 주문 출고 확정 성공"),
+
+    // RETAIL
+    SUBMIT_RETAIL_UPLOAD_JOB_SUCCESS("소매 엑셀 업로드 작업 접수 성공"),
+    GET_RETAIL_UPLOAD_JOB_SUCCESS("소매 엑셀 업로드 작업 조회 성공"),
     ;
 
     private final String message;
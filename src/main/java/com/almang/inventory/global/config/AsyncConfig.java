@@ -1,6 +1,7 @@
 package com.almang.inventory.global.config;
 
 import java.util.concurrent.Executor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableAsync;
@@ -20,4 +21,42 @@ public class AsyncConfig {
         executor.initialize();
         return executor;
     }
+
+    // 소매 엑셀 비동기 업로드 처리용 (대기열이 가득 차면 TaskRejectedException 으로 접수를 거절)
+    @Bean(name = "retailUploadExecutor")
+    public Executor retailUploadExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(2);
+        executor.setQueueCapacity(20);
+        executor.setThreadNamePrefix("retail-upload-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(60);
+        executor.initialize();
+        return executor;
+    }
+
+    // 재고 변경 SSE 전송용 (구독자별 대기열을 비우는 작업만 실행하며, 접수가 거절되면 해당 구독을 종료)
+    @Bean(name = "inventoryEventStreamExecutor")
+    public Executor inventoryEventStreamExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(8);
+        executor.setQueueCapacity(1000);
+        executor.setThreadNamePrefix("inventory-event-stream-");
+        executor.initialize();
+        return executor;
+    }
+
+    // 카페24 주문 pull 동기화의 페이지 병렬 조회용 (한 번에 concurrency 개 페이지만 제출하므로 스레드 수 = 동시 호출 수)
+    @Bean(name = "customerOrderSyncExecutor")
+    public Executor customerOrderSyncExecutor(@Value("${customer-order.sync.concurrency:4}") int concurrency) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(concurrency);
+        executor.setMaxPoolSize(concurrency);
+        executor.setQueueCapacity(concurrency);
+        executor.setThreadNamePrefix("customer-order-sync-");
+        executor.initialize();
+        return executor;
+    }
 }
@@ -1,8 +1,17 @@
 package com.almang.inventory.global.config;
 
+import com.almang.inventory.global.config.properties.Cafe24ClientProperties;
 import java.time.Duration;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.http.client.SimpleClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
@@ -24,4 +33,34 @@ public class RestTemplateConfig {
         factory.setReadTimeout((int) Duration.ofSeconds(30).toMillis());
         return new RestTemplate(factory);
     }
+
+    // 카페24 Admin API 전용 - 호출마다 새 연결을 맺지 않도록 keep-alive 커넥션 풀 사용
+    // 팩토리가 DisposableBean 이라 종료 시 커넥션 풀도 함께 닫힘
+    @Bean
+    public HttpComponentsClientHttpRequestFactory cafe24ClientHttpRequestFactory(Cafe24ClientProperties properties) {
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(properties.getMaxConnections())
+                .setMaxConnPerRoute(properties.getMaxConnections())
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.of(properties.getConnectTimeout()))
+                        .setSocketTimeout(Timeout.of(properties.getReadTimeout()))
+                        .build())
+                .build();
+
+        CloseableHttpClient httpClient = HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.of(properties.getIdleTimeout()))
+                .disableAutomaticRetries() // 재시도는 호출 한도를 아는 Cafe24ApiClient 에서 처리
+                .build();
+
+        HttpComponentsClientHttpRequestFactory factory = new HttpComponentsClientHttpRequestFactory(httpClient);
+        factory.setConnectionRequestTimeout(properties.getConnectionRequestTimeout());
+        return factory;
+    }
+
+    @Bean
+    public RestTemplate cafe24RestTemplate(HttpComponentsClientHttpRequestFactory cafe24ClientHttpRequestFactory) {
+        return new RestTemplate(cafe24ClientHttpRequestFactory);
+    }
 }
@@ -0,0 +1,30 @@
+package com.almang.inventory.global.config.properties;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties("cafe24.client") // 카페24 Admin API 호출용 커넥션 풀/호출 한도/재시도 설정
+public class Cafe24ClientProperties {
+
+    private String apiVersion; // X-Cafe24-Api-Version 헤더 (비어 있으면 몰 기본 버전)
+
+    private int maxConnections = 20;
+    private Duration connectTimeout = Duration.ofSeconds(5);
+    private Duration readTimeout = Duration.ofSeconds(30);
+    private Duration connectionRequestTimeout = Duration.ofSeconds(5); // 풀에서 커넥션을 기다리는 최대 시간
+    private Duration idleTimeout = Duration.ofSeconds(30); // 이 시간 이상 쉬는 keep-alive 커넥션은 정리
+
+    private int bucketSize = 40; // 몰별 호출 버킷 크기 (응답의 X-Api-Call-Limit 으로 갱신)
+    private double leakRatePerSecond = 2.0; // 버킷이 초당 비워지는 호출 수
+    private int bucketReserve = 2; // 다른 노드/도구의 호출을 위해 비워 두는 여유분
+
+    private int maxRetries = 3;
+    private Duration backoffBase = Duration.ofMillis(500);
+    private Duration backoffMax = Duration.ofSeconds(10);
+}
@@ -1,6 +1,11 @@
 package com.almang.inventory.global.config.redis;
 
+import com.almang.inventory.global.context.UserContextCache;
+import com.almang.inventory.inventory.service.InventoryEventStream;
+import com.almang.inventory.product.service.ProductSearchIndex;
+import com.almang.inventory.user.auth.service.AccessTokenBlacklistFilter;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
@@ -8,6 +13,8 @@ import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 @Configuration
@@ -40,4 +47,23 @@ public class RedisConfig {
         redisTemplate.setConnectionFactory(redisConnectionFactory());
         return redisTemplate;
     }
+
+    // 다른 노드에서 발행한 사용자 컨텍스트 캐시 무효화 / 액세스 토큰 블랙리스트 추가 / 상품 검색 색인 무효화 / 재고 변경 메시지 구독
+    @Bean
+    @ConditionalOnProperty(name = "redis.pubsub.enabled", havingValue = "true", matchIfMissing = true)
+    public RedisMessageListenerContainer redisMessageListenerContainer(
+            UserContextCache userContextCache,
+            AccessTokenBlacklistFilter accessTokenBlacklistFilter,
+            ProductSearchIndex productSearchIndex,
+            InventoryEventStream inventoryEventStream
+    ) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory());
+        container.addMessageListener(userContextCache, new ChannelTopic(UserContextCache.EVICTION_CHANNEL));
+        container.addMessageListener(
+                accessTokenBlacklistFilter, new ChannelTopic(AccessTokenBlacklistFilter.BLACKLIST_CHANNEL));
+        container.addMessageListener(productSearchIndex, new ChannelTopic(ProductSearchIndex.INVALIDATION_CHANNEL));
+        container.addMessageListener(inventoryEventStream, new ChannelTopic(InventoryEventStream.CHANGE_CHANNEL));
+        return container;
+    }
 }
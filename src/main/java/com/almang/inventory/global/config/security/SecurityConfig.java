@@ -1,10 +1,11 @@
 package com.almang.inventory.global.config.security;
 
+import com.almang.inventory.global.context.UserContextCache;
 import com.almang.inventory.global.security.jwt.JwtAuthEntryPoint;
 import com.almang.inventory.global.security.jwt.JwtTokenProvider;
 import com.almang.inventory.global.security.jwt.TokenAuthenticationFilter;
 import com.almang.inventory.user.auth.service.RedisService;
-import com.almang.inventory.user.repository.UserRepository;
+import jakarta.servlet.DispatcherType;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
@@ -30,7 +31,7 @@ public class SecurityConfig {
 
     private final RedisService redisService;
     private final JwtTokenProvider jwtTokenProvider;
-    private final UserRepository userRepository;
+    private final UserContextCache userContextCache;
     private final JwtAuthEntryPoint jwtAuthEntryPoint;
 
     private static final String[] PUBLIC_APIS = {
@@ -71,6 +72,8 @@ public class SecurityConfig {
                 .headers(h -> h.frameOptions(FrameOptionsConfig::sameOrigin)) // H2 콘솔 접근 시 iframe 사용 허용 (동일 출처만 허용하여 보안 유지)
                 .sessionManagement(sm -> sm.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(auth -> auth
+                        // SSE 등 비동기 응답의 재디스패치 (최초 요청에서 이미 인증됨)
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         // 공개 엔드포인트
                         .requestMatchers(PUBLIC_APIS).permitAll()
                         // 카페24 주문 수신 엔드포인트 (인증 제외)
@@ -98,7 +101,7 @@ public class SecurityConfig {
         config.setAllowCredentials(true);
         config.setAllowedOrigins(List.of("http://localhost:3000", "https://almang.vercel.app")); // 프론트엔드 경로
         config.setAllowedMethods(List.of("GET", "POST", "PUT", "DELETE", "PATCH", "OPTIONS"));
-        config.setAllowedHeaders(List.of("Authorization","Content-Type","X-Requested-With"));
+        config.setAllowedHeaders(List.of("Authorization","Content-Type","X-Requested-With","Last-Event-ID"));
 
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
         source.registerCorsConfiguration("/**", config);
@@ -107,6 +110,6 @@ public class SecurityConfig {
 
     @Bean
     public TokenAuthenticationFilter tokenAuthenticationFilter() {
-        return new TokenAuthenticationFilter(redisService, jwtTokenProvider, userRepository);
+        return new TokenAuthenticationFilter(redisService, jwtTokenProvider, userContextCache);
     }
 }
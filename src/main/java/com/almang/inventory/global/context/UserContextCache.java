@@ -0,0 +1,115 @@
+package com.almang.inventory.global.context;
+
+import com.almang.inventory.global.exception.BaseException;
+import com.almang.inventory.global.exception.ErrorCode;
+import com.almang.inventory.user.domain.User;
+import com.almang.inventory.user.domain.UserRole;
+import com.almang.inventory.user.repository.UserRepository;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 인증된 사용자의 역할과 소속 상점을 userId 기준으로 짧게 캐싱합니다.
+ * 인증 필터와 {@link UserContextProvider} 가 요청마다 users 테이블을 조회하지 않도록 하며,
+ * 역할/소속 변경 시 {@link #evict(Long)} 로 즉시 무효화하고 Redis pub/sub 으로 다른 노드에도 전파합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserContextCache implements MessageListener {
+
+    public static final String EVICTION_CHANNEL = "user-context:evict";
+
+    private final UserRepository userRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+
+    @Value("${user-context.cache.ttl:PT30S}")
+    private Duration ttl;
+
+    @Value("${redis.pubsub.enabled:true}")
+    private boolean pubSubEnabled;
+
+    private Clock clock = Clock.systemUTC();
+
+    public CachedUser get(Long userId) {
+        long now = clock.millis();
+        Entry entry = entries.get(userId);
+        if (entry != null && entry.expiresAt() > now) {
+            return entry.user();
+        }
+
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new BaseException(ErrorCode.USER_NOT_FOUND));
+        CachedUser cached = CachedUser.from(user);
+        entries.put(userId, new Entry(cached, now + ttl.toMillis()));
+        return cached;
+    }
+
+    // 트랜잭션 안에서 호출되면 커밋 이후에 무효화하여, 커밋 전 다른 요청이 이전 값을 다시 캐싱하지 않도록 함
+    public void evict(Long userId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictAndPublish(userId);
+                }
+            });
+            return;
+        }
+        evictAndPublish(userId);
+    }
+
+    public void evictLocal(Long userId) {
+        entries.remove(userId);
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        try {
+            evictLocal(Long.valueOf(body));
+            log.debug("[UserContextCache] 원격 무효화 수신 - userId: {}", body);
+        } catch (NumberFormatException e) {
+            log.warn("[UserContextCache] 잘못된 무효화 메시지 - body: {}", body);
+        }
+    }
+
+    void setClock(Clock clock) {
+        this.clock = clock;
+    }
+
+    private void evictAndPublish(Long userId) {
+        evictLocal(userId);
+        if (!pubSubEnabled) {
+            return;
+        }
+        try {
+            redisTemplate.convertAndSend(EVICTION_CHANNEL, String.valueOf(userId));
+        } catch (DataAccessException e) {
+            // 전파에 실패해도 다른 노드의 항목은 TTL 안에 만료됨
+            log.warn("[UserContextCache] 무효화 전파 실패 - userId: {}", userId, e);
+        }
+    }
+
+    public record CachedUser(Long userId, String username, UserRole role, Long storeId) {
+        public static CachedUser from(User user) {
+            return new CachedUser(user.getId(), user.getUsername(), user.getRole(), user.getStore().getId());
+        }
+    }
+
+    private record Entry(CachedUser user, long expiresAt) {}
+}
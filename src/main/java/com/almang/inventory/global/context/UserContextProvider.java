@@ -1,8 +1,8 @@
 package com.almang.inventory.global.context;
 
-import com.almang.inventory.global.exception.BaseException;
-import com.almang.inventory.global.exception.ErrorCode;
+import com.almang.inventory.global.context.UserContextCache.CachedUser;
 import com.almang.inventory.store.domain.Store;
+import com.almang.inventory.store.repository.StoreRepository;
 import com.almang.inventory.user.domain.User;
 import com.almang.inventory.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
@@ -12,12 +12,15 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class UserContextProvider {
 
+    private final UserContextCache userContextCache;
     private final UserRepository userRepository;
+    private final StoreRepository storeRepository;
 
+    // 캐시된 식별자로 지연 참조만 만들어, 필드에 접근하기 전까지는 users/stores 조회가 발생하지 않음
     public UserStoreContext findUserAndStore(Long userId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new BaseException(ErrorCode.USER_NOT_FOUND));
-        Store store = user.getStore();
+        CachedUser cached = userContextCache.get(userId);
+        User user = userRepository.getReferenceById(cached.userId());
+        Store store = storeRepository.getReferenceById(cached.storeId());
 
         return new UserStoreContext(user, store);
     }
@@ -10,6 +10,8 @@ public enum ErrorCode {
     INVALID_INPUT_VALUE(HttpStatus.BAD_REQUEST, "유효하지 않은 요청 값입니다."),
     INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "서버 내부 오류입니다."),
     EXCEL_PARSE_ERROR(HttpStatus.BAD_REQUEST, "엑셀 파일 파싱 중 오류가 발생했습니다."),
+    INVALID_CURSOR(HttpStatus.BAD_REQUEST, "유효하지 않은 커서입니다."),
+    INVALID_EXPORT_FORMAT(HttpStatus.BAD_REQUEST, "지원하지 않는 내보내기 형식입니다. (xlsx, csv)"),
 
     // STORE
     STORE_NAME_IS_LONG(HttpStatus.BAD_REQUEST, "상점 이름은 20자를 초과할 수 없습니다."),
@@ -71,6 +73,15 @@ public enum ErrorCode {
     // CUSTOMER_ORDER
     DUPLICATE_CUSTOMER_ORDER(HttpStatus.CONFLICT, "이미 존재하는 고객 주문입니다."),
     NOT_ENOUGH_STOCK(HttpStatus.BAD_REQUEST, "요청한 상품의 재고가 부족합니다."),
+    CUSTOMER_ORDER_NOT_FOUND(HttpStatus.NOT_FOUND, "고객 주문을 찾을 수 없습니다."),
+    CUSTOMER_ORDER_NOT_SHIPPABLE(HttpStatus.BAD_REQUEST, "결제 완료 후 취소되지 않은 주문만 출고할 수 있습니다."),
+    CUSTOMER_ORDER_INBOX_NOT_FOUND(HttpStatus.NOT_FOUND, "고객 주문 수신 내역을 찾을 수 없습니다."),
+    CUSTOMER_ORDER_INBOX_NOT_DEAD(HttpStatus.BAD_REQUEST, "처리 실패 상태의 주문만 다시 처리할 수 있습니다."),
+
+    // CAFE24
+    CAFE24_ACCESS_TOKEN_NOT_FOUND(HttpStatus.SERVICE_UNAVAILABLE, "카페24 연동 인증이 필요합니다."),
+    CAFE24_API_ERROR(HttpStatus.BAD_GATEWAY, "카페24 API 호출에 실패했습니다."),
+    CAFE24_RATE_LIMITED(HttpStatus.SERVICE_UNAVAILABLE, "카페24 API 호출 한도를 초과했습니다. 잠시 후 다시 시도해주세요."),
 
     // WHOLESALE
     WHOLESALE_NOT_FOUND(HttpStatus.NOT_FOUND, "출고를 찾을 수 없습니다."),
@@ -81,6 +92,13 @@ public enum ErrorCode {
     WHOLESALE_ALREADY_CONFIRMED(HttpStatus.BAD_REQUEST, "이미 완료된 출고입니다."),
     WHOLESALE_ALREADY_CANCELED(HttpStatus.BAD_REQUEST, "이미 취소된 출고입니다."),
     WAREHOUSE_STOCK_NOT_ENOUGH_FOR_WHOLESALE(HttpStatus.BAD_REQUEST, "창고 재고가 부족합니다."),
+
+    // RETAIL
+    RETAIL_UPLOAD_FILE_EMPTY(HttpStatus.BAD_REQUEST, "업로드할 파일을 선택해주세요."),
+    RETAIL_UPLOAD_JOB_NOT_FOUND(HttpStatus.NOT_FOUND, "소매 업로드 작업을 찾을 수 없습니다."),
+    RETAIL_UPLOAD_JOB_ACCESS_DENIED(HttpStatus.FORBIDDEN, "해당 상점의 소매 업로드 작업이 아닙니다."),
+    RETAIL_UPLOAD_JOB_REJECTED(HttpStatus.SERVICE_UNAVAILABLE, "처리 대기 중인 업로드가 많습니다. 잠시 후 다시 시도해주세요."),
+    RETAIL_UPLOAD_JOB_INTERRUPTED(HttpStatus.CONFLICT, "업로드 작업이 중단되었습니다. 파일을 다시 업로드해주세요."),
     ;
 
     private final HttpStatus httpStatus;
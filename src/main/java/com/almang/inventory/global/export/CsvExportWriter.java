@@ -0,0 +1,64 @@
+package com.almang.inventory.global.export;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * RFC 4180 형식의 CSV 내보내기입니다. 헤더를 쓰자마자 flush 하여 첫 바이트가 바로 전송되고,
+ * 이후에는 버퍼가 찰 때마다 전송됩니다.
+ */
+final class CsvExportWriter implements ExportWriter {
+
+    // 엑셀에서 열 때 한글이 깨지지 않도록 UTF-8 BOM 을 붙임
+    private static final char BYTE_ORDER_MARK = '\uFEFF';
+    private static final int BUFFER_SIZE = 16 * 1024;
+
+    private final Writer writer;
+
+    CsvExportWriter(OutputStream outputStream, List<String> headers) throws IOException {
+        this.writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8), BUFFER_SIZE);
+        writer.write(BYTE_ORDER_MARK);
+        writeRow(headers);
+        writer.flush();
+    }
+
+    @Override
+    public void writeRow(List<?> values) throws IOException {
+        for (int i = 0; i < values.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writeField(values.get(i));
+        }
+        writer.write("\r\n");
+    }
+
+    @Override
+    public void close() throws IOException {
+        writer.flush();
+    }
+
+    private void writeField(Object value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        String text = value instanceof BigDecimal decimal ? decimal.toPlainString() : value.toString();
+        // 상품명 등 사용자가 입력한 문자열이 엑셀에서 수식으로 실행되지 않도록 함
+        if (value instanceof String && !text.isEmpty() && "=+-@".indexOf(text.charAt(0)) >= 0) {
+            text = "'" + text;
+        }
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            writer.write(text);
+            return;
+        }
+        writer.write('"');
+        writer.write(text.replace("\"", "\"\""));
+        writer.write('"');
+    }
+}
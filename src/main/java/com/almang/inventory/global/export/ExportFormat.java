@@ -0,0 +1,28 @@
+package com.almang.inventory.global.export;
+
+import com.almang.inventory.global.exception.BaseException;
+import com.almang.inventory.global.exception.ErrorCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum ExportFormat {
+    XLSX("xlsx", "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet"),
+    CSV("csv", "text/csv;charset=UTF-8");
+
+    private final String extension;
+    private final String contentType;
+
+    public static ExportFormat from(String value) {
+        if (value == null || value.isBlank()) {
+            return XLSX;
+        }
+
+        try {
+            return ExportFormat.valueOf(value.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new BaseException(ErrorCode.INVALID_EXPORT_FORMAT);
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.almang.inventory.global.export;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+
+/**
+ * 내보내기 파일을 한 행씩 기록합니다. 행을 메모리에 모아 두지 않으므로 행 수와 관계없이 사용하는 힙이 일정합니다.
+ * close 시 남은 내용을 출력 스트림에 모두 쓰며, 출력 스트림 자체는 닫지 않습니다.
+ */
+public interface ExportWriter extends Closeable {
+
+    void writeRow(List<?> values) throws IOException;
+
+    static ExportWriter open(ExportFormat format, OutputStream outputStream, String sheetName, List<String> headers)
+            throws IOException {
+        return switch (format) {
+            case XLSX -> new XlsxExportWriter(outputStream, sheetName, headers);
+            case CSV -> new CsvExportWriter(outputStream, headers);
+        };
+    }
+}
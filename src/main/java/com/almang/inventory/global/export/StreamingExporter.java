@@ -0,0 +1,73 @@
+package com.almang.inventory.global.export;
+
+import jakarta.persistence.TypedQuery;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * 조회 결과를 한 행씩 파일로 기록하는 내보내기 응답을 만듭니다.
+ * 행은 fetch size 를 지정한 JPA 스트리밍 쿼리(DTO 프로젝션)로 읽어 영속성 컨텍스트에 쌓이지 않으며,
+ * 응답 스레드에서 읽기 전용 트랜잭션을 열고 스트림을 끝까지 소비한 뒤 닫습니다.
+ * 권한 확인 등 요청 검증은 응답이 시작되기 전에 호출 측에서 끝내야 합니다.
+ */
+@Slf4j
+@Component
+public class StreamingExporter {
+
+    private final TransactionTemplate readOnlyTransactionTemplate;
+    // 내보내기 쿼리에만 지정하는 fetch size (MySQL 은 Integer.MIN_VALUE 일 때만 결과를 버퍼링하지 않고 한 행씩 스트리밍)
+    private final int fetchSize;
+
+    public StreamingExporter(
+            PlatformTransactionManager transactionManager,
+            @Value("${export.fetch-size:1000}") int fetchSize
+    ) {
+        this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate.setReadOnly(true);
+        this.fetchSize = fetchSize;
+    }
+
+    /**
+     * 내보내기 조회 쿼리를 fetch size 를 지정해 스트림으로 엽니다.
+     * export 의 rows 공급자 안(읽기 전용 트랜잭션)에서 호출해야 하며, 스트림은 export 가 끝까지 소비한 뒤 닫습니다.
+     */
+    public <T> Stream<T> stream(TypedQuery<T> query) {
+        return query.setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize).getResultStream();
+    }
+
+    public <T> ExportFile export(
+            String name, ExportFormat format, List<String> headers,
+            Supplier<Stream<T>> rows, Function<T, List<?>> columns
+    ) {
+        StreamingResponseBody body = outputStream -> readOnlyTransactionTemplate.executeWithoutResult(status -> {
+            long startedAt = System.currentTimeMillis();
+            long count = 0;
+            try (Stream<T> stream = rows.get();
+                 ExportWriter writer = ExportWriter.open(format, outputStream, name, headers)) {
+                Iterator<T> iterator = stream.iterator();
+                while (iterator.hasNext()) {
+                    writer.writeRow(columns.apply(iterator.next()));
+                    count++;
+                }
+            } catch (IOException e) {
+                // 대부분 클라이언트가 다운로드를 중단한 경우
+                throw new UncheckedIOException(e);
+            }
+            log.info("[StreamingExporter] 내보내기 완료 - name: {}, format: {}, rows: {}, elapsedMs: {}",
+                    name, format, count, System.currentTimeMillis() - startedAt);
+        });
+        return new ExportFile(name + "." + format.getExtension(), format, body);
+    }
+}
@@ -0,0 +1,115 @@
+package com.almang.inventory.global.export;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.apache.poi.ss.SpreadsheetVersion;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.Font;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.xssf.streaming.SXSSFSheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+
+/**
+ * POI SXSSF 로 XLSX 를 기록합니다. 최근 {@value #ROW_ACCESS_WINDOW} 행만 메모리에 두고 나머지는 압축된 임시 파일로
+ * 내보내므로 행 수와 관계없이 힙 사용량이 일정합니다. XLSX 는 zip 형식이라 close 시점에 파일 전체가 전송됩니다.
+ * 시트 최대 행 수를 넘으면 같은 헤더로 다음 시트를 이어서 만듭니다.
+ */
+final class XlsxExportWriter implements ExportWriter {
+
+    private static final int ROW_ACCESS_WINDOW = 100;
+    private static final int MAX_ROWS_PER_SHEET = SpreadsheetVersion.EXCEL2007.getMaxRows();
+
+    private final OutputStream outputStream;
+    private final SXSSFWorkbook workbook;
+    private final String sheetName;
+    private final List<String> headers;
+    private final CellStyle headerStyle;
+    private final CellStyle dateStyle;
+    private final CellStyle dateTimeStyle;
+
+    private SXSSFSheet sheet;
+    private int sheetCount;
+    private int rowIndex;
+
+    XlsxExportWriter(OutputStream outputStream, String sheetName, List<String> headers) {
+        this.outputStream = outputStream;
+        this.workbook = new SXSSFWorkbook(null, ROW_ACCESS_WINDOW, true, false);
+        this.sheetName = sheetName;
+        this.headers = headers;
+
+        Font headerFont = workbook.createFont();
+        headerFont.setBold(true);
+        this.headerStyle = workbook.createCellStyle();
+        headerStyle.setFont(headerFont);
+
+        short dateFormat = workbook.createDataFormat().getFormat("yyyy-mm-dd");
+        this.dateStyle = workbook.createCellStyle();
+        dateStyle.setDataFormat(dateFormat);
+
+        short dateTimeFormat = workbook.createDataFormat().getFormat("yyyy-mm-dd hh:mm:ss");
+        this.dateTimeStyle = workbook.createCellStyle();
+        dateTimeStyle.setDataFormat(dateTimeFormat);
+
+        nextSheet();
+    }
+
+    @Override
+    public void writeRow(List<?> values) throws IOException {
+        if (rowIndex >= MAX_ROWS_PER_SHEET) {
+            nextSheet();
+        }
+        Row row = sheet.createRow(rowIndex++);
+        for (int i = 0; i < values.size(); i++) {
+            writeCell(row.createCell(i), values.get(i));
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            workbook.write(outputStream);
+            outputStream.flush();
+        } finally {
+            workbook.dispose();
+            workbook.close();
+        }
+    }
+
+    private void nextSheet() {
+        sheetCount++;
+        sheet = workbook.createSheet(sheetCount == 1 ? sheetName : sheetName + " (" + sheetCount + ")");
+        rowIndex = 0;
+        Row row = sheet.createRow(rowIndex++);
+        for (int i = 0; i < headers.size(); i++) {
+            Cell cell = row.createCell(i);
+            cell.setCellValue(headers.get(i));
+            cell.setCellStyle(headerStyle);
+        }
+    }
+
+    private void writeCell(Cell cell, Object value) {
+        if (value == null) {
+            return;
+        }
+        if (value instanceof BigDecimal decimal) {
+            cell.setCellValue(decimal.doubleValue());
+        } else if (value instanceof Number number) {
+            cell.setCellValue(number.doubleValue());
+        } else if (value instanceof LocalDate date) {
+            cell.setCellValue(date);
+            cell.setCellStyle(dateStyle);
+        } else if (value instanceof LocalDateTime dateTime) {
+            cell.setCellValue(dateTime);
+            cell.setCellStyle(dateTimeStyle);
+        } else if (value instanceof Boolean bool) {
+            cell.setCellValue(bool);
+        } else {
+            cell.setCellValue(value.toString());
+        }
+    }
+}
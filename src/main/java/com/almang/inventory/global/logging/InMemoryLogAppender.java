@@ -1,33 +1,49 @@
 package com.almang.inventory.global.logging;
 
 import ch.qos.logback.classic.spi.ILoggingEvent;
-import ch.qos.logback.core.AppenderBase;
-import java.util.Deque;
+import ch.qos.logback.core.UnsynchronizedAppenderBase;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.ConcurrentLinkedDeque;
-import java.util.stream.Collectors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
-public class InMemoryLogAppender extends AppenderBase<ILoggingEvent> {
+/**
+ * 최근 로그를 고정 크기 링 버퍼에 보관하는 Appender
+ * append 는 시퀀스 증가 + 슬롯 쓰기만 하므로 락 없이 O(1)이며, 버퍼가 가득 차면 가장 오래된 로그를 덮어씁니다.
+ */
+public class InMemoryLogAppender extends UnsynchronizedAppenderBase<ILoggingEvent> {
 
-    private static final int MAX_EVENTS = 1000;
-    private static final Deque<ILoggingEvent> events = new ConcurrentLinkedDeque<>();
+    // 인덱스 계산을 비트 마스크로 하기 위해 2의 거듭제곱으로 유지
+    static final int CAPACITY = 1024;
+    private static final int INDEX_MASK = CAPACITY - 1;
+
+    private static final AtomicReferenceArray<Slot> slots = new AtomicReferenceArray<>(CAPACITY);
+    private static final AtomicLong nextSequence = new AtomicLong();
 
     @Override
     protected void append(ILoggingEvent eventObject) {
-        events.addLast(eventObject);
-
-        // 로그가 1000개가 넘으면 처음 로그부터 버림
-        while (events.size() > MAX_EVENTS) {
-            events.pollFirst();
-        }
+        long sequence = nextSequence.getAndIncrement();
+        slots.set(index(sequence), new Slot(sequence, eventObject));
     }
 
     public static List<ILoggingEvent> getRecentEvents(int limit) {
-        int size = events.size();
-        int skip = Math.max(0, size - limit);
+        long end = nextSequence.get();
+        int count = (int) Math.min(Math.min(limit, CAPACITY), end);
 
-        return events.stream()
-                .skip(skip)
-                .collect(Collectors.toList());
+        List<ILoggingEvent> recentEvents = new ArrayList<>(count);
+        for (long sequence = end - count; sequence < end; sequence++) {
+            Slot slot = slots.get(index(sequence));
+            // 아직 쓰는 중이거나 이미 덮어쓴 슬롯은 건너뜀
+            if (slot != null && slot.sequence() == sequence) {
+                recentEvents.add(slot.event());
+            }
+        }
+        return recentEvents;
     }
+
+    private static int index(long sequence) {
+        return (int) (sequence & INDEX_MASK);
+    }
+
+    private record Slot(long sequence, ILoggingEvent event) {}
 }
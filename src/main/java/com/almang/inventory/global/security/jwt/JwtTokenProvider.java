@@ -3,12 +3,19 @@ package com.almang.inventory.global.security.jwt;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
 import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
 import java.util.Date;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
@@ -16,8 +23,15 @@ import org.springframework.stereotype.Component;
 @Component
 public class JwtTokenProvider {
 
+    // 검증 완료 토큰 캐시 최대 크기 (가득 차면 만료 항목을 비우고, 그래도 가득 차면 캐싱하지 않음)
+    static final int MAX_VERIFIED_TOKENS = 10_000;
+
     private final Key secretKey;
     private final int jwtExpiration;
+    // 파서는 불변이며 스레드 안전하므로 한 번만 생성하여 재사용
+    private final JwtParser jwtParser;
+    private final Map<String, VerifiedToken> verifiedTokens = new ConcurrentHashMap<>();
+    private Clock clock = Clock.systemUTC();
 
     public JwtTokenProvider(
             @Value("${jwt.secret}") String jwtSecret,
@@ -25,10 +39,14 @@ public class JwtTokenProvider {
     ) {
         this.secretKey = Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
         this.jwtExpiration = jwtExpiration;
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKey(secretKey)
+                .setClock(() -> new Date(clock.millis()))
+                .build();
     }
 
     public String generateAccessToken(Long userId) {
-        Date now = new Date();
+        Date now = new Date(clock.millis());
         Date expiryDate = new Date(now.getTime() + TimeUnit.MINUTES.toMillis(jwtExpiration));
 
         return Jwts.builder()
@@ -39,39 +57,84 @@ public class JwtTokenProvider {
                 .compact();
     }
 
-    public TokenStatus validateToken(String token) {
-        try {
-            Jwts.parserBuilder()
-                    .setSigningKey(secretKey)
-                    .build()
-                    .parseClaimsJws(token);
-            return TokenStatus.VALID;
-        } catch (ExpiredJwtException e) {
-            return TokenStatus.EXPIRED;
-        } catch (JwtException e) {
-            return TokenStatus.INVALID;
+    /**
+     * 토큰을 한 번만 파싱/서명 검증하여 상태, userId, 만료 시각을 함께 반환합니다.
+     * 이미 검증한 토큰은 다이제스트를 키로 만료 시각까지 캐싱하여 HMAC 검증과 JSON 파싱을 건너뜁니다.
+     */
+    public VerifiedToken verify(String token) {
+        long now = clock.millis();
+        String digest = digest(token);
+
+        VerifiedToken cached = verifiedTokens.get(digest);
+        if (cached != null) {
+            if (cached.expiresAtMillis() > now) {
+                return cached;
+            }
+            verifiedTokens.remove(digest);
+            return VerifiedToken.expired();
+        }
+
+        VerifiedToken verified = parse(token);
+        if (verified.isValid()) {
+            cache(digest, verified, now);
         }
+        return verified;
     }
 
-    public Long getUserIdFromToken(String token) {
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(secretKey)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+    public TokenStatus validateToken(String token) {
+        return verify(token).status();
+    }
 
-        return Long.parseLong(claims.getSubject());
+    public Long getUserIdFromToken(String token) {
+        VerifiedToken verified = verify(token);
+        if (!verified.isValid()) {
+            throw new JwtException("유효하지 않은 토큰입니다. - status: " + verified.status());
+        }
+        return verified.userId();
     }
 
     public long getRemainingMillis(String token) {
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(secretKey)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        return verify(token).remainingMillis(clock.millis());
+    }
+
+    void setClock(Clock clock) {
+        this.clock = clock;
+    }
+
+    void clearVerifiedTokens() {
+        verifiedTokens.clear();
+    }
 
-        long exp = claims.getExpiration().getTime();
-        long now = System.currentTimeMillis();
-        return Math.max(0L, exp - now);
+    private VerifiedToken parse(String token) {
+        try {
+            Claims claims = jwtParser.parseClaimsJws(token).getBody();
+            if (claims.getExpiration() == null) {
+                return VerifiedToken.invalid(); // 만료 시각 없는 토큰은 발급하지 않음
+            }
+            return VerifiedToken.valid(Long.parseLong(claims.getSubject()), claims.getExpiration().getTime());
+        } catch (ExpiredJwtException e) {
+            return VerifiedToken.expired();
+        } catch (JwtException | IllegalArgumentException e) {
+            return VerifiedToken.invalid();
+        }
+    }
+
+    private void cache(String digest, VerifiedToken verified, long now) {
+        if (verifiedTokens.size() >= MAX_VERIFIED_TOKENS) {
+            verifiedTokens.values().removeIf(entry -> entry.expiresAtMillis() <= now);
+            if (verifiedTokens.size() >= MAX_VERIFIED_TOKENS) {
+                return;
+            }
+        }
+        verifiedTokens.put(digest, verified);
+    }
+
+    private String digest(String token) {
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(messageDigest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
     }
 }
@@ -1,11 +1,10 @@
 package com.almang.inventory.global.security.jwt;
 
-import com.almang.inventory.global.exception.BaseException;
+import com.almang.inventory.global.context.UserContextCache;
+import com.almang.inventory.global.context.UserContextCache.CachedUser;
 import com.almang.inventory.global.exception.ErrorCode;
 import com.almang.inventory.global.security.principal.CustomUserPrincipal;
 import com.almang.inventory.user.auth.service.RedisService;
-import com.almang.inventory.user.domain.User;
-import com.almang.inventory.user.repository.UserRepository;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -28,7 +27,7 @@ public class TokenAuthenticationFilter extends OncePerRequestFilter {
 
     private final RedisService redisService;
     private final JwtTokenProvider jwtTokenProvider;
-    private final UserRepository userRepository;
+    private final UserContextCache userContextCache;
     private static final String TOKEN_PREFIX = "Bearer ";
 
     private final List<String> whitelist = List.of(
@@ -81,7 +80,8 @@ public class TokenAuthenticationFilter extends OncePerRequestFilter {
             return;
         }
 
-        TokenStatus status = jwtTokenProvider.validateToken(token);
+        VerifiedToken verified = jwtTokenProvider.verify(token);
+        TokenStatus status = verified.status();
 
         log.debug("[AUTH] path={}, authHeader={}", request.getServletPath(), request.getHeader(HttpHeaders.AUTHORIZATION));
         log.debug("[AUTH] tokenStatus={}", status);
@@ -91,14 +91,12 @@ public class TokenAuthenticationFilter extends OncePerRequestFilter {
                 SecurityContextHolder.clearContext();
                 request.setAttribute("authErrorCode", ErrorCode.ACCESS_TOKEN_INVALID);
             } else {
-                Long userId = jwtTokenProvider.getUserIdFromToken(token);
-                User user = userRepository.findById(userId)
-                        .orElseThrow(() -> new BaseException(ErrorCode.USER_NOT_FOUND));
+                CachedUser user = userContextCache.get(verified.userId());
 
-                GrantedAuthority authority = new SimpleGrantedAuthority("ROLE_" + user.getRole().name());
+                GrantedAuthority authority = new SimpleGrantedAuthority("ROLE_" + user.role().name());
                 List<GrantedAuthority> authorities = List.of(authority);
                 CustomUserPrincipal principal =
-                        new CustomUserPrincipal(user.getId(), user.getUsername(), authorities);
+                        new CustomUserPrincipal(user.userId(), user.username(), authorities);
 
                 UsernamePasswordAuthenticationToken authenticationToken =
                         new UsernamePasswordAuthenticationToken(principal, null, authorities);
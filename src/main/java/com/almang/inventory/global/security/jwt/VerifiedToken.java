@@ -0,0 +1,31 @@
+package com.almang.inventory.global.security.jwt;
+
+/**
+ * 액세스 토큰을 한 번 검증한 결과입니다.
+ * status 가 VALID 일 때만 userId 와 expiresAtMillis 가 채워집니다.
+ */
+public record VerifiedToken(TokenStatus status, Long userId, long expiresAtMillis) {
+
+    private static final VerifiedToken EXPIRED = new VerifiedToken(TokenStatus.EXPIRED, null, 0L);
+    private static final VerifiedToken INVALID = new VerifiedToken(TokenStatus.INVALID, null, 0L);
+
+    public static VerifiedToken valid(Long userId, long expiresAtMillis) {
+        return new VerifiedToken(TokenStatus.VALID, userId, expiresAtMillis);
+    }
+
+    public static VerifiedToken expired() {
+        return EXPIRED;
+    }
+
+    public static VerifiedToken invalid() {
+        return INVALID;
+    }
+
+    public boolean isValid() {
+        return status == TokenStatus.VALID;
+    }
+
+    public long remainingMillis(long nowMillis) {
+        return isValid() ? Math.max(0L, expiresAtMillis - nowMillis) : 0L;
+    }
+}
@@ -0,0 +1,64 @@
+package com.almang.inventory.global.util;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 트랜잭션 동안 모은 값을 커밋된 뒤에 한 번에 넘기는 도우미입니다.
+ * 같은 키로 여러 번 모으면 마지막 값만 남고(처음 모은 순서 유지), 롤백되면 모은 값은 버립니다.
+ * 트랜잭션 밖에서 모으면 바로 넘깁니다.
+ */
+public final class AfterCommitCollector<K, V> {
+
+    private final Consumer<List<V>> onCommit;
+
+    public AfterCommitCollector(Consumer<List<V>> onCommit) {
+        this.onCommit = onCommit;
+    }
+
+    public void add(K key, V value) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            onCommit.accept(List.of(value));
+            return;
+        }
+        pending().put(key, value);
+    }
+
+    /**
+     * 현재 트랜잭션에서 모았지만 아직 커밋되지 않은 값 (트랜잭션 밖이거나 모은 값이 없으면 빈 목록)
+     */
+    public List<V> pendingValues() {
+        Map<K, V> pending = boundPending();
+        return pending == null ? List.of() : List.copyOf(pending.values());
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<K, V> boundPending() {
+        return (Map<K, V>) TransactionSynchronizationManager.getResource(this);
+    }
+
+    // 트랜잭션마다 처음 모을 때 묶어 두고, 완료되면 풀면서 커밋된 경우에만 넘김
+    private Map<K, V> pending() {
+        Map<K, V> pending = boundPending();
+        if (pending != null) {
+            return pending;
+        }
+        Map<K, V> values = new LinkedHashMap<>();
+        TransactionSynchronizationManager.bindResource(this, values);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(AfterCommitCollector.this);
+                if (status == STATUS_COMMITTED) {
+                    onCommit.accept(new ArrayList<>(values.values()));
+                }
+            }
+        });
+        return values;
+    }
+}
@@ -0,0 +1,114 @@
+package com.almang.inventory.global.util;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class HangulUtil {
+
+    private static final char SYLLABLE_BEGIN = '가';
+    private static final char SYLLABLE_END = '힣';
+    private static final int JUNGSEONG_COUNT = 21;
+    private static final int JONGSEONG_COUNT = 28;
+
+    private static final char COMPAT_JAMO_BEGIN = 'ㄱ';
+    private static final char COMPAT_CONSONANT_END = 'ㅎ';
+    private static final char COMPAT_JAMO_END = 'ㅣ';
+
+    private static final char[] CHOSEONG = {
+            'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ',
+            'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+
+    // 겹모음/겹받침은 실제 입력 순서(두 번의 키 입력)로 풀어서, 입력 중인 음절도 같은 접두어가 되도록 함
+    private static final String[] JUNGSEONG_KEYS = {
+            "ㅏ", "ㅐ", "ㅑ", "ㅒ", "ㅓ", "ㅔ", "ㅕ", "ㅖ", "ㅗ", "ㅗㅏ",
+            "ㅗㅐ", "ㅗㅣ", "ㅛ", "ㅜ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅠ", "ㅡ", "ㅡㅣ", "ㅣ"
+    };
+
+    private static final String[] JONGSEONG_KEYS = {
+            "", "ㄱ", "ㄲ", "ㄱㅅ", "ㄴ", "ㄴㅈ", "ㄴㅎ", "ㄷ", "ㄹ", "ㄹㄱ",
+            "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ", "ㄹㅍ", "ㄹㅎ", "ㅁ", "ㅂ", "ㅂㅅ", "ㅅ",
+            "ㅆ", "ㅇ", "ㅈ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+    };
+
+    // 호환용 자모(ㄱ~ㅣ)를 입력 키 단위로 풀어 쓴 값 (겹자모만 두 글자)
+    private static final String[] COMPAT_JAMO_KEYS = buildCompatJamoKeys();
+
+    /**
+     * 한글 음절을 키 입력 단위의 호환용 자모로 풀어 씁니다. (예: "샴푸" → "ㅅㅑㅁㅍㅜ", "과" → "ㄱㅗㅏ")
+     * 한글이 아닌 문자는 그대로 둡니다.
+     */
+    public static String toKeystrokes(String text) {
+        StringBuilder builder = new StringBuilder(text.length() * 3);
+        for (int i = 0; i < text.length(); i++) {
+            char ch = text.charAt(i);
+            if (isSyllable(ch)) {
+                int offset = ch - SYLLABLE_BEGIN;
+                builder.append(CHOSEONG[offset / (JUNGSEONG_COUNT * JONGSEONG_COUNT)]);
+                builder.append(JUNGSEONG_KEYS[(offset / JONGSEONG_COUNT) % JUNGSEONG_COUNT]);
+                builder.append(JONGSEONG_KEYS[offset % JONGSEONG_COUNT]);
+            } else if (ch >= COMPAT_JAMO_BEGIN && ch <= COMPAT_JAMO_END) {
+                builder.append(COMPAT_JAMO_KEYS[ch - COMPAT_JAMO_BEGIN]);
+            } else {
+                builder.append(ch);
+            }
+        }
+        return builder.toString();
+    }
+
+    /**
+     * 한글 음절을 초성으로 바꿉니다. (예: "샴푸 세트" → "ㅅㅍ ㅅㅌ") 한글이 아닌 문자는 그대로 둡니다.
+     */
+    public static String toChoseong(String text) {
+        StringBuilder builder = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char ch = text.charAt(i);
+            if (isSyllable(ch)) {
+                builder.append(CHOSEONG[(ch - SYLLABLE_BEGIN) / (JUNGSEONG_COUNT * JONGSEONG_COUNT)]);
+            } else {
+                builder.append(ch);
+            }
+        }
+        return builder.toString();
+    }
+
+    /**
+     * 공백을 제외한 모든 문자가 자음(ㄱ~ㅎ)이면 true 를 반환합니다.
+     */
+    public static boolean isChoseongOnly(String text) {
+        boolean hasConsonant = false;
+        for (int i = 0; i < text.length(); i++) {
+            char ch = text.charAt(i);
+            if (Character.isWhitespace(ch)) {
+                continue;
+            }
+            if (ch < COMPAT_JAMO_BEGIN || ch > COMPAT_CONSONANT_END) {
+                return false;
+            }
+            hasConsonant = true;
+        }
+        return hasConsonant;
+    }
+
+    private static boolean isSyllable(char ch) {
+        return ch >= SYLLABLE_BEGIN && ch <= SYLLABLE_END;
+    }
+
+    private static String[] buildCompatJamoKeys() {
+        String[] keys = new String[COMPAT_JAMO_END - COMPAT_JAMO_BEGIN + 1];
+        for (char ch = COMPAT_JAMO_BEGIN; ch <= COMPAT_JAMO_END; ch++) {
+            keys[ch - COMPAT_JAMO_BEGIN] = String.valueOf(ch);
+        }
+        String[][] compounds = {
+                {"ㄳ", "ㄱㅅ"}, {"ㄵ", "ㄴㅈ"}, {"ㄶ", "ㄴㅎ"}, {"ㄺ", "ㄹㄱ"}, {"ㄻ", "ㄹㅁ"},
+                {"ㄼ", "ㄹㅂ"}, {"ㄽ", "ㄹㅅ"}, {"ㄾ", "ㄹㅌ"}, {"ㄿ", "ㄹㅍ"}, {"ㅀ", "ㄹㅎ"},
+                {"ㅄ", "ㅂㅅ"}, {"ㅘ", "ㅗㅏ"}, {"ㅙ", "ㅗㅐ"}, {"ㅚ", "ㅗㅣ"}, {"ㅝ", "ㅜㅓ"},
+                {"ㅞ", "ㅜㅔ"}, {"ㅟ", "ㅜㅣ"}, {"ㅢ", "ㅡㅣ"}
+        };
+        for (String[] compound : compounds) {
+            keys[compound[0].charAt(0) - COMPAT_JAMO_BEGIN] = compound[1];
+        }
+        return keys;
+    }
+}
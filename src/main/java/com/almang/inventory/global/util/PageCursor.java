@@ -0,0 +1,62 @@
+package com.almang.inventory.global.util;
+
+import com.almang.inventory.global.exception.BaseException;
+import com.almang.inventory.global.exception.ErrorCode;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.function.Function;
+
+/**
+ * 키셋(커서) 페이지네이션의 위치를 나타냅니다.
+ * 마지막으로 내려준 행의 정렬 키와 id 를 담고, 클라이언트에는 Base64 로 인코딩한 불투명 문자열로 전달합니다.
+ */
+public record PageCursor(String sortKey, Long id) {
+
+    private static final String SEPARATOR = ":";
+
+    public static PageCursor of(Object sortKey, Long id) {
+        return new PageCursor(String.valueOf(sortKey), id);
+    }
+
+    // 커서가 없으면 null 을 반환하여 첫 페이지부터 조회
+    public static PageCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            // 정렬 키(시간, 상품명)에는 구분자가 들어갈 수 있으므로 id 를 앞에 둠
+            int separator = decoded.indexOf(SEPARATOR);
+            if (separator < 1) {
+                throw new BaseException(ErrorCode.INVALID_CURSOR);
+            }
+            return new PageCursor(decoded.substring(separator + 1), Long.valueOf(decoded.substring(0, separator)));
+        } catch (IllegalArgumentException e) {
+            throw new BaseException(ErrorCode.INVALID_CURSOR);
+        }
+    }
+
+    public String encode() {
+        String raw = id + SEPARATOR + sortKey;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public LocalDateTime sortKeyAsDateTime() {
+        return parseSortKey(LocalDateTime::parse);
+    }
+
+    public LocalDate sortKeyAsDate() {
+        return parseSortKey(LocalDate::parse);
+    }
+
+    private <T> T parseSortKey(Function<String, T> parser) {
+        try {
+            return parser.apply(sortKey);
+        } catch (DateTimeParseException e) {
+            throw new BaseException(ErrorCode.INVALID_CURSOR);
+        }
+    }
+}
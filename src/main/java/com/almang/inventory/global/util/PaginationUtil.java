@@ -21,4 +21,11 @@ public class PaginationUtil {
 
         return PageRequest.of(pageIndex, pageSize, Sort.by(direction, sortBy));
     }
+
+    // 커서 모드는 정렬을 쿼리에서 고정하고, Slice 로 size + 1 건만 읽어 다음 페이지 여부를 판단함 (COUNT 쿼리 없음)
+    public static PageRequest createCursorRequest(Integer size) {
+        int pageSize = (size == null || size < 1) ? 20 : size;
+
+        return PageRequest.ofSize(pageSize);
+    }
 }
@@ -1,18 +1,27 @@
 package com.almang.inventory.inventory.controller;
 
 import com.almang.inventory.global.api.ApiResponse;
+import com.almang.inventory.global.api.CursorResponse;
 import com.almang.inventory.global.api.PageResponse;
 import com.almang.inventory.global.api.SuccessMessage;
+import com.almang.inventory.global.export.ExportFile;
 import com.almang.inventory.global.security.principal.CustomUserPrincipal;
 import com.almang.inventory.inventory.dto.request.MoveInventoryRequest;
 import com.almang.inventory.inventory.dto.request.UpdateInventoryRequest;
+import com.almang.inventory.inventory.dto.response.InventoryAsOfResponse;
+import com.almang.inventory.inventory.dto.response.InventoryMovementResponse;
 import com.almang.inventory.inventory.dto.response.InventoryResponse;
+import com.almang.inventory.inventory.service.InventoryHistoryService;
 import com.almang.inventory.inventory.service.InventoryService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import java.time.LocalDateTime;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -20,9 +29,12 @@ import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @Slf4j
 @RestController
@@ -32,6 +44,7 @@ import org.springframework.web.bind.annotation.RestController;
 public class InventoryController {
 
     private final InventoryService inventoryService;
+    private final InventoryHistoryService inventoryHistoryService;
 
     @GetMapping
     @Operation(summary = "재고 목록 조회", description = "상점의 재고 목록을 조회합니다.")
@@ -54,6 +67,66 @@ public class InventoryController {
         );
     }
 
+    @GetMapping("/scroll")
+    @Operation(summary = "재고 목록 커서 조회", description = "상점의 재고 목록을 커서 기반으로 조회합니다. 전체 개수를 세지 않으며, 응답의 nextCursor 로 다음 페이지를 조회합니다. 기본 정렬은 최근 등록순이며, 조회 도중 재고 수량이 바뀌어도 행이 빠지거나 중복되지 않습니다. sort=productName 은 상품명순이며 조회 도중 상품명이 바뀐 재고는 빠지거나 중복될 수 있습니다.")
+    public ResponseEntity<ApiResponse<CursorResponse<InventoryResponse>>> getStoreInventoryListByCursor(
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "size", required = false) Integer size,
+            @RequestParam(name = "scope", required = false) String scope,
+            @RequestParam(name = "q", required = false) String q,
+            @RequestParam(name = "sort", required = false) String sort,
+            @AuthenticationPrincipal CustomUserPrincipal userPrincipal
+    ) {
+        Long userId = userPrincipal.getId();
+        log.info("[InventoryController] 상점 재고 커서 조회 요청 - userId: {}, size: {}, scope: {}, q: {}, sort: {}",
+                userId, size, scope, q, sort);
+        CursorResponse<InventoryResponse> response =
+                inventoryService.getStoreInventoryListByCursor(userId, cursor, size, scope, q, sort);
+
+        return ResponseEntity.ok(
+                ApiResponse.success(SuccessMessage.GET_STORE_INVENTORY_SUCCESS.getMessage(), response)
+        );
+    }
+
+    @GetMapping("/low-stock")
+    @Operation(summary = "재주문 필요 재고 조회", description = "재고 상태가 부족(LOW) 또는 품절(OUT_OF_STOCK)인 재고를 창고 재고/재주문점 비율이 낮은 순으로 조회합니다.")
+    public ResponseEntity<ApiResponse<List<InventoryResponse>>> getLowStockInventories(
+            @RequestParam(name = "limit", required = false) Integer limit,
+            @AuthenticationPrincipal CustomUserPrincipal userPrincipal
+    ) {
+        Long userId = userPrincipal.getId();
+        log.info("[InventoryController] 재주문 필요 재고 조회 요청 - userId: {}, limit: {}", userId, limit);
+        List<InventoryResponse> response = inventoryService.getLowStockInventories(userId, limit);
+
+        return ResponseEntity.ok(
+                ApiResponse.success(SuccessMessage.GET_LOW_STOCK_INVENTORY_SUCCESS.getMessage(), response)
+        );
+    }
+
+    @GetMapping("/export")
+    @Operation(summary = "재고 내보내기", description = "상점의 재고 목록을 파일로 내려받습니다. format 은 xlsx(기본) 또는 csv 입니다.")
+    public ResponseEntity<StreamingResponseBody> exportInventories(
+            @RequestParam(name = "format", required = false) String format,
+            @AuthenticationPrincipal CustomUserPrincipal userPrincipal
+    ) {
+        Long userId = userPrincipal.getId();
+        log.info("[InventoryController] 재고 내보내기 요청 - userId: {}, format: {}", userId, format);
+        ExportFile exportFile = inventoryService.exportInventories(userId, format);
+
+        return exportFile.toResponseEntity();
+    }
+
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "재고 변경 스트림 구독", description = "상점의 재고가 바뀔 때마다 바뀐 재고의 현재 값을 SSE(inventory 이벤트)로 전송합니다. 재연결 시 Last-Event-ID 이후의 이벤트를 다시 보내며, 보관 범위를 벗어났으면 resync 이벤트로 목록 재조회를 요청합니다. 이벤트는 커밋 순서와 다르게 도착할 수 있으므로 재고별로 이미 반영한 revision 보다 크지 않은 이벤트는 무시해야 합니다.")
+    public SseEmitter subscribeInventoryChanges(
+            @RequestHeader(name = "Last-Event-ID", required = false) Long lastEventId,
+            @AuthenticationPrincipal CustomUserPrincipal userPrincipal
+    ) {
+        Long userId = userPrincipal.getId();
+        log.info("[InventoryController] 재고 변경 스트림 구독 요청 - userId: {}, lastEventId: {}", userId, lastEventId);
+        return inventoryService.subscribeInventoryChanges(userId, lastEventId);
+    }
+
     @PatchMapping("/{inventoryId}")
     @Operation(summary = "재고 수동 수정", description = "재고를 수정하고 수정된 재고 정보를 반환합니다.")
     public ResponseEntity<ApiResponse<InventoryResponse>> updateInventory(
@@ -115,4 +188,38 @@ public class InventoryController {
                 ApiResponse.success(SuccessMessage.GET_INVENTORY_BY_PRODUCT_SUCCESS.getMessage(), response)
         );
     }
+
+    @GetMapping("/{inventoryId}/movements")
+    @Operation(summary = "재고 변동 이력 조회", description = "재고의 변동 이력을 최신순으로 조회합니다.")
+    public ResponseEntity<ApiResponse<PageResponse<InventoryMovementResponse>>> getInventoryMovements(
+            @PathVariable Long inventoryId,
+            @RequestParam(name = "page", required = false) Integer page,
+            @RequestParam(name = "size", required = false) Integer size,
+            @AuthenticationPrincipal CustomUserPrincipal userPrincipal
+    ) {
+        Long userId = userPrincipal.getId();
+        log.info("[InventoryController] 재고 변동 이력 조회 요청 - userId: {}, inventoryId: {}", userId, inventoryId);
+        PageResponse<InventoryMovementResponse> response =
+                inventoryHistoryService.getInventoryMovements(inventoryId, page, size, userId);
+
+        return ResponseEntity.ok(
+                ApiResponse.success(SuccessMessage.GET_INVENTORY_MOVEMENTS_SUCCESS.getMessage(), response)
+        );
+    }
+
+    @GetMapping("/{inventoryId}/as-of")
+    @Operation(summary = "시점 재고 조회", description = "지정한 시점의 재고 수량을 스냅샷과 변동 이력으로 계산하여 반환합니다.")
+    public ResponseEntity<ApiResponse<InventoryAsOfResponse>> getInventoryAsOf(
+            @PathVariable Long inventoryId,
+            @RequestParam(name = "at") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime at,
+            @AuthenticationPrincipal CustomUserPrincipal userPrincipal
+    ) {
+        Long userId = userPrincipal.getId();
+        log.info("[InventoryController] 시점 재고 조회 요청 - userId: {}, inventoryId: {}, at: {}", userId, inventoryId, at);
+        InventoryAsOfResponse response = inventoryHistoryService.getInventoryAsOf(inventoryId, at, userId);
+
+        return ResponseEntity.ok(
+                ApiResponse.success(SuccessMessage.GET_INVENTORY_AS_OF_SUCCESS.getMessage(), response)
+        );
+    }
 }
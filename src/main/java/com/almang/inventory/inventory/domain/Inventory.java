@@ -1,9 +1,9 @@
 package com.almang.inventory.inventory.domain;
 
 import com.almang.inventory.global.entity.BaseTimeEntity;
-import com.almang.inventory.global.exception.BaseException;
-import com.almang.inventory.global.exception.ErrorCode;
+import com.almang.inventory.inventory.service.InventoryChangeListener;
 import com.almang.inventory.product.domain.Product;
+import com.almang.inventory.store.domain.Store;
 import jakarta.persistence.*;
 import java.time.LocalDateTime;
 import lombok.*;
@@ -18,8 +18,13 @@ import java.math.BigDecimal;
                         name = "uk_inventory_product",
                         columnNames = {"product_id"}
                 )
+        },
+        indexes = {
+                @Index(name = "idx_inventory_store_status", columnList = "store_id,status"),
+                @Index(name = "idx_inventory_status", columnList = "status")
         }
 )
+@EntityListeners(InventoryChangeListener.class)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
@@ -36,6 +41,11 @@ public class Inventory extends BaseTimeEntity {
     @JoinColumn(name = "product_id", nullable = false)
     private Product product;
 
+    // 상점별 상태 조회를 인덱스로 처리하기 위해 상품의 상점을 함께 저장
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "store_id", nullable = false)
+    private Store store;
+
     @Column(name = "display_stock", precision = 10, scale = 3, nullable = false)
     private BigDecimal displayStock;
 
@@ -51,9 +61,23 @@ public class Inventory extends BaseTimeEntity {
     @Column(name = "reorder_trigger_point", precision = 10, scale = 3, nullable = false)
     private BigDecimal reorderTriggerPoint;
 
+    // 생성 시 계산하고, 이후에는 수량을 바꾸는 조건부 UPDATE 문에서 직접 계산
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", length = 20, nullable = false)
+    private InventoryStatus status;
+
     @Column(name = "deleted_at")
     private LocalDateTime deletedAt;
 
+    // 수량/상태가 바뀔 때마다 1씩 증가하는 변경 순번 (조건부 UPDATE 문에서 함께 증가, 재고 변경 이벤트의 순서 판별용)
+    @Column(name = "revision", nullable = false)
+    private long revision;
+
+    @PrePersist
+    void initStatus() {
+        this.status = InventoryStatus.from(this.warehouseStock, this.reorderTriggerPoint);
+    }
+
     /**
      * 가용 재고 조회 (창고 재고 - 출고 예정 수량)
      * 실제로 출고 가능한 재고 수량을 반환합니다.
@@ -61,109 +85,4 @@ public class Inventory extends BaseTimeEntity {
     public BigDecimal getAvailableStock() {
         return this.warehouseStock.subtract(this.outgoingReserved);
     }
-
-    // 입고 예정 추가
-    public void increaseIncoming(BigDecimal quantity) {
-        this.incomingReserved = this.incomingReserved.add(quantity);
-    }
-
-    // 입고 예정 차감
-    public void decreaseIncoming(BigDecimal quantity) {
-        if (this.incomingReserved.compareTo(quantity) < 0) {
-            throw new BaseException(ErrorCode.INCOMING_STOCK_NOT_ENOUGH);
-        }
-        this.incomingReserved = this.incomingReserved.subtract(quantity);
-    }
-
-    // 입고 확정
-    public void confirmIncoming(BigDecimal expected, BigDecimal actual) {
-        if (this.incomingReserved.compareTo(expected) < 0) {
-            throw new BaseException(ErrorCode.INCOMING_STOCK_NOT_ENOUGH);
-        }
-        this.incomingReserved = this.incomingReserved.subtract(expected);
-        this.warehouseStock = this.warehouseStock.add(actual);
-    }
-
-    // 창고에서 매대로 이동
-    public void moveWarehouseToDisplay(BigDecimal quantity) {
-        if (this.warehouseStock.compareTo(quantity) < 0) {
-            throw new BaseException(ErrorCode.WAREHOUSE_STOCK_NOT_ENOUGH);
-        }
-        this.warehouseStock = this.warehouseStock.subtract(quantity);
-        this.displayStock = this.displayStock.add(quantity);
-    }
-
-    // 매대에서 창고로 이동
-    public void moveDisplayToWarehouse(BigDecimal quantity) {
-        if (this.displayStock.compareTo(quantity) < 0) {
-            throw new BaseException(ErrorCode.DISPLAY_STOCK_NOT_ENOUGH);
-        }
-        this.displayStock = this.displayStock.subtract(quantity);
-        this.warehouseStock = this.warehouseStock.add(quantity);
-    }
-
-    // 판매(매대 차감)
-    public void decreaseDisplay(BigDecimal quantity) {
-        if (this.displayStock.compareTo(quantity) < 0) {
-            throw new BaseException(ErrorCode.DISPLAY_STOCK_NOT_ENOUGH);
-        }
-        this.displayStock = this.displayStock.subtract(quantity);
-    }
-
-    public void updateManually(
-            BigDecimal displayStock,
-            BigDecimal warehouseStock,
-            BigDecimal outgoingReserved,
-            BigDecimal incomingReserved,
-            BigDecimal reorderTriggerPoint
-    ) {
-        if (displayStock != null) {
-            this.displayStock = displayStock;
-        }
-        if (warehouseStock != null) {
-            this.warehouseStock = warehouseStock;
-        }
-        if (outgoingReserved != null) {
-            this.outgoingReserved = outgoingReserved;
-        }
-        if (incomingReserved != null) {
-            this.incomingReserved = incomingReserved;
-        }
-        if (reorderTriggerPoint != null) {
-            this.reorderTriggerPoint = reorderTriggerPoint;
-        }
-    }
-
-    // 출고 예정 추가
-    public void increaseOutgoing(BigDecimal quantity) {
-        this.outgoingReserved = this.outgoingReserved.add(quantity);
-    }
-
-    // 출고 예정 차감
-    public void decreaseOutgoing(BigDecimal quantity) {
-        if (this.outgoingReserved.compareTo(quantity) < 0) {
-            throw new BaseException(ErrorCode.OUTGOING_RESERVED_NOT_ENOUGH);
-        }
-        this.outgoingReserved = this.outgoingReserved.subtract(quantity);
-    }
-
-    // 출고 확정 (출고 예정 차감 + 창고 재고 차감)
-    public void confirmOutgoing(BigDecimal quantity) {
-        if (this.outgoingReserved.compareTo(quantity) < 0) {
-            throw new BaseException(ErrorCode.OUTGOING_RESERVED_NOT_ENOUGH);
-        }
-        if (this.warehouseStock.compareTo(quantity) < 0) {
-            throw new BaseException(ErrorCode.WAREHOUSE_STOCK_NOT_ENOUGH);
-        }
-        this.outgoingReserved = this.outgoingReserved.subtract(quantity);
-        this.warehouseStock = this.warehouseStock.subtract(quantity);
-    }
-
-    // 출고 취소 (출고 예정 차감만)
-    public void cancelOutgoing(BigDecimal quantity) {
-        if (this.outgoingReserved.compareTo(quantity) < 0) {
-            throw new BaseException(ErrorCode.OUTGOING_RESERVED_NOT_ENOUGH);
-        }
-        this.outgoingReserved = this.outgoingReserved.subtract(quantity);
-    }
-}
\ No newline at end of file
+}
@@ -0,0 +1,56 @@
+package com.almang.inventory.inventory.domain;
+
+import com.almang.inventory.global.entity.BaseTimeEntity;
+import jakarta.persistence.*;
+import java.math.BigDecimal;
+import lombok.*;
+
+/**
+ * 재고 변동 이력 (append-only)
+ * 각 수량 컬럼은 변경 후 값이 아닌 증감량(delta)을 저장하며, 한 번 기록된 행은 수정/삭제하지 않습니다.
+ * inventoryRevision 은 기록 시점의 재고 행 변경 순번으로, 재고 행 잠금을 잡은 채 기록되므로 같은 재고 안에서는 커밋 순서를 따릅니다.
+ * (IDENTITY id 는 INSERT 시점에 발급되어 커밋 순서와 다를 수 있으므로 스냅샷 누적 기준으로 쓰지 않습니다.)
+ */
+@Entity
+@Table(
+        name = "inventory_movements",
+        indexes = {
+                @Index(name = "idx_movement_inventory_created", columnList = "inventory_id,created_at"),
+                @Index(name = "idx_movement_inventory_revision", columnList = "inventory_id,inventory_revision"),
+                @Index(name = "idx_movement_created", columnList = "created_at")
+        }
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class InventoryMovement extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "inventory_movement_id")
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "inventory_id", nullable = false)
+    private Inventory inventory;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "movement_type", nullable = false, length = 40)
+    private InventoryMovementType type;
+
+    @Column(name = "display_delta", precision = 10, scale = 3, nullable = false)
+    private BigDecimal displayDelta;
+
+    @Column(name = "warehouse_delta", precision = 10, scale = 3, nullable = false)
+    private BigDecimal warehouseDelta;
+
+    @Column(name = "outgoing_delta", precision = 10, scale = 3, nullable = false)
+    private BigDecimal outgoingDelta;
+
+    @Column(name = "incoming_delta", precision = 10, scale = 3, nullable = false)
+    private BigDecimal incomingDelta;
+
+    @Column(name = "inventory_revision", nullable = false)
+    private long inventoryRevision;
+}
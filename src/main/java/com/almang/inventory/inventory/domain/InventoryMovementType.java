@@ -0,0 +1,20 @@
+package com.almang.inventory.inventory.domain;
+
+public enum InventoryMovementType {
+    INITIAL,                          // 재고 생성 시 초기 수량
+    ORDER_RESERVED,                   // 발주 생성/수정으로 입고 예정 증가
+    ORDER_RESERVATION_RELEASED,       // 발주 수정/삭제로 입고 예정 감소
+    RECEIPT_CONFIRMED,                // 입고 확정 (입고 예정 차감 + 창고 재고 증가)
+    RECEIPT_CANCELED,                 // 입고 취소로 입고 예정 감소
+    RETAIL_SALE,                      // 소매 판매로 매대 재고 차감
+    RETAIL_SALE_CANCELED,             // 소매 재업로드로 판매 수량 감소 시 매대 재고 복원
+    WHOLESALE_RESERVED,               // 출고 생성/수정으로 출고 예정 증가
+    WHOLESALE_RESERVATION_RELEASED,   // 출고 수정/취소로 출고 예정 감소
+    WHOLESALE_CONFIRMED,              // 출고 완료 (출고 예정 + 창고 재고 차감)
+    CUSTOMER_ORDER_RESERVED,          // 온라인 주문 결제로 출고 예정 증가
+    CUSTOMER_ORDER_RELEASED,          // 온라인 주문 취소/결제 취소로 출고 예정 감소
+    CUSTOMER_ORDER_SHIPPED,           // 온라인 주문 출고 확정 (출고 예정 + 창고 재고 차감)
+    MANUAL_ADJUSTMENT,                // 재고 수동 수정
+    MOVE_WAREHOUSE_TO_DISPLAY,        // 창고 → 매대 이동
+    MOVE_DISPLAY_TO_WAREHOUSE         // 매대 → 창고 이동
+}
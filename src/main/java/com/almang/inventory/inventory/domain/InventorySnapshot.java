@@ -0,0 +1,58 @@
+package com.almang.inventory.inventory.domain;
+
+import com.almang.inventory.global.entity.BaseTimeEntity;
+import jakarta.persistence.*;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import lombok.*;
+
+/**
+ * 재고 변동 이력을 특정 시점까지 누적한 스냅샷
+ * 재고 변경 순번 lastRevision 까지의 이력을 모두 반영한 수량이며, 시점 조회 시 이후 순번의 이력만 재생하면 됩니다.
+ */
+@Entity
+@Table(
+        name = "inventory_snapshots",
+        indexes = {
+                @Index(name = "idx_snapshot_inventory_at", columnList = "inventory_id,snapshot_at"),
+                @Index(name = "idx_snapshot_inventory_revision", columnList = "inventory_id,last_revision")
+        }
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class InventorySnapshot extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "inventory_snapshot_id")
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "inventory_id", nullable = false)
+    private Inventory inventory;
+
+    @Column(name = "last_revision", nullable = false)
+    private Long lastRevision;
+
+    // 반영된 이력 중 가장 큰 id (참고용, 누적 기준은 lastRevision)
+    @Column(name = "last_movement_id", nullable = false)
+    private Long lastMovementId;
+
+    // 마지막으로 반영된 이력의 발생 시각
+    @Column(name = "snapshot_at", nullable = false)
+    private LocalDateTime snapshotAt;
+
+    @Column(name = "display_stock", precision = 10, scale = 3, nullable = false)
+    private BigDecimal displayStock;
+
+    @Column(name = "warehouse_stock", precision = 10, scale = 3, nullable = false)
+    private BigDecimal warehouseStock;
+
+    @Column(name = "outgoing_reserved", precision = 10, scale = 3, nullable = false)
+    private BigDecimal outgoingReserved;
+
+    @Column(name = "incoming_reserved", precision = 10, scale = 3, nullable = false)
+    private BigDecimal incomingReserved;
+}
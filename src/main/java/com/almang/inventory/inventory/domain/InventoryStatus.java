@@ -1,12 +1,16 @@
 package com.almang.inventory.inventory.domain;
 
 import java.math.BigDecimal;
+import java.util.List;
 
 public enum InventoryStatus {
     NORMAL,
     LOW,
     OUT_OF_STOCK;
 
+    // 재주문이 필요한 상태 (재주문 필요 재고 목록, 자동 발주 대상)
+    public static final List<InventoryStatus> REORDER_REQUIRED = List.of(LOW, OUT_OF_STOCK);
+
     public static InventoryStatus from(BigDecimal warehouseStock, BigDecimal reorderTriggerPoint) {
         if (warehouseStock.compareTo(BigDecimal.ZERO) == 0) {
             return OUT_OF_STOCK;
@@ -16,4 +20,16 @@ public enum InventoryStatus {
         }
         return NORMAL;
     }
+
+    // 재주문 우선순위 (창고 재고 / 재주문점, 낮을수록 먼저 발주). 재주문점이 0 이하이면 가장 급한 것으로 봄
+    public static double stockToTriggerRatio(BigDecimal warehouseStock, BigDecimal reorderTriggerPoint) {
+        if (reorderTriggerPoint.signum() <= 0) {
+            return 0;
+        }
+        return warehouseStock.doubleValue() / reorderTriggerPoint.doubleValue();
+    }
+
+    public boolean needsReorder() {
+        return REORDER_REQUIRED.contains(this);
+    }
 }
@@ -0,0 +1,18 @@
+package com.almang.inventory.inventory.dto;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+// 카페24 재고 push 대상 (상품 코드와 현재 가용 재고)
+public record Cafe24InventoryPushEntry(
+        Long productId,
+        String productCode,
+        BigDecimal warehouseStock,
+        BigDecimal outgoingReserved
+) {
+    // 온라인 주문은 창고에서 출고되므로 창고 재고 - 출고 예정을 판매 가능 수량으로 보냄 (카페24 수량은 정수)
+    public int availableQuantity() {
+        BigDecimal available = warehouseStock.subtract(outgoingReserved).setScale(0, RoundingMode.DOWN);
+        return Math.max(available.intValue(), 0);
+    }
+}
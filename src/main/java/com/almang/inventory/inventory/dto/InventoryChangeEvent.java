@@ -0,0 +1,38 @@
+package com.almang.inventory.inventory.dto;
+
+import com.almang.inventory.inventory.domain.Inventory;
+import com.almang.inventory.inventory.domain.InventoryStatus;
+import java.math.BigDecimal;
+
+/**
+ * 재고 변경 스트림 이벤트 (증감량이 아닌 커밋 후 값)
+ * 이벤트 id 는 커밋 후 발급되므로 서로 다른 트랜잭션의 이벤트는 커밋 순서와 다르게 도착할 수 있습니다.
+ * 클라이언트는 재고별로 가장 큰 revision 을 기억해 두고, 그보다 작거나 같은 revision 의 이벤트는 무시해야 합니다.
+ */
+public record InventoryChangeEvent(
+        Long inventoryId,
+        Long productId,
+        BigDecimal displayStock,
+        BigDecimal warehouseStock,
+        BigDecimal outgoingReserved,
+        BigDecimal incomingReserved,
+        BigDecimal reorderTriggerPoint,
+        InventoryStatus status,
+        boolean deleted,
+        long revision  // 재고 행의 변경 순번 (같은 재고의 커밋 순서대로 증가)
+) {
+    public static InventoryChangeEvent from(Inventory inventory) {
+        return new InventoryChangeEvent(
+                inventory.getId(),
+                inventory.getProduct().getId(),
+                inventory.getDisplayStock(),
+                inventory.getWarehouseStock(),
+                inventory.getOutgoingReserved(),
+                inventory.getIncomingReserved(),
+                inventory.getReorderTriggerPoint(),
+                inventory.getStatus(),
+                inventory.getDeletedAt() != null,
+                inventory.getRevision()
+        );
+    }
+}
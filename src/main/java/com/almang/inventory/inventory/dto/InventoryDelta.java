@@ -0,0 +1,38 @@
+package com.almang.inventory.inventory.dto;
+
+import com.almang.inventory.inventory.domain.InventoryMovementType;
+import java.math.BigDecimal;
+
+// 일괄 반영용 재고 증감량 (문서의 한 라인 = 하나의 delta)
+public record InventoryDelta(
+        Long productId,
+        InventoryMovementType type,
+        BigDecimal displayDelta,
+        BigDecimal warehouseDelta,
+        BigDecimal outgoingDelta,
+        BigDecimal incomingDelta
+) {
+    // 발주 생성: 입고 예정 증가
+    public static InventoryDelta orderReserved(Long productId, BigDecimal quantity) {
+        return new InventoryDelta(productId, InventoryMovementType.ORDER_RESERVED,
+                BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO, quantity);
+    }
+
+    // 발주 삭제: 입고 예정 감소
+    public static InventoryDelta orderReservationReleased(Long productId, BigDecimal quantity) {
+        return new InventoryDelta(productId, InventoryMovementType.ORDER_RESERVATION_RELEASED,
+                BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO, quantity.negate());
+    }
+
+    // 입고 확정: 입고 예정 차감 + 창고 재고 증가
+    public static InventoryDelta receiptConfirmed(Long productId, BigDecimal expected, BigDecimal actual) {
+        return new InventoryDelta(productId, InventoryMovementType.RECEIPT_CONFIRMED,
+                BigDecimal.ZERO, actual, BigDecimal.ZERO, expected.negate());
+    }
+
+    // 출고 완료: 출고 예정 + 창고 재고 차감
+    public static InventoryDelta wholesaleConfirmed(Long productId, BigDecimal quantity) {
+        return new InventoryDelta(productId, InventoryMovementType.WHOLESALE_CONFIRMED,
+                BigDecimal.ZERO, quantity.negate(), quantity.negate(), BigDecimal.ZERO);
+    }
+}
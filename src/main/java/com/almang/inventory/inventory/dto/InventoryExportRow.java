@@ -0,0 +1,29 @@
+package com.almang.inventory.inventory.dto;
+
+import com.almang.inventory.inventory.domain.InventoryStatus;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+// 재고 내보내기 행 (엔티티 대신 DTO 로 읽어 스트리밍 중 영속성 컨텍스트에 쌓이지 않도록 함)
+public record InventoryExportRow(
+        String productCode,
+        String productName,
+        BigDecimal displayStock,
+        BigDecimal warehouseStock,
+        BigDecimal outgoingReserved,
+        BigDecimal incomingReserved,
+        BigDecimal reorderTriggerPoint,
+        InventoryStatus status,
+        LocalDateTime updatedAt
+) {
+    public static final List<String> HEADERS = List.of(
+            "품목 코드", "품목명", "매대 재고", "창고 재고", "출고 예정", "입고 예정", "재주문점", "재고 상태", "최종 수정일시"
+    );
+
+    public List<?> columns() {
+        return Arrays.asList(productCode, productName, displayStock, warehouseStock, outgoingReserved,
+                incomingReserved, reorderTriggerPoint, status.name(), updatedAt);
+    }
+}
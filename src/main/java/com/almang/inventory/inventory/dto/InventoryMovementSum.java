@@ -0,0 +1,28 @@
+package com.almang.inventory.inventory.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+// 재고 변동 이력 구간 합계 (대상 이력이 없으면 합계는 0, lastRevision/lastMovementId/lastMovementAt 은 null)
+public record InventoryMovementSum(
+        BigDecimal displayDelta,
+        BigDecimal warehouseDelta,
+        BigDecimal outgoingDelta,
+        BigDecimal incomingDelta,
+        Long movementCount,
+        Long lastRevision,
+        Long lastMovementId,
+        LocalDateTime lastMovementAt
+) {
+    public InventoryMovementSum {
+        displayDelta = displayDelta == null ? BigDecimal.ZERO : displayDelta;
+        warehouseDelta = warehouseDelta == null ? BigDecimal.ZERO : warehouseDelta;
+        outgoingDelta = outgoingDelta == null ? BigDecimal.ZERO : outgoingDelta;
+        incomingDelta = incomingDelta == null ? BigDecimal.ZERO : incomingDelta;
+        movementCount = movementCount == null ? 0L : movementCount;
+    }
+
+    public boolean isEmpty() {
+        return movementCount == 0L;
+    }
+}
@@ -0,0 +1,15 @@
+package com.almang.inventory.inventory.dto;
+
+import com.almang.inventory.inventory.domain.InventoryStatus;
+import java.math.BigDecimal;
+
+// 재주문 필요 재고 목록 항목 (Redis sorted set 재구성/대체 조회용)
+public record LowStockEntry(
+        Long inventoryId,
+        BigDecimal warehouseStock,
+        BigDecimal reorderTriggerPoint
+) {
+    public double ratio() {
+        return InventoryStatus.stockToTriggerRatio(warehouseStock, reorderTriggerPoint);
+    }
+}
@@ -0,0 +1,19 @@
+package com.almang.inventory.inventory.dto;
+
+import java.math.BigDecimal;
+
+// 창고 재고가 재주문점 이하로 내려간 재고 (자동 발주 초안 대상 후보)
+public record ReorderCandidate(
+        Long storeId,
+        Long vendorId,
+        Long productId,
+        BigDecimal warehouseStock,
+        BigDecimal outgoingReserved,
+        BigDecimal incomingReserved,
+        BigDecimal reorderTriggerPoint
+) {
+    // 예상 재고 = 창고 재고 - 출고 예정 + 입고 예정
+    public BigDecimal projectedStock() {
+        return warehouseStock.subtract(outgoingReserved).add(incomingReserved);
+    }
+}
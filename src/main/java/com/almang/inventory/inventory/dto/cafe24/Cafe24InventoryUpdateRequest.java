@@ -0,0 +1,18 @@
+package com.almang.inventory.inventory.dto.cafe24;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+// PUT /admin/products/{product_no}/variants/{variant_code}/inventories 요청
+public record Cafe24InventoryUpdateRequest(
+        @JsonProperty("shop_no") int shopNo,
+        @JsonProperty("request") Quantity request
+) {
+    public static Cafe24InventoryUpdateRequest of(int shopNo, int quantity) {
+        return new Cafe24InventoryUpdateRequest(shopNo, new Quantity(quantity));
+    }
+
+    public record Quantity(
+            @JsonProperty("quantity") int quantity
+    ) {
+    }
+}
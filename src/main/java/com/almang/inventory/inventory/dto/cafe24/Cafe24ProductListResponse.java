@@ -0,0 +1,28 @@
+package com.almang.inventory.inventory.dto.cafe24;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.util.List;
+
+// GET /admin/products?product_code=...&embed=variants 응답 (재고 push 대상 품목 번호 조회용)
+public record Cafe24ProductListResponse(
+        @JsonProperty("products") List<Product> products
+) {
+    public List<Product> productsOrEmpty() {
+        return products != null ? products : List.of();
+    }
+
+    public record Product(
+            @JsonProperty("product_no") Long productNo,
+            @JsonProperty("product_code") String productCode,
+            @JsonProperty("variants") List<Variant> variants
+    ) {
+        public List<Variant> variantsOrEmpty() {
+            return variants != null ? variants : List.of();
+        }
+    }
+
+    public record Variant(
+            @JsonProperty("variant_code") String variantCode
+    ) {
+    }
+}
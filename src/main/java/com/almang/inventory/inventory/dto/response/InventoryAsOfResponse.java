@@ -0,0 +1,17 @@
+package com.almang.inventory.inventory.dto.response;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+public record InventoryAsOfResponse(
+        Long inventoryId,
+        Long productId,
+        LocalDateTime at,
+        BigDecimal displayStock,
+        BigDecimal warehouseStock,
+        BigDecimal outgoingReserved,
+        BigDecimal incomingReserved,
+        LocalDateTime baseSnapshotAt,
+        long replayedMovementCount
+) {
+}
@@ -0,0 +1,30 @@
+package com.almang.inventory.inventory.dto.response;
+
+import com.almang.inventory.inventory.domain.InventoryMovement;
+import com.almang.inventory.inventory.domain.InventoryMovementType;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+public record InventoryMovementResponse(
+        Long movementId,
+        Long inventoryId,
+        InventoryMovementType type,
+        BigDecimal displayDelta,
+        BigDecimal warehouseDelta,
+        BigDecimal outgoingDelta,
+        BigDecimal incomingDelta,
+        LocalDateTime createdAt
+) {
+    public static InventoryMovementResponse from(InventoryMovement movement) {
+        return new InventoryMovementResponse(
+                movement.getId(),
+                movement.getInventory().getId(),
+                movement.getType(),
+                movement.getDisplayDelta(),
+                movement.getWarehouseDelta(),
+                movement.getOutgoingDelta(),
+                movement.getIncomingDelta(),
+                movement.getCreatedAt()
+        );
+    }
+}
@@ -15,7 +15,8 @@ public record InventoryResponse(
         BigDecimal outgoingReserved,
         BigDecimal incomingReserved,
         BigDecimal reorderTriggerPoint,
-        InventoryStatus inventoryStatus
+        InventoryStatus inventoryStatus,
+        long revision  // 재고 변경 스트림 이벤트와 비교해 더 오래된 이벤트를 걸러내는 변경 순번
 ) {
     public static InventoryResponse from(Inventory inventory) {
         Product product = inventory.getProduct();
@@ -30,10 +31,8 @@ public record InventoryResponse(
                 inventory.getOutgoingReserved(),
                 inventory.getIncomingReserved(),
                 inventory.getReorderTriggerPoint(),
-                InventoryStatus.from(
-                        inventory.getWarehouseStock(),
-                        inventory.getReorderTriggerPoint()
-                )
+                inventory.getStatus(),
+                inventory.getRevision()
         );
     }
 }
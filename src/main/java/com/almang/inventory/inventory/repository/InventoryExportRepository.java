@@ -0,0 +1,41 @@
+package com.almang.inventory.inventory.repository;
+
+import com.almang.inventory.global.export.StreamingExporter;
+import com.almang.inventory.inventory.dto.InventoryExportRow;
+import jakarta.persistence.EntityManager;
+import java.util.stream.Stream;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 재고 내보내기 조회 저장소
+ * 스트리밍용 fetch size 는 내보내기 쿼리에만 지정해야 하므로, 설정 값을 쓰는 StreamingExporter 로 쿼리를 엽니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class InventoryExportRepository {
+
+    private static final String EXPORT_ROWS_QUERY = """
+        SELECT new com.almang.inventory.inventory.dto.InventoryExportRow(
+            product.code, product.name, inventory.displayStock, inventory.warehouseStock,
+            inventory.outgoingReserved, inventory.incomingReserved, inventory.reorderTriggerPoint,
+            inventory.status, inventory.updatedAt
+        )
+        FROM Inventory inventory
+        JOIN inventory.product product
+        WHERE inventory.store.id = :storeId
+          AND inventory.deletedAt IS NULL
+        ORDER BY inventory.id ASC
+        """;
+
+    private final EntityManager entityManager;
+    private final StreamingExporter streamingExporter;
+
+    // 상점 재고 내보내기 (트랜잭션 안에서 스트림을 끝까지 소비한 뒤 닫아야 함)
+    public Stream<InventoryExportRow> streamExportRowsByStoreId(Long storeId) {
+        return streamingExporter.stream(
+                entityManager.createQuery(EXPORT_ROWS_QUERY, InventoryExportRow.class)
+                        .setParameter("storeId", storeId)
+        );
+    }
+}
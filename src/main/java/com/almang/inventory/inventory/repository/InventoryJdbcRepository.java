@@ -0,0 +1,66 @@
+package com.almang.inventory.inventory.repository;
+
+import com.almang.inventory.inventory.dto.InventoryDelta;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 재고 수량 일괄 반영용 JDBC 저장소
+ * InventoryRepository 의 조건부 UPDATE 와 같은 방식(DB 에서 증감 + 음수가 되면 0건)을 여러 라인에 대해 JDBC 배치 한 번으로 보냅니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class InventoryJdbcRepository {
+
+    // MySQL 은 SET 절을 왼쪽부터 반영하므로 상태를 맨 앞에 두고 변경 전 창고 재고 + 증감량으로 계산
+    private static final String APPLY_DELTA_SQL = """
+        UPDATE inventories
+        SET status = CASE
+                WHEN warehouse_stock + ? = 0 THEN 'OUT_OF_STOCK'
+                WHEN warehouse_stock + ? <= reorder_trigger_point THEN 'LOW'
+                ELSE 'NORMAL'
+            END,
+            display_stock = display_stock + ?,
+            warehouse_stock = warehouse_stock + ?,
+            outgoing_reserved = outgoing_reserved + ?,
+            incoming_reserved = incoming_reserved + ?,
+            revision = revision + 1,
+            updated_at = ?
+        WHERE product_id = ?
+          AND display_stock + ? >= 0
+          AND warehouse_stock + ? >= 0
+          AND outgoing_reserved + ? >= 0
+          AND incoming_reserved + ? >= 0
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * @return 라인별 반영 행 수 (0 이면 재고가 없거나 수량이 부족한 라인)
+     */
+    public int[] batchApplyDeltas(List<InventoryDelta> deltas) {
+        if (deltas.isEmpty()) {
+            return new int[0];
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        int[][] counts = jdbcTemplate.batchUpdate(APPLY_DELTA_SQL, deltas, deltas.size(), (ps, delta) -> {
+            ps.setBigDecimal(1, delta.warehouseDelta());
+            ps.setBigDecimal(2, delta.warehouseDelta());
+            ps.setBigDecimal(3, delta.displayDelta());
+            ps.setBigDecimal(4, delta.warehouseDelta());
+            ps.setBigDecimal(5, delta.outgoingDelta());
+            ps.setBigDecimal(6, delta.incomingDelta());
+            ps.setTimestamp(7, now);
+            ps.setLong(8, delta.productId());
+            ps.setBigDecimal(9, delta.displayDelta());
+            ps.setBigDecimal(10, delta.warehouseDelta());
+            ps.setBigDecimal(11, delta.outgoingDelta());
+            ps.setBigDecimal(12, delta.incomingDelta());
+        });
+        return counts.length == 0 ? new int[0] : counts[0];
+    }
+}
@@ -0,0 +1,61 @@
+package com.almang.inventory.inventory.repository;
+
+import com.almang.inventory.inventory.domain.InventoryMovementType;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 재고 변동 이력 대량 적재용 JDBC 저장소
+ * IDENTITY 전략 엔티티는 Hibernate 에서 INSERT 배치가 비활성화되므로, 여러 라인을 한 번에 기록할 때는 JDBC 배치를 사용합니다.
+ * 재고 변경 순번(inventory_revision)은 INSERT 시 재고 행에서 읽으므로, 재고 수량 UPDATE 로 행을 잠근 뒤에 호출해야 합니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class InventoryMovementJdbcRepository {
+
+    private static final String INSERT_SQL = """
+        INSERT INTO inventory_movements
+            (inventory_id, movement_type, display_delta, warehouse_delta, outgoing_delta, incoming_delta,
+             inventory_revision, created_at, updated_at)
+        VALUES (?, ?, ?, ?, ?, ?, (SELECT revision FROM inventories WHERE inventory_id = ?), ?, ?)
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void insert(MovementRow row) {
+        batchInsert(List.of(row));
+    }
+
+    public void batchInsert(List<MovementRow> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_SQL, rows, rows.size(), (ps, row) -> {
+            ps.setLong(1, row.inventoryId());
+            ps.setString(2, row.type().name());
+            ps.setBigDecimal(3, row.displayDelta());
+            ps.setBigDecimal(4, row.warehouseDelta());
+            ps.setBigDecimal(5, row.outgoingDelta());
+            ps.setBigDecimal(6, row.incomingDelta());
+            ps.setLong(7, row.inventoryId());
+            ps.setTimestamp(8, now);
+            ps.setTimestamp(9, now);
+        });
+    }
+
+    public record MovementRow(
+            Long inventoryId,
+            InventoryMovementType type,
+            BigDecimal displayDelta,
+            BigDecimal warehouseDelta,
+            BigDecimal outgoingDelta,
+            BigDecimal incomingDelta
+    ) {
+    }
+}
@@ -0,0 +1,89 @@
+package com.almang.inventory.inventory.repository;
+
+import com.almang.inventory.inventory.domain.InventoryMovement;
+import com.almang.inventory.inventory.dto.InventoryMovementSum;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface InventoryMovementRepository extends JpaRepository<InventoryMovement, Long> {
+
+    Page<InventoryMovement> findAllByInventory_Id(Long inventoryId, Pageable pageable);
+
+    // afterRevision 이후 ~ at 시점까지의 이력 합계 (시점 조회용)
+    @Query("""
+        SELECT new com.almang.inventory.inventory.dto.InventoryMovementSum(
+            SUM(movement.displayDelta),
+            SUM(movement.warehouseDelta),
+            SUM(movement.outgoingDelta),
+            SUM(movement.incomingDelta),
+            COUNT(movement),
+            MAX(movement.inventoryRevision),
+            MAX(movement.id),
+            MAX(movement.createdAt)
+        )
+        FROM InventoryMovement movement
+        WHERE movement.inventory.id = :inventoryId
+          AND movement.inventoryRevision > :afterRevision
+          AND movement.createdAt <= :at
+        """)
+    InventoryMovementSum sumMovements(
+            @Param("inventoryId") Long inventoryId,
+            @Param("afterRevision") Long afterRevision,
+            @Param("at") LocalDateTime at
+    );
+
+    // afterRevision 이후 until 시점까지 기록된 이력 중 가장 큰 재고 변경 순번 (없으면 null)
+    @Query("""
+        SELECT MAX(movement.inventoryRevision)
+        FROM InventoryMovement movement
+        WHERE movement.inventory.id = :inventoryId
+          AND movement.inventoryRevision > :afterRevision
+          AND movement.createdAt <= :until
+        """)
+    Long findLastRevision(
+            @Param("inventoryId") Long inventoryId,
+            @Param("afterRevision") Long afterRevision,
+            @Param("until") LocalDateTime until
+    );
+
+    // afterRevision 초과 ~ lastRevision 이하 순번의 이력 합계 (스냅샷 누적용, 기록 시각과 무관)
+    @Query("""
+        SELECT new com.almang.inventory.inventory.dto.InventoryMovementSum(
+            SUM(movement.displayDelta),
+            SUM(movement.warehouseDelta),
+            SUM(movement.outgoingDelta),
+            SUM(movement.incomingDelta),
+            COUNT(movement),
+            MAX(movement.inventoryRevision),
+            MAX(movement.id),
+            MAX(movement.createdAt)
+        )
+        FROM InventoryMovement movement
+        WHERE movement.inventory.id = :inventoryId
+          AND movement.inventoryRevision > :afterRevision
+          AND movement.inventoryRevision <= :lastRevision
+        """)
+    InventoryMovementSum sumMovementsUpToRevision(
+            @Param("inventoryId") Long inventoryId,
+            @Param("afterRevision") Long afterRevision,
+            @Param("lastRevision") Long lastRevision
+    );
+
+    // 마지막 스냅샷 이후 until 시점까지 새 이력이 있는 재고 ID 목록
+    @Query("""
+        SELECT DISTINCT movement.inventory.id
+        FROM InventoryMovement movement
+        WHERE movement.createdAt <= :until
+          AND movement.inventoryRevision > COALESCE((
+                SELECT MAX(snapshot.lastRevision)
+                FROM InventorySnapshot snapshot
+                WHERE snapshot.inventory.id = movement.inventory.id
+          ), -1)
+        """)
+    List<Long> findInventoryIdsToCompact(@Param("until") LocalDateTime until);
+}
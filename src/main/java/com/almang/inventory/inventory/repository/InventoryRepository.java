@@ -1,12 +1,21 @@
 package com.almang.inventory.inventory.repository;
 
 import com.almang.inventory.inventory.domain.Inventory;
+import com.almang.inventory.inventory.domain.InventoryStatus;
+import com.almang.inventory.inventory.dto.Cafe24InventoryPushEntry;
+import com.almang.inventory.inventory.dto.LowStockEntry;
+import com.almang.inventory.inventory.dto.ReorderCandidate;
 import com.almang.inventory.product.domain.Product;
+import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -15,14 +24,53 @@ public interface InventoryRepository extends JpaRepository<Inventory, Long> {
     Optional<Inventory> findByProduct_Id(Long productId);
 
     Optional<Inventory> findByProduct(Product product);
-    
+
     List<Inventory> findAllByProduct_IdIn(List<Long> productIds);
 
+    @EntityGraph(attributePaths = "product")
+    List<Inventory> findAllWithProductByIdIn(Collection<Long> ids);
+
+    // 상점의 재주문 필요 재고 (store_id, status 인덱스로 조회)
+    @Query("""
+        SELECT new com.almang.inventory.inventory.dto.LowStockEntry(
+            inventory.id, inventory.warehouseStock, inventory.reorderTriggerPoint
+        )
+        FROM Inventory inventory
+        WHERE inventory.store.id = :storeId
+          AND inventory.status IN :statuses
+          AND inventory.deletedAt IS NULL
+        """)
+    List<LowStockEntry> findLowStockEntries(
+            @Param("storeId") Long storeId, @Param("statuses") Collection<InventoryStatus> statuses
+    );
+
+    // 카페24 재고 push 대상 상품의 최신 수량
+    @Query("""
+        SELECT new com.almang.inventory.inventory.dto.Cafe24InventoryPushEntry(
+            product.id, product.code, inventory.warehouseStock, inventory.outgoingReserved
+        )
+        FROM Inventory inventory
+        JOIN inventory.product product
+        WHERE product.id IN :productIds
+          AND inventory.deletedAt IS NULL
+        ORDER BY product.id ASC
+        """)
+    List<Cafe24InventoryPushEntry> findCafe24PushEntries(@Param("productIds") Collection<Long> productIds);
+
+    // 일괄 반영 대상 재고 id
+    @Query("""
+        SELECT inventory.id
+        FROM Inventory inventory
+        WHERE inventory.product.id IN :productIds
+        """)
+    List<Long> findIdsByProductIds(@Param("productIds") Collection<Long> productIds);
+
+    // 검색어(q)가 있으면 ProductSearchIndex 가 찾은 상품 id 로 거름 (LIKE '%q%' 전체 스캔 대신)
     @Query("""
         SELECT inventory
         FROM Inventory inventory
         WHERE inventory.product.store.id = :storeId
-          AND (:q IS NULL OR LOWER(inventory.product.name) LIKE LOWER(CONCAT('%', :q, '%')))
+          AND (:q IS NULL OR inventory.product.id IN :productIds)
           AND (
                 :scope = 'ALL'
              OR (:scope = 'DISPLAY' AND inventory.displayStock > 0)
@@ -32,6 +80,280 @@ public interface InventoryRepository extends JpaRepository<Inventory, Long> {
           )
         """)
     Page<Inventory> findByFilter(
-            @Param("storeId") Long storeId, @Param("scope") String scope, @Param("q") String q, Pageable pageable
+            @Param("storeId") Long storeId, @Param("scope") String scope, @Param("q") String q,
+            @Param("productIds") Collection<Long> productIds, Pageable pageable
+    );
+
+    // 커서 모드 (최근 등록순): id 내림차순 키셋 조건으로 이어서 조회
+    // updatedAt 은 재고 변동마다 바뀌어 조회 도중 행이 건너뛰거나 중복되므로, 바뀌지 않는 id 를 키로 사용
+    @Query("""
+        SELECT inventory
+        FROM Inventory inventory
+        WHERE inventory.product.store.id = :storeId
+          AND (:q IS NULL OR inventory.product.id IN :productIds)
+          AND (
+                :scope = 'ALL'
+             OR (:scope = 'DISPLAY' AND inventory.displayStock > 0)
+             OR (:scope = 'WAREHOUSE' AND inventory.warehouseStock > 0)
+             OR (:scope = 'OUTGOING' AND inventory.outgoingReserved > 0)
+             OR (:scope = 'INCOMING' AND inventory.incomingReserved > 0)
+          )
+          AND (:cursorId IS NULL OR inventory.id < :cursorId)
+        ORDER BY inventory.id DESC
+        """)
+    Slice<Inventory> findSliceByFilterOrderByIdDesc(
+            @Param("storeId") Long storeId, @Param("scope") String scope, @Param("q") String q,
+            @Param("productIds") Collection<Long> productIds, @Param("cursorId") Long cursorId,
+            Pageable pageable
+    );
+
+    // 커서 모드 (상품명순): (product.name, id) 오름차순 키셋 조건으로 이어서 조회
+    // 조회 도중 상품명이 바뀐 행은 건너뛰거나 다시 나올 수 있음 (상품명 변경은 드물어 최선 노력으로 둠)
+    @Query("""
+        SELECT inventory
+        FROM Inventory inventory
+        WHERE inventory.product.store.id = :storeId
+          AND (:q IS NULL OR inventory.product.id IN :productIds)
+          AND (
+                :scope = 'ALL'
+             OR (:scope = 'DISPLAY' AND inventory.displayStock > 0)
+             OR (:scope = 'WAREHOUSE' AND inventory.warehouseStock > 0)
+             OR (:scope = 'OUTGOING' AND inventory.outgoingReserved > 0)
+             OR (:scope = 'INCOMING' AND inventory.incomingReserved > 0)
+          )
+          AND (
+                :cursorProductName IS NULL
+             OR inventory.product.name > :cursorProductName
+             OR (inventory.product.name = :cursorProductName AND inventory.id > :cursorId)
+          )
+        ORDER BY inventory.product.name ASC, inventory.id ASC
+        """)
+    Slice<Inventory> findSliceByFilterOrderByProductName(
+            @Param("storeId") Long storeId, @Param("scope") String scope, @Param("q") String q,
+            @Param("productIds") Collection<Long> productIds,
+            @Param("cursorProductName") String cursorProductName, @Param("cursorId") Long cursorId,
+            Pageable pageable
     );
+
+    /*
+     * 재고 수량 변경은 아래의 조건부 단일 UPDATE 문으로만 수행합니다.
+     * 읽고-수정-쓰기 대신 DB에서 원자적으로 증감하므로 동시 요청 간 갱신 유실이 없으며,
+     * WHERE 조건을 만족하지 못하면 0을 반환하므로 호출 측에서 재고 부족 여부를 판단합니다.
+     * 창고 재고/재주문점이 바뀌는 문은 상태(status)도 함께 계산합니다. MySQL 은 SET 절을 왼쪽부터 반영하므로
+     * 상태를 맨 앞에 두고 변경 전 값 + 증감량으로 계산해 DB 에 관계없이 같은 결과가 나오도록 합니다.
+     * 모든 문은 revision 을 1 올리며, 행 잠금 순서(= 커밋 순서)대로 증가하므로 재고 변경 이벤트의 순서 판별에 씁니다.
+     */
+
+    // 입고 예정 추가
+    @Modifying(flushAutomatically = true)
+    @Query("""
+        UPDATE Inventory inventory
+        SET inventory.incomingReserved = inventory.incomingReserved + :quantity,
+            inventory.revision = inventory.revision + 1,
+            inventory.updatedAt = LOCAL_DATETIME
+        WHERE inventory.id = :inventoryId
+        """)
+    int increaseIncomingReserved(@Param("inventoryId") Long inventoryId, @Param("quantity") BigDecimal quantity);
+
+    // 입고 예정 차감 (입고 예정 수량 >= 차감 수량)
+    @Modifying(flushAutomatically = true)
+    @Query("""
+        UPDATE Inventory inventory
+        SET inventory.incomingReserved = inventory.incomingReserved - :quantity,
+            inventory.revision = inventory.revision + 1,
+            inventory.updatedAt = LOCAL_DATETIME
+        WHERE inventory.id = :inventoryId
+          AND inventory.incomingReserved >= :quantity
+        """)
+    int decreaseIncomingReserved(@Param("inventoryId") Long inventoryId, @Param("quantity") BigDecimal quantity);
+
+    // 입고 확정 (입고 예정 차감 + 창고 재고 증가)
+    @Modifying(flushAutomatically = true)
+    @Query("""
+        UPDATE Inventory inventory
+        SET inventory.status = CASE
+                WHEN inventory.warehouseStock + :actual = 0 THEN com.almang.inventory.inventory.domain.InventoryStatus.OUT_OF_STOCK
+                WHEN inventory.warehouseStock + :actual <= inventory.reorderTriggerPoint THEN com.almang.inventory.inventory.domain.InventoryStatus.LOW
+                ELSE com.almang.inventory.inventory.domain.InventoryStatus.NORMAL
+            END,
+            inventory.incomingReserved = inventory.incomingReserved - :expected,
+            inventory.warehouseStock = inventory.warehouseStock + :actual,
+            inventory.revision = inventory.revision + 1,
+            inventory.updatedAt = LOCAL_DATETIME
+        WHERE inventory.id = :inventoryId
+          AND inventory.incomingReserved >= :expected
+        """)
+    int confirmIncoming(
+            @Param("inventoryId") Long inventoryId,
+            @Param("expected") BigDecimal expected,
+            @Param("actual") BigDecimal actual
+    );
+
+    // 창고에서 매대로 이동
+    @Modifying(flushAutomatically = true)
+    @Query("""
+        UPDATE Inventory inventory
+        SET inventory.status = CASE
+                WHEN inventory.warehouseStock - :quantity = 0 THEN com.almang.inventory.inventory.domain.InventoryStatus.OUT_OF_STOCK
+                WHEN inventory.warehouseStock - :quantity <= inventory.reorderTriggerPoint THEN com.almang.inventory.inventory.domain.InventoryStatus.LOW
+                ELSE com.almang.inventory.inventory.domain.InventoryStatus.NORMAL
+            END,
+            inventory.warehouseStock = inventory.warehouseStock - :quantity,
+            inventory.displayStock = inventory.displayStock + :quantity,
+            inventory.revision = inventory.revision + 1,
+            inventory.updatedAt = LOCAL_DATETIME
+        WHERE inventory.id = :inventoryId
+          AND inventory.warehouseStock >= :quantity
+        """)
+    int moveWarehouseToDisplay(@Param("inventoryId") Long inventoryId, @Param("quantity") BigDecimal quantity);
+
+    // 매대에서 창고로 이동
+    @Modifying(flushAutomatically = true)
+    @Query("""
+        UPDATE Inventory inventory
+        SET inventory.status = CASE
+                WHEN inventory.warehouseStock + :quantity = 0 THEN com.almang.inventory.inventory.domain.InventoryStatus.OUT_OF_STOCK
+                WHEN inventory.warehouseStock + :quantity <= inventory.reorderTriggerPoint THEN com.almang.inventory.inventory.domain.InventoryStatus.LOW
+                ELSE com.almang.inventory.inventory.domain.InventoryStatus.NORMAL
+            END,
+            inventory.displayStock = inventory.displayStock - :quantity,
+            inventory.warehouseStock = inventory.warehouseStock + :quantity,
+            inventory.revision = inventory.revision + 1,
+            inventory.updatedAt = LOCAL_DATETIME
+        WHERE inventory.id = :inventoryId
+          AND inventory.displayStock >= :quantity
+        """)
+    int moveDisplayToWarehouse(@Param("inventoryId") Long inventoryId, @Param("quantity") BigDecimal quantity);
+
+    // 판매(매대 차감)
+    @Modifying(flushAutomatically = true)
+    @Query("""
+        UPDATE Inventory inventory
+        SET inventory.displayStock = inventory.displayStock - :quantity,
+            inventory.revision = inventory.revision + 1,
+            inventory.updatedAt = LOCAL_DATETIME
+        WHERE inventory.id = :inventoryId
+          AND inventory.displayStock >= :quantity
+        """)
+    int decreaseDisplayStock(@Param("inventoryId") Long inventoryId, @Param("quantity") BigDecimal quantity);
+
+    // 매대 재고 증가 (소매 판매 취소 시 복원)
+    @Modifying(flushAutomatically = true)
+    @Query("""
+        UPDATE Inventory inventory
+        SET inventory.displayStock = inventory.displayStock + :quantity,
+            inventory.revision = inventory.revision + 1,
+            inventory.updatedAt = LOCAL_DATETIME
+        WHERE inventory.id = :inventoryId
+        """)
+    int increaseDisplayStock(@Param("inventoryId") Long inventoryId, @Param("quantity") BigDecimal quantity);
+
+    // 출고 예정 추가
+    @Modifying(flushAutomatically = true)
+    @Query("""
+        UPDATE Inventory inventory
+        SET inventory.outgoingReserved = inventory.outgoingReserved + :quantity,
+            inventory.revision = inventory.revision + 1,
+            inventory.updatedAt = LOCAL_DATETIME
+        WHERE inventory.id = :inventoryId
+        """)
+    int increaseOutgoingReserved(@Param("inventoryId") Long inventoryId, @Param("quantity") BigDecimal quantity);
+
+    // 가용 재고(창고 재고 - 출고 예정) 범위 내에서만 출고 예정 추가
+    @Modifying(flushAutomatically = true)
+    @Query("""
+        UPDATE Inventory inventory
+        SET inventory.outgoingReserved = inventory.outgoingReserved + :quantity,
+            inventory.revision = inventory.revision + 1,
+            inventory.updatedAt = LOCAL_DATETIME
+        WHERE inventory.id = :inventoryId
+          AND inventory.warehouseStock - inventory.outgoingReserved >= :quantity
+        """)
+    int increaseOutgoingReservedWithinAvailable(
+            @Param("inventoryId") Long inventoryId, @Param("quantity") BigDecimal quantity
+    );
+
+    // 출고 예정 차감 (출고 취소 포함)
+    @Modifying(flushAutomatically = true)
+    @Query("""
+        UPDATE Inventory inventory
+        SET inventory.outgoingReserved = inventory.outgoingReserved - :quantity,
+            inventory.revision = inventory.revision + 1,
+            inventory.updatedAt = LOCAL_DATETIME
+        WHERE inventory.id = :inventoryId
+          AND inventory.outgoingReserved >= :quantity
+        """)
+    int decreaseOutgoingReserved(@Param("inventoryId") Long inventoryId, @Param("quantity") BigDecimal quantity);
+
+    // 출고 확정 (출고 예정 차감 + 창고 재고 차감)
+    @Modifying(flushAutomatically = true)
+    @Query("""
+        UPDATE Inventory inventory
+        SET inventory.status = CASE
+                WHEN inventory.warehouseStock - :quantity = 0 THEN com.almang.inventory.inventory.domain.InventoryStatus.OUT_OF_STOCK
+                WHEN inventory.warehouseStock - :quantity <= inventory.reorderTriggerPoint THEN com.almang.inventory.inventory.domain.InventoryStatus.LOW
+                ELSE com.almang.inventory.inventory.domain.InventoryStatus.NORMAL
+            END,
+            inventory.outgoingReserved = inventory.outgoingReserved - :quantity,
+            inventory.warehouseStock = inventory.warehouseStock - :quantity,
+            inventory.revision = inventory.revision + 1,
+            inventory.updatedAt = LOCAL_DATETIME
+        WHERE inventory.id = :inventoryId
+          AND inventory.outgoingReserved >= :quantity
+          AND inventory.warehouseStock >= :quantity
+        """)
+    int confirmOutgoing(@Param("inventoryId") Long inventoryId, @Param("quantity") BigDecimal quantity);
+
+    // 재고 수동 수정 (null 인 항목은 기존 값 유지)
+    @Modifying(flushAutomatically = true)
+    @Query("""
+        UPDATE Inventory inventory
+        SET inventory.status = CASE
+                WHEN COALESCE(:warehouseStock, inventory.warehouseStock) = 0 THEN com.almang.inventory.inventory.domain.InventoryStatus.OUT_OF_STOCK
+                WHEN COALESCE(:warehouseStock, inventory.warehouseStock) <= COALESCE(:reorderTriggerPoint, inventory.reorderTriggerPoint) THEN com.almang.inventory.inventory.domain.InventoryStatus.LOW
+                ELSE com.almang.inventory.inventory.domain.InventoryStatus.NORMAL
+            END,
+            inventory.displayStock = COALESCE(:displayStock, inventory.displayStock),
+            inventory.warehouseStock = COALESCE(:warehouseStock, inventory.warehouseStock),
+            inventory.outgoingReserved = COALESCE(:outgoingReserved, inventory.outgoingReserved),
+            inventory.incomingReserved = COALESCE(:incomingReserved, inventory.incomingReserved),
+            inventory.reorderTriggerPoint = COALESCE(:reorderTriggerPoint, inventory.reorderTriggerPoint),
+            inventory.revision = inventory.revision + 1,
+            inventory.updatedAt = LOCAL_DATETIME
+        WHERE inventory.id = :inventoryId
+        """)
+    int updateManually(
+            @Param("inventoryId") Long inventoryId,
+            @Param("displayStock") BigDecimal displayStock,
+            @Param("warehouseStock") BigDecimal warehouseStock,
+            @Param("outgoingReserved") BigDecimal outgoingReserved,
+            @Param("incomingReserved") BigDecimal incomingReserved,
+            @Param("reorderTriggerPoint") BigDecimal reorderTriggerPoint
+    );
+
+    // 재주문 필요 상태(status 인덱스)이고, 입고 예정(기존 발주)을 더해도 재주문점 이하인 재고 (재주문점 0 은 자동 발주 제외)
+    @Query("""
+        SELECT new com.almang.inventory.inventory.dto.ReorderCandidate(
+            product.store.id,
+            vendor.id,
+            product.id,
+            inventory.warehouseStock,
+            inventory.outgoingReserved,
+            inventory.incomingReserved,
+            inventory.reorderTriggerPoint
+        )
+        FROM Inventory inventory
+        JOIN inventory.product product
+        JOIN product.vendor vendor
+        WHERE inventory.status IN :statuses
+          AND inventory.deletedAt IS NULL
+          AND product.deletedAt IS NULL
+          AND product.activated = true
+          AND vendor.activated = true
+          AND inventory.reorderTriggerPoint > 0
+          AND inventory.warehouseStock - inventory.outgoingReserved + inventory.incomingReserved
+              <= inventory.reorderTriggerPoint
+        ORDER BY product.store.id, vendor.id, product.id
+        """)
+    List<ReorderCandidate> findReorderCandidates(@Param("statuses") Collection<InventoryStatus> statuses);
 }
@@ -0,0 +1,15 @@
+package com.almang.inventory.inventory.repository;
+
+import com.almang.inventory.inventory.domain.InventorySnapshot;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface InventorySnapshotRepository extends JpaRepository<InventorySnapshot, Long> {
+
+    Optional<InventorySnapshot> findTopByInventory_IdOrderByLastRevisionDesc(Long inventoryId);
+
+    Optional<InventorySnapshot> findTopByInventory_IdAndSnapshotAtLessThanEqualOrderByLastRevisionDesc(
+            Long inventoryId, LocalDateTime at
+    );
+}
@@ -0,0 +1,67 @@
+package com.almang.inventory.inventory.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+/**
+ * 카페24 재고 push 대기 상품 목록입니다. 같은 상품이 여러 번 바뀌어도 항목 하나로 합치고(coalescing),
+ * 마지막 변경 후 debounce 동안 더 바뀌지 않았거나 처음 바뀐 지 maxDelay 가 지나면 push 대상으로 꺼냅니다.
+ * 계속 바뀌는 상품도 maxDelay 마다 한 번은 반영되도록 하기 위한 것입니다.
+ */
+final class Cafe24InventoryPushQueue {
+
+    private final long debounceNanos;
+    private final long maxDelayNanos;
+    private final LongSupplier nanoClock;
+    private final Map<Long, Dirty> dirtyProducts = new LinkedHashMap<>();
+
+    Cafe24InventoryPushQueue(long debounceNanos, long maxDelayNanos, LongSupplier nanoClock) {
+        this.debounceNanos = debounceNanos;
+        this.maxDelayNanos = maxDelayNanos;
+        this.nanoClock = nanoClock;
+    }
+
+    // 반환값: 이미 대기 중이던 상품에 합쳐진 수
+    synchronized int mark(Collection<Long> productIds) {
+        long now = nanoClock.getAsLong();
+        int coalesced = 0;
+        for (Long productId : productIds) {
+            Dirty dirty = dirtyProducts.get(productId);
+            if (dirty == null) {
+                dirtyProducts.put(productId, new Dirty(now, now));
+            } else {
+                dirtyProducts.put(productId, new Dirty(dirty.firstAt(), now));
+                coalesced++;
+            }
+        }
+        return coalesced;
+    }
+
+    // push 할 차례가 된 상품을 먼저 바뀐 순서로 최대 limit 개 꺼냄
+    synchronized List<Long> drainDue(int limit) {
+        long now = nanoClock.getAsLong();
+        List<Long> due = new ArrayList<>();
+        Iterator<Map.Entry<Long, Dirty>> iterator = dirtyProducts.entrySet().iterator();
+        while (iterator.hasNext() && due.size() < limit) {
+            Map.Entry<Long, Dirty> entry = iterator.next();
+            Dirty dirty = entry.getValue();
+            if (now - dirty.lastAt() >= debounceNanos || now - dirty.firstAt() >= maxDelayNanos) {
+                due.add(entry.getKey());
+                iterator.remove();
+            }
+        }
+        return due;
+    }
+
+    synchronized int size() {
+        return dirtyProducts.size();
+    }
+
+    private record Dirty(long firstAt, long lastAt) {
+    }
+}
@@ -0,0 +1,256 @@
+package com.almang.inventory.inventory.service;
+
+import com.almang.inventory.cafe24.client.Cafe24ApiClient;
+import com.almang.inventory.global.exception.BaseException;
+import com.almang.inventory.global.exception.ErrorCode;
+import com.almang.inventory.global.util.AfterCommitCollector;
+import com.almang.inventory.inventory.domain.Inventory;
+import com.almang.inventory.inventory.dto.Cafe24InventoryPushEntry;
+import com.almang.inventory.inventory.dto.cafe24.Cafe24InventoryUpdateRequest;
+import com.almang.inventory.inventory.dto.cafe24.Cafe24ProductListResponse;
+import com.almang.inventory.inventory.repository.InventoryRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+
+/**
+ * 로컬 재고 변경을 카페24 상품 재고에 반영합니다.
+ * 커밋된 재고 변경의 상품 id 만 {@link Cafe24InventoryPushQueue} 에 모아 상품별로 debounce 한 뒤,
+ * push 할 때 DB 에서 최신 가용 재고를 다시 읽어 보내므로 한 구간 안의 N 번 변경이 상품당 호출 한 번이 됩니다.
+ *
+ * <p>상품 코드로 카페24 품목 번호를 찾는 조회는 lookupBatchSize 개씩 묶어 한 번에 하고 결과를 캐시합니다.
+ * 옵션 품목이 여러 개이거나 카페24 에 없는 상품도 일정 시간 캐시하여 변경마다 다시 조회하지 않습니다.
+ * 호출은 {@link Cafe24ApiClient} 의 몰 호출 버킷을 따르고, 한 번에 maxProductsPerFlush 개까지만 보내 주문 동기화 등 다른 호출의 몫을 남깁니다.
+ *
+ * <p>대기 목록은 노드별 메모리에 있고 변경을 커밋한 노드가 보냅니다. 다른 노드가 그 사이에 다른 값을 보냈을 수 있으므로,
+ * 마지막으로 보낸 수량과 같아도 건너뛰지 않고 항상 DB 의 최신 값을 보냅니다.
+ */
+@Slf4j
+@Component
+public class Cafe24InventoryPushService {
+
+    static final String RESULT_METRIC = "cafe24.inventory.push.results";
+    static final String PENDING_METRIC = "cafe24.inventory.push.pending";
+    static final String COALESCED_METRIC = "cafe24.inventory.push.coalesced";
+
+    private static final String PRODUCTS_PATH = "/admin/products?product_code={productCodes}&embed=variants&limit={limit}";
+    private static final String INVENTORY_PATH = "/admin/products/{productNo}/variants/{variantCode}/inventories";
+    private static final long UNMAPPED_RECHECK_NANOS = Duration.ofHours(1).toNanos();
+
+    private final Cafe24ApiClient cafe24ApiClient;
+    private final InventoryRepository inventoryRepository;
+    private final Cafe24InventoryPushQueue queue;
+    private final boolean enabled;
+    private final int maxProductsPerFlush;
+    private final int lookupBatchSize;
+    private final int shopNo;
+
+    // 상품 코드 → 카페24 품목, 보낼 수 없는 상품 코드(옵션 품목이 여러 개이거나 카페24 에 없음) → 다시 조회할 시각
+    private final Map<String, VariantRef> variantRefs = new ConcurrentHashMap<>();
+    private final Map<String, Long> unmappedUntil = new ConcurrentHashMap<>();
+
+    private final AfterCommitCollector<Long, Long> pendingProductIds = new AfterCommitCollector<>(this::mark);
+
+    private final Counter pushedCounter;
+    private final Counter unmappedCounter;
+    private final Counter failedCounter;
+    private final Counter coalescedCounter;
+
+    public Cafe24InventoryPushService(
+            Cafe24ApiClient cafe24ApiClient,
+            InventoryRepository inventoryRepository,
+            MeterRegistry meterRegistry,
+            @Value("${cafe24.inventory-push.enabled:true}") boolean enabled,
+            @Value("${cafe24.inventory-push.debounce:PT5S}") Duration debounce,
+            @Value("${cafe24.inventory-push.max-delay:PT30S}") Duration maxDelay,
+            @Value("${cafe24.inventory-push.max-products-per-flush:50}") int maxProductsPerFlush,
+            @Value("${cafe24.inventory-push.lookup-batch-size:50}") int lookupBatchSize,
+            @Value("${cafe24.inventory-push.shop-no:1}") int shopNo
+    ) {
+        this.cafe24ApiClient = cafe24ApiClient;
+        this.inventoryRepository = inventoryRepository;
+        this.queue = new Cafe24InventoryPushQueue(debounce.toNanos(), maxDelay.toNanos(), System::nanoTime);
+        this.enabled = enabled;
+        this.maxProductsPerFlush = maxProductsPerFlush;
+        this.lookupBatchSize = lookupBatchSize;
+        this.shopNo = shopNo;
+
+        Gauge.builder(PENDING_METRIC, queue, Cafe24InventoryPushQueue::size)
+                .description("카페24 재고 push 대기 상품 수")
+                .register(meterRegistry);
+        this.pushedCounter = resultCounter(meterRegistry, "pushed");
+        this.unmappedCounter = resultCounter(meterRegistry, "unmapped");
+        this.failedCounter = resultCounter(meterRegistry, "failed");
+        this.coalescedCounter = Counter.builder(COALESCED_METRIC)
+                .description("이미 push 대기 중인 상품에 합쳐진 재고 변경 수")
+                .register(meterRegistry);
+    }
+
+    // 트랜잭션 안이면 커밋 후에 대기 목록에 넣음 (롤백된 변경은 보내지 않음)
+    void touch(Inventory inventory) {
+        if (!enabled || inventory.getProduct() == null || inventory.getProduct().getId() == null) {
+            return;
+        }
+        Long productId = inventory.getProduct().getId();
+        pendingProductIds.add(productId, productId);
+    }
+
+    @Scheduled(
+            fixedDelayString = "${cafe24.inventory-push.poll-interval-ms:1000}",
+            initialDelayString = "${cafe24.inventory-push.poll-interval-ms:1000}"
+    )
+    public void scheduledFlush() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            flush();
+        } catch (Exception e) {
+            log.error("[Cafe24InventoryPushService] 카페24 재고 push 실패", e);
+        }
+    }
+
+    /**
+     * debounce 가 끝난 상품의 최신 가용 재고를 카페24 에 보냅니다.
+     * @return 카페24 에 실제로 보낸 상품 수
+     */
+    public int flush() {
+        List<Long> productIds = queue.drainDue(maxProductsPerFlush);
+        if (productIds.isEmpty()) {
+            return 0;
+        }
+
+        List<Cafe24InventoryPushEntry> entries = inventoryRepository.findCafe24PushEntries(productIds);
+        try {
+            resolveVariantRefs(entries);
+        } catch (BaseException e) {
+            mark(productIds);
+            log.warn("[Cafe24InventoryPushService] 카페24 상품 조회 실패, {}개 상품 재시도 대기 - {}",
+                    productIds.size(), e.getMessage());
+            return 0;
+        }
+
+        int pushed = 0;
+        for (int i = 0; i < entries.size(); i++) {
+            Cafe24InventoryPushEntry entry = entries.get(i);
+            try {
+                if (push(entry)) {
+                    pushed++;
+                }
+            } catch (BaseException e) {
+                failedCounter.increment();
+                if (isNotFound(e)) {
+                    // 카페24 에서 품목이 바뀌었거나 삭제됨, 다음 변경 때 다시 조회
+                    variantRefs.remove(entry.productCode());
+                    continue;
+                }
+                // 호출 한도 초과, 인증 만료 등은 남은 상품을 다시 대기시키고 다음 주기에 재시도
+                List<Long> remaining = entries.subList(i, entries.size()).stream()
+                        .map(Cafe24InventoryPushEntry::productId)
+                        .toList();
+                mark(remaining);
+                log.warn("[Cafe24InventoryPushService] 카페24 재고 push 중단, {}개 상품 재시도 대기 - {}",
+                        remaining.size(), e.getMessage());
+                break;
+            }
+        }
+
+        log.info("[Cafe24InventoryPushService] 카페24 재고 push - 대상: {}, 전송: {}", productIds.size(), pushed);
+        return pushed;
+    }
+
+    int pendingCount() {
+        return queue.size();
+    }
+
+    private boolean push(Cafe24InventoryPushEntry entry) {
+        VariantRef variantRef = variantRefs.get(entry.productCode());
+        if (variantRef == null) {
+            unmappedCounter.increment();
+            return false;
+        }
+
+        cafe24ApiClient.put(
+                INVENTORY_PATH,
+                Cafe24InventoryUpdateRequest.of(shopNo, entry.availableQuantity()),
+                Void.class,
+                Map.of("productNo", variantRef.productNo(), "variantCode", variantRef.variantCode())
+        );
+        pushedCounter.increment();
+        return true;
+    }
+
+    // 캐시에 없는 상품 코드만 lookupBatchSize 개씩 묶어 조회 (옵션이 여러 개인 상품은 재고를 나눌 수 없어 제외)
+    private void resolveVariantRefs(List<Cafe24InventoryPushEntry> entries) {
+        long now = System.nanoTime();
+        Set<String> unresolved = new LinkedHashSet<>();
+        for (Cafe24InventoryPushEntry entry : entries) {
+            Long recheckAt = unmappedUntil.get(entry.productCode());
+            if (recheckAt != null && now - recheckAt < 0) {
+                continue;
+            }
+            if (!variantRefs.containsKey(entry.productCode())) {
+                unresolved.add(entry.productCode());
+            }
+        }
+
+        List<String> codes = new ArrayList<>(unresolved);
+        for (int from = 0; from < codes.size(); from += lookupBatchSize) {
+            List<String> chunk = codes.subList(from, Math.min(from + lookupBatchSize, codes.size()));
+            Cafe24ProductListResponse response = cafe24ApiClient.get(
+                    PRODUCTS_PATH,
+                    Cafe24ProductListResponse.class,
+                    Map.of("productCodes", String.join(",", chunk), "limit", chunk.size())
+            );
+            Set<String> unmapped = new LinkedHashSet<>(chunk);
+            if (response != null) {
+                for (Cafe24ProductListResponse.Product product : response.productsOrEmpty()) {
+                    List<Cafe24ProductListResponse.Variant> variants = product.variantsOrEmpty();
+                    if (variants.size() != 1) {
+                        log.warn("[Cafe24InventoryPushService] 옵션 품목이 {}개인 상품은 재고를 보내지 않습니다. - 상품 코드: {}",
+                                variants.size(), product.productCode());
+                        continue;
+                    }
+                    variantRefs.put(product.productCode(), new VariantRef(product.productNo(), variants.get(0).variantCode()));
+                    unmapped.remove(product.productCode());
+                    unmappedUntil.remove(product.productCode());
+                }
+            }
+            long recheckAt = System.nanoTime() + UNMAPPED_RECHECK_NANOS;
+            unmapped.forEach(code -> unmappedUntil.put(code, recheckAt));
+        }
+    }
+
+    private void mark(List<Long> productIds) {
+        int coalesced = queue.mark(productIds);
+        if (coalesced > 0) {
+            coalescedCounter.increment(coalesced);
+        }
+    }
+
+    private static boolean isNotFound(BaseException e) {
+        return e.getErrorCode() == ErrorCode.CAFE24_API_ERROR && e.getCause() instanceof HttpClientErrorException.NotFound;
+    }
+
+    private static Counter resultCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder(RESULT_METRIC)
+                .description("카페24 재고 push 결과")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private record VariantRef(Long productNo, String variantCode) {
+    }
+}
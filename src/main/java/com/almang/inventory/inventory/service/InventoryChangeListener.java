@@ -0,0 +1,38 @@
+package com.almang.inventory.inventory.service;
+
+import com.almang.inventory.inventory.domain.Inventory;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostUpdate;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+
+/**
+ * 엔티티로 바뀐 재고(생성 등)를 {@link LowStockWatchlist}, {@link InventoryEventStream},
+ * {@link Cafe24InventoryPushService} 에 반영하는 JPA 엔티티 리스너입니다. 조건부 UPDATE 문(일괄 반영 포함)으로 바뀐 재고는 엔티티 이벤트가 없으므로 {@link InventoryService} 가 직접 반영합니다.
+ */
+@Component
+public class InventoryChangeListener {
+
+    private final LowStockWatchlist lowStockWatchlist;
+    private final InventoryEventStream inventoryEventStream;
+    private final Cafe24InventoryPushService cafe24InventoryPushService;
+
+    // EntityManagerFactory 생성 중에 리스너가 만들어지므로, 리포지토리/Redis 에 의존하는 빈은 지연 주입
+    public InventoryChangeListener(
+            @Lazy LowStockWatchlist lowStockWatchlist,
+            @Lazy InventoryEventStream inventoryEventStream,
+            @Lazy Cafe24InventoryPushService cafe24InventoryPushService
+    ) {
+        this.lowStockWatchlist = lowStockWatchlist;
+        this.inventoryEventStream = inventoryEventStream;
+        this.cafe24InventoryPushService = cafe24InventoryPushService;
+    }
+
+    @PostPersist
+    @PostUpdate
+    public void onSave(Inventory inventory) {
+        lowStockWatchlist.touch(inventory);
+        inventoryEventStream.touch(inventory);
+        cafe24InventoryPushService.touch(inventory);
+    }
+}
@@ -0,0 +1,326 @@
+package com.almang.inventory.inventory.service;
+
+import com.almang.inventory.global.util.AfterCommitCollector;
+import com.almang.inventory.inventory.domain.Inventory;
+import com.almang.inventory.inventory.dto.InventoryChangeEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * 상점별 재고 변경을 Server-Sent Events 로 내보냅니다. 재고 목록 화면이 주기적으로 목록/개수 쿼리를 다시 실행하지 않고
+ * 바뀐 재고만 받아 갱신하도록 하기 위한 것입니다.
+ *
+ * <p>트랜잭션에서 바뀐 재고는 커밋 후 상점별로 묶어, 이 노드의 구독자에게 바로 보내고 Redis pub/sub 으로 다른 노드에 전파합니다.
+ * 이벤트 id 는 상점별 Redis 시퀀스로 매기며, 노드마다 상점별 최근 이벤트를 보관해 두었다가 Last-Event-ID 로 재연결하면
+ * 그 뒤의 이벤트를 다시 보냅니다. 보관 범위를 벗어났으면 resync 이벤트로 목록 전체 재조회를 요청합니다.
+ * 이벤트 id 는 커밋 후에 발급되어 커밋 순서를 따르지 않으므로, 같은 재고의 두 변경이 뒤바뀌어 도착할 수 있습니다.
+ * 클라이언트는 이벤트의 revision(재고 행 변경 순번)이 이미 반영한 값보다 크지 않으면 무시해야 합니다.
+ *
+ * <p>전송은 구독자별 크기 제한 대기열과 전용 스레드 풀로 처리해 커밋 스레드와 Redis 수신 스레드가 느린 클라이언트에 묶이지 않게 하고,
+ * 대기열이 넘친 구독자는 연결을 끊어 재연결(재전송)하도록 합니다.
+ */
+@Slf4j
+@Component
+public class InventoryEventStream implements MessageListener {
+
+    public static final String CHANGE_CHANNEL = "inventory:changes";
+
+    private static final String SEQUENCE_KEY_PREFIX = "inventory:events:seq:";
+    private static final String CHANGE_EVENT_NAME = "inventory";
+    private static final String RESYNC_EVENT_NAME = "resync";
+    private static final Frame HEARTBEAT = new Frame(null, null, null);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Executor executor;
+    private final boolean pubSubEnabled;
+    private final Duration timeout;
+    private final int clientBufferSize;
+    private final int replaySize;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Map<Long, StoreChannel> channels = new ConcurrentHashMap<>();
+    private final Map<Long, AtomicLong> localSequences = new ConcurrentHashMap<>();
+    private final AfterCommitCollector<Long, Inventory> pendingInventories = new AfterCommitCollector<>(this::publish);
+
+    public InventoryEventStream(
+            RedisTemplate<String, String> redisTemplate,
+            ObjectMapper objectMapper,
+            @Qualifier("inventoryEventStreamExecutor") Executor executor,
+            @Value("${redis.pubsub.enabled:true}") boolean pubSubEnabled,
+            @Value("${inventory.event-stream.timeout:PT30M}") Duration timeout,
+            @Value("${inventory.event-stream.client-buffer-size:256}") int clientBufferSize,
+            @Value("${inventory.event-stream.replay-size:512}") int replaySize
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.executor = executor;
+        this.pubSubEnabled = pubSubEnabled;
+        this.timeout = timeout;
+        this.clientBufferSize = clientBufferSize;
+        this.replaySize = replaySize;
+    }
+
+    /**
+     * 상점의 재고 변경 스트림을 구독합니다. lastEventId 가 있으면 그 뒤의 이벤트부터 보냅니다.
+     */
+    public SseEmitter subscribe(Long storeId, Long lastEventId) {
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        StoreChannel channel = channel(storeId);
+        Subscriber subscriber = new Subscriber(channel, emitter);
+        emitter.onCompletion(subscriber::close);
+        emitter.onTimeout(subscriber::close);
+        emitter.onError(e -> subscriber.close());
+        channel.subscribe(subscriber, lastEventId);
+        log.info("[InventoryEventStream] 재고 변경 스트림 구독 - storeId: {}, lastEventId: {}", storeId, lastEventId);
+        return emitter;
+    }
+
+    // 트랜잭션 안이면 커밋 후에 한 번에 전송 (같은 재고가 여러 번 바뀌면 마지막 값만 전송)
+    void touch(Inventory inventory) {
+        if (inventory.getId() == null) {
+            return;
+        }
+        pendingInventories.add(inventory.getId(), inventory);
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        try {
+            Broadcast broadcast = objectMapper.readValue(body, Broadcast.class);
+            if (nodeId.equals(broadcast.nodeId())) {
+                return;
+            }
+            channel(broadcast.storeId()).publish(broadcast.frames());
+        } catch (JsonProcessingException e) {
+            log.warn("[InventoryEventStream] 잘못된 재고 변경 메시지 - body: {}", body);
+        }
+    }
+
+    // 프록시나 로드밸런서가 유휴 연결을 끊지 않도록 주석 이벤트를 보냄
+    @Scheduled(fixedDelayString = "${inventory.event-stream.heartbeat-interval-ms:15000}")
+    public void sendHeartbeats() {
+        for (StoreChannel channel : channels.values()) {
+            channel.heartbeat();
+        }
+    }
+
+    int subscriberCount(Long storeId) {
+        StoreChannel channel = channels.get(storeId);
+        return channel == null ? 0 : channel.subscribers.size();
+    }
+
+    private void publish(Iterable<Inventory> inventories) {
+        Map<Long, List<InventoryChangeEvent>> eventsByStore = new LinkedHashMap<>();
+        for (Inventory inventory : inventories) {
+            eventsByStore.computeIfAbsent(inventory.getStore().getId(), id -> new ArrayList<>())
+                    .add(InventoryChangeEvent.from(inventory));
+        }
+
+        eventsByStore.forEach((storeId, events) -> {
+            try {
+                Long firstEventId = nextEventIds(storeId, events.size());
+                List<Frame> frames = new ArrayList<>(events.size());
+                for (int i = 0; i < events.size(); i++) {
+                    Long eventId = firstEventId == null ? null : firstEventId + i;
+                    frames.add(new Frame(eventId, CHANGE_EVENT_NAME, objectMapper.writeValueAsString(events.get(i))));
+                }
+                channel(storeId).publish(frames);
+                broadcast(storeId, frames);
+            } catch (JsonProcessingException e) {
+                log.warn("[InventoryEventStream] 재고 변경 이벤트 직렬화 실패 - storeId: {}", storeId, e);
+            }
+        });
+    }
+
+    // 여러 노드가 같은 상점의 이벤트 id 를 이어서 매기도록 Redis 시퀀스를 사용 (실패하면 id 없이 전송되어 재전송 대상에서 빠짐)
+    private Long nextEventIds(Long storeId, int count) {
+        if (!pubSubEnabled) {
+            return localSequences.computeIfAbsent(storeId, id -> new AtomicLong()).addAndGet(count) - count + 1;
+        }
+        try {
+            Long last = redisTemplate.opsForValue().increment(SEQUENCE_KEY_PREFIX + storeId, count);
+            return last == null ? null : last - count + 1;
+        } catch (DataAccessException e) {
+            log.warn("[InventoryEventStream] 이벤트 id 발급 실패 - storeId: {}", storeId, e);
+            return null;
+        }
+    }
+
+    private void broadcast(Long storeId, List<Frame> frames) throws JsonProcessingException {
+        if (!pubSubEnabled) {
+            return;
+        }
+        String message = objectMapper.writeValueAsString(new Broadcast(nodeId, storeId, frames));
+        try {
+            redisTemplate.convertAndSend(CHANGE_CHANNEL, message);
+        } catch (DataAccessException e) {
+            // 다른 노드의 구독자는 재연결 시 resync 로 목록을 다시 조회함
+            log.warn("[InventoryEventStream] 재고 변경 전파 실패 - storeId: {}", storeId, e);
+        }
+    }
+
+    private StoreChannel channel(Long storeId) {
+        return channels.computeIfAbsent(storeId, id -> new StoreChannel());
+    }
+
+    // 상점별 구독자와 최근 이벤트 (추가/재전송/전파를 같은 잠금으로 묶어 구독자마다 순서가 유지되도록 함)
+    private final class StoreChannel {
+
+        private final ArrayDeque<Frame> recent = new ArrayDeque<>();
+        private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+
+        synchronized void subscribe(Subscriber subscriber, Long lastEventId) {
+            if (lastEventId != null) {
+                replay(subscriber, lastEventId);
+            }
+            subscribers.add(subscriber);
+        }
+
+        synchronized void publish(List<Frame> frames) {
+            for (Frame frame : frames) {
+                if (frame.id() != null) {
+                    recent.addLast(frame);
+                    if (recent.size() > replaySize) {
+                        recent.removeFirst();
+                    }
+                }
+                for (Subscriber subscriber : subscribers) {
+                    subscriber.enqueue(frame);
+                }
+            }
+        }
+
+        synchronized void heartbeat() {
+            for (Subscriber subscriber : subscribers) {
+                subscriber.enqueue(HEARTBEAT);
+            }
+        }
+
+        void unsubscribe(Subscriber subscriber) {
+            subscribers.remove(subscriber);
+        }
+
+        // 이 노드가 받은 순서 기준으로 lastEventId 뒤의 이벤트를 다시 보냄
+        private void replay(Subscriber subscriber, long lastEventId) {
+            boolean found = false;
+            for (Frame frame : recent) {
+                if (found) {
+                    subscriber.enqueue(frame);
+                } else if (frame.id() == lastEventId) {
+                    found = true;
+                }
+            }
+            if (!found) {
+                subscriber.enqueue(new Frame(null, RESYNC_EVENT_NAME, String.valueOf(lastEventId)));
+            }
+        }
+    }
+
+    private final class Subscriber {
+
+        private final StoreChannel channel;
+        private final SseEmitter emitter;
+        private final BlockingQueue<Frame> queue = new ArrayBlockingQueue<>(clientBufferSize);
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private volatile boolean closed;
+
+        private Subscriber(StoreChannel channel, SseEmitter emitter) {
+            this.channel = channel;
+            this.emitter = emitter;
+        }
+
+        void enqueue(Frame frame) {
+            if (closed) {
+                return;
+            }
+            if (!queue.offer(frame)) {
+                log.info("[InventoryEventStream] 전송 대기열 초과로 구독 종료 - bufferSize: {}", clientBufferSize);
+                closeAndComplete();
+                return;
+            }
+            scheduleDrain();
+        }
+
+        void close() {
+            closed = true;
+            channel.unsubscribe(this);
+            queue.clear();
+        }
+
+        private void closeAndComplete() {
+            close();
+            emitter.complete();
+        }
+
+        private void scheduleDrain() {
+            if (!draining.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                executor.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                draining.set(false);
+                closeAndComplete();
+            }
+        }
+
+        private void drain() {
+            try {
+                Frame frame;
+                while (!closed && (frame = queue.poll()) != null) {
+                    emitter.send(frame.toEvent());
+                }
+            } catch (IOException | IllegalStateException e) {
+                // 이미 끊긴 연결 (정리는 emitter 콜백에서도 수행됨)
+                log.debug("[InventoryEventStream] 재고 변경 이벤트 전송 실패 - {}", e.getMessage());
+                close();
+            } finally {
+                draining.set(false);
+            }
+            if (!closed && !queue.isEmpty()) {
+                scheduleDrain();
+            }
+        }
+    }
+
+    // id 가 없으면 재전송 대상이 아니며, name 이 없으면 하트비트(주석)
+    record Frame(Long id, String name, String data) {
+        SseEmitter.SseEventBuilder toEvent() {
+            if (name == null) {
+                return SseEmitter.event().comment("heartbeat");
+            }
+            SseEmitter.SseEventBuilder event = SseEmitter.event().name(name).data(data);
+            return id == null ? event : event.id(String.valueOf(id));
+        }
+    }
+
+    record Broadcast(String nodeId, Long storeId, List<Frame> frames) {}
+}
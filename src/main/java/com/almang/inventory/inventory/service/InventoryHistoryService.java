@@ -0,0 +1,151 @@
+package com.almang.inventory.inventory.service;
+
+import com.almang.inventory.global.api.PageResponse;
+import com.almang.inventory.global.context.UserContextProvider;
+import com.almang.inventory.global.context.UserContextProvider.UserStoreContext;
+import com.almang.inventory.global.exception.BaseException;
+import com.almang.inventory.global.exception.ErrorCode;
+import com.almang.inventory.global.util.PaginationUtil;
+import com.almang.inventory.inventory.domain.Inventory;
+import com.almang.inventory.inventory.domain.InventorySnapshot;
+import com.almang.inventory.inventory.dto.InventoryMovementSum;
+import com.almang.inventory.inventory.dto.response.InventoryAsOfResponse;
+import com.almang.inventory.inventory.dto.response.InventoryMovementResponse;
+import com.almang.inventory.inventory.repository.InventoryMovementRepository;
+import com.almang.inventory.inventory.repository.InventoryRepository;
+import com.almang.inventory.inventory.repository.InventorySnapshotRepository;
+import com.almang.inventory.store.domain.Store;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort.Direction;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class InventoryHistoryService {
+
+    private final InventoryRepository inventoryRepository;
+    private final InventoryMovementRepository inventoryMovementRepository;
+    private final InventorySnapshotRepository inventorySnapshotRepository;
+    private final UserContextProvider userContextProvider;
+
+    // 스냅샷이 없을 때의 기준 순번 (재고 생성 이력의 순번 0 부터 재생)
+    private static final long NO_REVISION = -1L;
+
+    @Transactional(readOnly = true)
+    public PageResponse<InventoryMovementResponse> getInventoryMovements(
+            Long inventoryId, Integer page, Integer size, Long userId
+    ) {
+        UserStoreContext context = userContextProvider.findUserAndStore(userId);
+        Store store = context.store();
+
+        log.info("[InventoryHistoryService] 재고 변동 이력 조회 요청 - userId: {}, inventoryId: {}", userId, inventoryId);
+        Inventory inventory = findInventoryByIdAndValidateAccess(inventoryId, store);
+
+        PageRequest pageable = PaginationUtil.createPageRequest(page, size, Direction.DESC, "id");
+        Page<InventoryMovementResponse> mapped = inventoryMovementRepository
+                .findAllByInventory_Id(inventory.getId(), pageable)
+                .map(InventoryMovementResponse::from);
+
+        log.info("[InventoryHistoryService] 재고 변동 이력 조회 성공 - inventoryId: {}", inventory.getId());
+        return PageResponse.from(mapped);
+    }
+
+    /**
+     * 특정 시점의 재고 수량을 조회합니다.
+     * 해당 시점 이전의 가장 최근 스냅샷에서 시작하여, 이후 순번의 이력만 재생하므로 전체 이력을 스캔하지 않습니다.
+     */
+    @Transactional(readOnly = true)
+    public InventoryAsOfResponse getInventoryAsOf(Long inventoryId, LocalDateTime at, Long userId) {
+        UserStoreContext context = userContextProvider.findUserAndStore(userId);
+        Store store = context.store();
+
+        log.info("[InventoryHistoryService] 시점 재고 조회 요청 - userId: {}, inventoryId: {}, at: {}",
+                userId, inventoryId, at);
+        Inventory inventory = findInventoryByIdAndValidateAccess(inventoryId, store);
+
+        InventorySnapshot snapshot = inventorySnapshotRepository
+                .findTopByInventory_IdAndSnapshotAtLessThanEqualOrderByLastRevisionDesc(inventory.getId(), at)
+                .orElse(null);
+        long afterRevision = snapshot == null ? NO_REVISION : snapshot.getLastRevision();
+        InventoryMovementSum sum = inventoryMovementRepository.sumMovements(inventory.getId(), afterRevision, at);
+
+        log.info("[InventoryHistoryService] 시점 재고 조회 성공 - inventoryId: {}, replayed: {}",
+                inventory.getId(), sum.movementCount());
+        return new InventoryAsOfResponse(
+                inventory.getId(),
+                inventory.getProduct().getId(),
+                at,
+                baseOf(snapshot == null ? null : snapshot.getDisplayStock()).add(sum.displayDelta()),
+                baseOf(snapshot == null ? null : snapshot.getWarehouseStock()).add(sum.warehouseDelta()),
+                baseOf(snapshot == null ? null : snapshot.getOutgoingReserved()).add(sum.outgoingDelta()),
+                baseOf(snapshot == null ? null : snapshot.getIncomingReserved()).add(sum.incomingDelta()),
+                snapshot == null ? null : snapshot.getSnapshotAt(),
+                sum.movementCount()
+        );
+    }
+
+    @Transactional(readOnly = true)
+    public List<Long> findInventoryIdsToCompact(LocalDateTime until) {
+        return inventoryMovementRepository.findInventoryIdsToCompact(until);
+    }
+
+    /**
+     * 마지막 스냅샷 이후 until 시점까지의 이력을 누적하여 새 스냅샷을 생성합니다.
+     * 누적 기준은 이력 id 가 아닌 재고 변경 순번입니다. 같은 재고의 이력은 재고 행 잠금 순서대로 순번을 받으므로,
+     * 커밋된 가장 큰 순번까지는 빠진 이력이 없고, 그 순번 이하의 이력은 기록 시각과 무관하게 모두 반영합니다.
+     * 이력 행은 감사 용도로 그대로 유지되며, 스냅샷은 시점 조회 시 재생 구간을 줄이는 용도입니다.
+     */
+    @Transactional
+    public boolean compactInventory(Long inventoryId, LocalDateTime until) {
+        InventorySnapshot latest = inventorySnapshotRepository
+                .findTopByInventory_IdOrderByLastRevisionDesc(inventoryId)
+                .orElse(null);
+        long afterRevision = latest == null ? NO_REVISION : latest.getLastRevision();
+
+        Long lastRevision = inventoryMovementRepository.findLastRevision(inventoryId, afterRevision, until);
+        if (lastRevision == null) {
+            return false;
+        }
+        InventoryMovementSum sum = inventoryMovementRepository.sumMovementsUpToRevision(
+                inventoryId, afterRevision, lastRevision
+        );
+
+        inventorySnapshotRepository.save(
+                InventorySnapshot.builder()
+                        .inventory(inventoryRepository.getReferenceById(inventoryId))
+                        .lastRevision(sum.lastRevision())
+                        .lastMovementId(sum.lastMovementId())
+                        .snapshotAt(sum.lastMovementAt())
+                        .displayStock(baseOf(latest == null ? null : latest.getDisplayStock()).add(sum.displayDelta()))
+                        .warehouseStock(baseOf(latest == null ? null : latest.getWarehouseStock()).add(sum.warehouseDelta()))
+                        .outgoingReserved(baseOf(latest == null ? null : latest.getOutgoingReserved()).add(sum.outgoingDelta()))
+                        .incomingReserved(baseOf(latest == null ? null : latest.getIncomingReserved()).add(sum.incomingDelta()))
+                        .build()
+        );
+        log.info("[InventoryHistoryService] 재고 스냅샷 생성 - inventoryId: {}, lastRevision: {}, folded: {}",
+                inventoryId, sum.lastRevision(), sum.movementCount());
+        return true;
+    }
+
+    private BigDecimal baseOf(BigDecimal snapshotValue) {
+        return snapshotValue == null ? BigDecimal.ZERO : snapshotValue;
+    }
+
+    private Inventory findInventoryByIdAndValidateAccess(Long inventoryId, Store store) {
+        Inventory inventory = inventoryRepository.findById(inventoryId)
+                .orElseThrow(() -> new BaseException(ErrorCode.INVENTORY_NOT_FOUND));
+
+        if (!inventory.getProduct().getStore().getId().equals(store.getId())) {
+            throw new BaseException(ErrorCode.INVENTORY_ACCESS_DENIED);
+        }
+        return inventory;
+    }
+}
@@ -1,30 +1,55 @@
 package com.almang.inventory.inventory.service;
 
+import com.almang.inventory.global.api.CursorResponse;
 import com.almang.inventory.global.api.PageResponse;
 import com.almang.inventory.global.context.UserContextProvider;
 import com.almang.inventory.global.context.UserContextProvider.UserStoreContext;
 import com.almang.inventory.global.exception.BaseException;
 import com.almang.inventory.global.exception.ErrorCode;
+import com.almang.inventory.global.export.ExportFile;
+import com.almang.inventory.global.export.ExportFormat;
+import com.almang.inventory.global.export.StreamingExporter;
+import com.almang.inventory.global.util.PageCursor;
 import com.almang.inventory.global.util.PaginationUtil;
 import com.almang.inventory.inventory.domain.Inventory;
 import com.almang.inventory.inventory.domain.InventoryMoveDirection;
+import com.almang.inventory.inventory.domain.InventoryMovementType;
 import com.almang.inventory.inventory.domain.InventoryScope;
 import com.almang.inventory.inventory.dto.InitialInventoryValues;
+import com.almang.inventory.inventory.dto.InventoryDelta;
+import com.almang.inventory.inventory.dto.InventoryExportRow;
 import com.almang.inventory.inventory.dto.request.MoveInventoryRequest;
 import com.almang.inventory.inventory.dto.request.UpdateInventoryRequest;
 import com.almang.inventory.inventory.dto.response.InventoryResponse;
+import com.almang.inventory.inventory.repository.InventoryExportRepository;
+import com.almang.inventory.inventory.repository.InventoryJdbcRepository;
+import com.almang.inventory.inventory.repository.InventoryMovementJdbcRepository;
+import com.almang.inventory.inventory.repository.InventoryMovementJdbcRepository.MovementRow;
 import com.almang.inventory.inventory.repository.InventoryRepository;
 import com.almang.inventory.product.domain.Product;
+import com.almang.inventory.product.service.ProductSearchIndex;
 import com.almang.inventory.store.domain.Store;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
 import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Hibernate;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort.Direction;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @Slf4j
 @Service
@@ -32,13 +57,30 @@ import org.springframework.transaction.annotation.Transactional;
 public class InventoryService {
 
     private final InventoryRepository inventoryRepository;
+    private final InventoryJdbcRepository inventoryJdbcRepository;
+    private final InventoryExportRepository inventoryExportRepository;
+    private final InventoryMovementJdbcRepository inventoryMovementJdbcRepository;
     private final UserContextProvider userContextProvider;
+    private final EntityManager entityManager;
+    private final ProductSearchIndex productSearchIndex;
+    private final LowStockWatchlist lowStockWatchlist;
+    private final InventoryEventStream inventoryEventStream;
+    private final Cafe24InventoryPushService cafe24InventoryPushService;
+    private final StreamingExporter streamingExporter;
+
+    private static final int DEFAULT_LOW_STOCK_LIMIT = 20;
+    private static final int MAX_LOW_STOCK_LIMIT = 100;
+    // 재주문 필요 재고 목록에서 오래된 항목을 건너뛰며 더 가져올 때의 상한
+    private static final int MAX_LOW_STOCK_FETCH_SIZE = 400;
 
     @Transactional
     public void createInventory(Product product, InitialInventoryValues initialInventoryValues) {
         log.info("[InventoryService] 재고 생성 요청 - productId: {}", product.getId());
         Inventory inventory = toInventoryEntity(product, initialInventoryValues);
         inventoryRepository.save(inventory);
+        recordMovement(inventory, InventoryMovementType.INITIAL,
+                inventory.getDisplayStock(), inventory.getWarehouseStock(),
+                inventory.getOutgoingReserved(), inventory.getIncomingReserved());
         log.info("[InventoryService] 재고 생성 성공 - inventoryId: {}", inventory.getId());
     }
 
@@ -46,7 +88,9 @@ public class InventoryService {
     public void increaseIncomingStockFromOrder(Product product, BigDecimal quantity) {
         log.info("[InventoryService] 발주 생성으로 입고 예정 수량 증가 요청 - productId: {}", product.getId());
         Inventory inventory = findInventoryByProductId(product.getId());
-        inventory.increaseIncoming(quantity);
+        int updated = inventoryRepository.increaseIncomingReserved(inventory.getId(), quantity);
+        refreshAfterUpdate(updated, inventory, ErrorCode.INVENTORY_NOT_FOUND);
+        recordMovement(inventory, InventoryMovementType.ORDER_RESERVED, BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO, quantity);
         log.info("[InventoryService] 발주 생성으로 입고 예정 수량 증가 성공 - inventoryId: {}", inventory.getId());
     }
 
@@ -54,7 +98,9 @@ public class InventoryService {
     public void decreaseIncomingStockFromOrder(Product product, BigDecimal quantity) {
         log.info("[InventoryService] 발주 항목 삭제로 입고 예정 수량 감소 요청 - productId: {}", product.getId());
         Inventory inventory = findInventoryByProductId(product.getId());
-        inventory.decreaseIncoming(quantity);
+        int updated = inventoryRepository.decreaseIncomingReserved(inventory.getId(), quantity);
+        refreshAfterUpdate(updated, inventory, ErrorCode.INCOMING_STOCK_NOT_ENOUGH);
+        recordMovement(inventory, InventoryMovementType.ORDER_RESERVATION_RELEASED, BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO, quantity.negate());
         log.info("[InventoryService] 발주 항목 삭제로 입고 예정 수량 감소 성공 - inventoryId: {}", inventory.getId());
     }
 
@@ -68,11 +114,15 @@ public class InventoryService {
         Inventory inventory = findInventoryByProductId(product.getId());
 
         if (diff.compareTo(BigDecimal.ZERO) > 0) {
-            inventory.increaseIncoming(diff);
+            int updated = inventoryRepository.increaseIncomingReserved(inventory.getId(), diff);
+            refreshAfterUpdate(updated, inventory, ErrorCode.INVENTORY_NOT_FOUND);
+            recordMovement(inventory, InventoryMovementType.ORDER_RESERVED, BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO, diff);
             log.info("[InventoryService] 발주 수정으로 입고 예정 수량 증가 성공 - inventoryId: {}", inventory.getId());
             return;
         }
-        inventory.decreaseIncoming(diff.abs());
+        int updated = inventoryRepository.decreaseIncomingReserved(inventory.getId(), diff.abs());
+        refreshAfterUpdate(updated, inventory, ErrorCode.INCOMING_STOCK_NOT_ENOUGH);
+        recordMovement(inventory, InventoryMovementType.ORDER_RESERVATION_RELEASED, BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO, diff);
         log.info("[InventoryService] 발주 수정으로 입고 예정 수량 감소 성공 - inventoryId: {}", inventory.getId());
     }
 
@@ -80,7 +130,9 @@ public class InventoryService {
     public void applyReceipt(Product product, BigDecimal expected, BigDecimal actual) {
         log.info("[InventoryService] 입고 이후 입고 예정 수량 감소 및 재고 수량 증가 요청 - productId: {}", product.getId());
         Inventory inventory = findInventoryByProductId(product.getId());
-        inventory.confirmIncoming(expected, actual);
+        int updated = inventoryRepository.confirmIncoming(inventory.getId(), expected, actual);
+        refreshAfterUpdate(updated, inventory, ErrorCode.INCOMING_STOCK_NOT_ENOUGH);
+        recordMovement(inventory, InventoryMovementType.RECEIPT_CONFIRMED, BigDecimal.ZERO, actual, BigDecimal.ZERO, expected.negate());
         log.info("[InventoryService] 입고 이후 입고 예정 수량 감소 및 재고 수량 증가 성공 - inventoryId: {}", inventory.getId());
     }
 
@@ -88,10 +140,172 @@ public class InventoryService {
     public void cancelIncomingReservation(Product product, BigDecimal quantity) {
         log.info("[InventoryService] 입고 취소로 입고 예정 수량 감소 요청 - productId: {}", product.getId());
         Inventory inventory = findInventoryByProductId(product.getId());
-        inventory.decreaseIncoming(quantity);
+        int updated = inventoryRepository.decreaseIncomingReserved(inventory.getId(), quantity);
+        refreshAfterUpdate(updated, inventory, ErrorCode.INCOMING_STOCK_NOT_ENOUGH);
+        recordMovement(inventory, InventoryMovementType.RECEIPT_CANCELED, BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO, quantity.negate());
         log.info("[InventoryService] 입고 취소로 입고 예정 수량 감소 성공 - inventoryId: {}", inventory.getId());
     }
 
+    /**
+     * 여러 라인의 재고 증감을 한 번에 반영합니다.
+     * 라인마다 조건부 증감 UPDATE 를 productId 순서로 JDBC 배치 한 번에 보내고(같은 순서로 행을 잠가 교착 상태 방지),
+     * 변동 이력도 JDBC 배치 INSERT 로 기록합니다.
+     * 라인 하나라도 수량이 부족하면 예외가 발생하며 트랜잭션 전체가 롤백됩니다.
+     *
+     * @return productId 별 반영 후 재고
+     */
+    @Transactional
+    public Map<Long, Inventory> applyBatch(List<InventoryDelta> deltas) {
+        if (deltas.isEmpty()) {
+            return Map.of();
+        }
+
+        List<InventoryDelta> sorted = deltas.stream()
+                .sorted(Comparator.comparing(InventoryDelta::productId))
+                .toList();
+        List<Long> productIds = sorted.stream()
+                .map(InventoryDelta::productId)
+                .distinct()
+                .toList();
+        log.info("[InventoryService] 재고 일괄 반영 요청 - lines: {}, products: {}", deltas.size(), productIds.size());
+
+        List<Long> inventoryIds = inventoryRepository.findIdsByProductIds(productIds);
+        if (inventoryIds.size() != productIds.size()) {
+            throw new BaseException(ErrorCode.INVENTORY_NOT_FOUND);
+        }
+        // 이미 영속성 컨텍스트에 올라와 있는 재고는 아래 조회에서 다시 읽히지 않으므로, 반영 후 따로 refresh
+        List<Inventory> managed = inventoryIds.stream()
+                .map(id -> entityManager.getReference(Inventory.class, id))
+                .filter(Hibernate::isInitialized)
+                .toList();
+
+        entityManager.flush();
+        int[] counts = inventoryJdbcRepository.batchApplyDeltas(sorted);
+        managed.forEach(entityManager::refresh);
+
+        Map<Long, Inventory> inventories = new HashMap<>();
+        for (Inventory inventory : inventoryRepository.findAllByProduct_IdIn(productIds)) {
+            inventories.put(inventory.getProduct().getId(), inventory);
+        }
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] == 0) {
+                throw shortageOf(sorted.get(i), inventories.get(sorted.get(i).productId()));
+            }
+        }
+
+        List<MovementRow> movements = new ArrayList<>(sorted.size());
+        for (InventoryDelta delta : sorted) {
+            movements.add(new MovementRow(
+                    inventories.get(delta.productId()).getId(), delta.type(), delta.displayDelta(),
+                    delta.warehouseDelta(), delta.outgoingDelta(), delta.incomingDelta()
+            ));
+        }
+        inventoryMovementJdbcRepository.batchInsert(movements);
+        inventories.values().forEach(this::notifyChanged);
+
+        log.info("[InventoryService] 재고 일괄 반영 성공 - lines: {}", deltas.size());
+        return inventories;
+    }
+
+    /**
+     * 소매 판매로 매대 재고를 차감합니다.
+     * 재고가 부족하면 예외 대신 false를 반환하여, 호출 측이 해당 행만 스킵하고
+     * 트랜잭션은 rollback-only로 표시되지 않은 채 계속 진행할 수 있도록 합니다.
+     */
+    @Transactional
+    public boolean decreaseDisplayStockFromRetail(Inventory inventory, BigDecimal quantity) {
+        int updated = inventoryRepository.decreaseDisplayStock(inventory.getId(), quantity);
+        if (updated > 0) {
+            recordMovement(inventory, InventoryMovementType.RETAIL_SALE,
+                    quantity.negate(), BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO);
+        }
+        if (entityManager.contains(inventory)) {
+            entityManager.refresh(inventory);
+            if (updated > 0) {
+                notifyChanged(inventory);
+            }
+        }
+        return updated > 0;
+    }
+
+    // 소매 재업로드로 판매 수량이 줄어든 만큼 매대 재고를 복원
+    @Transactional
+    public void restoreDisplayStockFromRetail(Inventory inventory, BigDecimal quantity) {
+        int updated = inventoryRepository.increaseDisplayStock(inventory.getId(), quantity);
+        refreshAfterUpdate(updated, inventory, ErrorCode.INVENTORY_NOT_FOUND);
+        recordMovement(inventory, InventoryMovementType.RETAIL_SALE_CANCELED,
+                quantity, BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO);
+    }
+
+    @Transactional
+    public void increaseOutgoingStockFromWholesale(Product product, BigDecimal quantity) {
+        log.info("[InventoryService] 출고 대기 생성으로 출고 예정 수량 증가 요청 - productId: {}", product.getId());
+        Inventory inventory = findInventoryByProductId(product.getId());
+        int updated = inventoryRepository.increaseOutgoingReserved(inventory.getId(), quantity);
+        refreshAfterUpdate(updated, inventory, ErrorCode.INVENTORY_NOT_FOUND);
+        recordMovement(inventory, InventoryMovementType.WHOLESALE_RESERVED, BigDecimal.ZERO, BigDecimal.ZERO, quantity, BigDecimal.ZERO);
+        log.info("[InventoryService] 출고 대기 생성으로 출고 예정 수량 증가 성공 - inventoryId: {}", inventory.getId());
+    }
+
+    @Transactional
+    public void increaseOutgoingStockWithinAvailable(Product product, BigDecimal quantity) {
+        log.info("[InventoryService] 출고 수정으로 출고 예정 수량 증가 요청 - productId: {}", product.getId());
+        Inventory inventory = findInventoryByProductId(product.getId());
+        int updated = inventoryRepository.increaseOutgoingReservedWithinAvailable(inventory.getId(), quantity);
+
+        if (updated == 0) {
+            entityManager.refresh(inventory);
+            throw new BaseException(ErrorCode.NOT_ENOUGH_STOCK,
+                    String.format("상품 '%s'의 창고 재고가 부족합니다. (요청 증가: %s, 가용 재고: %s)",
+                            product.getName(), quantity, inventory.getAvailableStock()));
+        }
+        entityManager.refresh(inventory);
+        notifyChanged(inventory);
+        recordMovement(inventory, InventoryMovementType.WHOLESALE_RESERVED, BigDecimal.ZERO, BigDecimal.ZERO, quantity, BigDecimal.ZERO);
+        log.info("[InventoryService] 출고 수정으로 출고 예정 수량 증가 성공 - inventoryId: {}", inventory.getId());
+    }
+
+    @Transactional
+    public void decreaseOutgoingStockFromWholesale(Product product, BigDecimal quantity) {
+        log.info("[InventoryService] 출고 취소로 출고 예정 수량 감소 요청 - productId: {}", product.getId());
+        Inventory inventory = findInventoryByProductId(product.getId());
+        int updated = inventoryRepository.decreaseOutgoingReserved(inventory.getId(), quantity);
+        refreshAfterUpdate(updated, inventory, ErrorCode.OUTGOING_RESERVED_NOT_ENOUGH);
+        recordMovement(inventory, InventoryMovementType.WHOLESALE_RESERVATION_RELEASED, BigDecimal.ZERO, BigDecimal.ZERO, quantity.negate(), BigDecimal.ZERO);
+        log.info("[InventoryService] 출고 취소로 출고 예정 수량 감소 성공 - inventoryId: {}", inventory.getId());
+    }
+
+    /**
+     * 온라인(카페24) 주문 항목의 출고 예정을 가용 재고 범위 안에서 추가합니다.
+     * 아래 세 메서드는 decreaseDisplayStockFromRetail 과 같이 실패해도 예외 대신 false 를 반환하여,
+     * 호출 측 일괄 반영 트랜잭션이 rollback-only 로 표시되지 않고 해당 항목만 건너뛸 수 있도록 합니다.
+     */
+    @Transactional
+    public boolean reserveOutgoingForCustomerOrder(Product product, BigDecimal quantity) {
+        Inventory inventory = findInventoryByProductId(product.getId());
+        int updated = inventoryRepository.increaseOutgoingReservedWithinAvailable(inventory.getId(), quantity);
+        return afterCustomerOrderUpdate(updated, inventory, InventoryMovementType.CUSTOMER_ORDER_RESERVED,
+                BigDecimal.ZERO, quantity);
+    }
+
+    // 온라인 주문 취소로 잡아 두었던 출고 예정을 되돌림
+    @Transactional
+    public boolean releaseOutgoingForCustomerOrder(Product product, BigDecimal quantity) {
+        Inventory inventory = findInventoryByProductId(product.getId());
+        int updated = inventoryRepository.decreaseOutgoingReserved(inventory.getId(), quantity);
+        return afterCustomerOrderUpdate(updated, inventory, InventoryMovementType.CUSTOMER_ORDER_RELEASED,
+                BigDecimal.ZERO, quantity.negate());
+    }
+
+    // 온라인 주문 출고 확정 (출고 예정 + 창고 재고 차감)
+    @Transactional
+    public boolean confirmOutgoingForCustomerOrder(Product product, BigDecimal quantity) {
+        Inventory inventory = findInventoryByProductId(product.getId());
+        int updated = inventoryRepository.confirmOutgoing(inventory.getId(), quantity);
+        return afterCustomerOrderUpdate(updated, inventory, InventoryMovementType.CUSTOMER_ORDER_SHIPPED,
+                quantity.negate(), quantity.negate());
+    }
+
     @Transactional
     public InventoryResponse updateInventory(Long inventoryId, UpdateInventoryRequest request, Long userId) {
         UserStoreContext context = userContextProvider.findUserAndStore(userId);
@@ -101,10 +315,23 @@ public class InventoryService {
         Inventory inventory = findInventoryByIdAndValidateAccess(inventoryId, store);
         validateProductMatch(inventory, request.productId());
 
-        inventory.updateManually(
-                request.displayStock(), request.warehouseStock(), request.outgoingReserved(),
+        // 수동 수정은 증감량이 아닌 절대값이므로, 행을 잠근 뒤 변경 전 값을 읽어 정확한 증감량을 기록
+        entityManager.refresh(inventory, LockModeType.PESSIMISTIC_WRITE);
+        BigDecimal beforeDisplay = inventory.getDisplayStock();
+        BigDecimal beforeWarehouse = inventory.getWarehouseStock();
+        BigDecimal beforeOutgoing = inventory.getOutgoingReserved();
+        BigDecimal beforeIncoming = inventory.getIncomingReserved();
+
+        int updated = inventoryRepository.updateManually(
+                inventory.getId(), request.displayStock(), request.warehouseStock(), request.outgoingReserved(),
                 request.incomingReserved(), request.reorderTriggerPoint()
         );
+        refreshAfterUpdate(updated, inventory, ErrorCode.INVENTORY_NOT_FOUND);
+        recordMovement(inventory, InventoryMovementType.MANUAL_ADJUSTMENT,
+                inventory.getDisplayStock().subtract(beforeDisplay),
+                inventory.getWarehouseStock().subtract(beforeWarehouse),
+                inventory.getOutgoingReserved().subtract(beforeOutgoing),
+                inventory.getIncomingReserved().subtract(beforeIncoming));
 
         log.info("[InventoryService] 재고 수동 수정 성공 - inventoryId: {}", inventory.getId());
         return InventoryResponse.from(inventory);
@@ -156,10 +383,12 @@ public class InventoryService {
 
         Pageable pageable = PaginationUtil.createPageRequest(page, size, direction, sortBy);
 
+        String keyword = (q == null || q.isBlank()) ? null : q;
         Page<Inventory> inventoryPage = inventoryRepository.findByFilter(
                 store.getId(),
                 scope.name(),
-                (q == null || q.isBlank()) ? null : q,
+                keyword,
+                searchProductIds(store.getId(), keyword),
                 pageable
         );
         Page<InventoryResponse> mapped = inventoryPage.map(InventoryResponse::from);
@@ -168,8 +397,118 @@ public class InventoryService {
         return PageResponse.from(mapped);
     }
 
+    @Transactional(readOnly = true)
+    public CursorResponse<InventoryResponse> getStoreInventoryListByCursor(
+            Long userId, String cursor, Integer size, String scopeParam, String q, String sortParam
+    ) {
+        UserStoreContext context = userContextProvider.findUserAndStore(userId);
+        Store store = context.store();
+
+        log.info("[InventoryService] 상점 재고 커서 조회 요청 - userId: {}, storeId: {}", userId, store.getId());
+
+        InventoryScope scope = InventoryScope.from(scopeParam);
+        String keyword = (q == null || q.isBlank()) ? null : q;
+        Set<Long> productIds = searchProductIds(store.getId(), keyword);
+        PageCursor pageCursor = PageCursor.decode(cursor);
+        Long cursorId = pageCursor != null ? pageCursor.id() : null;
+        Pageable pageable = PaginationUtil.createCursorRequest(size);
+
+        CursorResponse<InventoryResponse> response;
+        if ("productName".equals(sortParam)) {
+            Slice<Inventory> inventorySlice = inventoryRepository.findSliceByFilterOrderByProductName(
+                    store.getId(), scope.name(), keyword, productIds,
+                    pageCursor != null ? pageCursor.sortKey() : null, cursorId, pageable
+            );
+            response = CursorResponse.from(
+                    inventorySlice,
+                    InventoryResponse::from,
+                    inventory -> PageCursor.of(inventory.getProduct().getName(), inventory.getId())
+            );
+        } else {
+            Slice<Inventory> inventorySlice = inventoryRepository.findSliceByFilterOrderByIdDesc(
+                    store.getId(), scope.name(), keyword, productIds, cursorId, pageable
+            );
+            response = CursorResponse.from(
+                    inventorySlice,
+                    InventoryResponse::from,
+                    inventory -> PageCursor.of(inventory.getId(), inventory.getId())
+            );
+        }
+
+        log.info("[InventoryService] 상점 재고 커서 조회 성공 - userId: {}, storeId: {}", userId, store.getId());
+        return response;
+    }
+
+    @Transactional(readOnly = true)
+    public List<InventoryResponse> getLowStockInventories(Long userId, Integer limit) {
+        UserStoreContext context = userContextProvider.findUserAndStore(userId);
+        Store store = context.store();
+
+        log.info("[InventoryService] 재주문 필요 재고 조회 요청 - userId: {}, storeId: {}", userId, store.getId());
+        int resolvedLimit = limit == null || limit <= 0
+                ? DEFAULT_LOW_STOCK_LIMIT
+                : Math.min(limit, MAX_LOW_STOCK_LIMIT);
+
+        // 목록 순서(급한 순)를 유지하고, 목록 반영 전에 삭제/변경된 재고는 건너뜀
+        // 건너뛴 만큼 모자라면 더 넓게 다시 가져오고, 목록은 다음 조회 때 다시 만들도록 표시
+        List<InventoryResponse> response = new ArrayList<>();
+        int fetchSize = resolvedLimit;
+        boolean stale = false;
+        while (true) {
+            List<Long> inventoryIds = lowStockWatchlist.findMostUrgent(store.getId(), fetchSize);
+            Map<Long, Inventory> inventories = new HashMap<>();
+            for (Inventory inventory : inventoryRepository.findAllWithProductByIdIn(inventoryIds)) {
+                inventories.put(inventory.getId(), inventory);
+            }
+            response.clear();
+            for (Long inventoryId : inventoryIds) {
+                Inventory inventory = inventories.get(inventoryId);
+                if (inventory == null || inventory.getDeletedAt() != null || !inventory.getStatus().needsReorder()) {
+                    stale = true;
+                    continue;
+                }
+                if (response.size() < resolvedLimit) {
+                    response.add(InventoryResponse.from(inventory));
+                }
+            }
+            if (response.size() >= resolvedLimit || inventoryIds.size() < fetchSize
+                    || fetchSize >= MAX_LOW_STOCK_FETCH_SIZE) {
+                break;
+            }
+            fetchSize = Math.min(fetchSize * 2, MAX_LOW_STOCK_FETCH_SIZE);
+        }
+        if (stale) {
+            lowStockWatchlist.invalidate(store.getId());
+        }
+
+        log.info("[InventoryService] 재주문 필요 재고 조회 성공 - userId: {}, storeId: {}, size: {}",
+                userId, store.getId(), response.size());
+        return response;
+    }
+
+    // 권한 확인만 먼저 하고, 행 조회와 파일 기록은 응답을 쓰는 시점에 스트리밍으로 수행
+    public ExportFile exportInventories(Long userId, String formatParam) {
+        UserStoreContext context = userContextProvider.findUserAndStore(userId);
+        Long storeId = context.store().getId();
+        ExportFormat format = ExportFormat.from(formatParam);
+
+        log.info("[InventoryService] 재고 내보내기 요청 - userId: {}, storeId: {}, format: {}", userId, storeId, format);
+        return streamingExporter.export(
+                "재고_" + LocalDate.now(), format, InventoryExportRow.HEADERS,
+                () -> inventoryExportRepository.streamExportRowsByStoreId(storeId), InventoryExportRow::columns
+        );
+    }
+
+    public SseEmitter subscribeInventoryChanges(Long userId, Long lastEventId) {
+        UserStoreContext context = userContextProvider.findUserAndStore(userId);
+        Store store = context.store();
+
+        log.info("[InventoryService] 재고 변경 스트림 구독 요청 - userId: {}, storeId: {}", userId, store.getId());
+        return inventoryEventStream.subscribe(store.getId(), lastEventId);
+    }
+
     @Transactional
-        public InventoryResponse moveInventory(Long inventoryId, MoveInventoryRequest request, Long userId) {
+    public InventoryResponse moveInventory(Long inventoryId, MoveInventoryRequest request, Long userId) {
         UserStoreContext context = userContextProvider.findUserAndStore(userId);
         Store store = context.store();
 
@@ -177,11 +516,17 @@ public class InventoryService {
         Inventory inventory = findInventoryByIdAndValidateAccess(inventoryId, store);
 
         if (request.direction() == InventoryMoveDirection.WAREHOUSE_TO_DISPLAY) {
-            inventory.moveWarehouseToDisplay(request.quantity());
+            int updated = inventoryRepository.moveWarehouseToDisplay(inventory.getId(), request.quantity());
+            refreshAfterUpdate(updated, inventory, ErrorCode.WAREHOUSE_STOCK_NOT_ENOUGH);
+            recordMovement(inventory, InventoryMovementType.MOVE_WAREHOUSE_TO_DISPLAY,
+                    request.quantity(), request.quantity().negate(), BigDecimal.ZERO, BigDecimal.ZERO);
             log.info("[InventoryService] 창고 재고에서 매대 재고로 이동 성공 - inventoryId: {}", inventory.getId());
         }
         if (request.direction() == InventoryMoveDirection.DISPLAY_TO_WAREHOUSE) {
-            inventory.moveDisplayToWarehouse(request.quantity());
+            int updated = inventoryRepository.moveDisplayToWarehouse(inventory.getId(), request.quantity());
+            refreshAfterUpdate(updated, inventory, ErrorCode.DISPLAY_STOCK_NOT_ENOUGH);
+            recordMovement(inventory, InventoryMovementType.MOVE_DISPLAY_TO_WAREHOUSE,
+                    request.quantity().negate(), request.quantity(), BigDecimal.ZERO, BigDecimal.ZERO);
             log.info("[InventoryService] 매대 재고에서 창고 재고로 이동 성공 - inventoryId: {}", inventory.getId());
         }
         return InventoryResponse.from(inventory);
@@ -190,6 +535,7 @@ public class InventoryService {
     private Inventory toInventoryEntity(Product product, InitialInventoryValues initialInventoryValues) {
         return Inventory.builder()
                 .product(product)
+                .store(product.getStore())
                 .displayStock(initialInventoryValues.displayStock())
                 .warehouseStock(initialInventoryValues.warehouseStock())
                 .outgoingReserved(initialInventoryValues.outgoingReserved())
@@ -199,6 +545,70 @@ public class InventoryService {
                 .build();
     }
 
+    // 재고 변동 이력 기록 (각 수량은 증감량, 재고 행을 잠근 트랜잭션 안에서 변경 순번과 함께 기록)
+    private void recordMovement(
+            Inventory inventory, InventoryMovementType type, BigDecimal displayDelta,
+            BigDecimal warehouseDelta, BigDecimal outgoingDelta, BigDecimal incomingDelta
+    ) {
+        inventoryMovementJdbcRepository.insert(new MovementRow(
+                inventory.getId(), type, displayDelta, warehouseDelta, outgoingDelta, incomingDelta
+        ));
+    }
+
+    // 일괄 반영에서 적용되지 않은 라인이 어떤 수량 부족 때문인지 판단 (반영 후 값 기준)
+    private BaseException shortageOf(InventoryDelta delta, Inventory inventory) {
+        if (inventory.getIncomingReserved().add(delta.incomingDelta()).signum() < 0) {
+            return new BaseException(ErrorCode.INCOMING_STOCK_NOT_ENOUGH);
+        }
+        if (inventory.getOutgoingReserved().add(delta.outgoingDelta()).signum() < 0) {
+            return new BaseException(ErrorCode.OUTGOING_RESERVED_NOT_ENOUGH);
+        }
+        if (inventory.getWarehouseStock().add(delta.warehouseDelta()).signum() < 0) {
+            return new BaseException(ErrorCode.WAREHOUSE_STOCK_NOT_ENOUGH);
+        }
+        if (inventory.getDisplayStock().add(delta.displayDelta()).signum() < 0) {
+            return new BaseException(ErrorCode.DISPLAY_STOCK_NOT_ENOUGH);
+        }
+        return new BaseException(ErrorCode.NOT_ENOUGH_STOCK);
+    }
+
+    // 조건부 UPDATE 결과가 0건이면 해당 에러로 실패 처리하고, 성공 시 영속성 컨텍스트의 재고를 DB 값으로 동기화
+    private void refreshAfterUpdate(int updatedRows, Inventory inventory, ErrorCode errorCode) {
+        if (updatedRows == 0) {
+            throw new BaseException(errorCode);
+        }
+        entityManager.refresh(inventory);
+        notifyChanged(inventory);
+    }
+
+    private boolean afterCustomerOrderUpdate(
+            int updatedRows, Inventory inventory, InventoryMovementType type,
+            BigDecimal warehouseDelta, BigDecimal outgoingDelta
+    ) {
+        if (updatedRows == 0) {
+            return false;
+        }
+        entityManager.refresh(inventory);
+        notifyChanged(inventory);
+        recordMovement(inventory, type, BigDecimal.ZERO, warehouseDelta, outgoingDelta, BigDecimal.ZERO);
+        return true;
+    }
+
+    // 조건부 UPDATE 는 엔티티 이벤트가 없으므로 재주문 필요 재고 목록, 재고 변경 스트림, 카페24 재고 push 에 직접 반영
+    private void notifyChanged(Inventory inventory) {
+        lowStockWatchlist.touch(inventory);
+        inventoryEventStream.touch(inventory);
+        cafe24InventoryPushService.touch(inventory);
+    }
+
+    // 검색어가 없으면 빈 집합을 넘기고, 쿼리에서 q IS NULL 조건으로 필터를 건너뜀
+    private Set<Long> searchProductIds(Long storeId, String keyword) {
+        if (keyword == null) {
+            return Set.of();
+        }
+        return productSearchIndex.search(storeId, keyword);
+    }
+
     private Inventory findInventoryByProductId(Long productId) {
         return inventoryRepository.findByProduct_Id(productId)
                 .orElseThrow(() -> new BaseException(ErrorCode.INVENTORY_NOT_FOUND));
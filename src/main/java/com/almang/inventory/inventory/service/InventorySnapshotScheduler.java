@@ -0,0 +1,42 @@
+package com.almang.inventory.inventory.service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class InventorySnapshotScheduler {
+
+    private final InventoryHistoryService inventoryHistoryService;
+
+    // 누적은 재고 변경 순번 기준이라 늦게 커밋된 이력도 빠지지 않으며, 최근 이력은 시점 조회에서 재생하도록 스냅샷에서 제외
+    @Value("${inventory.snapshot.fold-lag-minutes:10}")
+    private long foldLagMinutes;
+
+    // 이력 created_at 은 서버 기본 시간대의 LocalDateTime.now() 로 기록되므로 기준 시각도 동일하게 사용
+    @Scheduled(cron = "${inventory.snapshot.cron:0 30 4 * * *}", zone = "Asia/Seoul")
+    public void compactMovements() {
+        LocalDateTime until = LocalDateTime.now().minusMinutes(foldLagMinutes);
+        List<Long> inventoryIds = inventoryHistoryService.findInventoryIdsToCompact(until);
+        log.info("[InventorySnapshotScheduler] 재고 스냅샷 생성 시작 - until: {}, targets: {}", until, inventoryIds.size());
+
+        int compacted = 0;
+        for (Long inventoryId : inventoryIds) {
+            try {
+                if (inventoryHistoryService.compactInventory(inventoryId, until)) {
+                    compacted++;
+                }
+            } catch (Exception e) {
+                // 한 재고의 실패가 전체 스냅샷 작업을 중단시키지 않도록 로그만 남기고 계속 진행
+                log.error("[InventorySnapshotScheduler] 재고 스냅샷 생성 실패 - inventoryId: {}", inventoryId, e);
+            }
+        }
+        log.info("[InventorySnapshotScheduler] 재고 스냅샷 생성 완료 - compacted: {}", compacted);
+    }
+}
@@ -0,0 +1,211 @@
+package com.almang.inventory.inventory.service;
+
+import com.almang.inventory.global.util.AfterCommitCollector;
+import com.almang.inventory.inventory.domain.Inventory;
+import com.almang.inventory.inventory.domain.InventoryStatus;
+import com.almang.inventory.inventory.dto.LowStockEntry;
+import com.almang.inventory.inventory.repository.InventoryRepository;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * 상점별 재주문 필요 재고(LOW, OUT_OF_STOCK) 목록입니다. Redis sorted set 에 재고 id 를 창고 재고/재주문점 비율을
+ * score 로 넣어 두어, 급한 순서의 목록을 상점 재고 전체를 거르지 않고 ZRANGE 한 번으로 조회합니다.
+ *
+ * <p>재고 변경은 커밋된 뒤에만 반영하고(롤백된 변경은 버림), 트랜잭션의 변경분은 파이프라인 한 번으로 보냅니다.
+ * 상점마다 준비 표시 키가 있으며, 이 키가 만료되면 다음 조회 때 DB 의 (store_id, status) 인덱스로 다시 만들어
+ * Redis 장애 등으로 유실된 반영을 메웁니다. Redis 를 쓸 수 없으면 같은 인덱스로 DB 에서 바로 조회합니다.
+ *
+ * <p>재구성은 임시 키에 만든 뒤 Lua 스크립트로 교체합니다. 반영할 때마다 상점의 세대 값을 올리고, DB 를 읽기 전의
+ * 세대 값이 교체 시점까지 그대로일 때만 교체하므로, 재구성 중에 커밋된 변경을 오래된 DB 조회 결과로 덮어쓰지 않습니다.
+ * 교체하지 못한 조회는 DB 에서 바로 조회하고, 다음 조회 때 다시 재구성합니다.
+ */
+@Slf4j
+@Component
+public class LowStockWatchlist {
+
+    private static final String KEY_PREFIX = "inventory:low-stock:";
+    private static final String READY_KEY_SUFFIX = ":ready";
+    private static final String GENERATION_KEY_SUFFIX = ":gen";
+    private static final String RELOAD_KEY_SUFFIX = ":reload:";
+    // 재구성 중 서버가 죽어도 임시 키가 남지 않도록 거는 만료 시간
+    private static final Duration RELOAD_KEY_TTL = Duration.ofMinutes(5);
+
+    // 세대 값이 재구성 시작 때와 같을 때만 임시 키로 목록을 교체하고 준비 표시를 남김
+    // KEYS[1]=목록 키, KEYS[2]=임시 키, KEYS[3]=세대 키, KEYS[4]=준비 표시 키 / ARGV[1]=시작 세대, ARGV[2]=준비 표시 TTL(밀리초)
+    private static final RedisScript<Long> SWAP_SCRIPT = RedisScript.of("""
+            local generation = redis.call('GET', KEYS[3]) or '0'
+            if generation ~= ARGV[1] then
+                redis.call('DEL', KEYS[2])
+                return 0
+            end
+            if redis.call('EXISTS', KEYS[2]) == 1 then
+                redis.call('RENAME', KEYS[2], KEYS[1])
+                redis.call('PERSIST', KEYS[1])
+            else
+                redis.call('DEL', KEYS[1])
+            end
+            redis.call('SET', KEYS[4], '1', 'PX', ARGV[2])
+            return 1
+            """, Long.class);
+
+    private final InventoryRepository inventoryRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final boolean enabled;
+    private final Duration resyncInterval;
+    private final AfterCommitCollector<Long, Inventory> pendingInventories = new AfterCommitCollector<>(this::apply);
+
+    public LowStockWatchlist(
+            InventoryRepository inventoryRepository,
+            RedisTemplate<String, String> redisTemplate,
+            @Value("${inventory.low-stock-watchlist.enabled:true}") boolean enabled,
+            @Value("${inventory.low-stock-watchlist.resync-interval:PT1H}") Duration resyncInterval
+    ) {
+        this.inventoryRepository = inventoryRepository;
+        this.redisTemplate = redisTemplate;
+        this.enabled = enabled;
+        this.resyncInterval = resyncInterval;
+    }
+
+    /**
+     * 재주문이 급한 순서(창고 재고/재주문점 비율 오름차순)로 재고 id 를 최대 limit 개 반환합니다.
+     */
+    public List<Long> findMostUrgent(Long storeId, int limit) {
+        if (!enabled) {
+            return findMostUrgentFromDatabase(storeId, limit);
+        }
+        try {
+            if (!Boolean.TRUE.equals(redisTemplate.hasKey(readyKey(storeId))) && !reload(storeId)) {
+                return findMostUrgentFromDatabase(storeId, limit);
+            }
+            Set<String> members = redisTemplate.opsForZSet().range(key(storeId), 0, limit - 1);
+            if (members == null) {
+                return List.of();
+            }
+            return members.stream()
+                    .map(Long::valueOf)
+                    .toList();
+        } catch (DataAccessException e) {
+            log.warn("[LowStockWatchlist] Redis 조회 실패로 DB 에서 조회 - storeId: {}", storeId, e);
+            return findMostUrgentFromDatabase(storeId, limit);
+        }
+    }
+
+    /**
+     * 목록에 남아 있지만 이미 재주문이 필요 없는 재고를 발견했을 때 호출하여 다음 조회 때 목록을 다시 만들게 합니다.
+     * (멤버를 직접 지우면 동시에 커밋된 반영을 지울 수 있으므로 재구성에 맡김)
+     */
+    public void invalidate(Long storeId) {
+        if (!enabled) {
+            return;
+        }
+        try {
+            redisTemplate.delete(readyKey(storeId));
+        } catch (DataAccessException e) {
+            log.warn("[LowStockWatchlist] 준비 표시 삭제 실패 - storeId: {}", storeId, e);
+        }
+    }
+
+    // 트랜잭션 안이면 커밋 후에 한 번에 반영 (같은 재고가 여러 번 바뀌면 마지막 상태만 반영)
+    void touch(Inventory inventory) {
+        if (!enabled || inventory.getId() == null) {
+            return;
+        }
+        pendingInventories.add(inventory.getId(), inventory);
+    }
+
+    private void apply(Iterable<Inventory> inventories) {
+        try {
+            redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> Object execute(RedisOperations<K, V> operations) {
+                    ZSetOperations<String, String> zSet = (ZSetOperations<String, String>) operations.opsForZSet();
+                    ValueOperations<String, String> values = (ValueOperations<String, String>) operations.opsForValue();
+                    for (Inventory inventory : inventories) {
+                        Long storeId = inventory.getStore().getId();
+                        String key = key(storeId);
+                        String member = String.valueOf(inventory.getId());
+                        if (inventory.getDeletedAt() == null && inventory.getStatus().needsReorder()) {
+                            zSet.add(key, member, InventoryStatus.stockToTriggerRatio(
+                                    inventory.getWarehouseStock(), inventory.getReorderTriggerPoint()));
+                        } else {
+                            zSet.remove(key, member);
+                        }
+                        values.increment(generationKey(storeId));
+                    }
+                    return null;
+                }
+            });
+        } catch (DataAccessException e) {
+            // 준비 표시가 만료되면 DB 에서 다시 만들어짐
+            log.warn("[LowStockWatchlist] 재주문 필요 재고 목록 반영 실패", e);
+        }
+    }
+
+    /**
+     * @return 목록을 교체했으면 true, 재구성 중에 다른 변경이 반영되어 교체하지 않았으면 false
+     */
+    private boolean reload(Long storeId) {
+        String generation = redisTemplate.opsForValue().get(generationKey(storeId));
+        List<LowStockEntry> entries =
+                inventoryRepository.findLowStockEntries(storeId, InventoryStatus.REORDER_REQUIRED);
+        Set<TypedTuple<String>> tuples = entries.stream()
+                .map(entry -> (TypedTuple<String>) new DefaultTypedTuple<>(
+                        String.valueOf(entry.inventoryId()), entry.ratio()))
+                .collect(Collectors.toSet());
+
+        String reloadKey = KEY_PREFIX + storeId + RELOAD_KEY_SUFFIX + UUID.randomUUID();
+        if (!tuples.isEmpty()) {
+            redisTemplate.opsForZSet().add(reloadKey, tuples);
+            redisTemplate.expire(reloadKey, RELOAD_KEY_TTL);
+        }
+        Long swapped = redisTemplate.execute(
+                SWAP_SCRIPT,
+                List.of(key(storeId), reloadKey, generationKey(storeId), readyKey(storeId)),
+                generation == null ? "0" : generation, String.valueOf(resyncInterval.toMillis())
+        );
+        if (swapped == null || swapped != 1L) {
+            log.info("[LowStockWatchlist] 재구성 중 다른 변경이 반영되어 다음 조회 때 다시 재구성 - storeId: {}", storeId);
+            return false;
+        }
+        log.info("[LowStockWatchlist] 재주문 필요 재고 목록 재구성 - storeId: {}, size: {}", storeId, entries.size());
+        return true;
+    }
+
+    private List<Long> findMostUrgentFromDatabase(Long storeId, int limit) {
+        return inventoryRepository.findLowStockEntries(storeId, InventoryStatus.REORDER_REQUIRED).stream()
+                .sorted(Comparator.comparingDouble(LowStockEntry::ratio).thenComparing(LowStockEntry::inventoryId))
+                .limit(limit)
+                .map(LowStockEntry::inventoryId)
+                .toList();
+    }
+
+    private static String key(Long storeId) {
+        return KEY_PREFIX + storeId;
+    }
+
+    private static String readyKey(Long storeId) {
+        return KEY_PREFIX + storeId + READY_KEY_SUFFIX;
+    }
+
+    private static String generationKey(Long storeId) {
+        return KEY_PREFIX + storeId + GENERATION_KEY_SUFFIX;
+    }
+}
@@ -1,6 +1,7 @@
 package com.almang.inventory.order.controller;
 
 import com.almang.inventory.global.api.ApiResponse;
+import com.almang.inventory.global.api.CursorResponse;
 import com.almang.inventory.global.api.PageResponse;
 import com.almang.inventory.global.api.SuccessMessage;
 import com.almang.inventory.global.security.principal.CustomUserPrincipal;
@@ -92,6 +93,28 @@ public class OrderController {
         );
     }
 
+    @GetMapping("/scroll")
+    @Operation(summary = "발주 목록 커서 조회", description = "발주 목록을 커서 기반으로 조회합니다. 전체 개수를 세지 않으며, 응답의 nextCursor 로 다음 페이지를 조회합니다.")
+    public ResponseEntity<ApiResponse<CursorResponse<OrderResponse>>> getOrderListByCursor(
+            @AuthenticationPrincipal CustomUserPrincipal userPrincipal,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", required = false) Integer size,
+            @RequestParam(value = "vendorId", required = false) Long vendorId,
+            @RequestParam(value = "orderStatus", required = false) OrderStatus status,
+            @RequestParam(value = "fromDate", required = false) LocalDate fromDate,
+            @RequestParam(value = "endDate", required = false) LocalDate endDate
+    ) {
+        Long userId = userPrincipal.getId();
+        log.info("[OrderController] 발주 목록 커서 조회 요청 - userId: {}, size: {}, vendorId: {}, status: {}, fromDate: {}, endDate: {}",
+                userId, size, vendorId, status, fromDate, endDate);
+        CursorResponse<OrderResponse> response =
+                orderService.getOrderListByCursor(userId, vendorId, cursor, size, status, fromDate, endDate);
+
+        return ResponseEntity.ok(
+                ApiResponse.success(SuccessMessage.GET_ORDER_LIST_SUCCESS.getMessage(), response)
+        );
+    }
+
     @PatchMapping("/{orderId}")
     @Operation(summary = "발주 수정", description = "발주를 수정합니다.")
     public ResponseEntity<ApiResponse<OrderResponse>> updateOrder(
@@ -1,6 +1,7 @@
 package com.almang.inventory.order.domain;
 
 public enum OrderStatus {
+    DRAFT,
     REQUEST,
     IN_PRODUCTION,
     PENDING_SHIPMENT,
@@ -0,0 +1,9 @@
+package com.almang.inventory.order.dto;
+
+// 발주 초안 한 라인 (발주처별로 묶여 하나의 발주가 됨)
+public record DraftOrderLine(
+        Long vendorId,
+        Long productId,
+        int quantity,
+        String note
+) {}
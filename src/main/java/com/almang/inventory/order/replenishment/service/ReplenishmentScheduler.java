@@ -0,0 +1,38 @@
+package com.almang.inventory.order.replenishment.service;
+
+import com.almang.inventory.order.dto.DraftOrderLine;
+import com.almang.inventory.order.dto.response.OrderResponse;
+import com.almang.inventory.order.service.OrderService;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReplenishmentScheduler {
+
+    private final ReplenishmentService replenishmentService;
+    private final OrderService orderService;
+
+    @Scheduled(cron = "${order.replenishment.cron:0 0 6 * * *}", zone = "Asia/Seoul")
+    public void draftReplenishmentOrders() {
+        Map<Long, List<DraftOrderLine>> linesByStore = replenishmentService.planDraftOrderLines();
+        log.info("[ReplenishmentScheduler] 자동 발주 초안 생성 시작 - stores: {}", linesByStore.size());
+
+        int created = 0;
+        for (Map.Entry<Long, List<DraftOrderLine>> entry : linesByStore.entrySet()) {
+            try {
+                // 상점 단위로 트랜잭션을 나눠 한 상점의 실패가 다른 상점의 초안 생성을 막지 않도록 함
+                List<OrderResponse> orders = orderService.createDraftOrders(entry.getKey(), entry.getValue());
+                created += orders.size();
+            } catch (Exception e) {
+                log.error("[ReplenishmentScheduler] 자동 발주 초안 생성 실패 - storeId: {}", entry.getKey(), e);
+            }
+        }
+        log.info("[ReplenishmentScheduler] 자동 발주 초안 생성 완료 - orders: {}", created);
+    }
+}
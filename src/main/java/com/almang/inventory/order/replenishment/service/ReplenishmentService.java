@@ -0,0 +1,111 @@
+package com.almang.inventory.order.replenishment.service;
+
+import com.almang.inventory.inventory.domain.InventoryStatus;
+import com.almang.inventory.inventory.dto.ReorderCandidate;
+import com.almang.inventory.inventory.repository.InventoryRepository;
+import com.almang.inventory.order.dto.DraftOrderLine;
+import com.almang.inventory.retail.dto.ProductSalesSum;
+import com.almang.inventory.retail.repository.RetailRepository;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 재주문점 이하로 내려간 재고를 찾아 상점별 발주 초안 라인을 계산합니다.
+ * 후보는 재고 상태(status) 인덱스로 한 번에 찾고, 판매 속도도 후보 상품만 집계하므로 실행 시간은 전체 품목 수가 아닌 후보 수에 비례합니다.
+ *
+ * <p>제안 수량 = (재주문점 + max(최근 일평균 판매량 x 보충 일수, 재주문점)) - (창고 재고 - 출고 예정 + 입고 예정)
+ * 판매 이력이 없으면 재주문점의 두 배까지 채웁니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReplenishmentService {
+
+    private static final int SALES_QUERY_CHUNK_SIZE = 1000;
+
+    private final InventoryRepository inventoryRepository;
+    private final RetailRepository retailRepository;
+
+    // 판매 속도 산정 기간(일)
+    @Value("${order.replenishment.velocity-days:28}")
+    private int velocityDays;
+
+    // 발주 한 번으로 버틸 목표 일수
+    @Value("${order.replenishment.cover-days:14}")
+    private int coverDays;
+
+    /**
+     * 상점 id 별 발주 초안 라인을 반환합니다. 제안 수량이 0 이하인 후보는 제외합니다.
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, List<DraftOrderLine>> planDraftOrderLines() {
+        List<ReorderCandidate> candidates = inventoryRepository.findReorderCandidates(InventoryStatus.REORDER_REQUIRED);
+        if (candidates.isEmpty()) {
+            log.info("[ReplenishmentService] 자동 발주 대상 없음");
+            return Map.of();
+        }
+
+        Map<Long, BigDecimal> soldQuantities = sumRecentSales(candidates);
+        Map<Long, List<DraftOrderLine>> linesByStore = new LinkedHashMap<>();
+        for (ReorderCandidate candidate : candidates) {
+            BigDecimal sold = soldQuantities.getOrDefault(candidate.productId(), BigDecimal.ZERO);
+            int quantity = suggestQuantity(candidate, sold, velocityDays, coverDays);
+            if (quantity <= 0) {
+                continue;
+            }
+            DraftOrderLine line =
+                    new DraftOrderLine(candidate.vendorId(), candidate.productId(), quantity, note(candidate, sold));
+            linesByStore.computeIfAbsent(candidate.storeId(), storeId -> new ArrayList<>()).add(line);
+        }
+
+        log.info("[ReplenishmentService] 자동 발주 초안 계산 완료 - candidates: {}, stores: {}",
+                candidates.size(), linesByStore.size());
+        return linesByStore;
+    }
+
+    static int suggestQuantity(ReorderCandidate candidate, BigDecimal soldQuantity, int velocityDays, int coverDays) {
+        BigDecimal trigger = candidate.reorderTriggerPoint();
+        BigDecimal dailyVelocity = soldQuantity.divide(BigDecimal.valueOf(velocityDays), 3, RoundingMode.HALF_UP);
+        BigDecimal cycleStock = dailyVelocity.multiply(BigDecimal.valueOf(coverDays)).max(trigger);
+        BigDecimal shortage = trigger.add(cycleStock).subtract(candidate.projectedStock());
+        if (shortage.signum() <= 0) {
+            return 0;
+        }
+        return shortage.setScale(0, RoundingMode.CEILING).intValueExact();
+    }
+
+    private Map<Long, BigDecimal> sumRecentSales(List<ReorderCandidate> candidates) {
+        List<Long> productIds = candidates.stream()
+                .map(ReorderCandidate::productId)
+                .toList();
+        LocalDate since = LocalDate.now().minusDays(velocityDays);
+
+        Map<Long, BigDecimal> soldQuantities = new HashMap<>();
+        for (int from = 0; from < productIds.size(); from += SALES_QUERY_CHUNK_SIZE) {
+            List<Long> chunk = productIds.subList(from, Math.min(from + SALES_QUERY_CHUNK_SIZE, productIds.size()));
+            for (ProductSalesSum sum : retailRepository.sumQuantityByProductIdsSince(chunk, since)) {
+                soldQuantities.put(sum.productId(), sum.quantity());
+            }
+        }
+        return soldQuantities;
+    }
+
+    private String note(ReorderCandidate candidate, BigDecimal soldQuantity) {
+        return String.format("창고 재고 %s / 재주문점 %s, 최근 %d일 판매 %s",
+                candidate.warehouseStock().stripTrailingZeros().toPlainString(),
+                candidate.reorderTriggerPoint().stripTrailingZeros().toPlainString(),
+                velocityDays,
+                soldQuantity.stripTrailingZeros().toPlainString());
+    }
+}
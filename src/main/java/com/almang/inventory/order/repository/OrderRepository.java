@@ -5,7 +5,10 @@ import com.almang.inventory.order.domain.OrderStatus;
 import java.time.LocalDateTime;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface OrderRepository extends JpaRepository<Order, Long> {
 
@@ -28,4 +31,30 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
     Page<Order> findAllByStoreIdAndVendorIdAndStatusAndCreatedAtBetween(
             Long storeId, Long vendorId, OrderStatus status, LocalDateTime start, LocalDateTime end, Pageable pageable
     );
+
+    // 커서 모드: (createdAt, id) 키셋 조건으로 이어서 조회, COUNT 쿼리 없이 Slice 로 반환
+    @Query("""
+        SELECT o
+        FROM Order o
+        WHERE o.store.id = :storeId
+          AND (:vendorId IS NULL OR o.vendor.id = :vendorId)
+          AND (:status IS NULL OR o.status = :status)
+          AND o.createdAt BETWEEN :start AND :end
+          AND (
+                :cursorCreatedAt IS NULL
+             OR o.createdAt > :cursorCreatedAt
+             OR (o.createdAt = :cursorCreatedAt AND o.id > :cursorId)
+          )
+        ORDER BY o.createdAt ASC, o.id ASC
+        """)
+    Slice<Order> findSliceByFilter(
+            @Param("storeId") Long storeId,
+            @Param("vendorId") Long vendorId,
+            @Param("status") OrderStatus status,
+            @Param("start") LocalDateTime start,
+            @Param("end") LocalDateTime end,
+            @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+            @Param("cursorId") Long cursorId,
+            Pageable pageable
+    );
 }
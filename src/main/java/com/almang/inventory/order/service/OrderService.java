@@ -1,15 +1,19 @@
 package com.almang.inventory.order.service;
 
+import com.almang.inventory.global.api.CursorResponse;
 import com.almang.inventory.global.api.PageResponse;
 import com.almang.inventory.global.context.UserContextProvider;
 import com.almang.inventory.global.context.UserContextProvider.UserStoreContext;
 import com.almang.inventory.global.exception.BaseException;
 import com.almang.inventory.global.exception.ErrorCode;
+import com.almang.inventory.global.util.PageCursor;
 import com.almang.inventory.global.util.PaginationUtil;
+import com.almang.inventory.inventory.dto.InventoryDelta;
 import com.almang.inventory.inventory.service.InventoryService;
 import com.almang.inventory.order.domain.Order;
 import com.almang.inventory.order.domain.OrderItem;
 import com.almang.inventory.order.domain.OrderStatus;
+import com.almang.inventory.order.dto.DraftOrderLine;
 import com.almang.inventory.order.dto.request.CreateOrderItemRequest;
 import com.almang.inventory.order.dto.request.CreateOrderRequest;
 import com.almang.inventory.order.dto.request.UpdateOrderItemRequest;
@@ -31,12 +35,17 @@ import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -52,6 +61,8 @@ public class OrderService {
     private final InventoryService inventoryService;
     private final UserContextProvider userContextProvider;
 
+    private static final String DRAFT_ORDER_MESSAGE = "[자동 발주 초안] 재주문점 이하 품목 %d건";
+
     @Transactional
     public OrderResponse createOrder(CreateOrderRequest request, Long userId) {
         UserStoreContext context = userContextProvider.findUserAndStore(userId);
@@ -74,6 +85,51 @@ public class OrderService {
         return OrderResponse.of(saved, items);
     }
 
+    /**
+     * 자동 발주 등으로 만든 라인을 발주처별로 묶어 발주 초안(DRAFT)을 일괄 생성합니다.
+     * 초안도 입고 예정 재고를 올려 두어, 다음 실행에서 같은 품목이 다시 제안되지 않습니다.
+     */
+    @Transactional
+    public List<OrderResponse> createDraftOrders(Long storeId, List<DraftOrderLine> lines) {
+        if (lines.isEmpty()) {
+            return List.of();
+        }
+        log.info("[OrderService] 발주 초안 일괄 생성 요청 - storeId: {}, lines: {}", storeId, lines.size());
+
+        Map<Long, Vendor> vendors = vendorRepository.findAllById(
+                lines.stream().map(DraftOrderLine::vendorId).distinct().toList()
+        ).stream().collect(Collectors.toMap(Vendor::getId, Function.identity()));
+        Map<Long, Product> products = productRepository.findAllById(
+                lines.stream().map(DraftOrderLine::productId).distinct().toList()
+        ).stream().collect(Collectors.toMap(Product::getId, Function.identity()));
+        Map<Long, List<DraftOrderLine>> linesByVendor = lines.stream()
+                .collect(Collectors.groupingBy(DraftOrderLine::vendorId, LinkedHashMap::new, Collectors.toList()));
+
+        List<Order> orders = new ArrayList<>();
+        List<InventoryDelta> deltas = new ArrayList<>();
+        for (Map.Entry<Long, List<DraftOrderLine>> entry : linesByVendor.entrySet()) {
+            Vendor vendor = findLoadedVendorAndValidateStore(vendors, entry.getKey(), storeId);
+            List<OrderItem> items = new ArrayList<>();
+            for (DraftOrderLine line : entry.getValue()) {
+                Product product = findLoadedProductAndValidateStore(products, line.productId(), storeId);
+                CreateOrderItemRequest itemRequest =
+                        new CreateOrderItemRequest(product.getId(), line.quantity(), line.note());
+                items.add(toOrderItemEntity(itemRequest, product));
+                deltas.add(InventoryDelta.orderReserved(product.getId(), BigDecimal.valueOf(line.quantity())));
+            }
+            Order order = toDraftOrderEntity(vendor, items);
+            items.forEach(order::addItem);
+            orders.add(order);
+        }
+        inventoryService.applyBatch(deltas);
+        List<Order> saved = orderRepository.saveAll(orders);
+
+        log.info("[OrderService] 발주 초안 일괄 생성 성공 - storeId: {}, orders: {}", storeId, saved.size());
+        return saved.stream()
+                .map(order -> OrderResponse.of(order, order.getItems()))
+                .toList();
+    }
+
     @Transactional(readOnly = true)
     public OrderResponse getOrder(Long orderId, Long userId) {
         UserStoreContext context = userContextProvider.findUserAndStore(userId);
@@ -104,6 +160,35 @@ public class OrderService {
         return PageResponse.from(mapped);
     }
 
+    @Transactional(readOnly = true)
+    public CursorResponse<OrderResponse> getOrderListByCursor(
+            Long userId, Long vendorId, String cursor, Integer size,
+            OrderStatus status, LocalDate fromDate, LocalDate toDate
+    ) {
+        UserStoreContext context = userContextProvider.findUserAndStore(userId);
+        Store store = context.store();
+
+        log.info("[OrderService] 발주 목록 커서 조회 요청 - userId: {}, storeId: {}", userId, store.getId());
+        PageCursor pageCursor = PageCursor.decode(cursor);
+        LocalDate startDate = fromDate != null ? fromDate : LocalDate.of(1970, 1, 1);
+        LocalDate endDate = toDate != null ? toDate : LocalDate.now();
+
+        Slice<Order> orderSlice = orderRepository.findSliceByFilter(
+                store.getId(), vendorId, status,
+                startDate.atStartOfDay(), endDate.plusDays(1).atStartOfDay().minusNanos(1),
+                pageCursor != null ? pageCursor.sortKeyAsDateTime() : null,
+                pageCursor != null ? pageCursor.id() : null,
+                PaginationUtil.createCursorRequest(size)
+        );
+
+        log.info("[OrderService] 발주 목록 커서 조회 성공 - userId: {}, storeId: {}", userId, store.getId());
+        return CursorResponse.from(
+                orderSlice,
+                order -> OrderResponse.of(order, order.getItems()),
+                order -> PageCursor.of(order.getCreatedAt(), order.getId())
+        );
+    }
+
     @Transactional
     public OrderResponse updateOrder(Long orderId, UpdateOrderRequest request, Long userId) {
         UserStoreContext context = userContextProvider.findUserAndStore(userId);
@@ -171,9 +256,11 @@ public class OrderService {
         order.cancel();
 
         // 발주 취소로 인한 입고 예정 재고 차감
-        for (OrderItem item : order.getItems()) {
-            inventoryService.decreaseIncomingStockFromOrder(item.getProduct(), BigDecimal.valueOf(item.getQuantity()));
-        }
+        List<InventoryDelta> deltas = order.getItems().stream()
+                .map(item -> InventoryDelta.orderReservationReleased(
+                        item.getProduct().getId(), BigDecimal.valueOf(item.getQuantity())))
+                .toList();
+        inventoryService.applyBatch(deltas);
 
         log.info("[OrderService] 발주 삭제 성공 - userId: {}, storeId: {}", userId, store.getId());
         return new DeleteOrderResponse(true);
@@ -202,12 +289,14 @@ public class OrderService {
 
     private List<OrderItem> createOrderItems(List<CreateOrderItemRequest> requests, Store store) {
         List<OrderItem> items = new ArrayList<>();
+        List<InventoryDelta> deltas = new ArrayList<>();
 
         for (CreateOrderItemRequest request : requests) {
             Product product = findProductByIdAndValidateAccess(request.productId(), store);
             items.add(toOrderItemEntity(request, product));
-            inventoryService.increaseIncomingStockFromOrder(product, BigDecimal.valueOf(request.quantity()));
+            deltas.add(InventoryDelta.orderReserved(product.getId(), BigDecimal.valueOf(request.quantity())));
         }
+        inventoryService.applyBatch(deltas);
         return items;
     }
 
@@ -237,6 +326,18 @@ public class OrderService {
                 .build();
     }
 
+    private Order toDraftOrderEntity(Vendor vendor, List<OrderItem> items) {
+        return Order.builder()
+                .store(vendor.getStore())
+                .vendor(vendor)
+                .status(OrderStatus.DRAFT)
+                .orderMessage(String.format(DRAFT_ORDER_MESSAGE, items.size()))
+                .activated(true)
+                .totalPrice(calculateTotalPrice(items))
+                .deletedAt(null)
+                .build();
+    }
+
     private int calculateTotalPrice(List<OrderItem> orderItems) {
         return orderItems.stream()
                 .mapToInt(OrderItem::getAmount)
@@ -260,6 +361,28 @@ public class OrderService {
         return vendor;
     }
 
+    private Vendor findLoadedVendorAndValidateStore(Map<Long, Vendor> vendors, Long vendorId, Long storeId) {
+        Vendor vendor = vendors.get(vendorId);
+        if (vendor == null) {
+            throw new BaseException(ErrorCode.VENDOR_NOT_FOUND);
+        }
+        if (!vendor.getStore().getId().equals(storeId)) {
+            throw new BaseException(ErrorCode.VENDOR_ACCESS_DENIED);
+        }
+        return vendor;
+    }
+
+    private Product findLoadedProductAndValidateStore(Map<Long, Product> products, Long productId, Long storeId) {
+        Product product = products.get(productId);
+        if (product == null) {
+            throw new BaseException(ErrorCode.PRODUCT_NOT_FOUND);
+        }
+        if (!product.getStore().getId().equals(storeId)) {
+            throw new BaseException(ErrorCode.PRODUCT_ACCESS_DENIED);
+        }
+        return product;
+    }
+
     private Product findProductByIdAndValidateAccess(Long productId, Store store) {
         Product product = productRepository.findById(productId)
                 .orElseThrow(() -> new BaseException(ErrorCode.PRODUCT_NOT_FOUND));
@@ -1,13 +1,14 @@
 package com.almang.inventory.order.template.service;
 
+import com.almang.inventory.global.context.UserContextProvider;
+import com.almang.inventory.global.context.UserContextProvider.UserStoreContext;
 import com.almang.inventory.global.exception.BaseException;
 import com.almang.inventory.global.exception.ErrorCode;
 import com.almang.inventory.order.template.repository.OrderTemplateRepository;
 import com.almang.inventory.order.template.domain.OrderTemplate;
 import com.almang.inventory.order.template.dto.request.UpdateOrderTemplateRequest;
 import com.almang.inventory.order.template.dto.response.OrderTemplateResponse;
-import com.almang.inventory.user.domain.User;
-import com.almang.inventory.user.repository.UserRepository;
+import com.almang.inventory.store.domain.Store;
 import com.almang.inventory.vendor.domain.Vendor;
 import com.almang.inventory.vendor.repository.VendorRepository;
 import lombok.RequiredArgsConstructor;
@@ -21,15 +22,16 @@ import org.springframework.transaction.annotation.Transactional;
 public class OrderTemplateService {
 
     private final OrderTemplateRepository orderTemplateRepository;
-    private final UserRepository userRepository;
     private final VendorRepository vendorRepository;
+    private final UserContextProvider userContextProvider;
 
     @Transactional
     public OrderTemplateResponse updateOrderTemplate(
             Long orderTemplateId, UpdateOrderTemplateRequest request, Long userId
     ) {
-        User user = findUserById(userId);
-        OrderTemplate orderTemplate = findOrderTemplateByIdAndValidateAccess(orderTemplateId, user);
+        UserStoreContext context = userContextProvider.findUserAndStore(userId);
+        Store store = context.store();
+        OrderTemplate orderTemplate = findOrderTemplateByIdAndValidateAccess(orderTemplateId, store);
 
         log.info("[OrderTemplateService] 발주처 양식 수정 요청 - userId: {}, orderTemplateId: {}", userId, orderTemplateId);
         orderTemplate.updateTemplate(request.title(), request.body(), request.activated());
@@ -40,34 +42,30 @@ public class OrderTemplateService {
 
     @Transactional(readOnly = true)
     public OrderTemplateResponse getOrderTemplateDetail(Long orderTemplateId, Long userId) {
-        User user = findUserById(userId);
-        OrderTemplate orderTemplate = findOrderTemplateByIdAndValidateAccess(orderTemplateId, user);
+        UserStoreContext context = userContextProvider.findUserAndStore(userId);
+        Store store = context.store();
+        OrderTemplate orderTemplate = findOrderTemplateByIdAndValidateAccess(orderTemplateId, store);
 
         log.info("[OrderTemplateService] 발주처 양식 상세 조회 성공 - userId: {}, orderTemplateId: {}", userId, orderTemplateId);
         return OrderTemplateResponse.from(orderTemplate);
     }
 
-    private User findUserById(Long id) {
-        return userRepository.findById(id)
-                .orElseThrow(() -> new BaseException(ErrorCode.USER_NOT_FOUND));
-    }
-
-    private Vendor findVendorByIdAndValidateAccess(Long vendorId, User user) {
+    private Vendor findVendorByIdAndValidateAccess(Long vendorId, Store store) {
         Vendor vendor = vendorRepository.findById(vendorId)
                 .orElseThrow(() -> new BaseException(ErrorCode.VENDOR_NOT_FOUND));
 
-        if (!vendor.getStore().getId().equals(user.getStore().getId())) {
+        if (!vendor.getStore().getId().equals(store.getId())) {
             throw new BaseException(ErrorCode.VENDOR_ACCESS_DENIED);
         }
 
         return vendor;
     }
 
-    private OrderTemplate findOrderTemplateByIdAndValidateAccess(Long orderTemplateId, User user) {
+    private OrderTemplate findOrderTemplateByIdAndValidateAccess(Long orderTemplateId, Store store) {
         OrderTemplate orderTemplate =  orderTemplateRepository.findById(orderTemplateId)
                 .orElseThrow(() -> new BaseException(ErrorCode.ORDER_TEMPLATE_NOT_FOUND));
 
-        if (!orderTemplate.getVendor().getStore().getId().equals(user.getStore().getId())) {
+        if (!orderTemplate.getVendor().getStore().getId().equals(store.getId())) {
             throw new BaseException(ErrorCode.ORDER_TEMPLATE_ACCESS_DENIED);
         }
 
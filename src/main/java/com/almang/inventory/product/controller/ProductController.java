@@ -7,12 +7,14 @@ import com.almang.inventory.global.security.principal.CustomUserPrincipal;
 import com.almang.inventory.product.dto.request.CreateProductRequest;
 import com.almang.inventory.product.dto.request.UpdateProductRequest;
 import com.almang.inventory.product.dto.response.DeleteProductResponse;
+import com.almang.inventory.product.dto.response.ProductAutocompleteResponse;
 import com.almang.inventory.product.dto.response.ProductResponse;
 import com.almang.inventory.product.service.ProductService;
 import com.almang.inventory.vendor.dto.response.VendorResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
@@ -67,6 +69,22 @@ public class ProductController {
         );
     }
 
+    @GetMapping("/autocomplete")
+    @Operation(summary = "품목 자동완성", description = "입력 중인 품목명(초성 포함) 또는 품목 코드 접두어로 품목을 최대 limit 개 조회합니다.")
+    public ResponseEntity<ApiResponse<List<ProductAutocompleteResponse>>> autocompleteProducts(
+            @AuthenticationPrincipal CustomUserPrincipal userPrincipal,
+            @RequestParam(value = "q") String keyword,
+            @RequestParam(value = "limit", required = false) Integer limit
+    ) {
+        Long userId = userPrincipal.getId();
+        log.debug("[ProductController] 품목 자동완성 요청 - userId: {}, q: {}", userId, keyword);
+        List<ProductAutocompleteResponse> response = productService.autocompleteProducts(userId, keyword, limit);
+
+        return ResponseEntity.ok(
+                ApiResponse.success(SuccessMessage.AUTOCOMPLETE_PRODUCT_SUCCESS.getMessage(), response)
+        );
+    }
+
     @GetMapping("/{productId}")
     @Operation(summary = "품목 상세 조회", description = "품목을 상세 조회합니다.")
     public ResponseEntity<ApiResponse<ProductResponse>> getProductDetail(
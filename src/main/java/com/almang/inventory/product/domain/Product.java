@@ -1,6 +1,7 @@
 package com.almang.inventory.product.domain;
 
 import com.almang.inventory.global.entity.BaseTimeEntity;
+import com.almang.inventory.product.service.ProductSearchIndexListener;
 import com.almang.inventory.store.domain.Store;
 import com.almang.inventory.vendor.domain.Vendor;
 import jakarta.persistence.*;
@@ -11,6 +12,7 @@ import org.hibernate.annotations.SQLRestriction;
 
 @Entity
 @Table(name = "products")
+@EntityListeners(ProductSearchIndexListener.class)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
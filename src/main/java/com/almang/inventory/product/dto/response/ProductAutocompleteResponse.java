@@ -0,0 +1,13 @@
+package com.almang.inventory.product.dto.response;
+
+import com.almang.inventory.product.dto.search.ProductSearchEntry;
+
+public record ProductAutocompleteResponse(
+        Long productId,
+        String name,
+        String code
+) {
+    public static ProductAutocompleteResponse from(ProductSearchEntry entry) {
+        return new ProductAutocompleteResponse(entry.productId(), entry.name(), entry.code());
+    }
+}
@@ -0,0 +1,8 @@
+package com.almang.inventory.product.dto.search;
+
+public record ProductSearchEntry(
+        Long productId,
+        Long storeId,
+        String name,
+        String code
+) {}
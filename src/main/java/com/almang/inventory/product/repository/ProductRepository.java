@@ -1,10 +1,14 @@
 package com.almang.inventory.product.repository;
 
 import com.almang.inventory.product.domain.Product;
+import com.almang.inventory.product.dto.search.ProductSearchEntry;
+import java.util.Collection;
 import java.util.List;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.Optional;
 
@@ -16,14 +20,15 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
 
     Page<Product> findAllByStoreIdAndActivatedFalse(Long storeId, Pageable pageable);
 
-    Page<Product> findAllByStoreIdAndNameContainingIgnoreCase(Long storeId, String name, Pageable pageable);
+    // 이름/코드 검색은 ProductSearchIndex 가 찾은 상품 id 로 조회 (LIKE '%q%' 전체 스캔 대신 PK 조회)
+    Page<Product> findAllByStoreIdAndIdIn(Long storeId, Collection<Long> ids, Pageable pageable);
 
-    Page<Product> findAllByStoreIdAndActivatedTrueAndNameContainingIgnoreCase(
-            Long storeId, String name, Pageable pageable
+    Page<Product> findAllByStoreIdAndActivatedTrueAndIdIn(
+            Long storeId, Collection<Long> ids, Pageable pageable
     );
 
-    Page<Product> findAllByStoreIdAndActivatedFalseAndNameContainingIgnoreCase(
-            Long storeId, String name, Pageable pageable
+    Page<Product> findAllByStoreIdAndActivatedFalseAndIdIn(
+            Long storeId, Collection<Long> ids, Pageable pageable
     );
 
     boolean existsByVendorId(Long vendorId);
@@ -32,4 +37,28 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
 
     // 상품 코드로 상품 찾기 (카페24 주문 처리용)
     Optional<Product> findByCode(String code);
+
+    // 상품 코드 목록으로 일괄 조회 (카페24 주문 일괄 반영용)
+    List<Product> findAllByCodeIn(Collection<String> codes);
+
+    // 상점 범위에서 상품 코드 목록으로 일괄 조회 (소매 엑셀 업로드용)
+    List<Product> findAllByStoreIdAndCodeIn(Long storeId, List<String> codes);
+
+    // 검색 색인 구성용 (엔티티 대신 색인에 필요한 컬럼만 조회)
+    @Query("""
+        SELECT new com.almang.inventory.product.dto.search.ProductSearchEntry(
+            product.id, product.store.id, product.name, product.code
+        )
+        FROM Product product
+        """)
+    List<ProductSearchEntry> findAllSearchEntries();
+
+    @Query("""
+        SELECT new com.almang.inventory.product.dto.search.ProductSearchEntry(
+            product.id, product.store.id, product.name, product.code
+        )
+        FROM Product product
+        WHERE product.store.id = :storeId
+        """)
+    List<ProductSearchEntry> findSearchEntriesByStoreId(@Param("storeId") Long storeId);
 }
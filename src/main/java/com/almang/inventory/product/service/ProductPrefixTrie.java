@@ -0,0 +1,231 @@
+package com.almang.inventory.product.service;
+
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 상품 자동완성용 접두어 트라이입니다. 메모리를 줄이기 위해 자식이 하나뿐인 경로는 간선 하나로 합친
+ * 래딕스 트리로 두고, 자식은 HashMap 대신 첫 글자 기준 정렬 배열로 보관합니다.
+ * 조회는 접두어 노드에서 사전순 깊이 우선으로 내려가며 limit 개를 채우면 바로 멈춥니다.
+ */
+final class ProductPrefixTrie {
+
+    private static final char[] EMPTY_LABEL = new char[0];
+    private static final Node[] NO_CHILDREN = new Node[0];
+    private static final long[] NO_IDS = new long[0];
+
+    private final Node root = new Node(EMPTY_LABEL);
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    void insert(String key, long productId) {
+        lock.writeLock().lock();
+        try {
+            Node node = root;
+            int position = 0;
+            while (position < key.length()) {
+                int index = findChild(node, key.charAt(position));
+                if (index < 0) {
+                    Node leaf = new Node(key.substring(position).toCharArray());
+                    leaf.ids = new long[]{productId};
+                    node.children = insertAt(node.children, -(index + 1), leaf);
+                    return;
+                }
+                Node child = node.children[index];
+                int common = commonPrefixLength(child.label, key, position);
+                if (common < child.label.length) {
+                    node.children[index] = split(child, common);
+                }
+                node = node.children[index];
+                position += common;
+            }
+            node.ids = addId(node.ids, productId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void remove(String key, long productId) {
+        lock.writeLock().lock();
+        try {
+            remove(root, key, 0, productId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    Set<Long> collect(String prefix, int limit) {
+        Set<Long> result = new LinkedHashSet<>();
+        if (limit <= 0) {
+            return result;
+        }
+        lock.readLock().lock();
+        try {
+            Node node = findPrefixNode(prefix);
+            if (node != null) {
+                collect(node, result, limit);
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 접두어가 간선 중간에서 끝나도 그 간선 아래 전체가 후보
+    private Node findPrefixNode(String prefix) {
+        Node node = root;
+        int position = 0;
+        while (position < prefix.length()) {
+            int index = findChild(node, prefix.charAt(position));
+            if (index < 0) {
+                return null;
+            }
+            Node child = node.children[index];
+            int common = commonPrefixLength(child.label, prefix, position);
+            if (position + common == prefix.length()) {
+                return child;
+            }
+            if (common < child.label.length) {
+                return null;
+            }
+            node = child;
+            position += common;
+        }
+        return node;
+    }
+
+    private void collect(Node node, Set<Long> result, int limit) {
+        for (long id : node.ids) {
+            result.add(id);
+            if (result.size() >= limit) {
+                return;
+            }
+        }
+        for (Node child : node.children) {
+            collect(child, result, limit);
+            if (result.size() >= limit) {
+                return;
+            }
+        }
+    }
+
+    // 반환값: 이 노드가 비어 부모에서 제거해야 하면 true
+    private boolean remove(Node node, String key, int position, long productId) {
+        if (position == key.length()) {
+            node.ids = removeId(node.ids, productId);
+        } else {
+            int index = findChild(node, key.charAt(position));
+            if (index < 0) {
+                return false;
+            }
+            Node child = node.children[index];
+            int common = commonPrefixLength(child.label, key, position);
+            if (common < child.label.length) {
+                return false;
+            }
+            if (remove(child, key, position + common, productId)) {
+                node.children = removeAt(node.children, index);
+            } else if (child.ids.length == 0 && child.children.length == 1) {
+                node.children[index] = merge(child, child.children[0]);
+            }
+        }
+        return node != root && node.ids.length == 0 && node.children.length == 0;
+    }
+
+    private static Node split(Node child, int at) {
+        Node parent = new Node(Arrays.copyOf(child.label, at));
+        child.label = Arrays.copyOfRange(child.label, at, child.label.length);
+        parent.children = new Node[]{child};
+        return parent;
+    }
+
+    private static Node merge(Node parent, Node child) {
+        char[] label = Arrays.copyOf(parent.label, parent.label.length + child.label.length);
+        System.arraycopy(child.label, 0, label, parent.label.length, child.label.length);
+        child.label = label;
+        return child;
+    }
+
+    private static int findChild(Node node, char first) {
+        Node[] children = node.children;
+        int low = 0;
+        int high = children.length - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            char label = children[mid].label[0];
+            if (label < first) {
+                low = mid + 1;
+            } else if (label > first) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -(low + 1);
+    }
+
+    private static int commonPrefixLength(char[] label, String key, int offset) {
+        int max = Math.min(label.length, key.length() - offset);
+        int length = 0;
+        while (length < max && label[length] == key.charAt(offset + length)) {
+            length++;
+        }
+        return length;
+    }
+
+    private static Node[] insertAt(Node[] children, int index, Node node) {
+        Node[] expanded = new Node[children.length + 1];
+        System.arraycopy(children, 0, expanded, 0, index);
+        expanded[index] = node;
+        System.arraycopy(children, index, expanded, index + 1, children.length - index);
+        return expanded;
+    }
+
+    private static Node[] removeAt(Node[] children, int index) {
+        if (children.length == 1) {
+            return NO_CHILDREN;
+        }
+        Node[] shrunk = new Node[children.length - 1];
+        System.arraycopy(children, 0, shrunk, 0, index);
+        System.arraycopy(children, index + 1, shrunk, index, children.length - index - 1);
+        return shrunk;
+    }
+
+    private static long[] addId(long[] ids, long id) {
+        for (long existing : ids) {
+            if (existing == id) {
+                return ids;
+            }
+        }
+        long[] expanded = Arrays.copyOf(ids, ids.length + 1);
+        expanded[ids.length] = id;
+        return expanded;
+    }
+
+    private static long[] removeId(long[] ids, long id) {
+        for (int i = 0; i < ids.length; i++) {
+            if (ids[i] == id) {
+                if (ids.length == 1) {
+                    return NO_IDS;
+                }
+                long[] shrunk = new long[ids.length - 1];
+                System.arraycopy(ids, 0, shrunk, 0, i);
+                System.arraycopy(ids, i + 1, shrunk, i, ids.length - i - 1);
+                return shrunk;
+            }
+        }
+        return ids;
+    }
+
+    private static final class Node {
+
+        private char[] label;
+        private Node[] children = NO_CHILDREN;
+        private long[] ids = NO_IDS;
+
+        private Node(char[] label) {
+            this.label = label;
+        }
+    }
+}
@@ -0,0 +1,392 @@
+package com.almang.inventory.product.service;
+
+import com.almang.inventory.global.util.AfterCommitCollector;
+import com.almang.inventory.global.util.HangulUtil;
+import com.almang.inventory.product.domain.Product;
+import com.almang.inventory.product.dto.search.ProductSearchEntry;
+import com.almang.inventory.product.repository.ProductRepository;
+import java.nio.charset.StandardCharsets;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 상점별 상품명/상품 코드 n-gram(1~3글자) 역색인입니다.
+ * {@code LIKE '%q%'} 는 인덱스를 타지 못해 검색할 때마다 상점의 상품 전체를 스캔하므로,
+ * 검색어가 포함된 상품 id 를 메모리에서 찾아 PK 조회로 바꿉니다.
+ *
+ * <p>한글은 NFC 로 정규화한 뒤 코드 포인트 단위로 n-gram 을 만들어, 자모가 분리되어 입력된 문자열도 같은 음절로 색인됩니다.
+ * 상품 변경은 {@link ProductSearchIndexListener} 가 트랜잭션별로 모아 두었다가 커밋된 뒤에만 색인에 반영하고
+ * 다른 노드에 해당 상점 색인 무효화를 전파합니다. (롤백된 변경은 버리며, 커밋 전 변경이 다른 요청의 검색에 보이지 않음)
+ * 커밋 전 변경이 있는 트랜잭션 안에서 상점 색인을 새로 만들면 그 트랜잭션에서만 쓰고 공유 색인에는 넣지 않습니다.
+ * 기동 시와 주기적으로 전체 색인을 다시 만들어 누락분을 채웁니다.
+ * 색인을 만드는 동안 반영된 변경이 DB 조회 이전 값으로 덮이지 않도록, 상점마다 변경 세대를 두고 조회 전과 세대가 같을 때만 교체합니다.
+ *
+ * <p>자동완성과 초성 검색(예: "ㅅㅍ" → 샴푸)은 상점별 {@link ProductPrefixTrie} 로 처리합니다.
+ * 상품명의 각 단어 시작 위치부터의 문자열을 키 입력 단위 자모와 초성으로 풀어 쓴 값, 그리고 상품 코드를 키로 넣습니다.
+ */
+@Slf4j
+@Component
+public class ProductSearchIndex implements MessageListener {
+
+    public static final String INVALIDATION_CHANNEL = "product-search:invalidate";
+
+    private static final int MAX_GRAM = 3;
+    private static final String MESSAGE_SEPARATOR = ":";
+
+    private final ProductRepository productRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final boolean pubSubEnabled;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Map<Long, StoreIndex> stores = new ConcurrentHashMap<>();
+    // 상점별 변경 세대 (변경 반영, 원격 무효화마다 증가하며 stores 의 해당 키 잠금 안에서만 바꿈)
+    private final Map<Long, Long> generations = new ConcurrentHashMap<>();
+    private final AfterCommitCollector<Long, Change> pendingChanges = new AfterCommitCollector<>(this::applyCommitted);
+
+    public ProductSearchIndex(
+            ProductRepository productRepository,
+            RedisTemplate<String, String> redisTemplate,
+            @Value("${redis.pubsub.enabled:true}") boolean pubSubEnabled
+    ) {
+        this.productRepository = productRepository;
+        this.redisTemplate = redisTemplate;
+        this.pubSubEnabled = pubSubEnabled;
+    }
+
+    /**
+     * 상품명 또는 상품 코드에 검색어가 포함된 상품 id 를 반환합니다. (대소문자 구분 없음)
+     */
+    public Set<Long> search(Long storeId, String keyword) {
+        String normalized = normalize(keyword);
+        if (normalized.isEmpty()) {
+            return Set.of();
+        }
+        StoreIndex index = loadedIndex(storeId);
+        if (HangulUtil.isChoseongOnly(normalized)) {
+            return index.complete(choseongKey(normalized), Integer.MAX_VALUE);
+        }
+        return index.search(normalized);
+    }
+
+    /**
+     * 입력 중인 접두어로 시작하는 상품을 최대 limit 개 반환합니다.
+     * 초성만 입력하거나("ㅅㅍ") 마지막 음절을 입력하는 중이어도("샴ㅍ") 찾을 수 있습니다.
+     */
+    public List<ProductSearchEntry> autocomplete(Long storeId, String prefix, int limit) {
+        String normalized = normalize(prefix);
+        if (normalized.isEmpty()) {
+            return List.of();
+        }
+        String key = HangulUtil.isChoseongOnly(normalized)
+                ? choseongKey(normalized)
+                : HangulUtil.toKeystrokes(normalized);
+        StoreIndex index = loadedIndex(storeId);
+
+        List<ProductSearchEntry> entries = new ArrayList<>();
+        for (Long productId : index.complete(key, limit)) {
+            Document document = index.documents.get(productId);
+            if (document != null) {
+                entries.add(new ProductSearchEntry(
+                        productId, storeId, document.displayName(), document.displayCode()
+                ));
+            }
+        }
+        return entries;
+    }
+
+    void index(Product product) {
+        Change change = new Change(product.getId(), product.getStore().getId(), product.getName(), product.getCode(), false);
+        pendingChanges.add(change.productId(), change);
+    }
+
+    void remove(Product product) {
+        pendingChanges.add(product.getId(), new Change(product.getId(), product.getStore().getId(), null, null, true));
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.lastIndexOf(MESSAGE_SEPARATOR);
+        try {
+            // 자신이 발행한 메시지는 이미 반영했으므로 건너뜀
+            if (separator < 0 || nodeId.equals(body.substring(0, separator))) {
+                return;
+            }
+            Long storeId = Long.valueOf(body.substring(separator + 1));
+            stores.compute(storeId, (id, index) -> {
+                nextGeneration(id);
+                return null;
+            });
+            log.debug("[ProductSearchIndex] 원격 무효화 수신 - storeId: {}", storeId);
+        } catch (NumberFormatException e) {
+            log.warn("[ProductSearchIndex] 잘못된 무효화 메시지 - body: {}", body);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        rebuild();
+    }
+
+    // 다른 노드의 변경 전파가 유실될 수 있으므로 주기적으로 전체 색인을 다시 만듦
+    @Scheduled(
+            fixedDelayString = "${product.search-index.resync-interval-ms:600000}",
+            initialDelayString = "${product.search-index.resync-interval-ms:600000}"
+    )
+    public void rebuild() {
+        try {
+            Map<Long, Long> startGenerations = new HashMap<>(generations);
+            Map<Long, StoreIndex> rebuilt = new HashMap<>();
+            List<ProductSearchEntry> entries = productRepository.findAllSearchEntries();
+            for (ProductSearchEntry entry : entries) {
+                rebuilt.computeIfAbsent(entry.storeId(), storeId -> new StoreIndex())
+                        .put(entry.productId(), entry.name(), entry.code());
+            }
+            Set<Long> storeIds = new HashSet<>(stores.keySet());
+            storeIds.addAll(rebuilt.keySet());
+            for (Long storeId : storeIds) {
+                swapIfUnchanged(storeId, startGenerations.getOrDefault(storeId, 0L), rebuilt.get(storeId));
+            }
+            log.info("[ProductSearchIndex] 상품 검색 색인 재구성 성공 - stores: {}, products: {}",
+                    rebuilt.size(), entries.size());
+        } catch (DataAccessException e) {
+            // 색인이 없는 상점은 검색 시 상점 단위로 다시 만들어짐
+            log.warn("[ProductSearchIndex] 상품 검색 색인 재구성 실패", e);
+        }
+    }
+
+    int indexedStoreCount() {
+        return stores.size();
+    }
+
+    private StoreIndex loadedIndex(Long storeId) {
+        StoreIndex index = stores.get(storeId);
+        if (index != null) {
+            return index;
+        }
+        long startGeneration = generation(storeId);
+        StoreIndex loaded = new StoreIndex();
+        for (ProductSearchEntry entry : productRepository.findSearchEntriesByStoreId(storeId)) {
+            loaded.put(entry.productId(), entry.name(), entry.code());
+        }
+        // 커밋 전 변경이 담긴 조회 결과이므로 이 트랜잭션에서만 사용
+        if (hasPendingChange(storeId)) {
+            return loaded;
+        }
+        StoreIndex current = stores.compute(storeId, (id, existing) ->
+                existing == null && generation(id) == startGeneration ? loaded : existing);
+        // 조회 도중 변경이 반영되었으면 이번 검색에만 쓰고 다음 검색 때 다시 만듦
+        return current != null ? current : loaded;
+    }
+
+    // 조회를 시작한 뒤 변경이 반영되지 않았을 때만 새로 만든 색인으로 교체 (index 가 null 이면 상점 색인 제거)
+    private void swapIfUnchanged(Long storeId, long startGeneration, StoreIndex index) {
+        stores.compute(storeId, (id, current) -> generation(id) == startGeneration ? index : current);
+    }
+
+    private long generation(Long storeId) {
+        return generations.getOrDefault(storeId, 0L);
+    }
+
+    private void nextGeneration(Long storeId) {
+        generations.merge(storeId, 1L, Long::sum);
+    }
+
+    private boolean hasPendingChange(Long storeId) {
+        return pendingChanges.pendingValues().stream().anyMatch(change -> change.storeId().equals(storeId));
+    }
+
+    // 아직 색인이 없는 상점은 다음 검색 때 DB 에서 만들어지므로 세대만 올림
+    private void applyLocal(Change change) {
+        stores.compute(change.storeId(), (id, index) -> {
+            nextGeneration(id);
+            if (index == null) {
+                return null;
+            }
+            if (change.deleted()) {
+                index.remove(change.productId());
+            } else {
+                index.put(change.productId(), change.name(), change.code());
+            }
+            return index;
+        });
+    }
+
+    // 커밋된 변경만 색인에 반영하고 전파함 (롤백된 변경은 색인에 들어간 적이 없음)
+    private void applyCommitted(List<Change> changes) {
+        Set<Long> storeIds = new HashSet<>();
+        for (Change change : changes) {
+            storeIds.add(change.storeId());
+            applyLocal(change);
+        }
+        storeIds.forEach(this::publish);
+    }
+
+    private void publish(Long storeId) {
+        if (!pubSubEnabled) {
+            return;
+        }
+        try {
+            redisTemplate.convertAndSend(INVALIDATION_CHANNEL, nodeId + MESSAGE_SEPARATOR + storeId);
+        } catch (DataAccessException e) {
+            // 전파받지 못한 노드의 상점 색인은 resync-interval 마다 도는 전체 재구성에서 맞춰짐
+            log.warn("[ProductSearchIndex] 색인 무효화 전파 실패 - storeId: {}", storeId, e);
+        }
+    }
+
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return Normalizer.normalize(text.strip(), Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+    }
+
+    // 코드 포인트 단위로 잘라 서로게이트 쌍이 n-gram 경계에서 깨지지 않도록 함
+    static Set<String> grams(String text, int minLength, int maxLength) {
+        int[] codePoints = text.codePoints().toArray();
+        Set<String> grams = new HashSet<>();
+        for (int start = 0; start < codePoints.length; start++) {
+            for (int length = minLength; length <= maxLength && start + length <= codePoints.length; length++) {
+                grams.add(new String(codePoints, start, length));
+            }
+        }
+        return grams;
+    }
+
+    private record Change(Long productId, Long storeId, String name, String code, boolean deleted) {}
+
+    /*
+     * 상품명은 단어마다 그 위치부터 끝까지를 키로 삼아 중간 단어로도 자동완성되게 함
+     * (예: "고체 치약" → "ㄱㅗㅊㅔ ㅊㅣㅇㅑㄱ", "ㄱㅊㅊㅇ", "ㅊㅣㅇㅑㄱ", "ㅊㅇ", 상품 코드)
+     */
+    static Set<String> autocompleteKeys(String name, String code) {
+        Set<String> keys = new HashSet<>();
+        for (int start = 0; start < name.length(); start++) {
+            if (Character.isWhitespace(name.charAt(start))
+                    || (start > 0 && !Character.isWhitespace(name.charAt(start - 1)))) {
+                continue;
+            }
+            String suffix = name.substring(start);
+            keys.add(HangulUtil.toKeystrokes(suffix));
+            keys.add(choseongKey(HangulUtil.toChoseong(suffix)));
+        }
+        if (!code.isEmpty()) {
+            keys.add(HangulUtil.toKeystrokes(code));
+        }
+        return keys;
+    }
+
+    // 초성은 띄어쓰기 없이 입력하는 경우가 대부분이므로 공백을 빼고 비교
+    private static String choseongKey(String text) {
+        StringBuilder builder = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char ch = text.charAt(i);
+            if (!Character.isWhitespace(ch)) {
+                builder.append(ch);
+            }
+        }
+        return builder.toString();
+    }
+
+    private record Document(String name, String code, String displayName, String displayCode) {
+
+        boolean contains(String keyword) {
+            return name.contains(keyword) || code.contains(keyword);
+        }
+
+        Set<String> grams() {
+            Set<String> grams = ProductSearchIndex.grams(name, 1, MAX_GRAM);
+            grams.addAll(ProductSearchIndex.grams(code, 1, MAX_GRAM));
+            return grams;
+        }
+    }
+
+    private static final class StoreIndex {
+
+        private final Map<String, Set<Long>> postings = new ConcurrentHashMap<>();
+        private final Map<Long, Document> documents = new ConcurrentHashMap<>();
+        private final ProductPrefixTrie prefixes = new ProductPrefixTrie();
+
+        synchronized void put(Long productId, String name, String code) {
+            remove(productId);
+            Document document = new Document(normalize(name), normalize(code), name, code);
+            documents.put(productId, document);
+            for (String gram : document.grams()) {
+                postings.computeIfAbsent(gram, key -> ConcurrentHashMap.newKeySet()).add(productId);
+            }
+            for (String key : autocompleteKeys(document.name(), document.code())) {
+                prefixes.insert(key, productId);
+            }
+        }
+
+        synchronized void remove(Long productId) {
+            Document previous = documents.remove(productId);
+            if (previous == null) {
+                return;
+            }
+            for (String gram : previous.grams()) {
+                Set<Long> ids = postings.get(gram);
+                if (ids != null) {
+                    ids.remove(productId);
+                    if (ids.isEmpty()) {
+                        postings.remove(gram);
+                    }
+                }
+            }
+            for (String key : autocompleteKeys(previous.name(), previous.code())) {
+                prefixes.remove(key, productId);
+            }
+        }
+
+        Set<Long> complete(String prefix, int limit) {
+            return prefixes.collect(prefix, limit);
+        }
+
+        /*
+         * 검색어가 MAX_GRAM 이하이면 해당 n-gram 의 posting 이 곧 후보이고,
+         * 더 길면 검색어의 n-gram 중 posting 이 가장 작은 것을 후보로 삼아 원문 포함 여부로 걸러냄
+         */
+        Set<Long> search(String keyword) {
+            int length = keyword.codePointCount(0, keyword.length());
+            Set<Long> candidates = null;
+            for (String gram : grams(keyword, Math.min(length, MAX_GRAM), Math.min(length, MAX_GRAM))) {
+                Set<Long> ids = postings.get(gram);
+                if (ids == null) {
+                    return Set.of();
+                }
+                if (candidates == null || ids.size() < candidates.size()) {
+                    candidates = ids;
+                }
+            }
+            if (candidates == null) {
+                return Set.of();
+            }
+
+            Set<Long> matched = new HashSet<>();
+            for (Long productId : candidates) {
+                Document document = documents.get(productId);
+                if (document != null && document.contains(keyword)) {
+                    matched.add(productId);
+                }
+            }
+            return matched;
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.almang.inventory.product.service;
+
+import com.almang.inventory.product.domain.Product;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+
+/**
+ * 상품 생성/수정/삭제를 {@link ProductSearchIndex} 에 반영하는 JPA 엔티티 리스너입니다.
+ * 서비스뿐 아니라 리포지토리로 직접 저장하는 경로까지 모두 잡기 위해 엔티티 이벤트를 사용합니다.
+ */
+@Component
+public class ProductSearchIndexListener {
+
+    private final ProductSearchIndex productSearchIndex;
+
+    // EntityManagerFactory 생성 중에 리스너가 만들어지므로, 리포지토리에 의존하는 색인은 지연 주입
+    public ProductSearchIndexListener(@Lazy ProductSearchIndex productSearchIndex) {
+        this.productSearchIndex = productSearchIndex;
+    }
+
+    @PostPersist
+    @PostUpdate
+    public void onSave(Product product) {
+        // 소프트 삭제는 deletedAt 변경(UPDATE)으로 들어옴
+        if (product.getDeletedAt() != null) {
+            productSearchIndex.remove(product);
+            return;
+        }
+        productSearchIndex.index(product);
+    }
+
+    @PostRemove
+    public void onRemove(Product product) {
+        productSearchIndex.remove(product);
+    }
+}
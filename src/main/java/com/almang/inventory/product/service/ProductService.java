@@ -12,14 +12,15 @@ import com.almang.inventory.product.domain.Product;
 import com.almang.inventory.product.dto.request.CreateProductRequest;
 import com.almang.inventory.product.dto.request.UpdateProductRequest;
 import com.almang.inventory.product.dto.response.DeleteProductResponse;
+import com.almang.inventory.product.dto.response.ProductAutocompleteResponse;
 import com.almang.inventory.product.dto.response.ProductResponse;
 import com.almang.inventory.product.repository.ProductRepository;
 import com.almang.inventory.store.domain.Store;
-import com.almang.inventory.user.domain.User;
 import com.almang.inventory.vendor.domain.Vendor;
 import com.almang.inventory.vendor.dto.response.VendorResponse;
 import com.almang.inventory.vendor.repository.VendorRepository;
 import java.util.List;
+import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -34,16 +35,20 @@ public class ProductService {
 
     private final InventoryService inventoryService;
     private final ProductRepository productRepository;
+    private final ProductSearchIndex productSearchIndex;
     private final VendorRepository vendorRepository;
     private final UserContextProvider userContextProvider;
 
+    private static final int DEFAULT_AUTOCOMPLETE_LIMIT = 10;
+    private static final int MAX_AUTOCOMPLETE_LIMIT = 50;
+
     @Transactional
     public ProductResponse createProduct(CreateProductRequest request, Long userId) {
         UserStoreContext context = userContextProvider.findUserAndStore(userId);
-        User user = context.user();
+        Store store = context.store();
 
-        log.info("[ProductService] 품목 생성 요청 - userId: {}", user.getId());
-        Product product = toEntity(request, user);
+        log.info("[ProductService] 품목 생성 요청 - userId: {}", userId);
+        Product product = toEntity(request, store);
         Product saved = productRepository.save(product);
         inventoryService.createInventory(saved, mapToInitialInventoryValues(request));
 
@@ -61,13 +66,13 @@ public class ProductService {
     @Transactional
     public ProductResponse updateProduct(Long productId, UpdateProductRequest request, Long userId) {
         UserStoreContext context = userContextProvider.findUserAndStore(userId);
-        User user = context.user();
+        Store store = context.store();
         Product product = findProductById(productId);
-        validateStoreAccess(product, user);
+        validateStoreAccess(product, store);
 
-        Vendor vendor = findVendorByIdAndValidateAccess(request.vendorId(), user);
+        Vendor vendor = findVendorByIdAndValidateAccess(request.vendorId(), store);
 
-        log.info("[ProductService] 품목 수정 요청 - userId: {}, productId: {}", user.getId(), product.getId());
+        log.info("[ProductService] 품목 수정 요청 - userId: {}, productId: {}", userId, product.getId());
 
         product.updateVendor(vendor);
         product.updateBasicInfo(request.name(), request.code(), request.unit());
@@ -81,11 +86,11 @@ public class ProductService {
     @Transactional
     public DeleteProductResponse deleteProduct(Long productId, Long userId) {
         UserStoreContext context = userContextProvider.findUserAndStore(userId);
-        User user = context.user();
+        Store store = context.store();
         Product product = findProductById(productId);
-        validateStoreAccess(product, user);
+        validateStoreAccess(product, store);
 
-        log.info("[ProductService] 품목 삭제 요청 - userId: {}, productId: {}", user.getId(), product.getId());
+        log.info("[ProductService] 품목 삭제 요청 - userId: {}, productId: {}", userId, product.getId());
         product.delete();
 
         log.info("[ProductService] 품목 삭제 성공 - productId: {}", product.getId());
@@ -95,9 +100,9 @@ public class ProductService {
     @Transactional(readOnly = true)
     public ProductResponse getProductDetail(Long productId, Long userId) {
         UserStoreContext context = userContextProvider.findUserAndStore(userId);
-        User user = context.user();
+        Store store = context.store();
         Product product = findProductById(productId);
-        validateStoreAccess(product, user);
+        validateStoreAccess(product, store);
 
         log.info("[ProductService] 품목 상세 조회 성공 - productId: {}", product.getId());
         return ProductResponse.from(product);
@@ -119,6 +124,20 @@ public class ProductService {
         return PageResponse.from(mapped);
     }
 
+    // 키 입력마다 호출되므로 DB 커넥션을 잡지 않도록 트랜잭션 없이 메모리 색인에서만 응답
+    public List<ProductAutocompleteResponse> autocompleteProducts(Long userId, String keyword, Integer limit) {
+        UserStoreContext context = userContextProvider.findUserAndStore(userId);
+        Long storeId = context.store().getId();
+        int resolvedLimit = limit == null || limit <= 0
+                ? DEFAULT_AUTOCOMPLETE_LIMIT
+                : Math.min(limit, MAX_AUTOCOMPLETE_LIMIT);
+
+        log.debug("[ProductService] 품목 자동완성 요청 - userId: {}, storeId: {}", userId, storeId);
+        return productSearchIndex.autocomplete(storeId, keyword, resolvedLimit).stream()
+                .map(ProductAutocompleteResponse::from)
+                .toList();
+    }
+
     @Transactional(readOnly = true)
     public List<ProductResponse> getProductsByVendor(Long vendorId, Long userId) {
         UserStoreContext context = userContextProvider.findUserAndStore(userId);
@@ -137,9 +156,9 @@ public class ProductService {
     @Transactional(readOnly = true)
     public VendorResponse getVendorByProduct(Long productId, Long userId) {
         UserStoreContext context = userContextProvider.findUserAndStore(userId);
-        User user = context.user();
+        Store store = context.store();
         Product product = findProductById(productId);
-        validateStoreAccess(product, user);
+        validateStoreAccess(product, store);
 
         log.info("[ProductService] 품목 발주처 조회 요청 - userId: {}, productId: {}", userId, product.getId());
         Vendor vendor = product.getVendor();
@@ -148,11 +167,11 @@ public class ProductService {
         return VendorResponse.from(vendor);
     }
 
-    private Product toEntity(CreateProductRequest request, User user) {
-        Vendor vendor = findVendorByIdAndValidateAccess(request.vendorId(), user);
+    private Product toEntity(CreateProductRequest request, Store store) {
+        Vendor vendor = findVendorByIdAndValidateAccess(request.vendorId(), store);
 
         return Product.builder()
-                .store(user.getStore())
+                .store(store)
                 .vendor(vendor)
                 .name(request.name())
                 .code(request.code())
@@ -165,11 +184,11 @@ public class ProductService {
                 .build();
     }
 
-    private Vendor findVendorByIdAndValidateAccess(Long vendorId, User user) {
+    private Vendor findVendorByIdAndValidateAccess(Long vendorId, Store store) {
         Vendor vendor = vendorRepository.findById(vendorId)
                 .orElseThrow(() -> new BaseException(ErrorCode.VENDOR_NOT_FOUND));
 
-        if (!vendor.getStore().getId().equals(user.getStore().getId())) {
+        if (!vendor.getStore().getId().equals(store.getId())) {
             throw new BaseException(ErrorCode.VENDOR_ACCESS_DENIED);
         }
         return vendor;
@@ -185,8 +204,8 @@ public class ProductService {
         return product;
     }
 
-    private void validateStoreAccess(Product product, User user) {
-        if (!product.getStore().getId().equals(user.getStore().getId())) {
+    private void validateStoreAccess(Product product, Store store) {
+        if (!product.getStore().getId().equals(store.getId())) {
             throw new BaseException(ErrorCode.STORE_ACCESS_DENIED);
         }
     }
@@ -219,21 +238,16 @@ public class ProductService {
             return productRepository.findAllByStoreIdAndActivatedFalse(storeId, pageable);
         }
 
-        // 3) 이름 검색
+        // 3) 이름 검색: 색인에서 찾은 상품 id 로 조회
+        Set<Long> productIds = productSearchIndex.search(storeId, nameKeyword);
         if (!filterActivate) {
-            return productRepository.findAllByStoreIdAndNameContainingIgnoreCase(
-                    storeId, nameKeyword, pageable
-            );
+            return productRepository.findAllByStoreIdAndIdIn(storeId, productIds, pageable);
         }
 
         // 4) 활성 + 이름 검색
         if (isActivate) {
-            return productRepository.findAllByStoreIdAndActivatedTrueAndNameContainingIgnoreCase(
-                    storeId, nameKeyword, pageable
-            );
+            return productRepository.findAllByStoreIdAndActivatedTrueAndIdIn(storeId, productIds, pageable);
         }
-        return productRepository.findAllByStoreIdAndActivatedFalseAndNameContainingIgnoreCase(
-                storeId, nameKeyword, pageable
-        );
+        return productRepository.findAllByStoreIdAndActivatedFalseAndIdIn(storeId, productIds, pageable);
     }
 }
@@ -1,6 +1,7 @@
 package com.almang.inventory.receipt.controller;
 
 import com.almang.inventory.global.api.ApiResponse;
+import com.almang.inventory.global.api.CursorResponse;
 import com.almang.inventory.global.api.PageResponse;
 import com.almang.inventory.global.api.SuccessMessage;
 import com.almang.inventory.global.security.principal.CustomUserPrincipal;
@@ -107,6 +108,28 @@ public class ReceiptController {
         );
     }
 
+    @GetMapping("/scroll")
+    @Operation(summary = "입고 목록 커서 조회", description = "입고 목록을 커서 기반으로 조회합니다. 전체 개수를 세지 않으며, 응답의 nextCursor 로 다음 페이지를 조회합니다.")
+    public ResponseEntity<ApiResponse<CursorResponse<ReceiptResponse>>> getReceiptListByCursor(
+            @AuthenticationPrincipal CustomUserPrincipal userPrincipal,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", required = false) Integer size,
+            @RequestParam(value = "vendorId", required = false) Long vendorId,
+            @RequestParam(value = "receiptStatus", required = false) ReceiptStatus status,
+            @RequestParam(value = "fromDate", required = false) LocalDate fromDate,
+            @RequestParam(value = "endDate", required = false) LocalDate toDate
+    ) {
+        Long userId = userPrincipal.getId();
+        log.info("[ReceiptController] 입고 목록 커서 조회 요청 - userId: {}, size: {}, vendorId: {}, status: {}, fromDate: {}, endDate: {}",
+                userId, size, vendorId, status, fromDate, toDate);
+        CursorResponse<ReceiptResponse> response =
+                receiptService.getReceiptListByCursor(userId, cursor, size, vendorId, status, fromDate, toDate);
+
+        return ResponseEntity.ok(
+                ApiResponse.success(SuccessMessage.GET_RECEIPT_LIST_SUCCESS.getMessage(), response)
+        );
+    }
+
     @PatchMapping("/{receiptId}")
     @Operation(summary = "입고 수정", description = "입고를 수정합니다.")
     public ResponseEntity<ApiResponse<ReceiptResponse>> updateReceipt(
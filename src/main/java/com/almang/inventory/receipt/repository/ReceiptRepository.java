@@ -7,7 +7,10 @@ import java.time.LocalDateTime;
 import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface ReceiptRepository extends JpaRepository<Receipt, Long> {
 
@@ -25,4 +28,29 @@ public interface ReceiptRepository extends JpaRepository<Receipt, Long> {
     Page<Receipt> findAllByStoreIdAndOrderVendorIdAndStatusAndReceiptDateBetween(
             Long storeId, Long vendorId, ReceiptStatus status, LocalDate start, LocalDate end, Pageable pageable);
 
+    // 커서 모드: (createdAt, id) 내림차순 키셋 조건으로 이어서 조회
+    @Query("""
+        SELECT receipt
+        FROM Receipt receipt
+        WHERE receipt.store.id = :storeId
+          AND (:vendorId IS NULL OR receipt.order.vendor.id = :vendorId)
+          AND (:status IS NULL OR receipt.status = :status)
+          AND receipt.receiptDate BETWEEN :start AND :end
+          AND (
+                :cursorCreatedAt IS NULL
+             OR receipt.createdAt < :cursorCreatedAt
+             OR (receipt.createdAt = :cursorCreatedAt AND receipt.id < :cursorId)
+          )
+        ORDER BY receipt.createdAt DESC, receipt.id DESC
+        """)
+    Slice<Receipt> findSliceByFilter(
+            @Param("storeId") Long storeId,
+            @Param("vendorId") Long vendorId,
+            @Param("status") ReceiptStatus status,
+            @Param("start") LocalDate start,
+            @Param("end") LocalDate end,
+            @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+            @Param("cursorId") Long cursorId,
+            Pageable pageable
+    );
 }
@@ -1,11 +1,14 @@
 package com.almang.inventory.receipt.service;
 
+import com.almang.inventory.global.api.CursorResponse;
 import com.almang.inventory.global.api.PageResponse;
 import com.almang.inventory.global.context.UserContextProvider;
 import com.almang.inventory.global.context.UserContextProvider.UserStoreContext;
 import com.almang.inventory.global.exception.BaseException;
 import com.almang.inventory.global.exception.ErrorCode;
+import com.almang.inventory.global.util.PageCursor;
 import com.almang.inventory.global.util.PaginationUtil;
+import com.almang.inventory.inventory.dto.InventoryDelta;
 import com.almang.inventory.inventory.service.InventoryService;
 import com.almang.inventory.order.domain.Order;
 import com.almang.inventory.order.domain.OrderItem;
@@ -33,6 +36,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort.Direction;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -114,6 +118,34 @@ public class ReceiptService {
         return PageResponse.from(mapped);
     }
 
+    @Transactional(readOnly = true)
+    public CursorResponse<ReceiptResponse> getReceiptListByCursor(
+            Long userId, String cursor, Integer size, Long vendorId,
+            ReceiptStatus status, LocalDate fromDate, LocalDate toDate
+    ) {
+        UserStoreContext context = userContextProvider.findUserAndStore(userId);
+        Store store = context.store();
+
+        log.info("[ReceiptService] 입고 목록 커서 조회 요청 - userId: {}, storeId: {}", userId, store.getId());
+        PageCursor pageCursor = PageCursor.decode(cursor);
+        LocalDate startDate = fromDate != null ? fromDate : LocalDate.of(1970, 1, 1);
+        LocalDate endDate = toDate != null ? toDate : LocalDate.now();
+
+        Slice<Receipt> receiptSlice = receiptRepository.findSliceByFilter(
+                store.getId(), vendorId, status, startDate, endDate,
+                pageCursor != null ? pageCursor.sortKeyAsDateTime() : null,
+                pageCursor != null ? pageCursor.id() : null,
+                PaginationUtil.createCursorRequest(size)
+        );
+
+        log.info("[ReceiptService] 입고 목록 커서 조회 성공 - userId: {}, storeId: {}", userId, store.getId());
+        return CursorResponse.from(
+                receiptSlice,
+                ReceiptResponse::from,
+                receipt -> PageCursor.of(receipt.getCreatedAt(), receipt.getId())
+        );
+    }
+
     @Transactional
     public ReceiptResponse updateReceipt(Long receiptId, UpdateReceiptRequest request, Long userId) {
         UserStoreContext context = userContextProvider.findUserAndStore(userId);
@@ -163,12 +195,16 @@ public class ReceiptService {
         receipt.confirm();
 
         // 입고 확정 후 재고 상태 변경
+        List<InventoryDelta> deltas = new ArrayList<>();
         for (ReceiptItem receiptItem : receipt.getItems()) {
             int expected = receiptItem.getExpectedQuantity();
             int actual = receiptItem.getActualQuantity() != null ? receiptItem.getActualQuantity() : expected;
 
-            inventoryService.applyReceipt(receiptItem.getProduct(), BigDecimal.valueOf(expected), BigDecimal.valueOf(actual));
+            deltas.add(InventoryDelta.receiptConfirmed(
+                    receiptItem.getProduct().getId(), BigDecimal.valueOf(expected), BigDecimal.valueOf(actual)
+            ));
         }
+        inventoryService.applyBatch(deltas);
 
         log.info("[ReceiptService] 입고 확정 성공 - receiptId: {}", receipt.getId());
         return new ConfirmReceiptResponse(true);
@@ -274,7 +310,8 @@ public class ReceiptService {
     }
 
     private void validateOrderStatusForReceipt(Order order) {
-        if (order.getStatus() == OrderStatus.CANCELED) {
+        // 자동 생성된 발주 초안은 발주처에 요청하기 전이므로 입고를 만들 수 없음
+        if (order.getStatus() == OrderStatus.CANCELED || order.getStatus() == OrderStatus.DRAFT) {
             throw new BaseException(ErrorCode.RECEIPT_CREATION_NOT_ALLOWED_FROM_ORDER);
         }
     }
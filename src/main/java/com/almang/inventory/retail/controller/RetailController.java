@@ -1,28 +1,36 @@
 package com.almang.inventory.retail.controller;
 
 import com.almang.inventory.global.api.ApiResponse;
+import com.almang.inventory.global.api.CursorResponse;
 import com.almang.inventory.global.api.PageResponse;
+import com.almang.inventory.global.api.SuccessMessage;
 import com.almang.inventory.global.exception.BaseException;
 import com.almang.inventory.global.exception.ErrorCode;
+import com.almang.inventory.global.export.ExportFile;
 import com.almang.inventory.global.security.principal.CustomUserPrincipal;
 import com.almang.inventory.retail.dto.response.RetailResponse;
+import com.almang.inventory.retail.dto.response.RetailUploadJobResponse;
 import com.almang.inventory.retail.service.RetailService;
+import com.almang.inventory.retail.service.RetailUploadJobService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import java.time.LocalDate;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RequestPart;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.Map;
 
@@ -34,6 +42,7 @@ import java.util.Map;
 public class RetailController {
 
     private final RetailService retailService;
+    private final RetailUploadJobService retailUploadJobService;
 
     @Operation(summary = "엑셀 파일 업로드", description = "엑셀 파일을 업로드하여 소매 판매 내역을 등록하고 재고를 차감합니다.")
     @PostMapping(value = "/upload", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
@@ -76,6 +85,36 @@ public class RetailController {
         }
     }
 
+    @Operation(summary = "엑셀 파일 비동기 업로드", description = "엑셀 파일을 업로드 작업으로 접수하고 작업 ID를 반환합니다. 처리 결과는 작업 조회 API로 확인합니다.")
+    @PostMapping(value = "/upload/jobs", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ApiResponse<RetailUploadJobResponse>> submitRetailUploadJob(
+            @AuthenticationPrincipal CustomUserPrincipal userPrincipal,
+            @RequestPart("file") MultipartFile file
+    ) {
+        Long userId = userPrincipal.getId();
+        log.info("[RetailController] 엑셀 파일 비동기 업로드 요청 - userId: {}, filename: {}", userId, file.getOriginalFilename());
+        RetailUploadJobResponse response = retailUploadJobService.submitUploadJob(file, userId);
+
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(
+                ApiResponse.success(SuccessMessage.SUBMIT_RETAIL_UPLOAD_JOB_SUCCESS.getMessage(), response)
+        );
+    }
+
+    @Operation(summary = "엑셀 업로드 작업 조회", description = "비동기 업로드 작업의 상태, 처리/스킵 건수와 완료 시 결과를 조회합니다.")
+    @GetMapping("/upload/jobs/{jobId}")
+    public ResponseEntity<ApiResponse<RetailUploadJobResponse>> getRetailUploadJob(
+            @AuthenticationPrincipal CustomUserPrincipal userPrincipal,
+            @PathVariable Long jobId
+    ) {
+        Long userId = userPrincipal.getId();
+        log.info("[RetailController] 엑셀 업로드 작업 조회 요청 - userId: {}, jobId: {}", userId, jobId);
+        RetailUploadJobResponse response = retailUploadJobService.getUploadJob(jobId, userId);
+
+        return ResponseEntity.ok(
+                ApiResponse.success(SuccessMessage.GET_RETAIL_UPLOAD_JOB_SUCCESS.getMessage(), response)
+        );
+    }
+
     @GetMapping
     @Operation(summary = "소매 내역 목록 조회", description = "소매 내역을 페이지네이션, 날짜 검색 조건과 함께 조회합니다.")
     public ResponseEntity<ApiResponse<PageResponse<RetailResponse>>> getRetailList(
@@ -97,6 +136,43 @@ public class RetailController {
         );
     }
 
+    @GetMapping("/scroll")
+    @Operation(summary = "소매 내역 목록 커서 조회", description = "소매 내역을 커서 기반으로 조회합니다. 전체 개수를 세지 않으며, 응답의 nextCursor 로 다음 페이지를 조회합니다.")
+    public ResponseEntity<ApiResponse<CursorResponse<RetailResponse>>> getRetailListByCursor(
+            @AuthenticationPrincipal CustomUserPrincipal userPrincipal,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", required = false) Integer size,
+            @RequestParam(value = "soldDate", required = false) LocalDate soldDate,
+            @RequestParam(value = "startDate", required = false) LocalDate startDate,
+            @RequestParam(value = "endDate", required = false) LocalDate endDate
+    ) {
+        Long userId = userPrincipal.getId();
+        log.info("[RetailController] 소매 내역 목록 커서 조회 요청 - userId: {}, size: {}, soldDate: {}, startDate: {}, endDate: {}",
+                userId, size, soldDate, startDate, endDate);
+        CursorResponse<RetailResponse> response =
+                retailService.getRetailListByCursor(userId, cursor, size, soldDate, startDate, endDate);
+
+        return ResponseEntity.ok(
+                ApiResponse.success("소매 내역 목록 조회 성공", response)
+        );
+    }
+
+    @GetMapping("/export")
+    @Operation(summary = "소매 내역 내보내기", description = "기간 내 소매 내역을 파일로 내려받습니다. 기간을 지정하지 않으면 최근 30일이며, format 은 xlsx(기본) 또는 csv 입니다.")
+    public ResponseEntity<StreamingResponseBody> exportRetails(
+            @AuthenticationPrincipal CustomUserPrincipal userPrincipal,
+            @RequestParam(value = "startDate", required = false) LocalDate startDate,
+            @RequestParam(value = "endDate", required = false) LocalDate endDate,
+            @RequestParam(value = "format", required = false) String format
+    ) {
+        Long userId = userPrincipal.getId();
+        log.info("[RetailController] 소매 내역 내보내기 요청 - userId: {}, startDate: {}, endDate: {}, format: {}",
+                userId, startDate, endDate, format);
+        ExportFile exportFile = retailService.exportRetails(userId, startDate, endDate, format);
+
+        return exportFile.toResponseEntity();
+    }
+
     @GetMapping("/date")
     @Operation(summary = "특정 날짜 소매 내역 조회", description = "특정 날짜의 소매 내역을 조회합니다.")
     public ResponseEntity<ApiResponse<List<RetailResponse>>> getRetailListByDate(
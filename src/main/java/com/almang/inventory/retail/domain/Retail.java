@@ -17,7 +17,8 @@ import java.time.LocalDateTime;
         name = "retails",
         indexes = {
                 @Index(name = "idx_store_sold_date", columnList = "store_id,sold_date"),
-                @Index(name = "idx_sold_date", columnList = "sold_date")
+                @Index(name = "idx_sold_date", columnList = "sold_date"),
+                @Index(name = "idx_product_sold_date", columnList = "product_id,sold_date")
         }
 )
 @Getter
@@ -67,6 +68,10 @@ public class Retail extends BaseTimeEntity {
         this.actualSales = actualSales;
     }
 
+    public void updateProductName(String productName) {
+        this.productName = productName;
+    }
+
     /**
      * 소프트 삭제: deletedAt 필드를 설정하여 논리적으로 삭제 처리합니다.
      * 물리적 삭제가 아닌 복구 가능한 삭제 방식입니다.
@@ -0,0 +1,121 @@
+package com.almang.inventory.retail.domain;
+
+import com.almang.inventory.global.entity.BaseTimeEntity;
+import com.almang.inventory.store.domain.Store;
+import jakarta.persistence.*;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import lombok.*;
+
+/**
+ * 소매 엑셀 비동기 업로드 작업
+ * 진행 상황은 청크 처리와 같은 트랜잭션에서 갱신되므로, 어느 서버 노드에서 조회하더라도 커밋된 진행 상황을 볼 수 있습니다.
+ * 처리 중 노드가 재시작되어 멈춘 작업은 RetailUploadJobRecovery 가 updatedAt 을 기준으로 다시 대기열에 넣습니다.
+ * 판매일은 접수 시점에 한 번만 정해 두므로, 자정을 넘겨 처리되거나 다음 날 복구되어도 같은 날짜의 소매 내역과 비교합니다.
+ */
+@Entity
+@Table(
+        name = "retail_upload_jobs",
+        indexes = {
+                @Index(name = "idx_retail_upload_job_store_created", columnList = "store_id,created_at"),
+                @Index(name = "idx_retail_upload_job_status_updated", columnList = "status,updated_at")
+        }
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class RetailUploadJob extends BaseTimeEntity {
+
+    private static final String SKIPPED_DELIMITER = "\n";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "retail_upload_job_id")
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "store_id", nullable = false)
+    private Store store;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "original_filename", length = 255)
+    private String originalFilename;
+
+    // 처리 대기 중인 업로드 파일 경로 (처리 후 삭제)
+    @Column(name = "stored_file_path", nullable = false, length = 500)
+    private String storedFilePath;
+
+    // 접수 시점의 판매일 (처리, 복구, 파일 지문 저장 모두 이 날짜 기준)
+    @Column(name = "sold_date", nullable = false)
+    private LocalDate soldDate;
+
+    // 업로드 파일의 SHA-256 지문 (동일 파일 재업로드 판별용)
+    @Column(name = "content_hash", nullable = false, length = 64)
+    private String contentHash;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private RetailUploadJobStatus status;
+
+    @Column(name = "processed_count", nullable = false)
+    private int processedCount;
+
+    @Column(name = "skipped_count", nullable = false)
+    private int skippedCount;
+
+    // 스킵된 상품 목록 (한 줄에 하나)
+    @Lob
+    @Column(name = "skipped_products")
+    private String skippedProducts;
+
+    @Column(name = "error_message", length = 500)
+    private String errorMessage;
+
+    @Column(name = "started_at")
+    private LocalDateTime startedAt;
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+
+    // 작업을 선점한 처리 실행의 식별자 (복구 작업이 다시 대기열에 넣으면 이전 실행은 더 이상 진행 상황을 기록하지 못함)
+    @Column(name = "claim_token", length = 36)
+    private String claimToken;
+
+    public void addProgress(int processedCount, List<String> skippedProducts) {
+        this.processedCount += processedCount;
+        if (skippedProducts.isEmpty()) {
+            return;
+        }
+        this.skippedCount += skippedProducts.size();
+        String appended = skippedProducts.stream()
+                .map(skipped -> skipped.replace(SKIPPED_DELIMITER, " "))
+                .collect(Collectors.joining(SKIPPED_DELIMITER));
+        this.skippedProducts = (this.skippedProducts == null || this.skippedProducts.isEmpty())
+                ? appended
+                : this.skippedProducts + SKIPPED_DELIMITER + appended;
+    }
+
+    public void complete() {
+        this.status = RetailUploadJobStatus.COMPLETED;
+        this.completedAt = LocalDateTime.now();
+    }
+
+    public void fail(String errorMessage) {
+        this.status = RetailUploadJobStatus.FAILED;
+        this.errorMessage = errorMessage;
+        this.completedAt = LocalDateTime.now();
+    }
+
+    public List<String> getSkippedProductList() {
+        if (skippedProducts == null || skippedProducts.isEmpty()) {
+            return List.of();
+        }
+        return Arrays.asList(skippedProducts.split(SKIPPED_DELIMITER));
+    }
+}
@@ -0,0 +1,8 @@
+package com.almang.inventory.retail.domain;
+
+public enum RetailUploadJobStatus {
+    PENDING,     // 접수됨 (실행 대기)
+    PROCESSING,  // 처리 중
+    COMPLETED,   // 처리 완료
+    FAILED       // 처리 실패
+}
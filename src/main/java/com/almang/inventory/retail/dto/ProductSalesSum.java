@@ -0,0 +1,9 @@
+package com.almang.inventory.retail.dto;
+
+import java.math.BigDecimal;
+
+// 기간 내 상품별 소매 판매 수량 합계
+public record ProductSalesSum(
+        Long productId,
+        BigDecimal quantity
+) {}
@@ -0,0 +1,21 @@
+package com.almang.inventory.retail.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+
+// 소매 내역 내보내기 행 (엔티티 대신 DTO 로 읽어 스트리밍 중 영속성 컨텍스트에 쌓이지 않도록 함)
+public record RetailExportRow(
+        LocalDate soldDate,
+        String productCode,
+        String productName,
+        BigDecimal quantity,
+        Integer actualSales
+) {
+    public static final List<String> HEADERS = List.of("판매일자", "품목 코드", "품목명", "판매 수량", "실매출");
+
+    public List<?> columns() {
+        return Arrays.asList(soldDate, productCode, productName, quantity, actualSales);
+    }
+}
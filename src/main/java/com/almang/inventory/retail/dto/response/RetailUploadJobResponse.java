@@ -0,0 +1,38 @@
+package com.almang.inventory.retail.dto.response;
+
+import com.almang.inventory.retail.domain.RetailUploadJob;
+import com.almang.inventory.retail.domain.RetailUploadJobStatus;
+import com.almang.inventory.retail.service.RetailService.RetailUploadResult;
+import java.time.LocalDateTime;
+
+public record RetailUploadJobResponse(
+        Long jobId,
+        RetailUploadJobStatus status,
+        String originalFilename,
+        int processedCount,
+        int skippedCount,
+        RetailUploadResult result,  // 처리 완료 시에만 포함
+        String errorMessage,
+        LocalDateTime createdAt,
+        LocalDateTime startedAt,
+        LocalDateTime completedAt
+) {
+    public static RetailUploadJobResponse from(RetailUploadJob job) {
+        RetailUploadResult result = job.getStatus() == RetailUploadJobStatus.COMPLETED
+                ? new RetailUploadResult(job.getProcessedCount(), job.getSkippedProductList())
+                : null;
+
+        return new RetailUploadJobResponse(
+                job.getId(),
+                job.getStatus(),
+                job.getOriginalFilename(),
+                job.getProcessedCount(),
+                job.getSkippedCount(),
+                result,
+                job.getErrorMessage(),
+                job.getCreatedAt(),
+                job.getStartedAt(),
+                job.getCompletedAt()
+        );
+    }
+}
@@ -0,0 +1,24 @@
+package com.almang.inventory.retail.parser;
+
+/**
+ * 파서 구현(DOM / XLSX SAX / XLS 이벤트)과 무관하게 같은 변환 규칙을 적용하기 위한 셀 값
+ * text 는 문자열 셀의 원문 또는 숫자 셀의 표시 형식 적용 값이며, number 는 숫자 셀의 원본 값입니다.
+ */
+record RetailExcelCell(Kind kind, String text, double number) {
+
+    enum Kind {
+        STRING,
+        NUMERIC,
+        OTHER   // 수식, 불리언, 오류, 빈 셀
+    }
+
+    static final RetailExcelCell OTHER = new RetailExcelCell(Kind.OTHER, "", 0);
+
+    static RetailExcelCell string(String text) {
+        return new RetailExcelCell(Kind.STRING, text, 0);
+    }
+
+    static RetailExcelCell numeric(double number, String formatted) {
+        return new RetailExcelCell(Kind.NUMERIC, formatted, number);
+    }
+}
@@ -1,12 +1,26 @@
 package com.almang.inventory.retail.parser;
 
 import com.almang.inventory.retail.dto.excel.RetailExcelRowDto;
+import com.almang.inventory.retail.parser.RetailExcelCell.Kind;
 import java.io.IOException;
 import java.io.InputStream;
 import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.function.Consumer;
+import javax.xml.parsers.ParserConfigurationException;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.poi.hssf.eventusermodel.HSSFEventFactory;
+import org.apache.poi.hssf.eventusermodel.HSSFRequest;
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.poifs.filesystem.FileMagic;
+import org.apache.poi.poifs.filesystem.POIFSFileSystem;
 import org.apache.poi.ss.usermodel.Cell;
 import org.apache.poi.ss.usermodel.CellType;
 import org.apache.poi.ss.usermodel.DataFormatter;
@@ -14,7 +28,14 @@ import org.apache.poi.ss.usermodel.Row;
 import org.apache.poi.ss.usermodel.Sheet;
 import org.apache.poi.ss.usermodel.Workbook;
 import org.apache.poi.ss.usermodel.WorkbookFactory;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.model.StylesTable;
 import org.springframework.stereotype.Component;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
 
 @Slf4j
 @Component
@@ -29,6 +50,10 @@ public class RetailExcelParser {
     private static final int COLUMN_QUANTITY = 3;
     private static final int COLUMN_SALES = 4;
 
+    /**
+     * 전체 워크북을 메모리에 올려 파싱합니다. (DOM 방식)
+     * 행 수에 비례하여 메모리를 사용하므로 대용량 파일에는 {@link #parse(InputStream, Consumer)} 를 사용합니다.
+     */
     public List<RetailExcelRowDto> parse(InputStream inputStream) throws IOException {
         try (Workbook workbook = WorkbookFactory.create(inputStream)) {
             Sheet sheet = workbook.getSheetAt(0);
@@ -36,97 +61,199 @@ public class RetailExcelParser {
 
             List<RetailExcelRowDto> rows = new ArrayList<>();
 
-            // 헤더 행 스킵 (첫 번째 행이 헤더라고 가정)
             for (int i = 1; i <= sheet.getLastRowNum(); i++) {
                 Row row = sheet.getRow(i);
                 if (row == null) {
                     continue;
                 }
 
-                String code = getCellValueAsString(row.getCell(COLUMN_CODE), formatter);
-                if (code == null || code.isEmpty()) {
-                    continue; // 기본 스킵 규칙: 코드 없음
+                RetailExcelCell[] cells = new RetailExcelCell[COLUMN_SALES + 1];
+                for (int column = COLUMN_CODE; column <= COLUMN_SALES; column++) {
+                    cells[column] = toCell(row.getCell(column), formatter);
                 }
 
-                String productName = getCellValueAsString(row.getCell(COLUMN_NAME), formatter);
-                if (productName == null || productName.isEmpty()) {
-                    productName = ""; // 기본 정리: 상품명 공백 허용
+                RetailExcelRowDto dto = toRowDto(i, cells);
+                if (dto != null) {
+                    rows.add(dto);
                 }
+            }
 
-                BigDecimal quantity = getCellValueAsBigDecimal(row.getCell(COLUMN_QUANTITY), formatter);
-                if (quantity == null || quantity.compareTo(BigDecimal.ZERO) <= 0) {
-                    continue; // 기본 스킵 규칙: 수량 0 이하
-                }
+            return rows;
+        }
+    }
 
-                Integer actualSales = getCellValueAsInteger(row.getCell(COLUMN_SALES), formatter);
+    /**
+     * 스트리밍 방식으로 파싱하여 유효한 행을 하나씩 rowConsumer 에 전달합니다.
+     * XLSX 는 SAX(XSSF 이벤트 모델), XLS 는 HSSF 이벤트 모델로 읽으며, 한 번에 한 행만 유지하므로
+     * 시트 크기와 무관하게 메모리 사용량이 일정합니다. 스킵 규칙과 rowIndex 는 DOM 방식과 동일합니다.
+     */
+    public void parse(InputStream inputStream, Consumer<RetailExcelRowDto> rowConsumer) throws IOException {
+        InputStream checked = FileMagic.prepareToCheckMagic(inputStream);
+        FileMagic fileMagic = FileMagic.valueOf(checked);
 
-                // rowIndex는 "엑셀 상의 행 번호"로 유지(헤더 포함 기준 1부터)
-                int rowIndex = i + 1;
+        if (fileMagic == FileMagic.OOXML) {
+            parseXlsx(checked, rowConsumer);
+            return;
+        }
+        if (fileMagic == FileMagic.OLE2) {
+            parseXls(checked, rowConsumer);
+            return;
+        }
+        throw new IOException("지원하지 않는 엑셀 파일 형식입니다. - " + fileMagic);
+    }
+
+    private void parseXlsx(InputStream inputStream, Consumer<RetailExcelRowDto> rowConsumer) throws IOException {
+        // InputStream 으로 OPCPackage 를 열면 zip 항목 전체가 메모리에 풀리므로, 임시 파일로 옮겨 랜덤 액세스로 읽음
+        Path tempFile = Files.createTempFile("retail-upload-", ".xlsx");
+        try {
+            Files.copy(inputStream, tempFile, StandardCopyOption.REPLACE_EXISTING);
+
+            OPCPackage pkg = OPCPackage.open(tempFile.toFile(), PackageAccess.READ);
+            try {
+                XSSFReader reader = new XSSFReader(pkg);
+                ReadOnlySharedStringsTable sharedStrings = new ReadOnlySharedStringsTable(pkg);
+                StylesTable styles = reader.getStylesTable();
 
-                rows.add(new RetailExcelRowDto(
-                        rowIndex,
-                        code,
-                        productName,
-                        quantity,
-                        actualSales
-                ));
+                Iterator<InputStream> sheets = reader.getSheetsData();
+                if (!sheets.hasNext()) {
+                    return;
+                }
+                try (InputStream sheet = sheets.next()) {
+                    XMLReader xmlReader = XMLHelper.newXMLReader();
+                    xmlReader.setContentHandler(new RetailXlsxSheetHandler(
+                            sharedStrings, styles, new DataFormatter(), COLUMN_SALES,
+                            (rowNum, cells) -> emit(rowNum, cells, rowConsumer)
+                    ));
+                    xmlReader.parse(new InputSource(sheet));
+                }
+            } finally {
+                pkg.revert();
             }
+        } catch (OpenXML4JException | SAXException | ParserConfigurationException e) {
+            throw new IOException("XLSX 스트리밍 파싱 실패", e);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
 
-            return rows;
+    private void parseXls(InputStream inputStream, Consumer<RetailExcelRowDto> rowConsumer) throws IOException {
+        try (POIFSFileSystem fileSystem = new POIFSFileSystem(inputStream)) {
+            RetailXlsRecordListener listener = new RetailXlsRecordListener(
+                    COLUMN_SALES, (rowNum, cells) -> emit(rowNum, cells, rowConsumer)
+            );
+            HSSFRequest request = new HSSFRequest();
+            request.addListenerForAllRecords(listener.requestListener());
+            new HSSFEventFactory().processWorkbookEvents(request, fileSystem);
         }
     }
 
-    private String getCellValueAsString(Cell cell, DataFormatter formatter) {
+    private void emit(int rowNum, RetailExcelCell[] cells, Consumer<RetailExcelRowDto> rowConsumer) {
+        RetailExcelRowDto dto = toRowDto(rowNum, cells);
+        if (dto != null) {
+            rowConsumer.accept(dto);
+        }
+    }
+
+    // 0 기반 행 번호와 셀 값으로 행 DTO 생성 (스킵 대상이면 null)
+    private RetailExcelRowDto toRowDto(int rowNum, RetailExcelCell[] cells) {
+        // 헤더 행 스킵 (첫 번째 행이 헤더라고 가정)
+        if (rowNum < 1) {
+            return null;
+        }
+
+        String code = getCellValueAsString(cells[COLUMN_CODE]);
+        if (code == null || code.isEmpty()) {
+            return null; // 기본 스킵 규칙: 코드 없음
+        }
+
+        String productName = getCellValueAsString(cells[COLUMN_NAME]);
+        if (productName == null || productName.isEmpty()) {
+            productName = ""; // 기본 정리: 상품명 공백 허용
+        }
+
+        BigDecimal quantity = getCellValueAsBigDecimal(cells[COLUMN_QUANTITY]);
+        if (quantity == null || quantity.compareTo(BigDecimal.ZERO) <= 0) {
+            return null; // 기본 스킵 규칙: 수량 0 이하
+        }
+
+        Integer actualSales = getCellValueAsInteger(cells[COLUMN_SALES]);
+
+        // rowIndex는 "엑셀 상의 행 번호"로 유지(헤더 포함 기준 1부터)
+        int rowIndex = rowNum + 1;
+
+        return new RetailExcelRowDto(
+                rowIndex,
+                code,
+                productName,
+                quantity,
+                actualSales
+        );
+    }
+
+    private RetailExcelCell toCell(Cell cell, DataFormatter formatter) {
         if (cell == null) {
             return null;
         }
         if (cell.getCellType() == CellType.STRING) {
-            return cell.getStringCellValue().trim();
+            return RetailExcelCell.string(cell.getStringCellValue());
         }
         if (cell.getCellType() == CellType.NUMERIC) {
-            return formatter.formatCellValue(cell).trim(); // "00123" 보존
+            return RetailExcelCell.numeric(cell.getNumericCellValue(), formatter.formatCellValue(cell));
+        }
+        return RetailExcelCell.OTHER;
+    }
+
+    private String getCellValueAsString(RetailExcelCell cell) {
+        if (cell == null) {
+            return null;
+        }
+        if (cell.kind() == Kind.STRING) {
+            return cell.text().trim();
+        }
+        if (cell.kind() == Kind.NUMERIC) {
+            return cell.text().trim(); // "00123" 보존
         }
         return "";
     }
 
-    private BigDecimal getCellValueAsBigDecimal(Cell cell, DataFormatter formatter) {
+    private BigDecimal getCellValueAsBigDecimal(RetailExcelCell cell) {
         if (cell == null) {
             return BigDecimal.ZERO;
         }
-        if (cell.getCellType() == CellType.NUMERIC) {
-            return BigDecimal.valueOf(cell.getNumericCellValue()).stripTrailingZeros();
+        if (cell.kind() == Kind.NUMERIC) {
+            return BigDecimal.valueOf(cell.number()).stripTrailingZeros();
         }
-        if (cell.getCellType() == CellType.STRING) {
+        if (cell.kind() == Kind.STRING) {
             try {
-                String v = cell.getStringCellValue().trim();
+                String v = cell.text().trim();
                 if (v.isEmpty()) {
                     return BigDecimal.ZERO;
                 }
                 String cleaned = v.replace(",", "").trim();
                 return new BigDecimal(cleaned).stripTrailingZeros();
             } catch (NumberFormatException e) {
-                log.warn("[RetailExcelParser] BigDecimal 파싱 실패 - cellValue: {}", cell.getStringCellValue(), e);
+                log.warn("[RetailExcelParser] BigDecimal 파싱 실패 - cellValue: {}", cell.text(), e);
                 return BigDecimal.ZERO;
             }
         }
         return BigDecimal.ZERO;
     }
 
-    private Integer getCellValueAsInteger(Cell cell, DataFormatter formatter) {
+    private Integer getCellValueAsInteger(RetailExcelCell cell) {
         if (cell == null) {
             return null;
         }
-        if (cell.getCellType() == CellType.NUMERIC) {
-            double numericValue = cell.getNumericCellValue();
+        if (cell.kind() == Kind.NUMERIC) {
+            double numericValue = cell.number();
             if (numericValue != (int) numericValue) {
                 log.warn("[RetailExcelParser] 정수로 변환되는 값에 소수점이 있습니다. 반올림 처리합니다. - 원본값: {}, 변환값: {}",
                         numericValue, Math.round(numericValue));
             }
             return (int) Math.round(numericValue);
         }
-        if (cell.getCellType() == CellType.STRING) {
+        if (cell.kind() == Kind.STRING) {
             try {
-                String v = cell.getStringCellValue().replace(",", "").trim();
+                String v = cell.text().replace(",", "").trim();
                 if (v.isEmpty()) {
                     return null;
                 }
@@ -138,7 +265,7 @@ public class RetailExcelParser {
                 }
                 return Integer.parseInt(v);
             } catch (NumberFormatException e) {
-                log.warn("[RetailExcelParser] Integer 파싱 실패 - cellValue: {}", cell.getStringCellValue(), e);
+                log.warn("[RetailExcelParser] Integer 파싱 실패 - cellValue: {}", cell.text(), e);
                 return null;
             }
         }
@@ -0,0 +1,94 @@
+package com.almang.inventory.retail.parser;
+
+import java.util.function.BiConsumer;
+import org.apache.poi.hssf.eventusermodel.FormatTrackingHSSFListener;
+import org.apache.poi.hssf.eventusermodel.HSSFListener;
+import org.apache.poi.hssf.record.BOFRecord;
+import org.apache.poi.hssf.record.BoolErrRecord;
+import org.apache.poi.hssf.record.CellValueRecordInterface;
+import org.apache.poi.hssf.record.EOFRecord;
+import org.apache.poi.hssf.record.FormulaRecord;
+import org.apache.poi.hssf.record.LabelRecord;
+import org.apache.poi.hssf.record.LabelSSTRecord;
+import org.apache.poi.hssf.record.NumberRecord;
+import org.apache.poi.hssf.record.Record;
+import org.apache.poi.hssf.record.SSTRecord;
+
+/**
+ * XLS(BIFF8) 레코드 스트림에서 첫 번째 시트의 셀 값을 행 단위로 전달하는 리스너
+ * 셀 레코드는 행 순서대로 도착하므로 행 번호가 바뀔 때 이전 행을 전달합니다.
+ */
+class RetailXlsRecordListener implements HSSFListener {
+
+    private final FormatTrackingHSSFListener formatListener = new FormatTrackingHSSFListener(this);
+    private final int maxColumn;
+    private final BiConsumer<Integer, RetailExcelCell[]> rowConsumer;
+
+    private SSTRecord sstRecord;
+    private int sheetIndex = -1;
+    private int currentRow = -1;
+    private RetailExcelCell[] rowCells;
+
+    RetailXlsRecordListener(int maxColumn, BiConsumer<Integer, RetailExcelCell[]> rowConsumer) {
+        this.maxColumn = maxColumn;
+        this.rowConsumer = rowConsumer;
+    }
+
+    // 숫자 셀 표시 형식 추적을 위해 HSSFRequest 에는 이 리스너를 등록
+    HSSFListener requestListener() {
+        return formatListener;
+    }
+
+    @Override
+    public void processRecord(Record record) {
+        switch (record.getSid()) {
+            case BOFRecord.sid -> {
+                if (((BOFRecord) record).getType() == BOFRecord.TYPE_WORKSHEET) {
+                    sheetIndex++;
+                }
+            }
+            case EOFRecord.sid -> {
+                if (sheetIndex == 0) {
+                    flushRow();
+                }
+            }
+            case SSTRecord.sid -> sstRecord = (SSTRecord) record;
+            case LabelSSTRecord.sid -> {
+                LabelSSTRecord label = (LabelSSTRecord) record;
+                onCell(label, RetailExcelCell.string(sstRecord.getString(label.getSSTIndex()).getString()));
+            }
+            case LabelRecord.sid -> {
+                LabelRecord label = (LabelRecord) record;
+                onCell(label, RetailExcelCell.string(label.getValue()));
+            }
+            case NumberRecord.sid -> {
+                NumberRecord number = (NumberRecord) record;
+                onCell(number, RetailExcelCell.numeric(number.getValue(), formatListener.formatNumberDateCell(number)));
+            }
+            case FormulaRecord.sid, BoolErrRecord.sid -> onCell((CellValueRecordInterface) record, RetailExcelCell.OTHER);
+            default -> {
+            }
+        }
+    }
+
+    private void onCell(CellValueRecordInterface cell, RetailExcelCell value) {
+        if (sheetIndex != 0) {
+            return;
+        }
+        if (cell.getRow() != currentRow) {
+            flushRow();
+            currentRow = cell.getRow();
+            rowCells = new RetailExcelCell[maxColumn + 1];
+        }
+        if (cell.getColumn() <= maxColumn) {
+            rowCells[cell.getColumn()] = value;
+        }
+    }
+
+    private void flushRow() {
+        if (rowCells != null) {
+            rowConsumer.accept(currentRow, rowCells);
+            rowCells = null;
+        }
+    }
+}
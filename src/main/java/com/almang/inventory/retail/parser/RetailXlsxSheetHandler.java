@@ -0,0 +1,129 @@
+package com.almang.inventory.retail.parser;
+
+import java.util.function.BiConsumer;
+import org.apache.poi.ss.usermodel.BuiltinFormats;
+import org.apache.poi.ss.usermodel.DataFormatter;
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.xssf.model.SharedStrings;
+import org.apache.poi.xssf.model.StylesTable;
+import org.apache.poi.xssf.usermodel.XSSFCellStyle;
+import org.xml.sax.Attributes;
+import org.xml.sax.helpers.DefaultHandler;
+
+/**
+ * XLSX 시트 XML 을 SAX 로 읽어 행 단위로 셀 값을 전달하는 핸들러
+ * 한 번에 한 행만 메모리에 유지하므로 시트 크기와 무관하게 사용 메모리가 일정합니다.
+ */
+class RetailXlsxSheetHandler extends DefaultHandler {
+
+    private final SharedStrings sharedStrings;
+    private final StylesTable styles;
+    private final DataFormatter formatter;
+    private final int maxColumn;
+    private final BiConsumer<Integer, RetailExcelCell[]> rowConsumer;
+
+    private final StringBuilder value = new StringBuilder();
+    private int currentRow = -1;
+    private int currentColumn = -1;
+    private RetailExcelCell[] rowCells;
+    private String cellType;
+    private String cellStyle;
+    private boolean formula;
+    private boolean capturing;
+
+    RetailXlsxSheetHandler(
+            SharedStrings sharedStrings,
+            StylesTable styles,
+            DataFormatter formatter,
+            int maxColumn,
+            BiConsumer<Integer, RetailExcelCell[]> rowConsumer
+    ) {
+        this.sharedStrings = sharedStrings;
+        this.styles = styles;
+        this.formatter = formatter;
+        this.maxColumn = maxColumn;
+        this.rowConsumer = rowConsumer;
+    }
+
+    @Override
+    public void startElement(String uri, String localName, String qName, Attributes attributes) {
+        switch (localName) {
+            case "row" -> {
+                String rowRef = attributes.getValue("r");
+                currentRow = rowRef != null ? Integer.parseInt(rowRef) - 1 : currentRow + 1;
+                currentColumn = -1;
+                rowCells = new RetailExcelCell[maxColumn + 1];
+            }
+            case "c" -> {
+                String cellRef = attributes.getValue("r");
+                currentColumn = cellRef != null ? new CellReference(cellRef).getCol() : currentColumn + 1;
+                cellType = attributes.getValue("t");
+                cellStyle = attributes.getValue("s");
+                formula = false;
+                value.setLength(0);
+            }
+            case "f" -> formula = true;
+            case "v", "t" -> capturing = true;
+            default -> {
+            }
+        }
+    }
+
+    @Override
+    public void characters(char[] ch, int start, int length) {
+        if (capturing) {
+            value.append(ch, start, length);
+        }
+    }
+
+    @Override
+    public void endElement(String uri, String localName, String qName) {
+        switch (localName) {
+            case "v", "t" -> capturing = false;
+            case "c" -> {
+                if (currentColumn >= 0 && currentColumn <= maxColumn) {
+                    rowCells[currentColumn] = toCell();
+                }
+            }
+            case "row" -> rowConsumer.accept(currentRow, rowCells);
+            default -> {
+            }
+        }
+    }
+
+    private RetailExcelCell toCell() {
+        // DOM 파서와 동일하게 수식 셀은 결과값과 관계없이 값 없음으로 취급
+        if (formula) {
+            return RetailExcelCell.OTHER;
+        }
+
+        String text = value.toString();
+        if (cellType == null || "n".equals(cellType)) {
+            if (text.isEmpty()) {
+                return RetailExcelCell.OTHER;
+            }
+            double number = Double.parseDouble(text);
+            return RetailExcelCell.numeric(number, formatNumber(number));
+        }
+        return switch (cellType) {
+            case "s" -> RetailExcelCell.string(sharedStrings.getItemAt(Integer.parseInt(text.trim())).getString());
+            case "inlineStr" -> RetailExcelCell.string(text);
+            default -> RetailExcelCell.OTHER;
+        };
+    }
+
+    // 셀 스타일의 표시 형식을 적용 ("00123" 처럼 앞자리 0 이 있는 숫자 코드 보존)
+    private String formatNumber(double number) {
+        int styleIndex = cellStyle != null ? Integer.parseInt(cellStyle) : 0;
+        if (styles != null && styleIndex < styles.getNumCellStyles()) {
+            XSSFCellStyle style = styles.getStyleAt(styleIndex);
+            short formatIndex = style.getDataFormat();
+            String formatString = style.getDataFormatString();
+            if (formatString == null) {
+                formatString = BuiltinFormats.getBuiltinFormat(formatIndex);
+            }
+            return formatter.formatRawCellContents(number, formatIndex, formatString);
+        }
+        return formatter.formatRawCellContents(number, 0, "General");
+    }
+}
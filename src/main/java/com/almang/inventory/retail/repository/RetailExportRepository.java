@@ -0,0 +1,41 @@
+package com.almang.inventory.retail.repository;
+
+import com.almang.inventory.global.export.StreamingExporter;
+import com.almang.inventory.retail.dto.RetailExportRow;
+import jakarta.persistence.EntityManager;
+import java.time.LocalDate;
+import java.util.stream.Stream;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 소매 내역 내보내기 조회 저장소
+ * 스트리밍용 fetch size 는 내보내기 쿼리에만 지정해야 하므로, 설정 값을 쓰는 StreamingExporter 로 쿼리를 엽니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class RetailExportRepository {
+
+    private static final String EXPORT_ROWS_QUERY = """
+        SELECT new com.almang.inventory.retail.dto.RetailExportRow(
+            retail.soldDate, retail.productCode, retail.productName, retail.quantity, retail.actualSales
+        )
+        FROM Retail retail
+        WHERE retail.store.id = :storeId
+          AND retail.soldDate BETWEEN :startDate AND :endDate
+        ORDER BY retail.soldDate ASC, retail.id ASC
+        """;
+
+    private final EntityManager entityManager;
+    private final StreamingExporter streamingExporter;
+
+    // 날짜 범위 소매 내역 내보내기 (store_id, sold_date 인덱스 순서로 읽으며, 트랜잭션 안에서 스트림을 끝까지 소비한 뒤 닫아야 함)
+    public Stream<RetailExportRow> streamExportRows(Long storeId, LocalDate startDate, LocalDate endDate) {
+        return streamingExporter.stream(
+                entityManager.createQuery(EXPORT_ROWS_QUERY, RetailExportRow.class)
+                        .setParameter("storeId", storeId)
+                        .setParameter("startDate", startDate)
+                        .setParameter("endDate", endDate)
+        );
+    }
+}
@@ -1,11 +1,16 @@
 package com.almang.inventory.retail.repository;
 
 import com.almang.inventory.retail.domain.Retail;
+import com.almang.inventory.retail.dto.ProductSalesSum;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface RetailRepository extends JpaRepository<Retail, Long> {
 
@@ -30,4 +35,51 @@ public interface RetailRepository extends JpaRepository<Retail, Long> {
 
     // 스토어 없이 날짜만으로 조회 (스토어가 null일 때 사용)
     List<Retail> findAllBySoldDate(LocalDate soldDate);
+
+    // 특정 날짜 + 상품 코드 목록으로 조회 (재업로드 비교용)
+    List<Retail> findAllByStoreIdAndSoldDateAndProductCodeIn(Long storeId, LocalDate soldDate, List<String> productCodes);
+
+    // 특정 날짜에 등록된 상품 코드 목록
+    @Query("""
+        SELECT DISTINCT retail.productCode
+        FROM Retail retail
+        WHERE retail.store.id = :storeId
+          AND retail.soldDate = :soldDate
+        """)
+    List<String> findProductCodesByStoreIdAndSoldDate(
+            @Param("storeId") Long storeId, @Param("soldDate") LocalDate soldDate);
+
+    // 커서 모드: (soldDate, id) 키셋 조건으로 이어서 조회
+    @Query("""
+        SELECT retail
+        FROM Retail retail
+        WHERE retail.store.id = :storeId
+          AND retail.soldDate BETWEEN :start AND :end
+          AND (
+                :cursorSoldDate IS NULL
+             OR retail.soldDate > :cursorSoldDate
+             OR (retail.soldDate = :cursorSoldDate AND retail.id > :cursorId)
+          )
+        ORDER BY retail.soldDate ASC, retail.id ASC
+        """)
+    Slice<Retail> findSliceByStoreIdAndSoldDateBetween(
+            @Param("storeId") Long storeId,
+            @Param("start") LocalDate start,
+            @Param("end") LocalDate end,
+            @Param("cursorSoldDate") LocalDate cursorSoldDate,
+            @Param("cursorId") Long cursorId,
+            Pageable pageable
+    );
+
+    // 상품별 since 이후 판매 수량 합계 (판매가 없는 상품은 결과에 없음)
+    @Query("""
+        SELECT new com.almang.inventory.retail.dto.ProductSalesSum(retail.product.id, SUM(retail.quantity))
+        FROM Retail retail
+        WHERE retail.product.id IN :productIds
+          AND retail.soldDate >= :since
+          AND retail.deletedAt IS NULL
+        GROUP BY retail.product.id
+        """)
+    List<ProductSalesSum> sumQuantityByProductIdsSince(
+            @Param("productIds") Collection<Long> productIds, @Param("since") LocalDate since);
 }
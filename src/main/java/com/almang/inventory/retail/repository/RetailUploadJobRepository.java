@@ -0,0 +1,91 @@
+package com.almang.inventory.retail.repository;
+
+import com.almang.inventory.retail.domain.RetailUploadJob;
+import com.almang.inventory.retail.domain.RetailUploadJobStatus;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+public interface RetailUploadJobRepository extends JpaRepository<RetailUploadJob, Long> {
+
+    // 대기 중인 작업만 선점하므로, 같은 작업이 여러 노드의 실행기에 들어가도 한 곳에서만 처리됨
+    @Transactional
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("""
+        UPDATE RetailUploadJob job
+        SET job.status = :processing, job.claimToken = :claimToken, job.startedAt = :now, job.updatedAt = :now
+        WHERE job.id = :jobId AND job.status = :pending
+        """)
+    int claim(
+            @Param("jobId") Long jobId,
+            @Param("pending") RetailUploadJobStatus pending,
+            @Param("processing") RetailUploadJobStatus processing,
+            @Param("claimToken") String claimToken,
+            @Param("now") LocalDateTime now
+    );
+
+    // 청크마다 선점이 유효한지 확인하며 처리 시각을 갱신 (0건이면 복구 작업이 다른 노드로 넘긴 작업)
+    @Transactional
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("""
+        UPDATE RetailUploadJob job
+        SET job.updatedAt = :now
+        WHERE job.id = :jobId AND job.status = :processing AND job.claimToken = :claimToken
+        """)
+    int heartbeat(
+            @Param("jobId") Long jobId,
+            @Param("processing") RetailUploadJobStatus processing,
+            @Param("claimToken") String claimToken,
+            @Param("now") LocalDateTime now
+    );
+
+    // 실행기에 들어가지 못했거나 처리하던 노드가 멈춰 updatedAt 이 갱신되지 않은 작업
+    @Query("""
+        SELECT job.id
+        FROM RetailUploadJob job
+        WHERE job.status IN :statuses AND job.updatedAt < :before
+        ORDER BY job.id ASC
+        """)
+    List<Long> findStaleIds(
+            @Param("statuses") Collection<RetailUploadJobStatus> statuses,
+            @Param("before") LocalDateTime before
+    );
+
+    // 조회 이후 다시 갱신된 작업은 조건에서 빠짐 - 소매 반영은 파일과 기존 내역의 차이만 쓰므로 진행 상황을 비우고 처음부터 다시 처리
+    @Transactional
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("""
+        UPDATE RetailUploadJob job
+        SET job.status = :pending, job.claimToken = NULL, job.processedCount = 0, job.skippedCount = 0,
+            job.skippedProducts = NULL, job.startedAt = NULL, job.updatedAt = :now
+        WHERE job.id = :jobId AND job.status IN :statuses AND job.updatedAt < :before
+        """)
+    int requeue(
+            @Param("jobId") Long jobId,
+            @Param("statuses") Collection<RetailUploadJobStatus> statuses,
+            @Param("before") LocalDateTime before,
+            @Param("pending") RetailUploadJobStatus pending,
+            @Param("now") LocalDateTime now
+    );
+
+    // 아직 어느 노드도 선점하지 않은 대기 작업만 실패 처리
+    @Transactional
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("""
+        UPDATE RetailUploadJob job
+        SET job.status = :failed, job.errorMessage = :errorMessage, job.completedAt = :now, job.updatedAt = :now
+        WHERE job.id = :jobId AND job.status = :pending
+        """)
+    int failPending(
+            @Param("jobId") Long jobId,
+            @Param("pending") RetailUploadJobStatus pending,
+            @Param("failed") RetailUploadJobStatus failed,
+            @Param("errorMessage") String errorMessage,
+            @Param("now") LocalDateTime now
+    );
+}
@@ -1,19 +1,27 @@
 package com.almang.inventory.retail.service;
 
+import com.almang.inventory.global.api.CursorResponse;
 import com.almang.inventory.global.api.PageResponse;
 import com.almang.inventory.global.context.UserContextProvider;
 import com.almang.inventory.global.context.UserContextProvider.UserStoreContext;
 import com.almang.inventory.global.exception.BaseException;
 import com.almang.inventory.global.exception.ErrorCode;
+import com.almang.inventory.global.export.ExportFile;
+import com.almang.inventory.global.export.ExportFormat;
+import com.almang.inventory.global.export.StreamingExporter;
+import com.almang.inventory.global.util.PageCursor;
 import com.almang.inventory.global.util.PaginationUtil;
 import com.almang.inventory.inventory.domain.Inventory;
 import com.almang.inventory.inventory.repository.InventoryRepository;
+import com.almang.inventory.inventory.service.InventoryService;
 import com.almang.inventory.product.domain.Product;
 import com.almang.inventory.product.repository.ProductRepository;
 import com.almang.inventory.retail.domain.Retail;
+import com.almang.inventory.retail.dto.RetailExportRow;
 import com.almang.inventory.retail.dto.excel.RetailExcelRowDto;
 import com.almang.inventory.retail.dto.response.RetailResponse;
 import com.almang.inventory.retail.parser.RetailExcelParser;
+import com.almang.inventory.retail.repository.RetailExportRepository;
 import com.almang.inventory.retail.repository.RetailRepository;
 import com.almang.inventory.store.domain.Store;
 import java.io.InputStream;
@@ -21,6 +29,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
@@ -30,7 +39,14 @@ import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.ZoneId;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Slf4j
 @Service
@@ -38,12 +54,18 @@ import java.util.List;
 public class RetailService {
 
     private static final ZoneId SEOUL_ZONE = ZoneId.of("Asia/Seoul");
+    // 상품/재고 일괄 조회 시 IN 절에 담을 최대 코드 수
+    private static final int RESOLVE_CHUNK_SIZE = 500;
 
     private final RetailRepository retailRepository;
+    private final RetailExportRepository retailExportRepository;
     private final ProductRepository productRepository;
     private final InventoryRepository inventoryRepository;
+    private final InventoryService inventoryService;
     private final UserContextProvider userContextProvider;
     private final RetailExcelParser retailExcelParser;
+    private final RetailUploadFingerprintStore retailUploadFingerprintStore;
+    private final StreamingExporter streamingExporter;
 
     @Transactional
     public RetailUploadResult processRetailExcel(MultipartFile file, Long userId) {
@@ -52,100 +74,349 @@ public class RetailService {
         Store store = context.store();
 
         // 2. soldDate 계산
-        LocalDate soldDate = LocalDate.now(SEOUL_ZONE);
-
-        // 3. 기존 데이터 soft delete
-        List<Retail> existingRetails = retailRepository.findAllByStoreIdAndSoldDate(store.getId(), soldDate);
-        if (!existingRetails.isEmpty()) {
-            log.warn("[RetailService] 해당 날짜({})에 이미 소매 데이터가 존재합니다. 기존 데이터를 소프트 삭제하고 새로 저장합니다. - storeId: {}, count: {}",
-                    soldDate, store.getId(), existingRetails.size());
-            // 삭제 전 상세 정보 로그 기록 (복구를 위한 참고용)
-            existingRetails.forEach(retail ->
-                    log.debug("[RetailService] 소프트 삭제 대상 - retailId: {}, productCode: {}, quantity: {}, actualSales: {}",
-                            retail.getId(), retail.getProductCode(), retail.getQuantity(), retail.getActualSales())
-            );
-            // 소프트 삭제: deletedAt 필드 설정
-            existingRetails.forEach(Retail::delete);
-            retailRepository.saveAll(existingRetails);
-        }
-
-        List<RetailExcelRowDto> rows;
+        LocalDate soldDate = currentSoldDate();
+
+        // 3. 멀티파트 본문을 읽으며 SHA-256 지문을 계산하고, 마지막으로 반영된 파일과 같으면 파싱 없이 이전 결과를 그대로 반환
+        String contentHash;
+        try (InputStream inputStream = file.getInputStream()) {
+            contentHash = RetailUploadFingerprintStore.sha256(inputStream);
+        } catch (IOException e) {
+            throw new BaseException(ErrorCode.EXCEL_PARSE_ERROR);
+        }
+        Optional<RetailUploadResult> previousResult =
+                retailUploadFingerprintStore.findResult(store.getId(), soldDate, contentHash);
+        if (previousResult.isPresent()) {
+            log.info("[RetailService] 마지막으로 반영된 파일과 동일하여 이전 처리 결과를 반환합니다 - storeId: {}, soldDate: {}",
+                    store.getId(), soldDate);
+            return previousResult.get();
+        }
+
+        // 4. 엑셀을 스트리밍으로 읽어 상품 코드별로 합산하고, 같은 날짜의 기존 소매 내역과 비교할 코드 목록 구성
+        RetailReconcilePlan plan;
         try (InputStream inputStream = file.getInputStream()) {
-            rows = retailExcelParser.parse(inputStream);
+            plan = planReconciliation(inputStream, store, soldDate);
         } catch (IOException e) {
             throw new BaseException(ErrorCode.EXCEL_PARSE_ERROR);
         }
 
-        List<Retail> retails = new ArrayList<>();
+        // 5. 청크 단위로 변경분만 재고와 소매 내역에 반영
+        int processedCount = 0;
         List<String> skippedProducts = new ArrayList<>();
+        for (List<String> codes : plan.codeChunks()) {
+            RetailUploadResult chunkResult = reconcileCodes(codes, plan, store, soldDate);
+            processedCount += chunkResult.processedCount();
+            skippedProducts.addAll(chunkResult.skippedProducts());
+        }
+
+        RetailUploadResult result = new RetailUploadResult(processedCount, skippedProducts);
+        retailUploadFingerprintStore.saveAfterCommit(store.getId(), soldDate, contentHash, result);
+        return result;
+    }
 
-        for (RetailExcelRowDto row : rows) {
-            String code = row.code();
-            String productName = row.productName();
-            BigDecimal quantity = row.quantity();
-            Integer actualSales = row.actualSales();
+    public LocalDate currentSoldDate() {
+        return LocalDate.now(SEOUL_ZONE);
+    }
 
-            Product product = productRepository.findByCode(code).orElse(null);
-            if (product == null) {
-                String skippedInfo = String.format("%s (%s)", code, productName);
-                skippedProducts.add(skippedInfo);
-                log.warn("[RetailService] 상품을 찾을 수 없어 스킵합니다 - rowIndex: {}, code: {}, productName: {}",
-                        row.rowIndex(), code, productName);
-                continue;  // 상품이 없으면 해당 행 스킵하고 계속 진행
+    /**
+     * 업로드 파일의 행을 상품 코드별로 묶고, 비교 대상 코드(파일의 코드 + 파일에서 빠진 기존 코드)를 청크로 나눕니다.
+     * 행별 처리 결과(스킵 사유, 처리 행 수)를 남기기 위해 행은 그대로 보관하며, 조회와 반영은 상품 코드 단위로 합니다.
+     */
+    public RetailReconcilePlan planReconciliation(InputStream inputStream, Store store, LocalDate soldDate)
+            throws IOException {
+        Map<String, RetailFileLine> fileLines = new LinkedHashMap<>();
+        retailExcelParser.parse(inputStream, row -> fileLines
+                .computeIfAbsent(row.code(), code -> new RetailFileLine(code, new ArrayList<>()))
+                .rows().add(row));
+
+        List<String> codes = new ArrayList<>(fileLines.keySet());
+        retailRepository.findProductCodesByStoreIdAndSoldDate(store.getId(), soldDate).stream()
+                .filter(code -> !fileLines.containsKey(code))
+                .forEach(codes::add);
+
+        List<List<String>> codeChunks = new ArrayList<>();
+        for (int from = 0; from < codes.size(); from += RESOLVE_CHUNK_SIZE) {
+            codeChunks.add(List.copyOf(codes.subList(from, Math.min(from + RESOLVE_CHUNK_SIZE, codes.size()))));
+        }
+        return new RetailReconcilePlan(fileLines, codeChunks);
+    }
+
+    /**
+     * 한 청크의 상품 코드에 대해 업로드 파일과 같은 날짜의 기존 소매 내역 간 차이만 반영합니다.
+     * - 새 코드: 매대 재고 차감 후 소매 내역 추가
+     * - 수량 증가/감소: 차이만큼만 매대 재고 차감/복원 후 기존 소매 내역 수정
+     * - 파일에서 빠진 코드: 판매 수량만큼 매대 재고 복원 후 소매 내역 소프트 삭제
+     * - 변경 없음: 아무것도 쓰지 않음
+     * 같은 코드의 여러 행은 합산하여 한 번에 차감하고, 재고가 모자라면 행 순서대로 들어가는 행만 반영하고 나머지 행은 스킵합니다.
+     * 청크 내 조회는 소매 내역, 상품, 재고 각각 IN 쿼리 1회로 처리합니다.
+     */
+    @Transactional
+    public RetailUploadResult reconcileCodes(
+            List<String> codes, RetailReconcilePlan plan, Store store, LocalDate soldDate
+    ) {
+        Map<String, List<Retail>> existingByCode = retailRepository
+                .findAllByStoreIdAndSoldDateAndProductCodeIn(store.getId(), soldDate, codes).stream()
+                .collect(Collectors.groupingBy(Retail::getProductCode));
+
+        // 기존 소매 내역이 없는 코드만 상품을 새로 조회
+        List<String> newCodes = codes.stream()
+                .filter(code -> !existingByCode.containsKey(code))
+                .toList();
+        Map<String, Product> productsByCode = newCodes.isEmpty()
+                ? Map.of()
+                : productRepository.findAllByStoreIdAndCodeIn(store.getId(), newCodes).stream()
+                        .collect(Collectors.toMap(Product::getCode, Function.identity(), (first, second) -> first));
+
+        List<Long> productIds = Stream.concat(
+                productsByCode.values().stream().map(Product::getId),
+                existingByCode.values().stream().map(retails -> retails.get(0).getProduct().getId())
+        ).distinct().toList();
+        Map<Long, Inventory> inventoriesByProductId = productIds.isEmpty()
+                ? Map.of()
+                : inventoryRepository.findAllByProduct_IdIn(productIds).stream()
+                        .collect(Collectors.toMap(inventory -> inventory.getProduct().getId(), Function.identity()));
+
+        List<Retail> newRetails = new ArrayList<>();
+        List<String> skippedProducts = new ArrayList<>();
+        int processedCount = 0;
+
+        for (String code : codes) {
+            RetailFileLine line = plan.fileLines().get(code);
+            List<Retail> existing = existingByCode.get(code);
+
+            processedCount += existing == null
+                    ? addRetail(line, store, soldDate, productsByCode, inventoriesByProductId, newRetails, skippedProducts)
+                    : reconcileRetail(code, line, existing, inventoriesByProductId, skippedProducts);
+        }
+
+        retailRepository.saveAll(newRetails);
+        return new RetailUploadResult(processedCount, skippedProducts);
+    }
+
+    // 새 코드의 행을 반영하고 반영된 행 수를 반환
+    private int addRetail(
+            RetailFileLine line, Store store, LocalDate soldDate,
+            Map<String, Product> productsByCode, Map<Long, Inventory> inventoriesByProductId,
+            List<Retail> retails, List<String> skippedProducts
+    ) {
+        String code = line.code();
+        String productName = line.productName();
+
+        Product product = productsByCode.get(code);
+        if (product == null) {
+            skipRows(line.rows(), String.format("%s (%s)", code, productName), skippedProducts);
+            log.warn("[RetailService] 상품을 찾을 수 없어 스킵합니다 - rowIndexes: {}, code: {}, productName: {}",
+                    line.rowIndexes(), code, productName);
+            return 0;  // 상품이 없으면 해당 행 스킵하고 계속 진행
+        }
+
+        // 품목 생성 시 자동으로 재고 레코드가 생성되므로, 재고 레코드가 없는 경우는 매우 드뭅니다
+        // 재고 차감 시 마이너스 방지 검증(decreaseDisplay)이 있으므로, 재고 레코드가 없으면 스킵
+        Inventory inventory = inventoriesByProductId.get(product.getId());
+        if (inventory == null) {
+            skipRows(line.rows(), String.format("%s (%s) - 재고 레코드 없음", code, productName), skippedProducts);
+            log.warn("[RetailService] 재고 레코드가 없어 스킵합니다 - productId: {}, productCode: {}, productName: {}",
+                    product.getId(), code, productName);
+            return 0;  // 재고 레코드가 없으면 해당 행 스킵하고 계속 진행
+        }
+
+        // 재고 차감을 먼저 시도 (성공한 경우에만 Retail 엔티티 생성)
+        // 조건부 UPDATE로 차감하며, 재고 부족이면 들어가는 행만 다시 골라 차감하고 나머지 행은 스킵
+        List<RetailExcelRowDto> accepted = line.rows();
+        if (!inventoryService.decreaseDisplayStockFromRetail(inventory, line.quantity())) {
+            accepted = acceptRowsWithinStock(line, inventory.getDisplayStock(), skippedProducts);
+            BigDecimal acceptedQuantity = sumQuantity(accepted);
+            if (acceptedQuantity.signum() > 0
+                    && !inventoryService.decreaseDisplayStockFromRetail(inventory, acceptedQuantity)) {
+                skipRowsForShortage(line, accepted, inventory.getDisplayStock(), skippedProducts);
+                return 0;
             }
+        }
+        if (accepted.isEmpty()) {
+            return 0;
+        }
+
+        Retail retail = Retail.builder()
+                .store(store)
+                .product(product)
+                .productCode(code)  // 판매 시점의 상품 코드
+                .productName(productName)  // 판매 시점의 상품명 (POS에서 저장된 값)
+                .soldDate(soldDate)  // 판매일자
+                .quantity(sumQuantity(accepted))
+                .actualSales(sumActualSales(accepted))  // 실매출
+                .build();
+        retails.add(retail);
+        return accepted.size();
+    }
+
+    // 같은 코드의 기존 소매 내역과 비교하여 차이만 반영하고, 반영된 파일 행 수를 반환 (변경이 없으면 쓰지 않고 행 수만 반환)
+    private int reconcileRetail(
+            String code, RetailFileLine line, List<Retail> existing,
+            Map<Long, Inventory> inventoriesByProductId, List<String> skippedProducts
+    ) {
+        Retail retail = existing.get(0);
+        BigDecimal previousQuantity = existing.stream()
+                .map(Retail::getQuantity)
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        String productName = line == null ? retail.getProductName() : line.productName();
 
-            // 품목 생성 시 자동으로 재고 레코드가 생성되므로, 재고 레코드가 없는 경우는 매우 드뭅니다
-            // 재고 차감 시 마이너스 방지 검증(decreaseDisplay)이 있으므로, 재고 레코드가 없으면 스킵
-            var inventoryOpt = inventoryRepository.findByProduct(product);
-            if (inventoryOpt.isEmpty()) {
-                String skippedInfo = String.format("%s (%s) - 재고 레코드 없음", code, productName);
+        if (line != null && existing.size() == 1 && line.quantity().compareTo(previousQuantity) == 0
+                && Objects.equals(retail.getActualSales(), sumActualSales(line.rows()))
+                && retail.getProductName().equals(productName)) {
+            return line.rows().size();  // 변경 없음
+        }
+
+        Inventory inventory = inventoriesByProductId.get(retail.getProduct().getId());
+        List<RetailExcelRowDto> accepted = line == null ? List.of() : line.rows();
+        BigDecimal delta = sumQuantity(accepted).subtract(previousQuantity);
+        if (delta.signum() != 0 && inventory == null) {
+            String skippedInfo = String.format("%s (%s) - 재고 레코드 없음", code, productName);
+            if (line == null) {
                 skippedProducts.add(skippedInfo);
-                log.warn("[RetailService] 재고 레코드가 없어 스킵합니다 - productId: {}, productCode: {}, productName: {}",
-                        product.getId(), code, productName);
-                continue;  // 재고 레코드가 없으면 해당 행 스킵하고 계속 진행
+            } else {
+                skipRows(line.rows(), skippedInfo, skippedProducts);
             }
+            log.warn("[RetailService] 재고 레코드가 없어 스킵합니다 - productId: {}, productCode: {}, productName: {}",
+                    retail.getProduct().getId(), code, productName);
+            return 0;
+        }
 
-            // 재고 차감을 먼저 시도 (성공한 경우에만 Retail 엔티티 생성)
-            // 재고 부족 시 예외를 catch하여 해당 상품만 스킵하고 나머지는 계속 처리
-            Inventory inventory = inventoryOpt.get();
-            try {
-                inventory.decreaseDisplay(quantity);
-            } catch (BaseException e) {
-                // 재고 부족 시 해당 상품을 스킵하고 계속 진행
-                // decreaseDisplay() 메서드는 DISPLAY_STOCK_NOT_ENOUGH 예외를 던짐
-                BigDecimal currentStock = inventory.getDisplayStock();
-                String skippedInfo = String.format("%s (%s) - 재고 부족 (필요: %s, 현재: %s)",
-                        code, productName, quantity, currentStock);
-                skippedProducts.add(skippedInfo);
-                log.warn("[RetailService] 재고 부족으로 스킵합니다 - productCode: {}, productName: {}, required: {}, available: {}",
-                        code, productName, quantity, currentStock);
-                continue;  // 재고 부족이면 해당 행 스킵하고 계속 진행
+        if (delta.signum() > 0 && !inventoryService.decreaseDisplayStockFromRetail(inventory, delta)) {
+            // 이미 차감된 이전 수량까지 포함해, 처음부터 반영하는 것처럼 들어가는 행만 다시 고름
+            accepted = acceptRowsWithinStock(line, inventory.getDisplayStock().add(previousQuantity), skippedProducts);
+            delta = sumQuantity(accepted).subtract(previousQuantity);
+            if (delta.signum() > 0 && !inventoryService.decreaseDisplayStockFromRetail(inventory, delta)) {
+                // 그 사이 재고가 더 줄었으면 기존 소매 내역과 재고는 그대로 유지
+                skipRowsForShortage(line, accepted, inventory.getDisplayStock(), skippedProducts);
+                log.warn("[RetailService] 재고 부족으로 수량 변경을 스킵합니다 - productCode: {}, previous: {}, requested: {}",
+                        code, previousQuantity, line.quantity());
+                return 0;
             }
+        }
+        if (delta.signum() < 0) {
+            inventoryService.restoreDisplayStockFromRetail(inventory, delta.negate());
+        }
 
-            Retail retail = Retail.builder()
-                    .store(store)
-                    .product(product)
-                    .productCode(code)  // 판매 시점의 상품 코드
-                    .productName(productName)  // 판매 시점의 상품명 (POS에서 저장된 값)
-                    .soldDate(soldDate)  // 판매일자
-                    .quantity(quantity)
-                    .actualSales(actualSales)  // 실매출
-                    .build();
-            retails.add(retail);
+        if (accepted.isEmpty()) {
+            // 파일에서 빠졌거나 모든 행이 스킵된 상품: 판매 취소로 보고 소프트 삭제
+            existing.forEach(Retail::delete);
+            log.info("[RetailService] 반영할 행이 없는 상품의 소매 내역을 삭제합니다 - productCode: {}, restored: {}",
+                    code, previousQuantity);
+            return 0;
         }
 
-        // 5. Retail 저장
-        retailRepository.saveAll(retails);
+        retail.updateQuantity(sumQuantity(accepted));
+        retail.updateActualSales(sumActualSales(accepted));
+        retail.updateProductName(productName);
+        // 같은 코드로 여러 행이 있던 경우 첫 행에 합산하고 나머지는 소프트 삭제
+        existing.stream().skip(1).forEach(Retail::delete);
+        return accepted.size();
+    }
+
+    // 행 순서대로 남은 재고 안에 들어가는 행만 고르고, 들어가지 않는 행은 재고 부족으로 스킵 목록에 추가
+    private List<RetailExcelRowDto> acceptRowsWithinStock(
+            RetailFileLine line, BigDecimal availableStock, List<String> skippedProducts
+    ) {
+        List<RetailExcelRowDto> accepted = new ArrayList<>();
+        BigDecimal remaining = availableStock;
+        for (RetailExcelRowDto row : line.rows()) {
+            if (row.quantity().compareTo(remaining) <= 0) {
+                accepted.add(row);
+                remaining = remaining.subtract(row.quantity());
+                continue;
+            }
+            skippedProducts.add(shortageInfo(line, row, remaining));
+            log.warn("[RetailService] 재고 부족으로 스킵합니다 - rowIndex: {}, productCode: {}, productName: {}, required: {}, available: {}",
+                    row.rowIndex(), line.code(), line.productName(), row.quantity(), remaining);
+        }
+        return accepted;
+    }
+
+    // 다시 고른 행마저 차감하지 못한 경우 (그 사이 다른 요청이 재고를 줄임)
+    private void skipRowsForShortage(
+            RetailFileLine line, List<RetailExcelRowDto> rows, BigDecimal currentStock, List<String> skippedProducts
+    ) {
+        rows.forEach(row -> skippedProducts.add(shortageInfo(line, row, currentStock)));
+    }
+
+    private String shortageInfo(RetailFileLine line, RetailExcelRowDto row, BigDecimal currentStock) {
+        return String.format("%s (%s) - 재고 부족 (필요: %s, 현재: %s)",
+                line.code(), line.productName(), row.quantity().toPlainString(), currentStock.toPlainString());
+    }
+
+    // 스킵 목록은 행 단위로 남김 (같은 코드의 행이 여럿이면 행 수만큼)
+    private void skipRows(List<RetailExcelRowDto> rows, String skippedInfo, List<String> skippedProducts) {
+        rows.forEach(row -> skippedProducts.add(skippedInfo));
+    }
+
+    private static BigDecimal sumQuantity(List<RetailExcelRowDto> rows) {
+        return rows.stream()
+                .map(RetailExcelRowDto::quantity)
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+    }
 
-        return new RetailUploadResult(retails.size(), skippedProducts);
+    // 실매출이 비어 있는 행은 제외하고 합산 (모두 비어 있으면 null)
+    private static Integer sumActualSales(List<RetailExcelRowDto> rows) {
+        return rows.stream()
+                .map(RetailExcelRowDto::actualSales)
+                .filter(Objects::nonNull)
+                .reduce(Integer::sum)
+                .orElse(null);
     }
 
     // 업로드 결과를 담는 내부 클래스
     public record RetailUploadResult(
-            int processedCount,  // 처리된 상품 수
-            List<String> skippedProducts  // 스킵된 상품 목록 (코드 + 상품명)
+            int processedCount,  // 처리된 행 수 (소매 내역에 반영된 파일 행)
+            List<String> skippedProducts  // 스킵된 행 목록 (코드 + 상품명, 행마다 하나)
     ) {}
 
+    // 업로드 파일에서 같은 상품 코드로 묶은 행 (행 순서 유지)
+    public record RetailFileLine(
+            String code,
+            List<RetailExcelRowDto> rows
+    ) {
+        public BigDecimal quantity() {
+            return sumQuantity(rows);
+        }
+
+        // 상품명은 먼저 나온 값 우선
+        public String productName() {
+            return rows.stream()
+                    .map(RetailExcelRowDto::productName)
+                    .filter(name -> !name.isEmpty())
+                    .findFirst()
+                    .orElse("");
+        }
+
+        public List<Integer> rowIndexes() {
+            return rows.stream().map(RetailExcelRowDto::rowIndex).toList();
+        }
+    }
+
+    // 재업로드 비교 계획: 상품 코드별로 묶은 행과 청크로 나눈 비교 대상 코드
+    public record RetailReconcilePlan(
+            Map<String, RetailFileLine> fileLines,
+            List<List<String>> codeChunks
+    ) {}
+
+    public ExportFile exportRetails(Long userId, LocalDate startDate, LocalDate endDate, String formatParam) {
+        UserStoreContext context = userContextProvider.findUserAndStore(userId);
+        Long storeId = context.store().getId();
+        ExportFormat format = ExportFormat.from(formatParam);
+
+        LocalDate end = endDate != null ? endDate : LocalDate.now(SEOUL_ZONE);
+        LocalDate start = startDate != null ? startDate : end.minusDays(30);
+        if (start.isAfter(end)) {
+            throw new BaseException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+
+        log.info("[RetailService] 소매 내역 내보내기 요청 - userId: {}, storeId: {}, startDate: {}, endDate: {}, format: {}",
+                userId, storeId, start, end, format);
+        return streamingExporter.export(
+                "소매내역_" + start + "_" + end, format, RetailExportRow.HEADERS,
+                () -> retailExportRepository.streamExportRows(storeId, start, end), RetailExportRow::columns
+        );
+    }
+
     @Transactional(readOnly = true)
     public PageResponse<RetailResponse> getRetailList(
             Long userId, Integer page, Integer size, LocalDate soldDate,
@@ -183,6 +454,48 @@ public class RetailService {
         return PageResponse.from(mapped);
     }
 
+    @Transactional(readOnly = true)
+    public CursorResponse<RetailResponse> getRetailListByCursor(
+            Long userId, String cursor, Integer size, LocalDate soldDate,
+            LocalDate startDate, LocalDate endDate
+    ) {
+        UserStoreContext context = userContextProvider.findUserAndStore(userId);
+        Store store = context.store();
+
+        log.info("[RetailService] 소매 내역 목록 커서 조회 요청 - userId: {}, storeId: {}, soldDate: {}, startDate: {}, endDate: {}",
+                userId, store.getId(), soldDate, startDate, endDate);
+
+        // 페이지 모드와 같은 날짜 조건: 특정 날짜 > 날짜 범위 > 최근 30일
+        LocalDate start;
+        LocalDate end;
+        if (soldDate != null) {
+            start = soldDate;
+            end = soldDate;
+        } else if (startDate != null && endDate != null) {
+            start = startDate;
+            end = endDate;
+        } else {
+            end = LocalDate.now(SEOUL_ZONE);
+            start = end.minusDays(30);
+        }
+
+        PageCursor pageCursor = PageCursor.decode(cursor);
+        Slice<Retail> retailSlice = retailRepository.findSliceByStoreIdAndSoldDateBetween(
+                store.getId(), start, end,
+                pageCursor != null ? pageCursor.sortKeyAsDate() : null,
+                pageCursor != null ? pageCursor.id() : null,
+                PaginationUtil.createCursorRequest(size)
+        );
+
+        log.info("[RetailService] 소매 내역 목록 커서 조회 성공 - userId: {}, storeId: {}, count: {}",
+                userId, store.getId(), retailSlice.getNumberOfElements());
+        return CursorResponse.from(
+                retailSlice,
+                RetailResponse::from,
+                retail -> PageCursor.of(retail.getSoldDate(), retail.getId())
+        );
+    }
+
     @Transactional(readOnly = true)
     public List<RetailResponse> getRetailListByDate(Long userId, LocalDate soldDate) {
         UserStoreContext context = userContextProvider.findUserAndStore(userId);
@@ -0,0 +1,118 @@
+package com.almang.inventory.retail.service;
+
+import com.almang.inventory.retail.service.RetailService.RetailUploadResult;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.HexFormat;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 상점/판매일자별로 마지막으로 반영된 소매 업로드 파일의 SHA-256 지문과 처리 결과를 Redis에 보관합니다.
+ * 마지막 반영 파일과 내용이 같은 파일이 다시 올라오면 파싱과 DB 반영 없이 이전 결과를 돌려줄 수 있습니다.
+ * 지문은 캐시일 뿐이므로 Redis 장애 시에는 조회/저장을 건너뛰고 정상 처리 경로로 진행합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RetailUploadFingerprintStore {
+
+    private static final String LAST_UPLOAD_PREFIX = "retail:upload:last:";
+    private static final Duration TTL = Duration.ofDays(2);
+    private static final int BUFFER_SIZE = 8192;
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    private String lastUploadKey(Long storeId, LocalDate soldDate) {
+        return LAST_UPLOAD_PREFIX + storeId + ":" + soldDate;
+    }
+
+    public static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 을 사용할 수 없습니다.", e);
+        }
+    }
+
+    public static String toHex(MessageDigest digest) {
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    // 스트림을 끝까지 읽으며 SHA-256 지문 계산 (버퍼 크기만큼만 메모리 사용)
+    public static String sha256(InputStream inputStream) throws IOException {
+        MessageDigest digest = newDigest();
+        byte[] buffer = new byte[BUFFER_SIZE];
+        int read;
+        while ((read = inputStream.read(buffer)) != -1) {
+            digest.update(buffer, 0, read);
+        }
+        return toHex(digest);
+    }
+
+    // 마지막으로 반영된 업로드와 지문이 같으면 그때의 처리 결과를 반환
+    public Optional<RetailUploadResult> findResult(Long storeId, LocalDate soldDate, String contentHash) {
+        try {
+            String value = redisTemplate.opsForValue().get(lastUploadKey(storeId, soldDate));
+            if (value == null) {
+                return Optional.empty();
+            }
+            LastUpload lastUpload = objectMapper.readValue(value, LastUpload.class);
+            if (!lastUpload.contentHash().equals(contentHash)) {
+                return Optional.empty();
+            }
+            return Optional.of(lastUpload.result());
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn("[RetailUploadFingerprintStore] 업로드 지문 조회 실패, 일반 처리로 진행합니다 - storeId: {}, soldDate: {}",
+                    storeId, soldDate, e);
+            return Optional.empty();
+        }
+    }
+
+    // 진행 중인 트랜잭션이 있으면 커밋된 뒤에 저장 (롤백된 업로드의 지문이 남지 않도록)
+    public void saveAfterCommit(Long storeId, LocalDate soldDate, String contentHash, RetailUploadResult result) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            save(storeId, soldDate, contentHash, result);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                save(storeId, soldDate, contentHash, result);
+            }
+        });
+    }
+
+    // 다른 파일의 반영을 시작하기 전에 호출하여, 반영 도중 실패해도 이전 지문이 남지 않도록 함
+    public void evict(Long storeId, LocalDate soldDate) {
+        try {
+            redisTemplate.delete(lastUploadKey(storeId, soldDate));
+        } catch (DataAccessException e) {
+            log.warn("[RetailUploadFingerprintStore] 업로드 지문 삭제 실패 - storeId: {}, soldDate: {}", storeId, soldDate, e);
+        }
+    }
+
+    private void save(Long storeId, LocalDate soldDate, String contentHash, RetailUploadResult result) {
+        try {
+            String value = objectMapper.writeValueAsString(new LastUpload(contentHash, result));
+            redisTemplate.opsForValue().set(lastUploadKey(storeId, soldDate), value, TTL);
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn("[RetailUploadFingerprintStore] 업로드 지문 저장 실패 - storeId: {}, soldDate: {}", storeId, soldDate, e);
+        }
+    }
+
+    record LastUpload(String contentHash, RetailUploadResult result) {}
+}
@@ -0,0 +1,111 @@
+package com.almang.inventory.retail.service;
+
+import com.almang.inventory.global.exception.ErrorCode;
+import com.almang.inventory.retail.domain.RetailUploadJob;
+import com.almang.inventory.retail.domain.RetailUploadJobStatus;
+import com.almang.inventory.retail.repository.RetailUploadJobRepository;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 멈춘 소매 업로드 작업 복구
+ * 작업은 실행기 대기열(메모리)에만 들어가므로, 노드가 재시작되면 대기/처리 중 작업이 그대로 남습니다.
+ * 처리 중인 작업은 청크마다 updatedAt 을 갱신하므로, staleAfter 동안 갱신되지 않은 대기/처리 중 작업을 다시 대기열에 넣고
+ * 업로드 파일이 남아 있으면 이 노드의 실행기에서 접수 때 정한 판매일 기준으로 처음부터 다시 처리하며, 파일이 없으면 실패로 기록합니다.
+ * 여러 노드에서 실행하려면 retail.upload.storage-dir 이 모든 노드가 함께 쓰는 경로여야 합니다.
+ */
+@Slf4j
+@Component
+public class RetailUploadJobRecovery {
+
+    private static final List<RetailUploadJobStatus> UNFINISHED_STATUSES =
+            List.of(RetailUploadJobStatus.PENDING, RetailUploadJobStatus.PROCESSING);
+
+    private final RetailUploadJobRepository retailUploadJobRepository;
+    private final RetailUploadJobWorker retailUploadJobWorker;
+    private final boolean enabled;
+    private final Duration staleAfter;
+
+    public RetailUploadJobRecovery(
+            RetailUploadJobRepository retailUploadJobRepository,
+            RetailUploadJobWorker retailUploadJobWorker,
+            @Value("${retail.upload.recovery.enabled:true}") boolean enabled,
+            @Value("${retail.upload.recovery.stale-after:PT15M}") Duration staleAfter
+    ) {
+        this.retailUploadJobRepository = retailUploadJobRepository;
+        this.retailUploadJobWorker = retailUploadJobWorker;
+        this.enabled = enabled;
+        this.staleAfter = staleAfter;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void recoverOnStartup() {
+        scheduledRecover();
+    }
+
+    @Scheduled(
+            fixedDelayString = "${retail.upload.recovery.interval-ms:60000}",
+            initialDelayString = "${retail.upload.recovery.interval-ms:60000}"
+    )
+    public void scheduledRecover() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            recover();
+        } catch (Exception e) {
+            log.error("[RetailUploadJobRecovery] 멈춘 소매 업로드 작업 복구 실패", e);
+        }
+    }
+
+    /**
+     * 멈춘 작업을 다시 대기열에 넣습니다.
+     * @return 이번 호출에서 다시 처리를 맡긴 작업 수
+     */
+    public int recover() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime before = now.minus(staleAfter);
+        int resubmitted = 0;
+        for (Long jobId : retailUploadJobRepository.findStaleIds(UNFINISHED_STATUSES, before)) {
+            // 다른 노드가 먼저 복구했거나 그 사이 진행된 작업은 건너뜀
+            if (retailUploadJobRepository.requeue(
+                    jobId, UNFINISHED_STATUSES, before, RetailUploadJobStatus.PENDING, now) == 0) {
+                continue;
+            }
+            RetailUploadJob job = retailUploadJobRepository.findById(jobId).orElse(null);
+            if (job == null) {
+                continue;
+            }
+
+            if (!Files.exists(Path.of(job.getStoredFilePath()))) {
+                retailUploadJobRepository.failPending(
+                        jobId, RetailUploadJobStatus.PENDING, RetailUploadJobStatus.FAILED,
+                        ErrorCode.RETAIL_UPLOAD_JOB_INTERRUPTED.getMessage(), now
+                );
+                log.warn("[RetailUploadJobRecovery] 업로드 파일이 없어 멈춘 작업을 실패 처리합니다 - jobId: {}, path: {}",
+                        jobId, job.getStoredFilePath());
+                continue;
+            }
+
+            try {
+                retailUploadJobWorker.run(jobId);
+                resubmitted++;
+                log.info("[RetailUploadJobRecovery] 멈춘 소매 업로드 작업을 다시 처리합니다 - jobId: {}", jobId);
+            } catch (TaskRejectedException e) {
+                // 대기 상태로 남으므로 staleAfter 이후 다음 복구에서 다시 시도
+                log.warn("[RetailUploadJobRecovery] 처리 대기열이 가득 차 다음 복구에서 다시 시도합니다 - jobId: {}", jobId);
+            }
+        }
+        return resubmitted;
+    }
+}
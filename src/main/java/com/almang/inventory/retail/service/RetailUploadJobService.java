@@ -0,0 +1,135 @@
+package com.almang.inventory.retail.service;
+
+import com.almang.inventory.global.context.UserContextProvider;
+import com.almang.inventory.global.context.UserContextProvider.UserStoreContext;
+import com.almang.inventory.global.exception.BaseException;
+import com.almang.inventory.global.exception.ErrorCode;
+import com.almang.inventory.retail.domain.RetailUploadJob;
+import com.almang.inventory.retail.domain.RetailUploadJobStatus;
+import com.almang.inventory.retail.dto.response.RetailUploadJobResponse;
+import com.almang.inventory.retail.repository.RetailUploadJobRepository;
+import com.almang.inventory.retail.service.RetailService.RetailUploadResult;
+import com.almang.inventory.store.domain.Store;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.time.LocalDate;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.multipart.MultipartFile;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RetailUploadJobService {
+
+    private final RetailUploadJobRepository retailUploadJobRepository;
+    private final RetailUploadJobWorker retailUploadJobWorker;
+    private final RetailService retailService;
+    private final RetailUploadFingerprintStore retailUploadFingerprintStore;
+    private final UserContextProvider userContextProvider;
+
+    @Value("${retail.upload.storage-dir:${java.io.tmpdir}/retail-uploads}")
+    private String storageDir;
+
+    // 작업 레코드가 커밋된 뒤 실행기에 넘겨야 하므로 트랜잭션 없이 실행
+    public RetailUploadJobResponse submitUploadJob(MultipartFile file, Long userId) {
+        UserStoreContext context = userContextProvider.findUserAndStore(userId);
+        Store store = context.store();
+
+        log.info("[RetailUploadJobService] 소매 업로드 작업 접수 요청 - userId: {}, storeId: {}, filename: {}",
+                userId, store.getId(), file.getOriginalFilename());
+        if (file.isEmpty()) {
+            throw new BaseException(ErrorCode.RETAIL_UPLOAD_FILE_EMPTY);
+        }
+
+        StoredUpload storedUpload = storeUploadFile(file);
+        LocalDate soldDate = retailService.currentSoldDate();
+        RetailUploadJob job = RetailUploadJob.builder()
+                .store(store)
+                .userId(userId)
+                .originalFilename(file.getOriginalFilename())
+                .storedFilePath(storedUpload.file().toString())
+                .soldDate(soldDate)
+                .contentHash(storedUpload.contentHash())
+                .status(RetailUploadJobStatus.PENDING)
+                .build();
+
+        // 마지막으로 반영된 파일과 같으면 실행기에 넘기지 않고 이전 결과로 바로 완료 처리
+        Optional<RetailUploadResult> previousResult = retailUploadFingerprintStore.findResult(
+                store.getId(), soldDate, storedUpload.contentHash());
+        if (previousResult.isPresent()) {
+            deleteQuietly(storedUpload.file());
+            job.addProgress(previousResult.get().processedCount(), previousResult.get().skippedProducts());
+            job.complete();
+            retailUploadJobRepository.save(job);
+            log.info("[RetailUploadJobService] 마지막으로 반영된 파일과 동일하여 이전 처리 결과로 완료합니다 - jobId: {}", job.getId());
+            return RetailUploadJobResponse.from(job);
+        }
+
+        retailUploadJobRepository.save(job);
+        try {
+            retailUploadJobWorker.run(job.getId());
+        } catch (TaskRejectedException e) {
+            log.warn("[RetailUploadJobService] 처리 대기열이 가득 차 작업을 거절합니다 - jobId: {}", job.getId());
+            job.fail(ErrorCode.RETAIL_UPLOAD_JOB_REJECTED.getMessage());
+            retailUploadJobRepository.save(job);
+            deleteQuietly(storedUpload.file());
+            throw new BaseException(ErrorCode.RETAIL_UPLOAD_JOB_REJECTED);
+        }
+
+        log.info("[RetailUploadJobService] 소매 업로드 작업 접수 성공 - jobId: {}", job.getId());
+        return RetailUploadJobResponse.from(job);
+    }
+
+    @Transactional(readOnly = true)
+    public RetailUploadJobResponse getUploadJob(Long jobId, Long userId) {
+        UserStoreContext context = userContextProvider.findUserAndStore(userId);
+        Store store = context.store();
+
+        log.info("[RetailUploadJobService] 소매 업로드 작업 조회 요청 - userId: {}, jobId: {}", userId, jobId);
+        RetailUploadJob job = retailUploadJobRepository.findById(jobId)
+                .orElseThrow(() -> new BaseException(ErrorCode.RETAIL_UPLOAD_JOB_NOT_FOUND));
+        if (!job.getStore().getId().equals(store.getId())) {
+            throw new BaseException(ErrorCode.RETAIL_UPLOAD_JOB_ACCESS_DENIED);
+        }
+
+        log.info("[RetailUploadJobService] 소매 업로드 작업 조회 성공 - jobId: {}, status: {}", jobId, job.getStatus());
+        return RetailUploadJobResponse.from(job);
+    }
+
+    // 요청 스레드가 끝나면 멀티파트 임시 파일이 삭제되므로, 작업 처리용 파일로 옮기면서 SHA-256 지문을 함께 계산
+    private StoredUpload storeUploadFile(MultipartFile file) {
+        try {
+            Path directory = Files.createDirectories(Path.of(storageDir));
+            Path storedFile = Files.createTempFile(directory, "retail-upload-", ".upload");
+            MessageDigest digest = RetailUploadFingerprintStore.newDigest();
+            try (InputStream inputStream = new DigestInputStream(file.getInputStream(), digest)) {
+                Files.copy(inputStream, storedFile, StandardCopyOption.REPLACE_EXISTING);
+            }
+            return new StoredUpload(storedFile, RetailUploadFingerprintStore.toHex(digest));
+        } catch (IOException e) {
+            log.error("[RetailUploadJobService] 업로드 파일 저장 실패 - filename: {}", file.getOriginalFilename(), e);
+            throw new BaseException(ErrorCode.INTERNAL_SERVER_ERROR, "업로드 파일 저장 중 오류가 발생했습니다.");
+        }
+    }
+
+    private void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("[RetailUploadJobService] 업로드 파일 삭제 실패 - path: {}", file, e);
+        }
+    }
+
+    private record StoredUpload(Path file, String contentHash) {}
+}
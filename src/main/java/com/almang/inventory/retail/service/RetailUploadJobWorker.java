@@ -0,0 +1,163 @@
+package com.almang.inventory.retail.service;
+
+import com.almang.inventory.global.exception.BaseException;
+import com.almang.inventory.global.exception.ErrorCode;
+import com.almang.inventory.retail.domain.RetailUploadJob;
+import com.almang.inventory.retail.domain.RetailUploadJobStatus;
+import com.almang.inventory.retail.repository.RetailUploadJobRepository;
+import com.almang.inventory.retail.service.RetailService.RetailReconcilePlan;
+import com.almang.inventory.retail.service.RetailService.RetailUploadResult;
+import com.almang.inventory.store.domain.Store;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RetailUploadJobWorker {
+
+    private final RetailUploadJobRepository retailUploadJobRepository;
+    private final RetailService retailService;
+    private final RetailUploadFingerprintStore retailUploadFingerprintStore;
+    private final TransactionTemplate transactionTemplate;
+
+    // 대기열이 가득 차면 호출 측에 TaskRejectedException 이 전달됨
+    @Async("retailUploadExecutor")
+    public void run(Long jobId) {
+        process(jobId);
+    }
+
+    /**
+     * 업로드 작업을 처리합니다.
+     * 상품 코드 청크마다 재고 반영, 소매 내역 저장, 작업 진행 상황 갱신을 하나의 트랜잭션으로 커밋하므로
+     * 파일 전체를 하나의 트랜잭션으로 묶지 않으며, 실패 시에도 이미 커밋된 청크까지의 진행 상황이 남습니다.
+     * 청크마다 선점 토큰을 확인하므로, 멈춘 것으로 판단되어 다시 대기열에 들어간 작업은 이전 실행이 더 이상 반영하지 못합니다.
+     */
+    public void process(Long jobId) {
+        JobContext jobContext = transactionTemplate.execute(status -> start(jobId));
+        if (jobContext == null) {
+            return;
+        }
+
+        log.info("[RetailUploadJobWorker] 소매 업로드 작업 처리 시작 - jobId: {}, storeId: {}",
+                jobId, jobContext.store().getId());
+        // 청크마다 커밋되므로 도중에 실패하면 이전 지문과 실제 데이터가 달라질 수 있어 먼저 삭제
+        retailUploadFingerprintStore.evict(jobContext.store().getId(), jobContext.soldDate());
+        boolean finished = false;
+        try {
+            RetailReconcilePlan plan;
+            try (InputStream inputStream = Files.newInputStream(jobContext.file())) {
+                plan = retailService.planReconciliation(inputStream, jobContext.store(), jobContext.soldDate());
+            }
+
+            for (List<String> codes : plan.codeChunks()) {
+                transactionTemplate.executeWithoutResult(status -> {
+                    RetailUploadJob job = findClaimedJob(jobId, jobContext.claimToken());
+                    RetailUploadResult chunkResult = retailService.reconcileCodes(
+                            codes, plan, jobContext.store(), jobContext.soldDate());
+                    job.addProgress(chunkResult.processedCount(), chunkResult.skippedProducts());
+                });
+            }
+
+            RetailUploadJob completed = transactionTemplate.execute(status -> {
+                RetailUploadJob job = findClaimedJob(jobId, jobContext.claimToken());
+                job.complete();
+                return job;
+            });
+            finished = true;
+            retailUploadFingerprintStore.saveAfterCommit(
+                    jobContext.store().getId(), jobContext.soldDate(), jobContext.contentHash(),
+                    new RetailUploadResult(completed.getProcessedCount(), completed.getSkippedProductList())
+            );
+            log.info("[RetailUploadJobWorker] 소매 업로드 작업 처리 성공 - jobId: {}, processedCount: {}, skippedCount: {}",
+                    jobId, completed.getProcessedCount(), completed.getSkippedCount());
+        } catch (Exception e) {
+            log.error("[RetailUploadJobWorker] 소매 업로드 작업 처리 실패 - jobId: {}", jobId, e);
+            String errorMessage = toErrorMessage(e);
+            finished = Boolean.TRUE.equals(transactionTemplate.execute(status -> {
+                if (!heartbeat(jobId, jobContext.claimToken())) {
+                    return false;
+                }
+                findJob(jobId).fail(errorMessage);
+                return true;
+            }));
+        } finally {
+            // 다른 실행이 이어받았거나 상태를 기록하지 못한 작업은 다시 처리할 수 있도록 파일을 남겨 둠
+            if (finished) {
+                deleteStoredFile(jobContext.file());
+            } else {
+                log.warn("[RetailUploadJobWorker] 작업을 마무리하지 못해 업로드 파일을 남겨 둡니다 - jobId: {}", jobId);
+            }
+        }
+    }
+
+    // 작업을 처리 중으로 선점 (이미 시작되었거나 다른 노드가 먼저 선점한 작업이면 null)
+    private JobContext start(Long jobId) {
+        String claimToken = UUID.randomUUID().toString();
+        int claimed = retailUploadJobRepository.claim(
+                jobId, RetailUploadJobStatus.PENDING, RetailUploadJobStatus.PROCESSING, claimToken, LocalDateTime.now()
+        );
+        RetailUploadJob job = findJob(jobId);
+        if (claimed == 0) {
+            log.warn("[RetailUploadJobWorker] 대기 상태가 아닌 작업은 처리하지 않습니다 - jobId: {}, status: {}",
+                    jobId, job.getStatus());
+            return null;
+        }
+
+        return new JobContext(
+                job.getStore(), job.getSoldDate(), Path.of(job.getStoredFilePath()),
+                job.getContentHash(), claimToken
+        );
+    }
+
+    // 선점 토큰이 그대로인지 확인하며 처리 시각을 갱신 - 행 잠금이 커밋까지 유지되므로 확인 이후 복구 작업이 끼어들지 못함
+    private RetailUploadJob findClaimedJob(Long jobId, String claimToken) {
+        if (!heartbeat(jobId, claimToken)) {
+            throw new BaseException(ErrorCode.RETAIL_UPLOAD_JOB_INTERRUPTED);
+        }
+        return findJob(jobId);
+    }
+
+    private boolean heartbeat(Long jobId, String claimToken) {
+        return retailUploadJobRepository.heartbeat(
+                jobId, RetailUploadJobStatus.PROCESSING, claimToken, LocalDateTime.now()
+        ) > 0;
+    }
+
+    private RetailUploadJob findJob(Long jobId) {
+        return retailUploadJobRepository.findById(jobId)
+                .orElseThrow(() -> new BaseException(ErrorCode.RETAIL_UPLOAD_JOB_NOT_FOUND));
+    }
+
+    private String toErrorMessage(Exception e) {
+        if (e instanceof BaseException baseException) {
+            return baseException.getMessage();
+        }
+        if (e instanceof IOException) {
+            return ErrorCode.EXCEL_PARSE_ERROR.getMessage();
+        }
+        // 내부 에러 메시지 노출 방지
+        return ErrorCode.INTERNAL_SERVER_ERROR.getMessage();
+    }
+
+    private void deleteStoredFile(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("[RetailUploadJobWorker] 업로드 파일 삭제 실패 - path: {}", file, e);
+        }
+    }
+
+    private record JobContext(Store store, LocalDate soldDate, Path file, String contentHash, String claimToken) {}
+}
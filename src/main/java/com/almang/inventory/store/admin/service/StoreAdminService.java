@@ -1,5 +1,6 @@
 package com.almang.inventory.store.admin.service;
 
+import com.almang.inventory.global.context.UserContextCache;
 import com.almang.inventory.global.exception.BaseException;
 import com.almang.inventory.global.exception.ErrorCode;
 import com.almang.inventory.store.admin.dto.request.StoreAdminCreateRequest;
@@ -28,6 +29,7 @@ public class StoreAdminService {
     private final StoreRepository storeRepository;
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final UserContextCache userContextCache;
 
     @Transactional
     public StoreAdminCreateResponse createStoreAdmin(StoreAdminCreateRequest request) {
@@ -41,6 +43,8 @@ public class StoreAdminService {
 
         User user = createStoreAdminUser(store, request, encodedPassword);
         userRepository.save(user);
+        // 관리자 계정의 역할/소속 상점이 확정되었으므로 같은 id 로 남아있을 수 있는 캐시 항목 무효화
+        userContextCache.evict(user.getId());
 
         log.info("[StoreAdmin] 관리자 생성 성공 - userId: {}, storeId: {}", user.getId(), store.getId());
 
@@ -0,0 +1,237 @@
+package com.almang.inventory.user.auth.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 액세스 토큰 블랙리스트 앞단의 노드 로컬 Bloom 필터입니다.
+ * 필터에 없으면 블랙리스트가 아님이 확실하므로 Redis 조회를 생략하고, 있을 때만 Redis 로 확인합니다.
+ *
+ * <p>블랙리스트 항목의 TTL 은 액세스 토큰 유효 기간을 넘지 않으므로, 필터를 세대 단위로 나누어
+ * 유효 기간이 지나거나 설계 용량에 도달하면 새 세대로 교체하고, 봉인 후 유효 기간이 지난 세대는 버립니다.
+ * 세대마다 용량이 정해져 있어 오탐률이 목표치 근처로 유지됩니다.
+ * 다른 노드의 추가분은 Redis pub/sub 으로 받고, 기동 시와 주기적으로 Redis 를 스캔해 누락분을 채웁니다.
+ * 첫 재구성이 끝나기 전에는 모든 조회를 Redis 로 보냅니다.
+ */
+@Slf4j
+@Component
+public class AccessTokenBlacklistFilter implements MessageListener {
+
+    public static final String BLACKLIST_CHANNEL = "auth:blacklist:add";
+
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+    // 세대 교체 직전에 들어온 추가분을 위해 봉인된 세대를 조금 더 유지
+    private static final long SEAL_GRACE_MILLIS = TimeUnit.MINUTES.toMillis(1);
+    private static final int SCAN_COUNT = 1000;
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final boolean enabled;
+    private final boolean pubSubEnabled;
+    private final int capacity;
+    private final long windowMillis;
+    private final Object rotationLock = new Object();
+
+    private volatile List<Generation> generations;
+    private volatile boolean ready;
+    private Clock clock = Clock.systemUTC();
+
+    public AccessTokenBlacklistFilter(
+            RedisTemplate<String, String> redisTemplate,
+            @Value("${auth.blacklist.bloom.enabled:true}") boolean enabled,
+            @Value("${redis.pubsub.enabled:true}") boolean pubSubEnabled,
+            @Value("${auth.blacklist.bloom.capacity-per-generation:100000}") int capacity,
+            @Value("${jwt.access-token.expiration-minutes}") int accessTokenExpirationMinutes
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.enabled = enabled;
+        this.pubSubEnabled = pubSubEnabled;
+        this.capacity = capacity;
+        this.windowMillis = TimeUnit.MINUTES.toMillis(Math.max(1, accessTokenExpirationMinutes));
+        this.generations = List.of(newGeneration(clock.millis()));
+    }
+
+    public void add(String accessToken) {
+        if (!enabled) {
+            return;
+        }
+        byte[] digest = sha256(accessToken);
+        insert(digest, clock.millis());
+        publish(digest);
+    }
+
+    // false 이면 블랙리스트에 없음이 확실함 (오탐만 있고 미탐은 없음)
+    public boolean mightBeBlacklisted(String accessToken) {
+        if (!enabled || !ready) {
+            return true;
+        }
+        byte[] digest = sha256(accessToken);
+        return contains(digest, clock.millis());
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        if (!enabled) {
+            return;
+        }
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        try {
+            byte[] digest = HexFormat.of().parseHex(body);
+            long now = clock.millis();
+            // 자신이 발행한 메시지도 다시 수신하므로 이미 있는 항목은 건너뜀
+            if (!contains(digest, now)) {
+                insert(digest, now);
+            }
+        } catch (IllegalArgumentException e) {
+            log.warn("[AccessTokenBlacklistFilter] 잘못된 블랙리스트 메시지 - body: {}", body);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        rebuild();
+    }
+
+    // pub/sub 메시지는 유실될 수 있으므로 주기적으로 Redis 를 스캔해 누락분을 채움
+    @Scheduled(
+            fixedDelayString = "${auth.blacklist.bloom.resync-interval-ms:300000}",
+            initialDelayString = "${auth.blacklist.bloom.resync-interval-ms:300000}"
+    )
+    public void rebuild() {
+        if (!enabled) {
+            return;
+        }
+        ScanOptions options = ScanOptions.scanOptions()
+                .match(RedisService.ACCESS_BLACKLIST_PREFIX + "*")
+                .count(SCAN_COUNT)
+                .build();
+        int count = 0;
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            while (cursor.hasNext()) {
+                String token = cursor.next().substring(RedisService.ACCESS_BLACKLIST_PREFIX.length());
+                byte[] digest = sha256(token);
+                long now = clock.millis();
+                // 주기 재구성 시 이미 있는 항목까지 다시 넣으면 세대 용량이 불필요하게 소모됨
+                if (!contains(digest, now)) {
+                    insert(digest, now);
+                }
+                count++;
+            }
+            ready = true;
+            log.info("[AccessTokenBlacklistFilter] 블랙리스트 필터 재구성 성공 - count: {}, generations: {}",
+                    count, generations.size());
+        } catch (DataAccessException e) {
+            // 재구성 전에는 모든 조회를 Redis 로 보내므로 안전함
+            log.warn("[AccessTokenBlacklistFilter] 블랙리스트 필터 재구성 실패 - ready: {}", ready, e);
+        }
+    }
+
+    boolean isReady() {
+        return ready;
+    }
+
+    int generationCount() {
+        return generations.size();
+    }
+
+    void setClock(Clock clock) {
+        this.clock = clock;
+    }
+
+    private void insert(byte[] digest, long now) {
+        currentGeneration(now).filter().put(digest);
+    }
+
+    private boolean contains(byte[] digest, long now) {
+        currentGeneration(now);
+        for (Generation generation : generations) {
+            if (generation.filter().mightContain(digest)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private Generation currentGeneration(long now) {
+        Generation current = generations.get(0);
+        if (!needsRotation(current, now)) {
+            return current;
+        }
+        synchronized (rotationLock) {
+            current = generations.get(0);
+            if (needsRotation(current, now)) {
+                rotate(now);
+            }
+            return generations.get(0);
+        }
+    }
+
+    private boolean needsRotation(Generation current, long now) {
+        return current.filter().isFull() || now - current.createdAt() >= windowMillis;
+    }
+
+    private void rotate(long now) {
+        List<Generation> rotated = new ArrayList<>();
+        rotated.add(newGeneration(now));
+        for (Generation generation : generations) {
+            Generation sealed = generation.isActive() ? generation.seal(now) : generation;
+            if (now - sealed.sealedAt() < windowMillis + SEAL_GRACE_MILLIS) {
+                rotated.add(sealed);
+            }
+        }
+        generations = List.copyOf(rotated);
+        log.debug("[AccessTokenBlacklistFilter] 필터 세대 교체 - generations: {}", rotated.size());
+    }
+
+    private Generation newGeneration(long now) {
+        return new Generation(new TokenBloomFilter(capacity, FALSE_POSITIVE_RATE), now, Long.MAX_VALUE);
+    }
+
+    private void publish(byte[] digest) {
+        if (!pubSubEnabled) {
+            return;
+        }
+        try {
+            redisTemplate.convertAndSend(BLACKLIST_CHANNEL, HexFormat.of().formatHex(digest));
+        } catch (DataAccessException e) {
+            // 다른 노드는 다음 주기 재구성 때 채워짐
+            log.warn("[AccessTokenBlacklistFilter] 블랙리스트 전파 실패", e);
+        }
+    }
+
+    private static byte[] sha256(String token) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+
+    private record Generation(TokenBloomFilter filter, long createdAt, long sealedAt) {
+
+        boolean isActive() {
+            return sealedAt == Long.MAX_VALUE;
+        }
+
+        Generation seal(long now) {
+            return new Generation(filter, createdAt, now);
+        }
+    }
+}
@@ -1,9 +1,11 @@
 package com.almang.inventory.user.auth.service;
 
 import java.time.Duration;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -12,11 +14,50 @@ public class RedisService {
 
     private static final String REFRESH_USER_PREFIX = "refresh:user:";
     private static final String REFRESH_TOKEN_PREFIX = "refresh:token:";
-    private static final String ACCESS_BLACKLIST_PREFIX = "blacklist:access:";
+    static final String ACCESS_BLACKLIST_PREFIX = "blacklist:access:";
     private static final String CAFE24_ACCESS_TOKEN_KEY = "cafe24:access_token";
     private static final String CAFE24_OAUTH_STATE_PREFIX = "cafe24:oauth:state:";
 
+    // 리프레시 토큰 관련 다중 키 변경은 Lua 스크립트로 서버에서 원자적으로 한 번에 실행
+    // KEYS[1]=user 키, KEYS[2]=token 키 / ARGV[1]=refreshToken, ARGV[2]=userId, ARGV[3]=TTL(초)
+    private static final RedisScript<Long> SAVE_REFRESH_TOKEN_SCRIPT = RedisScript.of("""
+            redis.call('SET', KEYS[1], ARGV[1], 'EX', ARGV[3])
+            redis.call('SET', KEYS[2], ARGV[2], 'EX', ARGV[3])
+            return 1
+            """, Long.class);
+
+    // 기존 토큰이 아직 해당 사용자 것일 때만 교체 (compare-and-swap), 동시 재발급 시 하나만 성공
+    // KEYS[1]=기존 token 키, KEYS[2]=user 키, KEYS[3]=새 token 키 / ARGV[1]=userId, ARGV[2]=새 refreshToken, ARGV[3]=TTL(초)
+    private static final RedisScript<Long> ROTATE_REFRESH_TOKEN_SCRIPT = RedisScript.of("""
+            if redis.call('GET', KEYS[1]) ~= ARGV[1] then
+                return 0
+            end
+            redis.call('DEL', KEYS[1])
+            redis.call('SET', KEYS[2], ARGV[2], 'EX', ARGV[3])
+            redis.call('SET', KEYS[3], ARGV[1], 'EX', ARGV[3])
+            return 1
+            """, Long.class);
+
+    // KEYS[1]=user 키 / ARGV[1]=token 키 접두사
+    private static final RedisScript<Long> DELETE_BY_USER_SCRIPT = RedisScript.of("""
+            local token = redis.call('GET', KEYS[1])
+            if token then
+                redis.call('DEL', ARGV[1] .. token)
+            end
+            return redis.call('DEL', KEYS[1])
+            """, Long.class);
+
+    // KEYS[1]=token 키 / ARGV[1]=user 키 접두사
+    private static final RedisScript<Long> DELETE_BY_REFRESH_TOKEN_SCRIPT = RedisScript.of("""
+            local userId = redis.call('GET', KEYS[1])
+            if userId then
+                redis.call('DEL', ARGV[1] .. userId)
+            end
+            return redis.call('DEL', KEYS[1])
+            """, Long.class);
+
     private final RedisTemplate<String, String> redisTemplate;
+    private final AccessTokenBlacklistFilter accessTokenBlacklistFilter;
 
     @Value("${auth.refresh.expiration-days}")
     private int refreshTokenExpiration;
@@ -34,10 +75,11 @@ public class RedisService {
     }
 
     public void saveRefreshToken(String userId, String refreshToken) {
-        Duration ttl = Duration.ofDays(refreshTokenExpiration);
-
-        redisTemplate.opsForValue().set(userKey(userId), refreshToken, ttl);
-        redisTemplate.opsForValue().set(tokenKey(refreshToken), userId, ttl);
+        redisTemplate.execute(
+                SAVE_REFRESH_TOKEN_SCRIPT,
+                List.of(userKey(userId), tokenKey(refreshToken)),
+                refreshToken, userId, refreshTokenTtlSeconds()
+        );
     }
 
     public String getRefreshTokenByUserId(String userId) {
@@ -49,41 +91,46 @@ public class RedisService {
     }
 
     public void deleteByUserId(String userId) {
-        String refreshToken = getRefreshTokenByUserId(userId);
-        if (refreshToken != null) {
-            redisTemplate.delete(tokenKey(refreshToken));
-        }
-        redisTemplate.delete(userKey(userId));
+        redisTemplate.execute(DELETE_BY_USER_SCRIPT, List.of(userKey(userId)), REFRESH_TOKEN_PREFIX);
     }
 
     public void deleteByRefreshToken(String refreshToken) {
-        String userId = getUserIdByRefreshToken(refreshToken);
-        if (userId != null) {
-            redisTemplate.delete(userKey(userId));
-        }
-        redisTemplate.delete(tokenKey(refreshToken));
+        redisTemplate.execute(DELETE_BY_REFRESH_TOKEN_SCRIPT, List.of(tokenKey(refreshToken)), REFRESH_USER_PREFIX);
     }
 
     public void deleteRefreshToken(String userId, String refreshToken) {
-        redisTemplate.delete(userKey(userId));
-        redisTemplate.delete(tokenKey(refreshToken));
+        redisTemplate.delete(List.of(userKey(userId), tokenKey(refreshToken)));
     }
 
-    public void rotateRefreshToken(String userId, String oldToken, String newToken) {
-        if (oldToken != null) {
-            redisTemplate.delete(tokenKey(oldToken));
-        }
-        redisTemplate.delete(userKey(userId));
-        saveRefreshToken(userId, newToken);
+    /**
+     * 기존 리프레시 토큰이 아직 userId 에 매핑되어 있을 때만 새 토큰으로 교체합니다.
+     * 같은 토큰으로 동시에 재발급하면 하나만 true 를 받고 나머지는 false 를 받습니다.
+     */
+    public boolean rotateRefreshToken(String userId, String oldToken, String newToken) {
+        Long rotated = redisTemplate.execute(
+                ROTATE_REFRESH_TOKEN_SCRIPT,
+                List.of(tokenKey(oldToken), userKey(userId), tokenKey(newToken)),
+                userId, newToken, refreshTokenTtlSeconds()
+        );
+        return rotated != null && rotated == 1L;
+    }
+
+    private String refreshTokenTtlSeconds() {
+        return String.valueOf(Duration.ofDays(refreshTokenExpiration).toSeconds());
     }
 
     public void addAccessTokenToBlacklist(String accessToken, long remainingMillis) {
         if (remainingMillis <= 0) return;
         redisTemplate.opsForValue().set(
                 blacklistAccessTokenKey(accessToken), "true", Duration.ofMillis(remainingMillis));
+        accessTokenBlacklistFilter.add(accessToken);
     }
 
     public boolean isAccessTokenBlacklisted(String accessToken) {
+        // 로컬 필터에 없으면 블랙리스트가 아님이 확실하므로 Redis 조회 생략
+        if (!accessTokenBlacklistFilter.mightBeBlacklisted(accessToken)) {
+            return false;
+        }
         return redisTemplate.hasKey(blacklistAccessTokenKey(accessToken));
     }
 
@@ -0,0 +1,75 @@
+package com.almang.inventory.user.auth.service;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * SHA-256 토큰 다이제스트용 고정 크기 Bloom 필터입니다.
+ * 다이제스트 앞 16바이트를 두 개의 64비트 해시로 나누어 이중 해싱으로 k 개의 비트 위치를 구합니다.
+ * 비트 설정은 CAS 로 처리하므로 락 없이 여러 스레드에서 동시에 사용할 수 있습니다.
+ */
+class TokenBloomFilter {
+
+    private final AtomicLongArray bits;
+    private final long bitSize;
+    private final int hashCount;
+    private final int capacity;
+    private final AtomicInteger insertions = new AtomicInteger();
+
+    TokenBloomFilter(int capacity, double falsePositiveRate) {
+        long m = (long) Math.ceil(-capacity * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        this.bitSize = Math.max(64L, m);
+        this.hashCount = Math.max(1, (int) Math.round((double) bitSize / capacity * Math.log(2)));
+        this.bits = new AtomicLongArray((int) ((bitSize + 63) / 64));
+        this.capacity = capacity;
+    }
+
+    void put(byte[] digest) {
+        ByteBuffer buffer = ByteBuffer.wrap(digest);
+        long h1 = buffer.getLong();
+        long h2 = buffer.getLong();
+        for (int i = 0; i < hashCount; i++) {
+            setBit(index(h1, h2, i));
+        }
+        insertions.incrementAndGet();
+    }
+
+    boolean mightContain(byte[] digest) {
+        ByteBuffer buffer = ByteBuffer.wrap(digest);
+        long h1 = buffer.getLong();
+        long h2 = buffer.getLong();
+        for (int i = 0; i < hashCount; i++) {
+            long index = index(h1, h2, i);
+            if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // 설계 용량에 도달하면 오탐률이 목표치를 넘기 시작하므로 새 세대로 교체해야 함
+    boolean isFull() {
+        return insertions.get() >= capacity;
+    }
+
+    int insertions() {
+        return insertions.get();
+    }
+
+    private long index(long h1, long h2, int i) {
+        return Math.floorMod(h1 + i * h2, bitSize);
+    }
+
+    private void setBit(long index) {
+        int word = (int) (index >>> 6);
+        long mask = 1L << index;
+        long current;
+        do {
+            current = bits.get(word);
+            if ((current & mask) != 0) {
+                return;
+            }
+        } while (!bits.compareAndSet(word, current, current | mask));
+    }
+}
@@ -49,7 +49,10 @@ public class TokenService {
         }
 
         String newRefreshToken = UUID.randomUUID().toString();
-        redisService.rotateRefreshToken(userId, refreshToken, newRefreshToken);
+        // 같은 토큰으로 동시에 재발급한 다른 요청이 먼저 교체했다면 이미 사용된 토큰으로 취급
+        if (!redisService.rotateRefreshToken(userId, refreshToken, newRefreshToken)) {
+            throw new BaseException(ErrorCode.REFRESH_TOKEN_NOT_FOUND);
+        }
 
         setRefreshTokenCookie(response, newRefreshToken);
 
@@ -1,5 +1,6 @@
 package com.almang.inventory.user.service;
 
+import com.almang.inventory.global.context.UserContextCache;
 import com.almang.inventory.global.exception.BaseException;
 import com.almang.inventory.global.exception.ErrorCode;
 import com.almang.inventory.store.domain.Store;
@@ -24,6 +25,7 @@ public class UserService {
 
     private final UserRepository userRepository;
     private final AuthService authService;
+    private final UserContextCache userContextCache;
 
     @Transactional(readOnly = true)
     public UserProfileResponse getUserProfile(Long userId) {
@@ -54,6 +56,7 @@ public class UserService {
         log.info("[UserService] 회원 탈퇴 요청 - userId: {}", user.getId());
         user.delete();
         authService.logout(userId, request, response);
+        userContextCache.evict(userId);
 
         log.info("[UserService] 회원 탈퇴 성공 - userId: {}", user.getId());
         return new DeleteUserResponse(true);
@@ -1,7 +1,9 @@
 package com.almang.inventory.wholesale.controller;
 
 import com.almang.inventory.global.api.ApiResponse;
+import com.almang.inventory.global.api.CursorResponse;
 import com.almang.inventory.global.api.PageResponse;
+import com.almang.inventory.global.export.ExportFile;
 import com.almang.inventory.global.security.principal.CustomUserPrincipal;
 import com.almang.inventory.wholesale.domain.WholesaleStatus;
 import com.almang.inventory.wholesale.dto.request.ConfirmWholesaleRequest;
@@ -27,6 +29,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @Slf4j
 @RestController
@@ -89,6 +92,45 @@ public class WholesaleController {
         );
     }
 
+    @GetMapping("/export")
+    @Operation(summary = "출고 내역 내보내기", description = "출고 품목 내역을 상태, 날짜 조건과 함께 파일로 내려받습니다. format 은 xlsx(기본) 또는 csv 입니다.")
+    public ResponseEntity<StreamingResponseBody> exportWholesaleItems(
+            @AuthenticationPrincipal CustomUserPrincipal userPrincipal,
+            @RequestParam(value = "status", required = false) WholesaleStatus status,
+            @RequestParam(value = "fromDate", required = false) LocalDate fromDate,
+            @RequestParam(value = "toDate", required = false) LocalDate toDate,
+            @RequestParam(value = "format", required = false) String format
+    ) {
+        Long userId = userPrincipal.getId();
+        log.info("[WholesaleController] 출고 내역 내보내기 요청 - userId: {}, status: {}, fromDate: {}, toDate: {}, format: {}",
+                userId, status, fromDate, toDate, format);
+        ExportFile exportFile = wholesaleService.exportWholesaleItems(userId, status, fromDate, toDate, format);
+
+        return exportFile.toResponseEntity();
+    }
+
+    @GetMapping("/scroll")
+    @Operation(summary = "출고 목록 커서 조회", description = "출고 목록을 커서 기반으로 조회합니다. 전체 개수를 세지 않으며, 응답의 nextCursor 로 다음 페이지를 조회합니다.")
+    public ResponseEntity<ApiResponse<CursorResponse<WholesaleResponse>>> getWholesaleListByCursor(
+            @AuthenticationPrincipal CustomUserPrincipal userPrincipal,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", required = false) Integer size,
+            @RequestParam(value = "status", required = false) WholesaleStatus status,
+            @RequestParam(value = "fromDate", required = false) LocalDate fromDate,
+            @RequestParam(value = "toDate", required = false) LocalDate toDate,
+            @RequestParam(value = "orderReference", required = false) String orderReference
+    ) {
+        Long userId = userPrincipal.getId();
+        log.info("[WholesaleController] 출고 목록 커서 조회 요청 - userId: {}, size: {}, status: {}, fromDate: {}, toDate: {}, orderReference: {}",
+                userId, size, status, fromDate, toDate, orderReference);
+        CursorResponse<WholesaleResponse> response =
+                wholesaleService.getWholesaleListByCursor(userId, cursor, size, status, fromDate, toDate, orderReference);
+
+        return ResponseEntity.ok(
+                ApiResponse.success("출고 목록 조회에 성공했습니다.", response)
+        );
+    }
+
     @PatchMapping("/{wholesaleId}/confirm")
     @Operation(summary = "출고 완료 처리", description = "관리자가 피킹/패킹 후 출고를 완료 처리합니다. 재고가 자동으로 차감됩니다.")
     public ResponseEntity<ApiResponse<ConfirmWholesaleResponse>> confirmWholesale(
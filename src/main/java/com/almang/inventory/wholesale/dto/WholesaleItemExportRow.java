@@ -0,0 +1,33 @@
+package com.almang.inventory.wholesale.dto;
+
+import com.almang.inventory.wholesale.domain.WholesaleStatus;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+// 출고 품목 내보내기 행 (엔티티 대신 DTO 로 읽어 스트리밍 중 영속성 컨텍스트에 쌓이지 않도록 함)
+public record WholesaleItemExportRow(
+        Long wholesaleId,
+        String orderReference,
+        WholesaleStatus status,
+        LocalDate releaseDate,
+        LocalDateTime createdAt,
+        String productCode,
+        String productName,
+        BigDecimal quantity,
+        Integer unitPrice,
+        Integer amount,
+        String note
+) {
+    public static final List<String> HEADERS = List.of(
+            "출고 ID", "주문 번호", "출고 상태", "출고일", "등록일시",
+            "품목 코드", "품목명", "수량", "단가", "금액", "비고"
+    );
+
+    public List<?> columns() {
+        return Arrays.asList(wholesaleId, orderReference, status.name(), releaseDate, createdAt,
+                productCode, productName, quantity, unitPrice, amount, note);
+    }
+}
@@ -0,0 +1,49 @@
+package com.almang.inventory.wholesale.repository;
+
+import com.almang.inventory.global.export.StreamingExporter;
+import com.almang.inventory.wholesale.domain.WholesaleStatus;
+import com.almang.inventory.wholesale.dto.WholesaleItemExportRow;
+import jakarta.persistence.EntityManager;
+import java.time.LocalDateTime;
+import java.util.stream.Stream;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 출고 품목 내보내기 조회 저장소
+ * 스트리밍용 fetch size 는 내보내기 쿼리에만 지정해야 하므로, 설정 값을 쓰는 StreamingExporter 로 쿼리를 엽니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class WholesaleItemExportRepository {
+
+    private static final String EXPORT_ROWS_QUERY = """
+        SELECT new com.almang.inventory.wholesale.dto.WholesaleItemExportRow(
+            wholesale.id, wholesale.orderReference, wholesale.status, wholesale.releaseDate, wholesale.createdAt,
+            product.code, product.name, item.quantity, item.unitPrice, item.amount, item.note
+        )
+        FROM WholesaleItem item
+        JOIN item.wholesale wholesale
+        JOIN item.product product
+        WHERE wholesale.store.id = :storeId
+          AND (:status IS NULL OR wholesale.status = :status)
+          AND wholesale.createdAt BETWEEN :start AND :end
+        ORDER BY wholesale.createdAt ASC, wholesale.id ASC, item.id ASC
+        """;
+
+    private final EntityManager entityManager;
+    private final StreamingExporter streamingExporter;
+
+    // 출고 품목 내보내기 (목록 조회와 같은 등록일시 범위/상태 조건, 트랜잭션 안에서 스트림을 끝까지 소비한 뒤 닫아야 함)
+    public Stream<WholesaleItemExportRow> streamExportRows(
+            Long storeId, WholesaleStatus status, LocalDateTime start, LocalDateTime end
+    ) {
+        return streamingExporter.stream(
+                entityManager.createQuery(EXPORT_ROWS_QUERY, WholesaleItemExportRow.class)
+                        .setParameter("storeId", storeId)
+                        .setParameter("status", status)
+                        .setParameter("start", start)
+                        .setParameter("end", end)
+        );
+    }
+}
@@ -4,11 +4,16 @@ import com.almang.inventory.wholesale.domain.Wholesale;
 import com.almang.inventory.wholesale.domain.WholesaleStatus;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface WholesaleRepository extends JpaRepository<Wholesale, Long> {
 
@@ -53,5 +58,38 @@ public interface WholesaleRepository extends JpaRepository<Wholesale, Long> {
     Page<Wholesale> findAllByStoreIdAndStatusAndReleaseDateBetween(
             Long storeId, WholesaleStatus status, LocalDate start, LocalDate end, Pageable pageable
     );
-}
 
+    /*
+     * 커서 모드: (createdAt, id) 키셋 조건으로 이어서 조회합니다.
+     * 컬렉션 fetch join 과 LIMIT 을 함께 쓰면 메모리에서 페이지를 자르므로 출고만 먼저 조회하고,
+     * items 는 findAllWithItemsByIdIn 으로 한 번에 채웁니다.
+     */
+    @Query("""
+        SELECT wholesale
+        FROM Wholesale wholesale
+        WHERE wholesale.store.id = :storeId
+          AND (:status IS NULL OR wholesale.status = :status)
+          AND (:orderReference IS NULL OR wholesale.orderReference LIKE CONCAT('%', :orderReference, '%'))
+          AND wholesale.createdAt BETWEEN :start AND :end
+          AND (
+                :cursorCreatedAt IS NULL
+             OR wholesale.createdAt > :cursorCreatedAt
+             OR (wholesale.createdAt = :cursorCreatedAt AND wholesale.id > :cursorId)
+          )
+        ORDER BY wholesale.createdAt ASC, wholesale.id ASC
+        """)
+    Slice<Wholesale> findSliceByFilter(
+            @Param("storeId") Long storeId,
+            @Param("status") WholesaleStatus status,
+            @Param("orderReference") String orderReference,
+            @Param("start") LocalDateTime start,
+            @Param("end") LocalDateTime end,
+            @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+            @Param("cursorId") Long cursorId,
+            Pageable pageable
+    );
+
+    @EntityGraph(attributePaths = {"items", "items.product"})
+    @Query("SELECT wholesale FROM Wholesale wholesale WHERE wholesale.id IN :ids")
+    List<Wholesale> findAllWithItemsByIdIn(@Param("ids") Collection<Long> ids);
+}
@@ -1,19 +1,27 @@
 package com.almang.inventory.wholesale.service;
 
+import com.almang.inventory.global.api.CursorResponse;
 import com.almang.inventory.global.api.PageResponse;
 import com.almang.inventory.global.context.UserContextProvider;
 import com.almang.inventory.global.context.UserContextProvider.UserStoreContext;
 import com.almang.inventory.global.exception.BaseException;
 import com.almang.inventory.global.exception.ErrorCode;
+import com.almang.inventory.global.export.ExportFile;
+import com.almang.inventory.global.export.ExportFormat;
+import com.almang.inventory.global.export.StreamingExporter;
+import com.almang.inventory.global.util.PageCursor;
 import com.almang.inventory.global.util.PaginationUtil;
 import com.almang.inventory.inventory.domain.Inventory;
+import com.almang.inventory.inventory.dto.InventoryDelta;
 import com.almang.inventory.inventory.repository.InventoryRepository;
+import com.almang.inventory.inventory.service.InventoryService;
 import com.almang.inventory.product.domain.Product;
 import com.almang.inventory.product.repository.ProductRepository;
 import com.almang.inventory.store.domain.Store;
 import com.almang.inventory.wholesale.domain.Wholesale;
 import com.almang.inventory.wholesale.domain.WholesaleItem;
 import com.almang.inventory.wholesale.domain.WholesaleStatus;
+import com.almang.inventory.wholesale.dto.WholesaleItemExportRow;
 import com.almang.inventory.wholesale.dto.request.ConfirmWholesaleRequest;
 import com.almang.inventory.wholesale.dto.request.CreatePendingWholesaleRequest;
 import com.almang.inventory.wholesale.dto.request.CreateWholesaleItemRequest;
@@ -22,17 +30,20 @@ import com.almang.inventory.wholesale.dto.request.UpdateWholesaleItemRequest;
 import com.almang.inventory.wholesale.dto.response.CancelWholesaleResponse;
 import com.almang.inventory.wholesale.dto.response.ConfirmWholesaleResponse;
 import com.almang.inventory.wholesale.dto.response.WholesaleResponse;
+import com.almang.inventory.wholesale.repository.WholesaleItemExportRepository;
 import com.almang.inventory.wholesale.repository.WholesaleRepository;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -42,9 +53,12 @@ import org.springframework.transaction.annotation.Transactional;
 public class WholesaleService {
 
     private final WholesaleRepository wholesaleRepository;
+    private final WholesaleItemExportRepository wholesaleItemExportRepository;
     private final ProductRepository productRepository;
     private final InventoryRepository inventoryRepository;
+    private final InventoryService inventoryService;
     private final UserContextProvider userContextProvider;
+    private final StreamingExporter streamingExporter;
 
     @Transactional
     public WholesaleResponse createPendingWholesale(CreatePendingWholesaleRequest request, Long userId) {
@@ -96,6 +110,64 @@ public class WholesaleService {
         return PageResponse.from(mapped);
     }
 
+    // 권한 확인만 먼저 하고, 행 조회와 파일 기록은 응답을 쓰는 시점에 스트리밍으로 수행 (기간 조건은 목록 조회와 동일)
+    public ExportFile exportWholesaleItems(
+            Long userId, WholesaleStatus status, LocalDate fromDate, LocalDate toDate, String formatParam
+    ) {
+        UserStoreContext context = userContextProvider.findUserAndStore(userId);
+        Long storeId = context.store().getId();
+        ExportFormat format = ExportFormat.from(formatParam);
+
+        LocalDate startDate = fromDate != null ? fromDate : LocalDate.of(1970, 1, 1);
+        LocalDate endDate = toDate != null ? toDate : LocalDate.now();
+        LocalDateTime start = startDate.atStartOfDay();
+        LocalDateTime end = endDate.plusDays(1).atStartOfDay().minusNanos(1);
+
+        log.info("[WholesaleService] 출고 내역 내보내기 요청 - userId: {}, storeId: {}, status: {}, format: {}",
+                userId, storeId, status, format);
+        return streamingExporter.export(
+                "출고내역_" + LocalDate.now(), format, WholesaleItemExportRow.HEADERS,
+                () -> wholesaleItemExportRepository.streamExportRows(storeId, status, start, end),
+                WholesaleItemExportRow::columns
+        );
+    }
+
+    @Transactional(readOnly = true)
+    public CursorResponse<WholesaleResponse> getWholesaleListByCursor(
+            Long userId, String cursor, Integer size, WholesaleStatus status,
+            LocalDate fromDate, LocalDate toDate, String orderReference
+    ) {
+        UserStoreContext context = userContextProvider.findUserAndStore(userId);
+        Store store = context.store();
+
+        log.info("[WholesaleService] 출고 목록 커서 조회 요청 - userId: {}, storeId: {}", userId, store.getId());
+        PageCursor pageCursor = PageCursor.decode(cursor);
+        LocalDate startDate = fromDate != null ? fromDate : LocalDate.of(1970, 1, 1);
+        LocalDate endDate = toDate != null ? toDate : LocalDate.now();
+
+        Slice<Wholesale> wholesaleSlice = wholesaleRepository.findSliceByFilter(
+                store.getId(), status,
+                (orderReference == null || orderReference.isBlank()) ? null : orderReference,
+                startDate.atStartOfDay(), endDate.plusDays(1).atStartOfDay().minusNanos(1),
+                pageCursor != null ? pageCursor.sortKeyAsDateTime() : null,
+                pageCursor != null ? pageCursor.id() : null,
+                PaginationUtil.createCursorRequest(size)
+        );
+        // 같은 영속성 컨텍스트의 출고 엔티티에 items 를 한 번에 채움 (출고별 N+1 방지)
+        if (wholesaleSlice.hasContent()) {
+            wholesaleRepository.findAllWithItemsByIdIn(
+                    wholesaleSlice.getContent().stream().map(Wholesale::getId).toList()
+            );
+        }
+
+        log.info("[WholesaleService] 출고 목록 커서 조회 성공 - userId: {}, storeId: {}", userId, store.getId());
+        return CursorResponse.from(
+                wholesaleSlice,
+                WholesaleResponse::from,
+                wholesale -> PageCursor.of(wholesale.getCreatedAt(), wholesale.getId())
+        );
+    }
+
     @Transactional
     public ConfirmWholesaleResponse confirmWholesale(Long wholesaleId, ConfirmWholesaleRequest request, Long userId) {
         UserStoreContext context = userContextProvider.findUserAndStore(userId);
@@ -107,15 +179,19 @@ public class WholesaleService {
         Wholesale wholesale = findWholesaleByIdAndValidateAccess(wholesaleId, store);
         wholesale.confirm(request.releaseDate());
 
-        // 출고 완료 후 재고 차감
+        // 출고 완료 후 재고 차감 (전체 라인을 한 번에 잠그고 반영)
+        List<InventoryDelta> deltas = wholesale.getItems().stream()
+                .map(item -> InventoryDelta.wholesaleConfirmed(item.getProduct().getId(), item.getQuantity()))
+                .toList();
+        Map<Long, Inventory> inventories = inventoryService.applyBatch(deltas);
+
+        // 출고 확정은 출고 예정과 창고 재고를 같은 양만큼 차감하므로 가용 재고는 반영 전후가 동일함
         for (WholesaleItem item : wholesale.getItems()) {
-            Inventory inventory = findInventoryByProductId(item.getProduct().getId());
-            
             // 재고 부족 항목인 경우, 현재 oversubscription(가용 재고 < 0)이 해소됐는지 확인
             if (item.getInsufficientStock()) {
-                BigDecimal availableStock = inventory.getAvailableStock();
+                BigDecimal availableStock = inventories.get(item.getProduct().getId()).getAvailableStock();
                 if (availableStock.compareTo(BigDecimal.ZERO) < 0) {
-                    // 여전히 전체 출고 예약 합보다 창고 재고가 적으면 확정을 막음
+                    // 여전히 전체 출고 예약 합보다 창고 재고가 적으면 확정을 막음 (트랜잭션 롤백으로 차감도 취소됨)
                     throw new BaseException(ErrorCode.NOT_ENOUGH_STOCK,
                             String.format("상품 '%s'의 창고 재고가 부족합니다. (요청: %s, 가용 재고: %s)",
                                     item.getProduct().getName(), item.getQuantity(), availableStock));
@@ -123,8 +199,6 @@ public class WholesaleService {
                 // oversubscription이 해소되었으면 부족 플래그 해제
                 item.setInsufficientStock(false);
             }
-            
-            inventory.confirmOutgoing(item.getQuantity());
         }
 
         log.info("[WholesaleService] 출고 완료 처리 성공 - wholesaleId: {}", wholesale.getId());
@@ -148,8 +222,7 @@ public class WholesaleService {
 
         // 출고 취소 후 출고 예정 수량 차감
         for (WholesaleItem item : wholesale.getItems()) {
-            Inventory inventory = findInventoryByProductId(item.getProduct().getId());
-            inventory.decreaseOutgoing(item.getQuantity());
+            inventoryService.decreaseOutgoingStockFromWholesale(item.getProduct(), item.getQuantity());
         }
 
         log.info("[WholesaleService] 출고 취소 성공 - wholesaleId: {}", wholesale.getId());
@@ -210,21 +283,13 @@ public class WholesaleService {
                 BigDecimal diff = itemRequest.quantity().subtract(item.getQuantity());
 
                 if (diff.compareTo(BigDecimal.ZERO) > 0) {
-                    // 수량 증가: 가용 재고 검증 후 출고 예정 증가
-                    BigDecimal availableStock = inventory.getAvailableStock();
-                    boolean isInsufficient = availableStock.compareTo(diff) < 0;
-                    
-                    if (isInsufficient) {
-                        throw new BaseException(ErrorCode.NOT_ENOUGH_STOCK,
-                                String.format("상품 '%s'의 창고 재고가 부족합니다. (요청 증가: %s, 가용 재고: %s)",
-                                        product.getName(), diff, availableStock));
-                    }
-                    inventory.increaseOutgoing(diff);
+                    // 수량 증가: 가용 재고 범위 내에서만 출고 예정 증가 (검증과 증가를 단일 UPDATE로 처리)
+                    inventoryService.increaseOutgoingStockWithinAvailable(product, diff);
                     // 수량 증가 후 재고가 충분하면 부족 플래그 해제
                     item.setInsufficientStock(false);
                 } else if (diff.compareTo(BigDecimal.ZERO) < 0) {
                     // 수량 감소: 출고 예정 감소
-                    inventory.decreaseOutgoing(diff.abs());
+                    inventoryService.decreaseOutgoingStockFromWholesale(product, diff.abs());
                     // 수량이 감소했으므로 재고 상태 재확인
                     BigDecimal availableStock = inventory.getAvailableStock();
                     boolean isInsufficient = availableStock.compareTo(itemRequest.quantity()) < 0;
@@ -269,7 +334,7 @@ public class WholesaleService {
             boolean isInsufficient = availableStock.compareTo(request.quantity()) < 0;
             
             // 재고 부족 여부와 관계없이 출고 예정 수량 증가 (데이터 일관성 유지)
-            inventory.increaseOutgoing(request.quantity());
+            inventoryService.increaseOutgoingStockFromWholesale(product, request.quantity());
             
             if (isInsufficient) {
                 log.warn("[WholesaleService] 재고 부족 - 상품: {}, 요청 수량: {}, 가용 재고: {}", 
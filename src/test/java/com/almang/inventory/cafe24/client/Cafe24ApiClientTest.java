@@ -0,0 +1,182 @@
+package com.almang.inventory.cafe24.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+
+import com.almang.inventory.global.config.RestTemplateConfig;
+import com.almang.inventory.global.config.properties.Cafe24ClientProperties;
+import com.almang.inventory.global.config.properties.Cafe24Properties;
+import com.almang.inventory.global.exception.BaseException;
+import com.almang.inventory.global.exception.ErrorCode;
+import com.almang.inventory.user.auth.service.RedisService;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class Cafe24ApiClientTest {
+
+    private static final String ORDERS_PATH = "/admin/orders";
+
+    @Mock private RedisService redisService;
+
+    private HttpServer server;
+    private final ConcurrentLinkedDeque<StubResponse> responses = new ConcurrentLinkedDeque<>();
+    private final List<RecordedRequest> requests = new CopyOnWriteArrayList<>();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private Cafe24ApiClient cafe24ApiClient;
+
+    private record StubResponse(int status, Map<String, String> headers, String body) {
+    }
+
+    private record RecordedRequest(String method, String uri, String authorization, int clientPort) {
+    }
+
+    @BeforeEach
+    void init() throws IOException {
+        // 카페24 Admin API 를 흉내 내는 로컬 HTTP 서버 (마지막 응답은 계속 반복)
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/api/v2/admin", exchange -> {
+            requests.add(new RecordedRequest(
+                    exchange.getRequestMethod(), exchange.getRequestURI().toString(),
+                    exchange.getRequestHeaders().getFirst("Authorization"), exchange.getRemoteAddress().getPort()
+            ));
+            exchange.getRequestBody().readAllBytes();
+
+            StubResponse response = responses.size() > 1 ? responses.poll() : responses.peek();
+            response.headers().forEach((name, value) -> exchange.getResponseHeaders().add(name, value));
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            byte[] body = response.body().getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(response.status(), body.length == 0 ? -1 : body.length);
+            try (OutputStream outputStream = exchange.getResponseBody()) {
+                outputStream.write(body);
+            }
+        });
+        server.start();
+
+        Cafe24Properties cafe24Properties = new Cafe24Properties();
+        cafe24Properties.setBaseUrl("http://localhost:" + server.getAddress().getPort() + "/api/v2");
+
+        Cafe24ClientProperties clientProperties = new Cafe24ClientProperties();
+        clientProperties.setLeakRatePerSecond(100);
+        clientProperties.setMaxRetries(2);
+        clientProperties.setBackoffBase(Duration.ofMillis(10));
+        clientProperties.setBackoffMax(Duration.ofMillis(50));
+
+        RestTemplateConfig restTemplateConfig = new RestTemplateConfig();
+        cafe24ApiClient = new Cafe24ApiClient(
+                restTemplateConfig.cafe24RestTemplate(restTemplateConfig.cafe24ClientHttpRequestFactory(clientProperties)),
+                cafe24Properties, clientProperties, redisService, meterRegistry
+        );
+        given(redisService.getCafe24AccessToken()).willReturn("cafe24-token");
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    private void respond(int status, Map<String, String> headers, String body) {
+        responses.add(new StubResponse(status, headers, body));
+    }
+
+    @Test
+    void 액세스_토큰으로_조회하고_엔드포인트별_지연_시간을_기록한다() {
+        // given
+        respond(200, Map.of(), "{\"orders\":[{\"order_id\":\"20250101-0000001\"}]}");
+
+        // when
+        Map<?, ?> result = cafe24ApiClient.get(
+                ORDERS_PATH + "?start_date={startDate}", Map.class, Map.of("startDate", "2025-01-01"));
+
+        // then
+        assertThat(result).containsKey("orders");
+        assertThat(requests).hasSize(1);
+        assertThat(requests.get(0).uri()).isEqualTo("/api/v2/admin/orders?start_date=2025-01-01");
+        assertThat(requests.get(0).authorization()).isEqualTo("Bearer cafe24-token");
+        assertThat(meterRegistry.get("cafe24.api.requests")
+                .tags("endpoint", ORDERS_PATH, "method", "GET", "status", "200")
+                .timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void 연속_호출은_풀의_keep_alive_커넥션을_재사용한다() {
+        // given
+        respond(200, Map.of(), "{}");
+
+        // when
+        cafe24ApiClient.get(ORDERS_PATH, Map.class, Map.of());
+        cafe24ApiClient.get(ORDERS_PATH, Map.class, Map.of());
+
+        // then
+        assertThat(requests).hasSize(2);
+        assertThat(requests.get(1).clientPort()).isEqualTo(requests.get(0).clientPort());
+    }
+
+    @Test
+    void 한도_초과_응답을_받으면_대기_후_재시도한다() {
+        // given
+        respond(429, Map.of("Retry-After", "0", Cafe24ApiClient.CALL_LIMIT_HEADER, "40/40"), "{}");
+        respond(200, Map.of(), "{\"count\":3}");
+
+        // when
+        Map<?, ?> result = cafe24ApiClient.get(ORDERS_PATH + "/count", Map.class, Map.of());
+
+        // then
+        assertThat(result).containsEntry("count", 3);
+        assertThat(requests).hasSize(2);
+        assertThat(meterRegistry.get("cafe24.api.throttled").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("cafe24.api.retries").tag("reason", "429").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void 서버_오류가_계속되면_최대_재시도_후_예외가_발생한다() {
+        // given
+        respond(503, Map.of(), "{\"error\":\"unavailable\"}");
+
+        // when & then
+        assertThatThrownBy(() -> cafe24ApiClient.get(ORDERS_PATH, Map.class, Map.of()))
+                .isInstanceOf(BaseException.class)
+                .extracting(e -> ((BaseException) e).getErrorCode())
+                .isEqualTo(ErrorCode.CAFE24_API_ERROR);
+        assertThat(requests).hasSize(3);
+    }
+
+    @Test
+    void 생성_요청은_서버_오류가_나도_재시도하지_않는다() {
+        // given
+        respond(500, Map.of(), "{}");
+
+        // when & then
+        assertThatThrownBy(() -> cafe24ApiClient.post(ORDERS_PATH, Map.of("memo", "테스트"), Map.class, Map.of()))
+                .isInstanceOf(BaseException.class);
+        assertThat(requests).hasSize(1);
+    }
+
+    @Test
+    void 응답의_호출_한도_헤더로_버킷_사용량을_갱신한다() {
+        // given
+        respond(200, Map.of(Cafe24ApiClient.CALL_LIMIT_HEADER, "30/40"), "{}");
+
+        // when
+        cafe24ApiClient.get(ORDERS_PATH, Map.class, Map.of());
+
+        // then
+        assertThat(meterRegistry.get("cafe24.api.bucket.level").gauge().value()).isGreaterThan(29.0);
+    }
+}
@@ -0,0 +1,80 @@
+package com.almang.inventory.cafe24.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+class Cafe24CallLimiterTest {
+
+    private final AtomicLong now = new AtomicLong();
+
+    private void advanceMillis(long millis) {
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(millis));
+    }
+
+    @Test
+    void 여유분을_남긴_한도까지는_기다리지_않는다() {
+        // given
+        Cafe24CallLimiter limiter = new Cafe24CallLimiter(5, 2.0, 1, now::get);
+
+        // when & then
+        for (int i = 0; i < 4; i++) {
+            assertThat(limiter.reserve()).isZero();
+        }
+        assertThat(TimeUnit.NANOSECONDS.toMillis(limiter.reserve())).isEqualTo(500);
+        assertThat(TimeUnit.NANOSECONDS.toMillis(limiter.reserve())).isEqualTo(1000);
+    }
+
+    @Test
+    void 시간이_지나면_버킷이_비워진다() {
+        // given
+        Cafe24CallLimiter limiter = new Cafe24CallLimiter(5, 2.0, 1, now::get);
+        for (int i = 0; i < 4; i++) {
+            limiter.reserve();
+        }
+
+        // when
+        advanceMillis(1000);
+
+        // then
+        assertThat(limiter.level()).isCloseTo(2.0, within(1e-6));
+        assertThat(limiter.reserve()).isZero();
+    }
+
+    @Test
+    void 응답의_사용량이_더_크면_버킷_상태를_따른다() {
+        // given
+        Cafe24CallLimiter limiter = new Cafe24CallLimiter(40, 2.0, 2, now::get);
+        limiter.reserve();
+
+        // when
+        limiter.observe(38, 40);
+
+        // then
+        assertThat(limiter.level()).isEqualTo(38.0);
+        assertThat(TimeUnit.NANOSECONDS.toMillis(limiter.reserve())).isEqualTo(500);
+
+        // when
+        limiter.observe(1, 80);
+
+        // then
+        assertThat(limiter.capacity()).isEqualTo(80);
+        assertThat(limiter.level()).isEqualTo(39.0);
+    }
+
+    @Test
+    void 한도_초과_응답을_받으면_버킷을_가득_찬_것으로_본다() {
+        // given
+        Cafe24CallLimiter limiter = new Cafe24CallLimiter(10, 2.0, 0, now::get);
+
+        // when
+        limiter.throttled();
+
+        // then
+        assertThat(limiter.level()).isEqualTo(10.0);
+        assertThat(TimeUnit.NANOSECONDS.toMillis(limiter.reserve())).isEqualTo(500);
+    }
+}
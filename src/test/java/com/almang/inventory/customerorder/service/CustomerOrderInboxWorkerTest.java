@@ -0,0 +1,248 @@
+package com.almang.inventory.customerorder.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.almang.inventory.customerorder.domain.CustomerOrder;
+import com.almang.inventory.customerorder.domain.CustomerOrderInbox;
+import com.almang.inventory.customerorder.domain.CustomerOrderInboxStatus;
+import com.almang.inventory.customerorder.dto.response.CustomerOrderInboxResponse;
+import com.almang.inventory.customerorder.repository.CustomerOrderInboxRepository;
+import com.almang.inventory.customerorder.repository.CustomerOrderRepository;
+import com.almang.inventory.global.exception.BaseException;
+import com.almang.inventory.global.exception.ErrorCode;
+import com.almang.inventory.inventory.dto.InitialInventoryValues;
+import com.almang.inventory.inventory.service.InventoryService;
+import com.almang.inventory.product.domain.Product;
+import com.almang.inventory.product.domain.ProductUnit;
+import com.almang.inventory.product.repository.ProductRepository;
+import com.almang.inventory.store.domain.Store;
+import com.almang.inventory.store.repository.StoreRepository;
+import com.almang.inventory.vendor.domain.Vendor;
+import com.almang.inventory.vendor.domain.VendorChannel;
+import com.almang.inventory.vendor.repository.VendorRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+@SpringBootTest(properties = {
+        "customer-order.inbox.max-attempts=2",
+        "customer-order.inbox.backoff-base=PT0S"
+})
+@Transactional
+@ActiveProfiles("test")
+class CustomerOrderInboxWorkerTest {
+
+    @Autowired private CustomerOrderInboxService customerOrderInboxService;
+    @Autowired private CustomerOrderInboxWorker customerOrderInboxWorker;
+    @Autowired private CustomerOrderInboxRepository customerOrderInboxRepository;
+    @Autowired private CustomerOrderRepository customerOrderRepository;
+    @Autowired private InventoryService inventoryService;
+    @Autowired private StoreRepository storeRepository;
+    @Autowired private VendorRepository vendorRepository;
+    @Autowired private ProductRepository productRepository;
+    @Autowired private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void init() {
+        Store store = storeRepository.save(Store.builder().name("수신함 상점").isActivate(true).build());
+        Vendor vendor = vendorRepository.save(Vendor.builder()
+                .store(store)
+                .name("수신함 발주처")
+                .channel(VendorChannel.KAKAO)
+                .phoneNumber("010-0000-0000")
+                .orderMethod("주문 방법")
+                .activated(true)
+                .build());
+        Product product = productRepository.save(Product.builder()
+                .store(store)
+                .vendor(vendor)
+                .name("테스트 상품")
+                .code("INBOX-P001")
+                .unit(ProductUnit.EA)
+                .activated(true)
+                .costPrice(1000)
+                .retailPrice(1500)
+                .wholesalePrice(1200)
+                .build());
+        inventoryService.createInventory(product, new InitialInventoryValues(
+                BigDecimal.ZERO, BigDecimal.TEN, BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO
+        ));
+    }
+
+    private String webhookPayload(String orderId, String productCode) {
+        return webhookPayload(orderId, productCode, "T", "F");
+    }
+
+    private String webhookPayload(String orderId, String productCode, String paid, String canceled) {
+        return """
+                {"order_id":"%s","order_date":"2025-11-20T10:00:00+09:00","paid":"%s","canceled":"%s",
+                 "payment_method_name":["카드"],"payment_amount":"10000.00","billing_name":"테스트 고객",
+                 "initial_order_amount":{"order_price_amount":"10000.00","shipping_fee":"0.00"},
+                 "items":[{"product_code":"%s","product_name":"테스트 상품","quantity":1}]}
+                """.formatted(orderId, paid, canceled, productCode);
+    }
+
+    private CustomerOrderInbox inbox(Long inboxId) {
+        return customerOrderInboxRepository.findById(inboxId).orElseThrow();
+    }
+
+    private double results(String outcome) {
+        return meterRegistry.counter(CustomerOrderInboxWorker.RESULT_METRIC, "outcome", outcome).count();
+    }
+
+    @Test
+    void 적재된_웹훅을_묶음으로_반영하고_처리_완료로_바꾼다() {
+        // given
+        Long first = customerOrderInboxService.enqueue(webhookPayload("INBOX-0001", "INBOX-P001"));
+        Long second = customerOrderInboxService.enqueue(webhookPayload("INBOX-0002", "INBOX-P001"));
+        Long duplicate = customerOrderInboxService.enqueue(webhookPayload("INBOX-0001", "INBOX-P001"));
+        double doneBefore = results("done");
+
+        // when
+        int processed = customerOrderInboxWorker.drain();
+
+        // then
+        assertThat(processed).isEqualTo(3);
+        assertThat(List.of(inbox(first), inbox(second), inbox(duplicate)))
+                .extracting(CustomerOrderInbox::getStatus)
+                .containsOnly(CustomerOrderInboxStatus.DONE);
+        assertThat(inbox(first).getClaimToken()).isNull();
+        assertThat(inbox(first).getProcessedAt()).isNotNull();
+
+        List<CustomerOrder> saved = customerOrderRepository.findAllByCafe24OrderIdIn(List.of("INBOX-0001", "INBOX-0002"));
+        assertThat(saved).hasSize(2);
+        assertThat(results("done") - doneBefore).isEqualTo(3.0);
+        assertThat(customerOrderInboxWorker.drain()).isZero();
+    }
+
+    @Test
+    void 같은_주문의_웹훅이_한_묶음에_있으면_마지막_상태를_반영한다() {
+        // given: 미결제 주문 생성 → 결제 → 취소 웹훅이 한 묶음으로 선점됨
+        Long created = customerOrderInboxService.enqueue(webhookPayload("INBOX-0008", "INBOX-P001", "F", "F"));
+        Long paid = customerOrderInboxService.enqueue(webhookPayload("INBOX-0008", "INBOX-P001", "T", "F"));
+        Long canceled = customerOrderInboxService.enqueue(webhookPayload("INBOX-0008", "INBOX-P001", "T", "T"));
+        Long otherUnpaid = customerOrderInboxService.enqueue(webhookPayload("INBOX-0009", "INBOX-P001", "F", "F"));
+        Long otherPaid = customerOrderInboxService.enqueue(webhookPayload("INBOX-0009", "INBOX-P001", "T", "F"));
+
+        // when
+        customerOrderInboxWorker.drain();
+
+        // then
+        assertThat(List.of(inbox(created), inbox(paid), inbox(canceled), inbox(otherUnpaid), inbox(otherPaid)))
+                .extracting(CustomerOrderInbox::getStatus)
+                .containsOnly(CustomerOrderInboxStatus.DONE);
+        CustomerOrder canceledOrder = customerOrderRepository.findByCafe24OrderId("INBOX-0008").orElseThrow();
+        assertThat(canceledOrder.isPaid()).isTrue();
+        assertThat(canceledOrder.isCanceled()).isTrue();
+        CustomerOrder paidOrder = customerOrderRepository.findByCafe24OrderId("INBOX-0009").orElseThrow();
+        assertThat(paidOrder.isPaid()).isTrue();
+        assertThat(paidOrder.isCanceled()).isFalse();
+    }
+
+    @Test
+    void 상품을_찾지_못한_주문은_재시도하다가_dead_letter_로_옮긴다() {
+        // given
+        Long inboxId = customerOrderInboxService.enqueue(webhookPayload("INBOX-0003", "UNKNOWN-P001"));
+
+        // when
+        customerOrderInboxWorker.drain();
+
+        // then
+        CustomerOrderInbox retried = inbox(inboxId);
+        assertThat(retried.getStatus()).isEqualTo(CustomerOrderInboxStatus.PENDING);
+        assertThat(retried.getAttempts()).isEqualTo(1);
+        assertThat(retried.getLastError()).isNotBlank();
+
+        // when
+        customerOrderInboxWorker.drain();
+
+        // then
+        CustomerOrderInbox dead = inbox(inboxId);
+        assertThat(dead.getStatus()).isEqualTo(CustomerOrderInboxStatus.DEAD);
+        assertThat(dead.getAttempts()).isEqualTo(2);
+        assertThat(customerOrderInboxService.getDeadLetters(10))
+                .extracting(CustomerOrderInboxResponse::inboxId)
+                .contains(inboxId);
+        assertThat(customerOrderRepository.findAllByCafe24OrderIdIn(List.of("INBOX-0003"))).isEmpty();
+        assertThat(meterRegistry.get(CustomerOrderInboxWorker.DEPTH_METRIC).tag("status", "dead").gauge().value())
+                .isGreaterThanOrEqualTo(1.0);
+    }
+
+    @Test
+    void 해석할_수_없는_payload_는_바로_dead_letter_로_옮긴다() {
+        // given
+        CustomerOrderInbox broken = customerOrderInboxRepository.save(
+                CustomerOrderInbox.received("INBOX-0004", "{not-json", LocalDateTime.now())
+        );
+
+        // when
+        customerOrderInboxWorker.drain();
+
+        // then
+        CustomerOrderInbox dead = inbox(broken.getId());
+        assertThat(dead.getStatus()).isEqualTo(CustomerOrderInboxStatus.DEAD);
+        assertThat(dead.getAttempts()).isEqualTo(1);
+    }
+
+    @Test
+    void dead_letter_를_다시_처리_대기열에_넣으면_다음_처리에서_반영한다() {
+        // given
+        Long inboxId = customerOrderInboxService.enqueue(webhookPayload("INBOX-0005", "INBOX-P002"));
+        customerOrderInboxWorker.drain();
+        customerOrderInboxWorker.drain();
+        assertThat(inbox(inboxId).getStatus()).isEqualTo(CustomerOrderInboxStatus.DEAD);
+
+        Product product = productRepository.findAllByCodeIn(List.of("INBOX-P001")).get(0);
+        Product added = productRepository.save(Product.builder()
+                .store(product.getStore())
+                .vendor(product.getVendor())
+                .name("추가 상품")
+                .code("INBOX-P002")
+                .unit(ProductUnit.EA)
+                .activated(true)
+                .costPrice(1000)
+                .retailPrice(1500)
+                .wholesalePrice(1200)
+                .build());
+        inventoryService.createInventory(added, new InitialInventoryValues(
+                BigDecimal.ZERO, BigDecimal.TEN, BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO
+        ));
+
+        // when
+        CustomerOrderInboxResponse requeued = customerOrderInboxService.requeue(inboxId);
+        customerOrderInboxWorker.drain();
+
+        // then
+        assertThat(requeued.status()).isEqualTo(CustomerOrderInboxStatus.PENDING);
+        assertThat(inbox(inboxId).getStatus()).isEqualTo(CustomerOrderInboxStatus.DONE);
+        assertThat(customerOrderRepository.findAllByCafe24OrderIdIn(List.of("INBOX-0005"))).hasSize(1);
+    }
+
+    @Test
+    void dead_letter_가_아닌_행은_다시_넣을_수_없다() {
+        // given
+        Long inboxId = customerOrderInboxService.enqueue(webhookPayload("INBOX-0006", "INBOX-P001"));
+
+        // when & then
+        assertThatThrownBy(() -> customerOrderInboxService.requeue(inboxId))
+                .isInstanceOf(BaseException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.CUSTOMER_ORDER_INBOX_NOT_DEAD);
+    }
+
+    @Test
+    void 필수_값이_없는_웹훅은_적재하지_않는다() {
+        // when & then
+        assertThatThrownBy(() -> customerOrderInboxService.enqueue("{\"order_id\":\"INBOX-0007\"}"))
+                .isInstanceOf(BaseException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_INPUT_VALUE);
+        assertThat(customerOrderInboxRepository.count()).isZero();
+    }
+}
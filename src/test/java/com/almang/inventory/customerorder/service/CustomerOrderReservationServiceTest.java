@@ -0,0 +1,260 @@
+package com.almang.inventory.customerorder.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.almang.inventory.customerorder.domain.CustomerOrder;
+import com.almang.inventory.customerorder.domain.CustomerOrderItem;
+import com.almang.inventory.customerorder.domain.CustomerOrderItemReservationStatus;
+import com.almang.inventory.customerorder.dto.request.CustomerOrderItemRequest;
+import com.almang.inventory.customerorder.dto.request.CustomerOrderRequest;
+import com.almang.inventory.customerorder.dto.response.CustomerOrderShipmentResponse;
+import com.almang.inventory.customerorder.repository.CustomerOrderRepository;
+import com.almang.inventory.global.exception.BaseException;
+import com.almang.inventory.global.exception.ErrorCode;
+import com.almang.inventory.inventory.domain.Inventory;
+import com.almang.inventory.inventory.dto.InitialInventoryValues;
+import com.almang.inventory.inventory.repository.InventoryRepository;
+import com.almang.inventory.inventory.service.InventoryService;
+import com.almang.inventory.product.domain.Product;
+import com.almang.inventory.product.domain.ProductUnit;
+import com.almang.inventory.product.repository.ProductRepository;
+import com.almang.inventory.store.domain.Store;
+import com.almang.inventory.store.repository.StoreRepository;
+import com.almang.inventory.vendor.domain.Vendor;
+import com.almang.inventory.vendor.domain.VendorChannel;
+import com.almang.inventory.vendor.repository.VendorRepository;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+@SpringBootTest
+@Transactional
+@ActiveProfiles("test")
+class CustomerOrderReservationServiceTest {
+
+    @Autowired private CustomerOrderService customerOrderService;
+    @Autowired private CustomerOrderReservationService customerOrderReservationService;
+    @Autowired private CustomerOrderReservationSweeper customerOrderReservationSweeper;
+    @Autowired private CustomerOrderRepository customerOrderRepository;
+    @Autowired private InventoryService inventoryService;
+    @Autowired private InventoryRepository inventoryRepository;
+    @Autowired private StoreRepository storeRepository;
+    @Autowired private VendorRepository vendorRepository;
+    @Autowired private ProductRepository productRepository;
+
+    private Product shampoo;
+    private Product soap;
+
+    @BeforeEach
+    void init() {
+        Store store = storeRepository.save(Store.builder().name("예약 상점").isActivate(true).build());
+        Vendor vendor = vendorRepository.save(Vendor.builder()
+                .store(store)
+                .name("예약 발주처")
+                .channel(VendorChannel.KAKAO)
+                .phoneNumber("010-0000-0000")
+                .orderMethod("주문 방법")
+                .activated(true)
+                .build());
+        shampoo = newProductWithInventory(store, vendor, "RSV-P001", BigDecimal.TEN);
+        soap = newProductWithInventory(store, vendor, "RSV-P002", BigDecimal.valueOf(3));
+    }
+
+    private Product newProductWithInventory(Store store, Vendor vendor, String code, BigDecimal warehouseStock) {
+        Product product = productRepository.save(Product.builder()
+                .store(store)
+                .vendor(vendor)
+                .name("상품 " + code)
+                .code(code)
+                .unit(ProductUnit.EA)
+                .activated(true)
+                .costPrice(1000)
+                .retailPrice(1500)
+                .wholesalePrice(1200)
+                .build());
+        inventoryService.createInventory(product, new InitialInventoryValues(
+                BigDecimal.ZERO, BigDecimal.ZERO, warehouseStock, BigDecimal.ZERO, BigDecimal.ZERO
+        ));
+        return product;
+    }
+
+    private CustomerOrderRequest order(String orderId, String paid, String canceled, CustomerOrderItemRequest... items) {
+        return CustomerOrderRequest.builder()
+                .cafe24OrderId(orderId)
+                .orderAt(LocalDateTime.of(2025, 11, 20, 10, 0))
+                .isPaid(paid)
+                .isCanceled(canceled)
+                .paymentAmount(BigDecimal.valueOf(10000))
+                .billingName("테스트 고객")
+                .initialOrderAmount(new CustomerOrderRequest.InitialOrderAmount(BigDecimal.valueOf(10000), BigDecimal.ZERO))
+                .items(List.of(items))
+                .build();
+    }
+
+    private CustomerOrderItemRequest item(Product product, int quantity) {
+        return CustomerOrderItemRequest.builder()
+                .productCode(product.getCode())
+                .productName(product.getName())
+                .quantity(quantity)
+                .build();
+    }
+
+    private Inventory inventoryOf(Product product) {
+        return inventoryRepository.findByProduct_Id(product.getId()).orElseThrow();
+    }
+
+    private List<CustomerOrderItemReservationStatus> reservationStatuses(String orderId) {
+        CustomerOrder customerOrder = customerOrderRepository.findByCafe24OrderId(orderId).orElseThrow();
+        return customerOrder.getItems().stream().map(CustomerOrderItem::getReservationStatus).toList();
+    }
+
+    @Test
+    void 결제_완료_주문은_출고_예정으로_예약하고_재전송되어도_한_번만_반영한다() {
+        // given
+        CustomerOrderRequest request = order("RSV-0001", "T", "F", item(shampoo, 2), item(soap, 1));
+
+        // when
+        customerOrderService.upsertCafe24Orders(List.of(request));
+        customerOrderService.upsertCafe24Orders(List.of(request));
+        customerOrderService.upsertCafe24Orders(List.of(request, request));
+
+        // then
+        assertThat(inventoryOf(shampoo).getOutgoingReserved()).isEqualByComparingTo("2");
+        assertThat(inventoryOf(soap).getOutgoingReserved()).isEqualByComparingTo("1");
+        assertThat(inventoryOf(shampoo).getWarehouseStock()).isEqualByComparingTo("10");
+        assertThat(reservationStatuses("RSV-0001")).containsOnly(CustomerOrderItemReservationStatus.RESERVED);
+    }
+
+    @Test
+    void 미결제_주문은_예약하지_않고_결제되면_예약한다() {
+        // given
+        customerOrderService.upsertCafe24Orders(List.of(order("RSV-0002", "F", "F", item(shampoo, 3))));
+        assertThat(inventoryOf(shampoo).getOutgoingReserved()).isEqualByComparingTo("0");
+
+        // when
+        customerOrderService.upsertCafe24Orders(List.of(order("RSV-0002", "T", "F", item(shampoo, 3))));
+
+        // then
+        assertThat(inventoryOf(shampoo).getOutgoingReserved()).isEqualByComparingTo("3");
+        assertThat(reservationStatuses("RSV-0002")).containsOnly(CustomerOrderItemReservationStatus.RESERVED);
+    }
+
+    @Test
+    void 주문이_취소되면_예약한_출고_예정을_되돌린다() {
+        // given
+        customerOrderService.upsertCafe24Orders(List.of(order("RSV-0003", "T", "F", item(shampoo, 4))));
+        assertThat(inventoryOf(shampoo).getOutgoingReserved()).isEqualByComparingTo("4");
+
+        // when
+        CustomerOrderRequest canceled = order("RSV-0003", "T", "T", item(shampoo, 4));
+        customerOrderService.upsertCafe24Orders(List.of(canceled));
+        customerOrderService.upsertCafe24Orders(List.of(canceled));
+
+        // then
+        assertThat(inventoryOf(shampoo).getOutgoingReserved()).isEqualByComparingTo("0");
+        assertThat(reservationStatuses("RSV-0003")).containsOnly(CustomerOrderItemReservationStatus.UNRESERVED);
+    }
+
+    @Test
+    void 가용_재고가_부족한_항목은_미예약으로_남기고_다음_반영때_다시_시도한다() {
+        // given
+        CustomerOrderRequest request = order("RSV-0004", "T", "F", item(shampoo, 1), item(soap, 5));
+
+        // when
+        customerOrderService.upsertCafe24Orders(List.of(request));
+
+        // then
+        assertThat(inventoryOf(shampoo).getOutgoingReserved()).isEqualByComparingTo("1");
+        assertThat(inventoryOf(soap).getOutgoingReserved()).isEqualByComparingTo("0");
+
+        // when
+        Inventory soapInventory = inventoryOf(soap);
+        inventoryRepository.updateManually(soapInventory.getId(), null, BigDecimal.TEN, null, null, null);
+        customerOrderService.upsertCafe24Orders(List.of(request));
+
+        // then
+        assertThat(inventoryOf(soap).getOutgoingReserved()).isEqualByComparingTo("5");
+        assertThat(inventoryOf(shampoo).getOutgoingReserved()).isEqualByComparingTo("1");
+        assertThat(reservationStatuses("RSV-0004")).containsOnly(CustomerOrderItemReservationStatus.RESERVED);
+    }
+
+    @Test
+    void 출고를_확정하면_출고_예정과_창고_재고를_함께_차감한다() {
+        // given
+        customerOrderService.upsertCafe24Orders(List.of(order("RSV-0005", "T", "F", item(shampoo, 2))));
+        Long customerOrderId = customerOrderRepository.findByCafe24OrderId("RSV-0005").orElseThrow().getId();
+
+        // when
+        CustomerOrderShipmentResponse response = customerOrderReservationService.ship(customerOrderId);
+
+        // then
+        assertThat(response.shippedItemCount()).isEqualTo(1);
+        Inventory inventory = inventoryOf(shampoo);
+        assertThat(inventory.getOutgoingReserved()).isEqualByComparingTo("0");
+        assertThat(inventory.getWarehouseStock()).isEqualByComparingTo("8");
+        assertThat(reservationStatuses("RSV-0005")).containsOnly(CustomerOrderItemReservationStatus.SHIPPED);
+
+        // when: 출고 후 취소 웹훅이 와도 재고는 다시 바뀌지 않음
+        customerOrderService.upsertCafe24Orders(List.of(order("RSV-0005", "T", "T", item(shampoo, 2))));
+
+        // then
+        assertThat(inventoryOf(shampoo).getWarehouseStock()).isEqualByComparingTo("8");
+        assertThat(inventoryOf(shampoo).getOutgoingReserved()).isEqualByComparingTo("0");
+    }
+
+    @Test
+    void 재고가_들어오면_재시도_주기에_미예약_항목을_예약한다() {
+        // given
+        customerOrderService.upsertCafe24Orders(List.of(order("RSV-0007", "T", "F", item(soap, 5))));
+        customerOrderReservationSweeper.sweep();
+        assertThat(reservationStatuses("RSV-0007")).containsOnly(CustomerOrderItemReservationStatus.UNRESERVED);
+
+        // when
+        inventoryService.applyReceipt(soap, BigDecimal.ZERO, BigDecimal.valueOf(7));
+        int reserved = customerOrderReservationSweeper.sweep();
+
+        // then
+        assertThat(reserved).isPositive();
+        assertThat(inventoryOf(soap).getOutgoingReserved()).isEqualByComparingTo("5");
+        assertThat(reservationStatuses("RSV-0007")).containsOnly(CustomerOrderItemReservationStatus.RESERVED);
+    }
+
+    @Test
+    void 출고를_확정할_때_미예약_항목을_먼저_다시_예약한다() {
+        // given
+        customerOrderService.upsertCafe24Orders(List.of(order("RSV-0008", "T", "F", item(soap, 5))));
+        Long customerOrderId = customerOrderRepository.findByCafe24OrderId("RSV-0008").orElseThrow().getId();
+        assertThatThrownBy(() -> customerOrderReservationService.ship(customerOrderId))
+                .isInstanceOf(BaseException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.NOT_ENOUGH_STOCK);
+
+        // when
+        inventoryService.applyReceipt(soap, BigDecimal.ZERO, BigDecimal.valueOf(7));
+        CustomerOrderShipmentResponse response = customerOrderReservationService.ship(customerOrderId);
+
+        // then
+        assertThat(response.shippedItemCount()).isEqualTo(1);
+        assertThat(inventoryOf(soap).getWarehouseStock()).isEqualByComparingTo("5");
+        assertThat(inventoryOf(soap).getOutgoingReserved()).isEqualByComparingTo("0");
+        assertThat(reservationStatuses("RSV-0008")).containsOnly(CustomerOrderItemReservationStatus.SHIPPED);
+    }
+
+    @Test
+    void 취소된_주문은_출고할_수_없다() {
+        // given
+        customerOrderService.upsertCafe24Orders(List.of(order("RSV-0006", "T", "T", item(shampoo, 1))));
+        Long customerOrderId = customerOrderRepository.findByCafe24OrderId("RSV-0006").orElseThrow().getId();
+
+        // when & then
+        assertThatThrownBy(() -> customerOrderReservationService.ship(customerOrderId))
+                .isInstanceOf(BaseException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.CUSTOMER_ORDER_NOT_SHIPPABLE);
+    }
+}
@@ -0,0 +1,365 @@
+package com.almang.inventory.customerorder.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+import com.almang.inventory.customerorder.domain.CustomerOrder;
+import com.almang.inventory.customerorder.domain.CustomerOrderSyncCursor;
+import com.almang.inventory.customerorder.dto.request.CustomerOrderItemRequest;
+import com.almang.inventory.customerorder.dto.request.CustomerOrderRequest;
+import com.almang.inventory.customerorder.dto.response.CustomerOrderSyncResult;
+import com.almang.inventory.customerorder.repository.CustomerOrderRepository;
+import com.almang.inventory.customerorder.repository.CustomerOrderSyncCursorRepository;
+import com.almang.inventory.inventory.dto.InitialInventoryValues;
+import com.almang.inventory.inventory.service.InventoryService;
+import com.almang.inventory.product.domain.Product;
+import com.almang.inventory.product.domain.ProductUnit;
+import com.almang.inventory.product.repository.ProductRepository;
+import com.almang.inventory.store.domain.Store;
+import com.almang.inventory.store.repository.StoreRepository;
+import com.almang.inventory.user.auth.service.RedisService;
+import com.almang.inventory.vendor.domain.Vendor;
+import com.almang.inventory.vendor.domain.VendorChannel;
+import com.almang.inventory.vendor.repository.VendorRepository;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Transactional;
+
+@SpringBootTest(properties = {
+        "customer-order.sync.page-size=2",
+        "customer-order.sync.concurrency=2",
+        "customer-order.sync.window-days=1",
+        "customer-order.sync.initial-lookback-days=2"
+})
+@Transactional
+@ActiveProfiles("test")
+class CustomerOrderSyncServiceTest {
+
+    private static final ZoneId SEOUL_ZONE = ZoneId.of("Asia/Seoul");
+    private static final DateTimeFormatter ORDER_DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss");
+
+    // 카페24 주문 목록/건수 API 를 흉내 내는 로컬 HTTP 서버
+    private static final List<StubOrder> STUB_ORDERS = new CopyOnWriteArrayList<>();
+    private static final List<Map<String, String>> REQUESTED_QUERIES = new CopyOnWriteArrayList<>();
+    // start_date 별로 건수 API 가 돌려줄 값을 바꿔 조회 한도 초과를 흉내 냄
+    private static final Map<String, Integer> COUNT_OVERRIDES = new ConcurrentHashMap<>();
+    private static final HttpServer SERVER = startStubServer();
+
+    @Autowired private CustomerOrderSyncService customerOrderSyncService;
+    @Autowired private CustomerOrderSyncCursorRepository cursorRepository;
+    @Autowired private CustomerOrderRepository customerOrderRepository;
+    @Autowired private CustomerOrderService customerOrderService;
+    @Autowired private InventoryService inventoryService;
+    @Autowired private StoreRepository storeRepository;
+    @Autowired private VendorRepository vendorRepository;
+    @Autowired private ProductRepository productRepository;
+    @MockitoBean private RedisService redisService;
+
+    private record StubOrder(String orderId, LocalDateTime orderAt, String productCode, String paid) {
+    }
+
+    private static HttpServer startStubServer() {
+        try {
+            HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+            server.createContext("/api/v2/admin/orders", CustomerOrderSyncServiceTest::handleOrders);
+            server.start();
+            return server;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void handleOrders(HttpExchange exchange) throws IOException {
+        Map<String, String> query = parseQuery(exchange.getRequestURI().getRawQuery());
+        REQUESTED_QUERIES.add(query);
+
+        LocalDateTime start = parseRangeBoundary(query.get("start_date"), false);
+        LocalDateTime end = parseRangeBoundary(query.get("end_date"), true);
+        List<StubOrder> matched = STUB_ORDERS.stream()
+                .filter(order -> !order.orderAt().isBefore(start) && !order.orderAt().isAfter(end))
+                .sorted(Comparator.comparing(StubOrder::orderAt))
+                .toList();
+
+        String body;
+        if (exchange.getRequestURI().getPath().endsWith("/count")) {
+            int count = COUNT_OVERRIDES.getOrDefault(query.get("start_date"), matched.size());
+            body = "{\"count\":" + count + "}";
+        } else {
+            int offset = Integer.parseInt(query.get("offset"));
+            int limit = Integer.parseInt(query.get("limit"));
+            body = matched.stream()
+                    .skip(offset)
+                    .limit(limit)
+                    .map(CustomerOrderSyncServiceTest::toJson)
+                    .collect(Collectors.joining(",", "{\"orders\":[", "]}"));
+        }
+
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, bytes.length);
+        try (OutputStream outputStream = exchange.getResponseBody()) {
+            outputStream.write(bytes);
+        }
+    }
+
+    // 날짜만 오면 그날 전체, 일시가 오면 해당 시각까지
+    private static LocalDateTime parseRangeBoundary(String value, boolean end) {
+        if (value.length() == 10) {
+            LocalDate date = LocalDate.parse(value);
+            return end ? date.atTime(23, 59, 59) : date.atStartOfDay();
+        }
+        return LocalDateTime.parse(value);
+    }
+
+    private static Map<String, String> parseQuery(String rawQuery) {
+        Map<String, String> query = new HashMap<>();
+        for (String pair : rawQuery.split("&")) {
+            String[] keyValue = pair.split("=", 2);
+            query.put(keyValue[0], keyValue.length > 1 ? keyValue[1] : "");
+        }
+        return query;
+    }
+
+    private static String toJson(StubOrder order) {
+        return """
+                {"order_id":"%s","order_date":"%s+09:00","paid":"%s","canceled":"F",
+                 "payment_method_name":["카드"],"payment_amount":"10000.00","billing_name":"테스트 고객",
+                 "initial_order_amount":{"order_price_amount":"10000.00","shipping_fee":"0.00"},
+                 "items":[{"product_code":"%s","product_name":"테스트 상품","quantity":1}]}
+                """.formatted(order.orderId(), ORDER_DATE_FORMAT.format(order.orderAt()), order.paid(), order.productCode());
+    }
+
+    @DynamicPropertySource
+    static void cafe24Properties(DynamicPropertyRegistry registry) {
+        registry.add("cafe24.api.base-url", () -> "http://localhost:" + SERVER.getAddress().getPort() + "/api/v2");
+    }
+
+    @AfterAll
+    static void stopStubServer() {
+        SERVER.stop(0);
+    }
+
+    @BeforeEach
+    void init() {
+        STUB_ORDERS.clear();
+        REQUESTED_QUERIES.clear();
+        COUNT_OVERRIDES.clear();
+        given(redisService.getCafe24AccessToken()).willReturn("cafe24-token");
+
+        Store store = storeRepository.save(Store.builder().name("동기화 상점").isActivate(true).build());
+        Vendor vendor = vendorRepository.save(Vendor.builder()
+                .store(store)
+                .name("동기화 발주처")
+                .channel(VendorChannel.KAKAO)
+                .phoneNumber("010-0000-0000")
+                .orderMethod("주문 방법")
+                .activated(true)
+                .build());
+        Product product = productRepository.save(Product.builder()
+                .store(store)
+                .vendor(vendor)
+                .name("테스트 상품")
+                .code("SYNC-P001")
+                .unit(ProductUnit.EA)
+                .activated(true)
+                .costPrice(1000)
+                .retailPrice(1500)
+                .wholesalePrice(1200)
+                .build());
+        inventoryService.createInventory(product, new InitialInventoryValues(
+                BigDecimal.ZERO, BigDecimal.TEN, BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO
+        ));
+    }
+
+    private LocalDateTime today(int hour, int minute) {
+        return LocalDate.now(SEOUL_ZONE).atTime(hour, minute);
+    }
+
+    private LocalDateTime yesterday(int hour, int minute) {
+        return today(hour, minute).minusDays(1);
+    }
+
+    private void givenCafe24Orders(StubOrder... orders) {
+        STUB_ORDERS.addAll(List.of(orders));
+    }
+
+    private List<CustomerOrder> savedOrders(String... orderIds) {
+        return customerOrderRepository.findAllByCafe24OrderIdIn(List.of(orderIds));
+    }
+
+    @Test
+    void 놓친_주문을_여러_페이지에_걸쳐_가져와_저장하고_커서를_옮긴다() {
+        // given
+        givenCafe24Orders(
+                new StubOrder("SYNC-0001", yesterday(9, 0), "SYNC-P001", "T"),
+                new StubOrder("SYNC-0002", yesterday(10, 0), "SYNC-P001", "T"),
+                new StubOrder("SYNC-0003", yesterday(11, 0), "SYNC-P001", "T"),
+                new StubOrder("SYNC-0004", today(0, 10), "SYNC-P001", "T"),
+                new StubOrder("SYNC-0005", today(0, 20), "SYNC-P001", "F")
+        );
+
+        // when
+        CustomerOrderSyncResult result = customerOrderSyncService.synchronize();
+
+        // then
+        assertThat(result.acquired()).isTrue();
+        assertThat(result.fetched()).isEqualTo(5);
+        assertThat(result.upserted().created()).isEqualTo(5);
+        assertThat(savedOrders("SYNC-0001", "SYNC-0002", "SYNC-0003", "SYNC-0004", "SYNC-0005")).hasSize(5);
+
+        CustomerOrderSyncCursor cursor = cursorRepository.findById(CustomerOrderSyncService.SYNC_KEY).orElseThrow();
+        assertThat(cursor.getLastOrderId()).isEqualTo("SYNC-0005");
+        assertThat(cursor.getLastOrderAt()).isEqualTo(today(0, 20));
+        assertThat(cursor.getResumeDate()).isEqualTo(LocalDate.now(SEOUL_ZONE));
+        assertThat(cursor.getLeaseOwner()).isNull();
+    }
+
+    @Test
+    void 다시_동기화하면_마지막으로_반영한_주문_일시부터_조회하여_새_주문만_반영한다() {
+        // given
+        givenCafe24Orders(
+                new StubOrder("SYNC-0001", yesterday(9, 0), "SYNC-P001", "T"),
+                new StubOrder("SYNC-0002", today(0, 10), "SYNC-P001", "T")
+        );
+        customerOrderSyncService.synchronize();
+        REQUESTED_QUERIES.clear();
+        givenCafe24Orders(new StubOrder("SYNC-0003", today(0, 30), "SYNC-P001", "T"));
+
+        // when
+        CustomerOrderSyncResult result = customerOrderSyncService.synchronize();
+
+        // then
+        assertThat(result.fetched()).isEqualTo(1);
+        assertThat(result.upserted().created()).isEqualTo(1);
+        assertThat(REQUESTED_QUERIES)
+                .extracting(query -> query.get("start_date"))
+                .containsOnly(ORDER_DATE_FORMAT.format(today(0, 10)));
+        assertThat(cursorRepository.findById(CustomerOrderSyncService.SYNC_KEY).orElseThrow().getLastOrderId())
+                .isEqualTo("SYNC-0003");
+    }
+
+    @Test
+    void 하루_주문이_조회_한도를_넘으면_1시간_단위로_나눠_가져온다() {
+        // given
+        givenCafe24Orders(
+                new StubOrder("SYNC-0001", yesterday(9, 0), "SYNC-P001", "T"),
+                new StubOrder("SYNC-0002", yesterday(15, 30), "SYNC-P001", "T"),
+                new StubOrder("SYNC-0003", today(0, 10), "SYNC-P001", "T")
+        );
+        COUNT_OVERRIDES.put(yesterday(0, 0).toLocalDate().toString(), 20000);
+
+        // when
+        CustomerOrderSyncResult result = customerOrderSyncService.synchronize();
+
+        // then
+        assertThat(result.fetched()).isEqualTo(3);
+        assertThat(savedOrders("SYNC-0001", "SYNC-0002", "SYNC-0003")).hasSize(3);
+        assertThat(REQUESTED_QUERIES)
+                .extracting(query -> query.get("start_date"))
+                .contains(ORDER_DATE_FORMAT.format(yesterday(9, 0)), ORDER_DATE_FORMAT.format(yesterday(15, 0)));
+
+        CustomerOrderSyncCursor cursor = cursorRepository.findById(CustomerOrderSyncService.SYNC_KEY).orElseThrow();
+        assertThat(cursor.getLastOrderId()).isEqualTo("SYNC-0003");
+        assertThat(cursor.getResumeDate()).isEqualTo(LocalDate.now(SEOUL_ZONE));
+    }
+
+    @Test
+    void 한_시간_구간도_조회_한도를_넘으면_커서를_그_앞에서_멈춘다() {
+        // given
+        givenCafe24Orders(
+                new StubOrder("SYNC-0001", yesterday(9, 0), "SYNC-P001", "T"),
+                new StubOrder("SYNC-0002", yesterday(10, 30), "SYNC-P001", "T"),
+                new StubOrder("SYNC-0003", today(0, 10), "SYNC-P001", "T")
+        );
+        COUNT_OVERRIDES.put(yesterday(0, 0).toLocalDate().toString(), 20000);
+        COUNT_OVERRIDES.put(ORDER_DATE_FORMAT.format(yesterday(10, 0)), 20000);
+
+        // when
+        CustomerOrderSyncResult result = customerOrderSyncService.synchronize();
+
+        // then
+        assertThat(result.fetched()).isEqualTo(1);
+        assertThat(savedOrders("SYNC-0002", "SYNC-0003")).isEmpty();
+
+        CustomerOrderSyncCursor cursor = cursorRepository.findById(CustomerOrderSyncService.SYNC_KEY).orElseThrow();
+        assertThat(cursor.getLastOrderId()).isEqualTo("SYNC-0001");
+        assertThat(cursor.getResumeDate()).isEqualTo(yesterday(0, 0).toLocalDate());
+        assertThat(cursor.getLeaseOwner()).isNull();
+    }
+
+    @Test
+    void 이미_있는_주문은_상태만_갱신하고_상품을_찾을_수_없는_주문은_건너뛴다() {
+        // given
+        customerOrderService.createCustomerOrderAndProcessStock(CustomerOrderRequest.builder()
+                .cafe24OrderId("SYNC-0001")
+                .orderAt(today(0, 5))
+                .isPaid("F")
+                .isCanceled("F")
+                .paymentAmount(new BigDecimal("10000.00"))
+                .billingName("테스트 고객")
+                .initialOrderAmount(new CustomerOrderRequest.InitialOrderAmount(
+                        new BigDecimal("10000.00"), BigDecimal.ZERO))
+                .items(List.of(CustomerOrderItemRequest.builder()
+                        .productCode("SYNC-P001").productName("테스트 상품").quantity(1).build()))
+                .build());
+        givenCafe24Orders(
+                new StubOrder("SYNC-0001", today(0, 5), "SYNC-P001", "T"),
+                new StubOrder("SYNC-0002", today(0, 10), "UNKNOWN-P999", "T")
+        );
+
+        // when
+        CustomerOrderSyncResult result = customerOrderSyncService.synchronize();
+
+        // then
+        assertThat(result.upserted().created()).isZero();
+        assertThat(result.upserted().updated()).isEqualTo(1);
+        assertThat(result.upserted().skipped()).isEqualTo(1);
+        assertThat(savedOrders("SYNC-0001")).singleElement().satisfies(order -> assertThat(order.isPaid()).isTrue());
+        assertThat(savedOrders("SYNC-0002")).isEmpty();
+    }
+
+    @Test
+    void 다른_노드가_동기화_중이면_건너뛴다() {
+        // given
+        cursorRepository.saveAndFlush(CustomerOrderSyncCursor.builder()
+                .syncKey(CustomerOrderSyncService.SYNC_KEY)
+                .resumeDate(LocalDate.now(SEOUL_ZONE))
+                .leaseOwner("other-node")
+                .leaseUntil(LocalDateTime.now(SEOUL_ZONE).plusMinutes(5))
+                .build());
+        givenCafe24Orders(new StubOrder("SYNC-0001", today(0, 5), "SYNC-P001", "T"));
+
+        // when
+        CustomerOrderSyncResult result = customerOrderSyncService.synchronize();
+
+        // then
+        assertThat(result.acquired()).isFalse();
+        assertThat(REQUESTED_QUERIES).isEmpty();
+    }
+}
@@ -0,0 +1,167 @@
+package com.almang.inventory.global.context;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import com.almang.inventory.global.context.UserContextCache.CachedUser;
+import com.almang.inventory.global.exception.BaseException;
+import com.almang.inventory.global.exception.ErrorCode;
+import com.almang.inventory.store.domain.Store;
+import com.almang.inventory.user.domain.User;
+import com.almang.inventory.user.domain.UserRole;
+import com.almang.inventory.user.repository.UserRepository;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class UserContextCacheTest {
+
+    @Mock private UserRepository userRepository;
+    @Mock private RedisTemplate<String, String> redisTemplate;
+
+    @InjectMocks private UserContextCache userContextCache;
+
+    private final Instant now = Instant.parse("2025-01-01T00:00:00Z");
+
+    @BeforeEach
+    void init() {
+        ReflectionTestUtils.setField(userContextCache, "ttl", Duration.ofSeconds(30));
+        ReflectionTestUtils.setField(userContextCache, "pubSubEnabled", true);
+        userContextCache.setClock(Clock.fixed(now, ZoneOffset.UTC));
+    }
+
+    private User newUser(Long userId, Long storeId, UserRole role) {
+        return User.builder()
+                .id(userId)
+                .store(Store.builder().id(storeId).name("테스트 상점").isActivate(true).build())
+                .username("tester")
+                .password("password")
+                .name("테스트")
+                .role(role)
+                .build();
+    }
+
+    @Test
+    void TTL_안에서는_사용자를_다시_조회하지_않는다() {
+        // given
+        given(userRepository.findById(1L)).willReturn(Optional.of(newUser(1L, 10L, UserRole.ADMIN)));
+
+        // when
+        CachedUser first = userContextCache.get(1L);
+        CachedUser second = userContextCache.get(1L);
+
+        // then
+        assertThat(first).isEqualTo(new CachedUser(1L, "tester", UserRole.ADMIN, 10L));
+        assertThat(second).isSameAs(first);
+        verify(userRepository, times(1)).findById(1L);
+    }
+
+    @Test
+    void TTL이_지나면_사용자를_다시_조회한다() {
+        // given
+        given(userRepository.findById(1L))
+                .willReturn(Optional.of(newUser(1L, 10L, UserRole.ADMIN)))
+                .willReturn(Optional.of(newUser(1L, 20L, UserRole.STAFF)));
+        userContextCache.get(1L);
+
+        // when
+        userContextCache.setClock(Clock.fixed(now.plusSeconds(31), ZoneOffset.UTC));
+        CachedUser reloaded = userContextCache.get(1L);
+
+        // then
+        assertThat(reloaded.storeId()).isEqualTo(20L);
+        assertThat(reloaded.role()).isEqualTo(UserRole.STAFF);
+        verify(userRepository, times(2)).findById(1L);
+    }
+
+    @Test
+    void 존재하지_않는_사용자는_예외가_발생한다() {
+        // given
+        given(userRepository.findById(99L)).willReturn(Optional.empty());
+
+        // when & then
+        assertThatThrownBy(() -> userContextCache.get(99L))
+                .isInstanceOf(BaseException.class)
+                .hasMessageContaining(ErrorCode.USER_NOT_FOUND.getMessage());
+    }
+
+    @Test
+    void 무효화하면_다음_조회에서_다시_읽고_다른_노드에_전파한다() {
+        // given
+        given(userRepository.findById(1L)).willReturn(Optional.of(newUser(1L, 10L, UserRole.ADMIN)));
+        userContextCache.get(1L);
+
+        // when
+        userContextCache.evict(1L);
+        userContextCache.get(1L);
+
+        // then
+        verify(redisTemplate).convertAndSend(UserContextCache.EVICTION_CHANNEL, "1");
+        verify(userRepository, times(2)).findById(1L);
+    }
+
+    @Test
+    void 전파에_실패해도_로컬_항목은_무효화된다() {
+        // given
+        given(userRepository.findById(1L)).willReturn(Optional.of(newUser(1L, 10L, UserRole.ADMIN)));
+        given(redisTemplate.convertAndSend(UserContextCache.EVICTION_CHANNEL, "1"))
+                .willThrow(new RedisConnectionFailureException("connection refused"));
+        userContextCache.get(1L);
+
+        // when
+        userContextCache.evict(1L);
+        userContextCache.get(1L);
+
+        // then
+        verify(userRepository, times(2)).findById(1L);
+    }
+
+    @Test
+    void 원격_무효화_메시지를_받으면_로컬_항목만_제거한다() {
+        // given
+        given(userRepository.findById(1L)).willReturn(Optional.of(newUser(1L, 10L, UserRole.ADMIN)));
+        userContextCache.get(1L);
+
+        // when
+        userContextCache.onMessage(new DefaultMessage(
+                UserContextCache.EVICTION_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                "1".getBytes(StandardCharsets.UTF_8)
+        ), null);
+        userContextCache.get(1L);
+
+        // then
+        verify(userRepository, times(2)).findById(1L);
+        verify(redisTemplate, never()).convertAndSend(UserContextCache.EVICTION_CHANNEL, "1");
+    }
+
+    @Test
+    void pub_sub이_꺼져있으면_전파하지_않는다() {
+        // given
+        ReflectionTestUtils.setField(userContextCache, "pubSubEnabled", false);
+
+        // when
+        userContextCache.evict(1L);
+
+        // then
+        verifyNoInteractions(redisTemplate);
+    }
+}
@@ -0,0 +1,90 @@
+package com.almang.inventory.global.export;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.almang.inventory.global.exception.BaseException;
+import com.almang.inventory.global.exception.ErrorCode;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.Test;
+
+class ExportWriterTest {
+
+    private static final List<String> HEADERS = List.of("상품 코드", "상품명", "수량");
+
+    private byte[] write(ExportFormat format, List<List<?>> rows) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try (ExportWriter writer = ExportWriter.open(format, outputStream, "재고", HEADERS)) {
+            for (List<?> row : rows) {
+                writer.writeRow(row);
+            }
+        }
+        return outputStream.toByteArray();
+    }
+
+    @Test
+    void CSV는_BOM과_헤더를_쓰고_특수문자가_있는_값을_따옴표로_감싼다() throws IOException {
+        // when
+        String csv = new String(write(ExportFormat.CSV, List.of(
+                List.of("P001", "고체 샴푸, 대용량", new BigDecimal("1.50")),
+                Arrays.asList("P002", "\"리필\" 세제", null)
+        )), StandardCharsets.UTF_8);
+
+        // then
+        assertThat(csv).startsWith("\uFEFF상품 코드,상품명,수량\r\n");
+        assertThat(csv).contains("P001,\"고체 샴푸, 대용량\",1.50\r\n");
+        assertThat(csv).contains("P002,\"\"\"리필\"\" 세제\",\r\n");
+    }
+
+    @Test
+    void CSV는_수식으로_해석될_수_있는_문자열을_텍스트로_남긴다() throws IOException {
+        // when
+        String csv = new String(write(ExportFormat.CSV, List.of(
+                List.of("=SUM(A1:A2)", "-세일", -3)
+        )), StandardCharsets.UTF_8);
+
+        // then
+        assertThat(csv).contains("'=SUM(A1:A2),'-세일,-3\r\n");
+    }
+
+    @Test
+    void XLSX는_헤더와_모든_행을_시트에_기록한다() throws IOException {
+        // given
+        List<List<?>> rows = new ArrayList<>();
+        for (int i = 1; i <= 500; i++) {
+            rows.add(List.of("P" + i, "상품" + i, i, LocalDate.of(2025, 1, 1)));
+        }
+
+        // when
+        byte[] xlsx = write(ExportFormat.XLSX, rows);
+
+        // then
+        try (XSSFWorkbook workbook = new XSSFWorkbook(new ByteArrayInputStream(xlsx))) {
+            Sheet sheet = workbook.getSheet("재고");
+            assertThat(sheet.getLastRowNum()).isEqualTo(500);
+            assertThat(sheet.getRow(0).getCell(1).getStringCellValue()).isEqualTo("상품명");
+            assertThat(sheet.getRow(500).getCell(0).getStringCellValue()).isEqualTo("P500");
+            assertThat(sheet.getRow(500).getCell(2).getNumericCellValue()).isEqualTo(500);
+        }
+    }
+
+    @Test
+    void 형식을_지정하지_않으면_XLSX이고_지원하지_않는_형식이면_예외가_발생한다() {
+        // when & then
+        assertThat(ExportFormat.from(null)).isEqualTo(ExportFormat.XLSX);
+        assertThat(ExportFormat.from("CSV")).isEqualTo(ExportFormat.CSV);
+        assertThatThrownBy(() -> ExportFormat.from("pdf"))
+                .isInstanceOf(BaseException.class)
+                .hasMessageContaining(ErrorCode.INVALID_EXPORT_FORMAT.getMessage());
+    }
+}
@@ -0,0 +1,101 @@
+package com.almang.inventory.global.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import ch.qos.logback.core.AppenderBase;
+import java.util.Deque;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * 16 스레드 동시 append 처리량 비교: 링 버퍼 vs 기존 ConcurrentLinkedDeque + size() 루프
+ * 실행: 테스트 클래스패스에서 main 실행 (JUnit 테스트로는 실행되지 않음)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(16)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class InMemoryLogAppenderBenchmark {
+
+    private InMemoryLogAppender ringBufferAppender;
+    private LegacyDequeAppender legacyDequeAppender;
+    private ILoggingEvent event;
+
+    @Setup
+    public void setUp() {
+        LoggerContext context = new LoggerContext();
+
+        ringBufferAppender = new InMemoryLogAppender();
+        ringBufferAppender.setContext(context);
+        ringBufferAppender.start();
+
+        legacyDequeAppender = new LegacyDequeAppender();
+        legacyDequeAppender.setContext(context);
+        legacyDequeAppender.start();
+
+        LoggingEvent loggingEvent = new LoggingEvent();
+        loggingEvent.setLevel(Level.INFO);
+        loggingEvent.setLoggerName(InMemoryLogAppenderBenchmark.class.getName());
+        loggingEvent.setMessage("[InventoryService] 재고 조회 요청 - inventoryId: 1");
+        loggingEvent.setTimeStamp(System.currentTimeMillis());
+        event = loggingEvent;
+    }
+
+    @TearDown
+    public void tearDown() {
+        ringBufferAppender.stop();
+        legacyDequeAppender.stop();
+    }
+
+    @Benchmark
+    public void ringBuffer() {
+        ringBufferAppender.doAppend(event);
+    }
+
+    @Benchmark
+    public void legacyDeque() {
+        legacyDequeAppender.doAppend(event);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(InMemoryLogAppenderBenchmark.class.getSimpleName())
+                .build()
+        ).run();
+    }
+
+    // 변경 전 구현 (비교 기준)
+    static class LegacyDequeAppender extends AppenderBase<ILoggingEvent> {
+
+        private static final int MAX_EVENTS = 1000;
+        private final Deque<ILoggingEvent> events = new ConcurrentLinkedDeque<>();
+
+        @Override
+        protected void append(ILoggingEvent eventObject) {
+            events.addLast(eventObject);
+            while (events.size() > MAX_EVENTS) {
+                events.pollFirst();
+            }
+        }
+    }
+}
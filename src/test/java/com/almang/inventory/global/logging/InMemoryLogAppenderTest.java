@@ -0,0 +1,88 @@
+package com.almang.inventory.global.logging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class InMemoryLogAppenderTest {
+
+    private final InMemoryLogAppender appender = new InMemoryLogAppender();
+
+    private ILoggingEvent newEvent(String message) {
+        LoggingEvent event = new LoggingEvent();
+        event.setLevel(Level.INFO);
+        event.setMessage(message);
+        event.setTimeStamp(System.currentTimeMillis());
+        return event;
+    }
+
+    @Test
+    void 최근_로그를_오래된_순서로_limit_개만_반환한다() {
+        // given
+        for (int i = 0; i < 10; i++) {
+            appender.append(newEvent("order-" + i));
+        }
+
+        // when
+        List<ILoggingEvent> events = InMemoryLogAppender.getRecentEvents(3);
+
+        // then
+        assertThat(events).extracting(ILoggingEvent::getMessage)
+                .containsExactly("order-7", "order-8", "order-9");
+    }
+
+    @Test
+    void 버퍼가_가득_차면_가장_오래된_로그부터_덮어쓴다() {
+        // given
+        int total = InMemoryLogAppender.CAPACITY + 100;
+        for (int i = 0; i < total; i++) {
+            appender.append(newEvent("wrap-" + i));
+        }
+
+        // when
+        List<ILoggingEvent> events = InMemoryLogAppender.getRecentEvents(Integer.MAX_VALUE);
+
+        // then
+        assertThat(events).hasSize(InMemoryLogAppender.CAPACITY);
+        assertThat(events.get(0).getMessage()).isEqualTo("wrap-100");
+        assertThat(events.get(events.size() - 1).getMessage()).isEqualTo("wrap-" + (total - 1));
+    }
+
+    @Test
+    void 여러_스레드가_동시에_기록해도_버퍼_크기를_넘지_않는다() throws InterruptedException {
+        // given
+        int threadCount = 16;
+        int eventsPerThread = 500;
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch done = new CountDownLatch(threadCount);
+
+        // when
+        for (int t = 0; t < threadCount; t++) {
+            int threadNo = t;
+            executor.submit(() -> {
+                try {
+                    for (int i = 0; i < eventsPerThread; i++) {
+                        appender.append(newEvent("thread-" + threadNo + "-" + i));
+                    }
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        assertThat(done.await(30, TimeUnit.SECONDS)).isTrue();
+        executor.shutdown();
+
+        // then
+        List<ILoggingEvent> events = InMemoryLogAppender.getRecentEvents(Integer.MAX_VALUE);
+        assertThat(events).hasSize(InMemoryLogAppender.CAPACITY);
+        assertThat(events).doesNotContainNull();
+    }
+}
@@ -4,6 +4,9 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import com.almang.inventory.global.security.jwt.JwtTokenProvider;
 import com.almang.inventory.global.security.jwt.TokenStatus;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -92,4 +95,54 @@ public class JwtTokenProviderTest {
         // then
         assertThat(remainingMillis).isNotEqualTo(0L);
     }
+
+    @Test
+    void 한_번의_검증으로_상태와_userId와_만료_시각을_반환한다() {
+        // given
+        Instant now = Instant.parse("2025-01-01T00:00:00Z");
+        jwtTokenProvider.setClock(Clock.fixed(now, ZoneOffset.UTC));
+        String token = jwtTokenProvider.generateAccessToken(7L);
+
+        // when
+        VerifiedToken verified = jwtTokenProvider.verify(token);
+
+        // then
+        assertThat(verified.status()).isEqualTo(TokenStatus.VALID);
+        assertThat(verified.userId()).isEqualTo(7L);
+        assertThat(verified.expiresAtMillis()).isEqualTo(now.plusSeconds(EXP_MINUTES * 60L).toEpochMilli());
+    }
+
+    @Test
+    void 캐시된_검증_결과도_만료_시각이_지나면_EXPIRED를_반환한다() {
+        // given
+        Instant now = Instant.parse("2025-01-01T00:00:00Z");
+        jwtTokenProvider.setClock(Clock.fixed(now, ZoneOffset.UTC));
+        String token = jwtTokenProvider.generateAccessToken(1L);
+        assertThat(jwtTokenProvider.verify(token).isValid()).isTrue();
+
+        // when
+        jwtTokenProvider.setClock(Clock.fixed(now.plusSeconds(EXP_MINUTES * 60L), ZoneOffset.UTC));
+        VerifiedToken verified = jwtTokenProvider.verify(token);
+
+        // then
+        assertThat(verified.status()).isEqualTo(TokenStatus.EXPIRED);
+        assertThat(jwtTokenProvider.getRemainingMillis(token)).isZero();
+    }
+
+    @Test
+    void 서명이_변조된_토큰은_INVALID를_반환한다() {
+        // given
+        String token = jwtTokenProvider.generateAccessToken(1L);
+        JwtTokenProvider otherKeyProvider = new JwtTokenProvider("FEDCBA9876543210FEDCBA9876543210", EXP_MINUTES);
+        String forged = otherKeyProvider.generateAccessToken(1L);
+        jwtTokenProvider.verify(token);
+
+        // when
+        VerifiedToken verified = jwtTokenProvider.verify(forged);
+
+        // then
+        assertThat(verified.status()).isEqualTo(TokenStatus.INVALID);
+        assertThat(verified.userId()).isNull();
+        assertThat(jwtTokenProvider.getRemainingMillis(forged)).isZero();
+    }
 }
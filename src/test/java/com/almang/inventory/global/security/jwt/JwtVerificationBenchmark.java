@@ -0,0 +1,82 @@
+package com.almang.inventory.global.security.jwt;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * 인증 요청 1건당 토큰 검증 비용 비교
+ * - legacyTwoPass: 요청마다 파서를 두 번 생성하여 검증 + userId 추출 (변경 전 필터 흐름)
+ * - singlePassUncached: 재사용 파서로 한 번만 검증 (캐시 미스 경로)
+ * - singlePassCached: 같은 토큰 반복 요청 (검증 완료 캐시 적중 경로)
+ * 실행: 테스트 클래스패스에서 main 실행 (JUnit 테스트로는 실행되지 않음)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class JwtVerificationBenchmark {
+
+    private static final String SECRET = "0123456789ABCDEF0123456789ABCDEF";
+
+    private Key secretKey;
+    private JwtTokenProvider jwtTokenProvider;
+    private JwtTokenProvider uncachedJwtTokenProvider;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        secretKey = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+        jwtTokenProvider = new JwtTokenProvider(SECRET, 60);
+        uncachedJwtTokenProvider = new JwtTokenProvider(SECRET, 60);
+        token = jwtTokenProvider.generateAccessToken(1L);
+    }
+
+    @Benchmark
+    public Long legacyTwoPass() {
+        try {
+            Jwts.parserBuilder().setSigningKey(secretKey).build().parseClaimsJws(token);
+        } catch (JwtException e) {
+            return null;
+        }
+        Claims claims = Jwts.parserBuilder().setSigningKey(secretKey).build().parseClaimsJws(token).getBody();
+        return Long.parseLong(claims.getSubject());
+    }
+
+    @Benchmark
+    public Long singlePassUncached() {
+        uncachedJwtTokenProvider.clearVerifiedTokens();
+        return uncachedJwtTokenProvider.verify(token).userId();
+    }
+
+    @Benchmark
+    public Long singlePassCached() {
+        return jwtTokenProvider.verify(token).userId();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(JwtVerificationBenchmark.class.getSimpleName())
+                .build()
+        ).run();
+    }
+}
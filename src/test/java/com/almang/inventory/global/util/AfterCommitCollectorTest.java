@@ -0,0 +1,73 @@
+package com.almang.inventory.global.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+class AfterCommitCollectorTest {
+
+    private final List<List<String>> delivered = new ArrayList<>();
+    private final AfterCommitCollector<Long, String> collector = new AfterCommitCollector<>(delivered::add);
+
+    @AfterEach
+    void clear() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private void completeTransaction(int status) {
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(synchronization -> synchronization.afterCompletion(status));
+    }
+
+    @Test
+    void 트랜잭션_밖에서는_바로_넘긴다() {
+        // when
+        collector.add(1L, "a");
+
+        // then
+        assertThat(delivered).containsExactly(List.of("a"));
+    }
+
+    @Test
+    void 트랜잭션_안에서는_커밋된_뒤에_키별_마지막_값만_한_번에_넘긴다() {
+        // given
+        TransactionSynchronizationManager.initSynchronization();
+
+        // when
+        collector.add(1L, "a");
+        collector.add(2L, "b");
+        collector.add(1L, "c");
+
+        // then
+        assertThat(delivered).isEmpty();
+        assertThat(collector.pendingValues()).containsExactly("c", "b");
+
+        // when
+        completeTransaction(TransactionSynchronization.STATUS_COMMITTED);
+
+        // then
+        assertThat(delivered).containsExactly(List.of("c", "b"));
+        assertThat(collector.pendingValues()).isEmpty();
+    }
+
+    @Test
+    void 롤백되면_모은_값을_버린다() {
+        // given
+        TransactionSynchronizationManager.initSynchronization();
+        collector.add(1L, "a");
+
+        // when
+        completeTransaction(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        // then
+        assertThat(delivered).isEmpty();
+        assertThat(collector.pendingValues()).isEmpty();
+    }
+}
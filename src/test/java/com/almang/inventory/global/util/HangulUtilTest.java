@@ -0,0 +1,35 @@
+package com.almang.inventory.global.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class HangulUtilTest {
+
+    @Test
+    void 음절을_키_입력_단위_자모로_풀어_쓴다() {
+        // when & then
+        assertThat(HangulUtil.toKeystrokes("샴푸")).isEqualTo("ㅅㅑㅁㅍㅜ");
+        assertThat(HangulUtil.toKeystrokes("과일")).isEqualTo("ㄱㅗㅏㅇㅣㄹ");
+        assertThat(HangulUtil.toKeystrokes("닭")).isEqualTo("ㄷㅏㄹㄱ");
+        assertThat(HangulUtil.toKeystrokes("샴ㅍ")).isEqualTo("ㅅㅑㅁㅍ");
+        assertThat(HangulUtil.toKeystrokes("sh-001 ㄳ")).isEqualTo("sh-001 ㄱㅅ");
+    }
+
+    @Test
+    void 음절을_초성으로_바꾼다() {
+        // when & then
+        assertThat(HangulUtil.toChoseong("샴푸 리필")).isEqualTo("ㅅㅍ ㄹㅍ");
+        assertThat(HangulUtil.toChoseong("쌀 1kg")).isEqualTo("ㅆ 1kg");
+    }
+
+    @Test
+    void 자음만으로_이루어진_문자열인지_판별한다() {
+        // when & then
+        assertThat(HangulUtil.isChoseongOnly("ㅅㅍ")).isTrue();
+        assertThat(HangulUtil.isChoseongOnly("ㅅㅍ ㄹㅍ")).isTrue();
+        assertThat(HangulUtil.isChoseongOnly("샴ㅍ")).isFalse();
+        assertThat(HangulUtil.isChoseongOnly("ㅏ")).isFalse();
+        assertThat(HangulUtil.isChoseongOnly(" ")).isFalse();
+    }
+}
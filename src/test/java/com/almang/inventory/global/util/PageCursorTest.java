@@ -0,0 +1,67 @@
+package com.almang.inventory.global.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.almang.inventory.global.exception.BaseException;
+import com.almang.inventory.global.exception.ErrorCode;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.Test;
+
+class PageCursorTest {
+
+    @Test
+    void 정렬_키와_id를_인코딩한_커서를_다시_디코딩한다() {
+        // given
+        LocalDateTime createdAt = LocalDateTime.of(2025, 1, 2, 3, 4, 5, 123_456_000);
+        String encoded = PageCursor.of(createdAt, 42L).encode();
+
+        // when
+        PageCursor decoded = PageCursor.decode(encoded);
+
+        // then
+        assertThat(decoded.id()).isEqualTo(42L);
+        assertThat(decoded.sortKeyAsDateTime()).isEqualTo(createdAt);
+    }
+
+    @Test
+    void 구분자가_포함된_정렬_키도_그대로_복원한다() {
+        // given
+        String encoded = PageCursor.of("상품:A", 7L).encode();
+
+        // when
+        PageCursor decoded = PageCursor.decode(encoded);
+
+        // then
+        assertThat(decoded.sortKey()).isEqualTo("상품:A");
+        assertThat(decoded.id()).isEqualTo(7L);
+    }
+
+    @Test
+    void 날짜_정렬_키를_복원한다() {
+        // given
+        String encoded = PageCursor.of(LocalDate.of(2025, 3, 1), 1L).encode();
+
+        // when & then
+        assertThat(PageCursor.decode(encoded).sortKeyAsDate()).isEqualTo(LocalDate.of(2025, 3, 1));
+    }
+
+    @Test
+    void 커서가_없으면_null을_반환한다() {
+        // when & then
+        assertThat(PageCursor.decode(null)).isNull();
+        assertThat(PageCursor.decode(" ")).isNull();
+    }
+
+    @Test
+    void 잘못된_커서면_예외가_발생한다() {
+        // when & then
+        assertThatThrownBy(() -> PageCursor.decode("%%%"))
+                .isInstanceOf(BaseException.class)
+                .hasMessageContaining(ErrorCode.INVALID_CURSOR.getMessage());
+        assertThatThrownBy(() -> PageCursor.decode(PageCursor.of("not-a-date", 1L).encode()).sortKeyAsDateTime())
+                .isInstanceOf(BaseException.class)
+                .hasMessageContaining(ErrorCode.INVALID_CURSOR.getMessage());
+    }
+}
@@ -21,10 +21,13 @@ import com.almang.inventory.inventory.domain.InventoryMoveDirection;
 import com.almang.inventory.inventory.domain.InventoryStatus;
 import com.almang.inventory.inventory.dto.request.MoveInventoryRequest;
 import com.almang.inventory.inventory.dto.request.UpdateInventoryRequest;
+import com.almang.inventory.inventory.dto.response.InventoryAsOfResponse;
 import com.almang.inventory.inventory.dto.response.InventoryResponse;
+import com.almang.inventory.inventory.service.InventoryHistoryService;
 import com.almang.inventory.inventory.service.InventoryService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.List;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -49,6 +52,7 @@ public class InventoryControllerTest {
     @Autowired private ObjectMapper objectMapper;
 
     @MockitoBean private InventoryService inventoryService;
+    @MockitoBean private InventoryHistoryService inventoryHistoryService;
     @MockitoBean private JpaMetamodelMappingContext jpaMetamodelMappingContext;
     @MockitoBean private DiscordErrorNotifier discordErrorNotifier;
 
@@ -85,7 +89,8 @@ public class InventoryControllerTest {
                 BigDecimal.valueOf(0.500),
                 BigDecimal.valueOf(3.000),
                 BigDecimal.valueOf(0.25),
-                InventoryStatus.NORMAL
+                InventoryStatus.NORMAL,
+                0L
         );
 
         when(inventoryService.updateInventory(anyLong(), any(UpdateInventoryRequest.class), anyLong()))
@@ -208,7 +213,8 @@ public class InventoryControllerTest {
                 BigDecimal.valueOf(0.500),
                 BigDecimal.valueOf(3.000),
                 BigDecimal.valueOf(0.25),
-                InventoryStatus.NORMAL
+                InventoryStatus.NORMAL,
+                0L
         );
 
         when(inventoryService.getInventory(anyLong(), anyLong()))
@@ -283,7 +289,8 @@ public class InventoryControllerTest {
                 BigDecimal.ZERO,
                 BigDecimal.ZERO,
                 BigDecimal.valueOf(0.3),
-                InventoryStatus.NORMAL
+                InventoryStatus.NORMAL,
+                0L
         );
 
         when(inventoryService.getInventoryByProduct(anyLong(), anyLong()))
@@ -357,7 +364,8 @@ public class InventoryControllerTest {
                 BigDecimal.ZERO,
                 BigDecimal.ZERO,
                 BigDecimal.valueOf(0.2),
-                InventoryStatus.NORMAL
+                InventoryStatus.NORMAL,
+                0L
         );
 
         Page<InventoryResponse> page = new PageImpl<>(
@@ -410,7 +418,8 @@ public class InventoryControllerTest {
                 BigDecimal.ZERO,
                 BigDecimal.ZERO,
                 BigDecimal.valueOf(0.2),
-                InventoryStatus.NORMAL
+                InventoryStatus.NORMAL,
+                0L
         );
 
         when(inventoryService.moveInventory(anyLong(), any(MoveInventoryRequest.class), anyLong()))
@@ -498,4 +507,75 @@ public class InventoryControllerTest {
                 .andExpect(jsonPath("$.message").value(ErrorCode.INVALID_INPUT_VALUE.getMessage()))
                 .andExpect(jsonPath("$.data").doesNotExist());
     }
+
+    @Test
+    void 시점_재고_조회에_성공한다() throws Exception {
+        // given
+        Long inventoryId = 1L;
+        Long productId = 10L;
+        LocalDateTime at = LocalDateTime.of(2025, 1, 31, 23, 59, 59);
+
+        InventoryAsOfResponse response = new InventoryAsOfResponse(
+                inventoryId,
+                productId,
+                at,
+                BigDecimal.valueOf(3),
+                BigDecimal.valueOf(7),
+                BigDecimal.ZERO,
+                BigDecimal.valueOf(5),
+                LocalDateTime.of(2025, 1, 31, 4, 30),
+                2L
+        );
+
+        when(inventoryHistoryService.getInventoryAsOf(anyLong(), any(LocalDateTime.class), anyLong()))
+                .thenReturn(response);
+
+        // when & then
+        mockMvc.perform(get("/api/v1/inventory/{inventoryId}/as-of", inventoryId)
+                        .param("at", "2025-01-31T23:59:59")
+                        .with(authentication(auth()))
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value(200))
+                .andExpect(jsonPath("$.message").value(SuccessMessage.GET_INVENTORY_AS_OF_SUCCESS.getMessage()))
+                .andExpect(jsonPath("$.data.inventoryId").value(inventoryId))
+                .andExpect(jsonPath("$.data.displayStock").value(3))
+                .andExpect(jsonPath("$.data.warehouseStock").value(7))
+                .andExpect(jsonPath("$.data.incomingReserved").value(5))
+                .andExpect(jsonPath("$.data.replayedMovementCount").value(2));
+    }
+
+    @Test
+    void 재주문_필요_재고_조회에_성공한다() throws Exception {
+        // given
+        InventoryResponse outOfStock = new InventoryResponse(
+                1L, 10L, "상품1", "P001",
+                BigDecimal.ONE, BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.valueOf(5),
+                InventoryStatus.OUT_OF_STOCK,
+                0L
+        );
+        InventoryResponse low = new InventoryResponse(
+                2L, 20L, "상품2", "P002",
+                BigDecimal.ONE, BigDecimal.valueOf(2), BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.valueOf(5),
+                InventoryStatus.LOW,
+                0L
+        );
+
+        when(inventoryService.getLowStockInventories(anyLong(), any()))
+                .thenReturn(List.of(outOfStock, low));
+
+        // when & then
+        mockMvc.perform(get("/api/v1/inventory/low-stock")
+                        .param("limit", "2")
+                        .with(authentication(auth()))
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value(200))
+                .andExpect(jsonPath("$.message")
+                        .value(SuccessMessage.GET_LOW_STOCK_INVENTORY_SUCCESS.getMessage()))
+                .andExpect(jsonPath("$.data.length()").value(2))
+                .andExpect(jsonPath("$.data[0].inventoryId").value(1L))
+                .andExpect(jsonPath("$.data[0].inventoryStatus").value(InventoryStatus.OUT_OF_STOCK.name()))
+                .andExpect(jsonPath("$.data[1].inventoryStatus").value(InventoryStatus.LOW.name()));
+    }
 }
@@ -0,0 +1,81 @@
+package com.almang.inventory.inventory.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+class Cafe24InventoryPushQueueTest {
+
+    private static final long DEBOUNCE = TimeUnit.SECONDS.toNanos(5);
+    private static final long MAX_DELAY = TimeUnit.SECONDS.toNanos(30);
+
+    private final AtomicLong now = new AtomicLong();
+    private final Cafe24InventoryPushQueue queue = new Cafe24InventoryPushQueue(DEBOUNCE, MAX_DELAY, now::get);
+
+    private void advanceSeconds(long seconds) {
+        now.addAndGet(TimeUnit.SECONDS.toNanos(seconds));
+    }
+
+    @Test
+    void 같은_상품의_여러_변경을_하나로_합친다() {
+        // when
+        int first = queue.mark(List.of(1L, 2L));
+        int second = queue.mark(List.of(1L, 1L, 3L));
+
+        // then
+        assertThat(first).isZero();
+        assertThat(second).isEqualTo(2);
+        assertThat(queue.size()).isEqualTo(3);
+    }
+
+    @Test
+    void 마지막_변경_후_debounce_가_지나야_꺼낸다() {
+        // given
+        queue.mark(List.of(1L));
+        advanceSeconds(4);
+        queue.mark(List.of(1L));
+
+        // when & then
+        advanceSeconds(4);
+        assertThat(queue.drainDue(10)).isEmpty();
+
+        advanceSeconds(1);
+        assertThat(queue.drainDue(10)).containsExactly(1L);
+        assertThat(queue.size()).isZero();
+    }
+
+    @Test
+    void 계속_바뀌는_상품도_max_delay_가_지나면_꺼낸다() {
+        // given
+        queue.mark(List.of(1L));
+
+        // when: debounce 보다 짧은 간격으로 계속 변경
+        for (int i = 0; i < 10; i++) {
+            advanceSeconds(3);
+            queue.mark(List.of(1L));
+            if (i < 9) {
+                assertThat(queue.drainDue(10)).isEmpty();
+            }
+        }
+
+        // then
+        assertThat(queue.drainDue(10)).containsExactly(1L);
+    }
+
+    @Test
+    void 먼저_바뀐_순서로_limit_개까지만_꺼내고_나머지는_남긴다() {
+        // given
+        queue.mark(List.of(3L, 1L, 2L));
+        advanceSeconds(5);
+
+        // when
+        List<Long> drained = queue.drainDue(2);
+
+        // then
+        assertThat(drained).containsExactly(3L, 1L);
+        assertThat(queue.drainDue(10)).containsExactly(2L);
+    }
+}
@@ -0,0 +1,320 @@
+package com.almang.inventory.inventory.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+import com.almang.inventory.inventory.dto.InitialInventoryValues;
+import com.almang.inventory.product.domain.Product;
+import com.almang.inventory.product.domain.ProductUnit;
+import com.almang.inventory.product.repository.ProductRepository;
+import com.almang.inventory.store.domain.Store;
+import com.almang.inventory.store.repository.StoreRepository;
+import com.almang.inventory.user.auth.service.RedisService;
+import com.almang.inventory.vendor.domain.Vendor;
+import com.almang.inventory.vendor.domain.VendorChannel;
+import com.almang.inventory.vendor.repository.VendorRepository;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// push 대기 목록은 커밋 후에만 채워지므로 @Transactional 없이 실행하고, 생성한 데이터는 직접 정리
+@SpringBootTest(properties = {
+        "cafe24.inventory-push.enabled=true",
+        "cafe24.inventory-push.debounce=PT0S",
+        "cafe24.inventory-push.max-delay=PT0S",
+        "cafe24.inventory-push.poll-interval-ms=3600000",
+        "cafe24.client.max-retries=0"
+})
+@ActiveProfiles("test")
+class Cafe24InventoryPushServiceTest {
+
+    // 카페24 상품 목록/품목 재고 API 를 흉내 내는 로컬 HTTP 서버
+    private static final List<String> REQUESTS = new CopyOnWriteArrayList<>();
+    private static final AtomicInteger RATE_LIMITED_RESPONSES = new AtomicInteger();
+    private static final AtomicInteger CODE_SEQUENCE = new AtomicInteger();
+    private static final HttpServer SERVER = startStubServer();
+
+    @Autowired private Cafe24InventoryPushService cafe24InventoryPushService;
+    @Autowired private InventoryService inventoryService;
+    @Autowired private StoreRepository storeRepository;
+    @Autowired private VendorRepository vendorRepository;
+    @Autowired private ProductRepository productRepository;
+    @Autowired private JdbcTemplate jdbcTemplate;
+    @Autowired private TransactionTemplate transactionTemplate;
+    @MockitoBean private RedisService redisService;
+
+    private final List<Long> productIds = new ArrayList<>();
+    private Store store;
+    private Vendor vendor;
+
+    private static HttpServer startStubServer() {
+        try {
+            HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+            server.createContext("/api/v2/admin/products", Cafe24InventoryPushServiceTest::handle);
+            server.start();
+            return server;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void handle(HttpExchange exchange) throws IOException {
+        String method = exchange.getRequestMethod();
+        String path = exchange.getRequestURI().getPath();
+        String query = exchange.getRequestURI().getRawQuery() == null
+                ? "" : URLDecoder.decode(exchange.getRequestURI().getRawQuery(), StandardCharsets.UTF_8);
+        String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+        REQUESTS.add(method + " " + path + " " + query + " " + body);
+
+        if (RATE_LIMITED_RESPONSES.get() > 0 && method.equals("PUT")) {
+            RATE_LIMITED_RESPONSES.decrementAndGet();
+            respond(exchange, 429, "{\"error\":{\"code\":429}}");
+            return;
+        }
+        if (method.equals("GET")) {
+            respond(exchange, 200, productList(exchange.getRequestURI().getRawQuery()));
+            return;
+        }
+        respond(exchange, 200, "{\"inventory\":{}}");
+    }
+
+    // 상품 코드에 MULTI 가 들어가면 옵션 품목이 두 개인 상품으로 응답
+    private static String productList(String rawQuery) {
+        String codes = "";
+        for (String pair : rawQuery.split("&")) {
+            if (pair.startsWith("product_code=")) {
+                codes = URLDecoder.decode(pair.substring("product_code=".length()), StandardCharsets.UTF_8);
+            }
+        }
+        List<String> products = new ArrayList<>();
+        for (String code : codes.split(",")) {
+            String variants = code.contains("MULTI")
+                    ? "[{\"variant_code\":\"%s000A\"},{\"variant_code\":\"%s000B\"}]".formatted(code, code)
+                    : "[{\"variant_code\":\"%s000A\"}]".formatted(code);
+            products.add("{\"product_no\":%d,\"product_code\":\"%s\",\"variants\":%s}"
+                    .formatted(productNo(code), code, variants));
+        }
+        return products.stream().collect(Collectors.joining(",", "{\"products\":[", "]}"));
+    }
+
+    private static int productNo(String code) {
+        return Math.abs(code.hashCode() % 100000);
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream outputStream = exchange.getResponseBody()) {
+            outputStream.write(bytes);
+        }
+    }
+
+    @DynamicPropertySource
+    static void cafe24Properties(DynamicPropertyRegistry registry) {
+        registry.add("cafe24.api.base-url", () -> "http://localhost:" + SERVER.getAddress().getPort() + "/api/v2");
+    }
+
+    @AfterAll
+    static void stopStubServer() {
+        SERVER.stop(0);
+    }
+
+    @BeforeEach
+    void init() {
+        given(redisService.getCafe24AccessToken()).willReturn("cafe24-token");
+        RATE_LIMITED_RESPONSES.set(0);
+        store = storeRepository.save(Store.builder().name("push 상점").isActivate(true).build());
+        vendor = vendorRepository.save(Vendor.builder()
+                .store(store)
+                .name("push 발주처")
+                .channel(VendorChannel.KAKAO)
+                .phoneNumber("010-0000-0000")
+                .orderMethod("주문 방법")
+                .activated(true)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        cafe24InventoryPushService.flush();
+        productIds.forEach(id -> jdbcTemplate.update(
+                "DELETE FROM inventory_movements WHERE inventory_id IN "
+                        + "(SELECT inventory_id FROM inventories WHERE product_id = ?)", id));
+        productIds.forEach(id -> jdbcTemplate.update("DELETE FROM inventories WHERE product_id = ?", id));
+        productIds.forEach(id -> jdbcTemplate.update("DELETE FROM products WHERE product_id = ?", id));
+        jdbcTemplate.update("DELETE FROM vendors WHERE vendor_id = ?", vendor.getId());
+        jdbcTemplate.update("DELETE FROM stores WHERE store_id = ?", store.getId());
+    }
+
+    private Product newProduct(String codePrefix) {
+        Product product = productRepository.save(Product.builder()
+                .store(store)
+                .vendor(vendor)
+                .name("push 상품")
+                .code(codePrefix + "-" + CODE_SEQUENCE.incrementAndGet())
+                .unit(ProductUnit.EA)
+                .activated(true)
+                .costPrice(1000)
+                .retailPrice(1500)
+                .wholesalePrice(1200)
+                .build());
+        productIds.add(product.getId());
+        return product;
+    }
+
+    private void createInventory(Product product, BigDecimal warehouseStock) {
+        inventoryService.createInventory(product, new InitialInventoryValues(
+                BigDecimal.ZERO, BigDecimal.ZERO, warehouseStock, BigDecimal.ZERO, BigDecimal.ZERO
+        ));
+    }
+
+    // 재고 생성도 커밋되면 push 대상이 되므로, 초기 수량을 먼저 보내고 기록을 비움
+    private Product newProductWithInventory(String codePrefix, BigDecimal warehouseStock) {
+        Product product = newProduct(codePrefix);
+        createInventory(product, warehouseStock);
+        cafe24InventoryPushService.flush();
+        REQUESTS.clear();
+        return product;
+    }
+
+    private List<String> requests(String method) {
+        return REQUESTS.stream().filter(request -> request.startsWith(method + " ")).toList();
+    }
+
+    @Test
+    void 상품의_여러_재고_변경을_최신_가용_재고로_한_번만_보낸다() {
+        // given
+        Product product = newProductWithInventory("PUSH", BigDecimal.TEN);
+
+        // when
+        for (int i = 0; i < 3; i++) {
+            inventoryService.reserveOutgoingForCustomerOrder(product, BigDecimal.ONE);
+        }
+        int pushed = cafe24InventoryPushService.flush();
+
+        // then
+        assertThat(pushed).isEqualTo(1);
+        assertThat(requests("PUT")).singleElement().satisfies(request -> {
+            assertThat(request).contains(
+                    "/admin/products/" + productNo(product.getCode()) + "/variants/" + product.getCode() + "000A/inventories");
+            assertThat(request).contains("\"quantity\":7");
+        });
+        assertThat(cafe24InventoryPushService.pendingCount()).isZero();
+    }
+
+    @Test
+    void 처음_보내는_상품들은_상품_코드를_묶어서_한_번에_조회한다() {
+        // given
+        Product first = newProduct("PUSH");
+        Product second = newProduct("PUSH");
+        Product third = newProduct("PUSH");
+
+        // when
+        transactionTemplate.executeWithoutResult(status -> {
+            createInventory(first, BigDecimal.ONE);
+            createInventory(second, BigDecimal.valueOf(2));
+            createInventory(third, BigDecimal.valueOf(3));
+        });
+        int pushed = cafe24InventoryPushService.flush();
+
+        // then
+        assertThat(pushed).isEqualTo(3);
+        assertThat(requests("GET")).singleElement().satisfies(request -> assertThat(request)
+                .contains(first.getCode() + "," + second.getCode() + "," + third.getCode()));
+        assertThat(requests("PUT")).hasSize(3);
+    }
+
+    @Test
+    void 가용_재고가_같아도_변경된_상품은_최신_값을_다시_보낸다() {
+        // given: 다른 노드가 그 사이에 다른 값을 보냈을 수 있으므로 마지막으로 보낸 값과 비교하지 않음
+        Product product = newProductWithInventory("PUSH", BigDecimal.TEN);
+
+        // when: 입고 예정만 바뀌어 가용 재고는 그대로
+        inventoryService.increaseIncomingStockFromOrder(product, BigDecimal.valueOf(3));
+        int pushed = cafe24InventoryPushService.flush();
+
+        // then
+        assertThat(pushed).isEqualTo(1);
+        assertThat(requests("PUT")).singleElement().satisfies(request -> assertThat(request).contains("\"quantity\":10"));
+    }
+
+    @Test
+    void 롤백된_재고_변경은_보내지_않는다() {
+        // given
+        Product product = newProductWithInventory("PUSH", BigDecimal.TEN);
+
+        // when
+        transactionTemplate.executeWithoutResult(status -> {
+            inventoryService.reserveOutgoingForCustomerOrder(product, BigDecimal.ONE);
+            status.setRollbackOnly();
+        });
+
+        // then
+        assertThat(cafe24InventoryPushService.pendingCount()).isZero();
+        assertThat(cafe24InventoryPushService.flush()).isZero();
+        assertThat(REQUESTS).isEmpty();
+    }
+
+    @Test
+    void 옵션_품목이_여러_개인_상품은_보내지_않고_다시_조회하지도_않는다() {
+        // given: 재고 생성 때 이미 한 번 조회함
+        Product product = newProductWithInventory("MULTI", BigDecimal.TEN);
+
+        // when
+        inventoryService.reserveOutgoingForCustomerOrder(product, BigDecimal.ONE);
+        inventoryService.reserveOutgoingForCustomerOrder(product, BigDecimal.ONE);
+        int first = cafe24InventoryPushService.flush();
+        inventoryService.reserveOutgoingForCustomerOrder(product, BigDecimal.ONE);
+        int second = cafe24InventoryPushService.flush();
+
+        // then
+        assertThat(first + second).isZero();
+        assertThat(REQUESTS).isEmpty();
+    }
+
+    @Test
+    void 호출_한도를_넘으면_남은_상품을_다시_대기시킨다() {
+        // given
+        Product product = newProductWithInventory("PUSH", BigDecimal.TEN);
+        inventoryService.reserveOutgoingForCustomerOrder(product, BigDecimal.ONE);
+        RATE_LIMITED_RESPONSES.set(1);
+
+        // when
+        int first = cafe24InventoryPushService.flush();
+
+        // then
+        assertThat(first).isZero();
+        assertThat(cafe24InventoryPushService.pendingCount()).isEqualTo(1);
+
+        // when
+        int second = cafe24InventoryPushService.flush();
+
+        // then
+        assertThat(second).isEqualTo(1);
+        assertThat(requests("PUT")).last().satisfies(request -> assertThat(request).contains("\"quantity\":9"));
+    }
+}
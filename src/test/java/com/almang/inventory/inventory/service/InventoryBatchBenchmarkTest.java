@@ -0,0 +1,186 @@
+package com.almang.inventory.inventory.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.almang.inventory.inventory.dto.InitialInventoryValues;
+import com.almang.inventory.inventory.dto.InventoryDelta;
+import com.almang.inventory.product.domain.Product;
+import com.almang.inventory.product.domain.ProductUnit;
+import com.almang.inventory.product.repository.ProductRepository;
+import com.almang.inventory.store.domain.Store;
+import com.almang.inventory.store.repository.StoreRepository;
+import com.almang.inventory.vendor.domain.Vendor;
+import com.almang.inventory.vendor.domain.VendorChannel;
+import com.almang.inventory.vendor.repository.VendorRepository;
+import jakarta.persistence.EntityManager;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.sql.DataSource;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+// 라인 수에 따른 라인별 반영 vs 일괄 반영의 SQL 문 수와 소요 시간 비교
+// Hibernate 와 JdbcTemplate 이 같은 DataSource 를 쓰므로, 커넥션에서 준비되는 문을 세어 JDBC 배치까지 함께 측정
+@SpringBootTest
+@Transactional
+@ActiveProfiles("test")
+class InventoryBatchBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(InventoryBatchBenchmarkTest.class);
+    private static final long BATCH_STATEMENT_CEILING = 4;
+    private static final AtomicLong PREPARED_STATEMENTS = new AtomicLong();
+    // 스케줄러 등 다른 스레드의 쿼리는 세지 않음
+    private static volatile Thread measuredThread;
+
+    @Autowired private InventoryService inventoryService;
+    @Autowired private StoreRepository storeRepository;
+    @Autowired private VendorRepository vendorRepository;
+    @Autowired private ProductRepository productRepository;
+    @Autowired private EntityManager entityManager;
+
+    @TestConfiguration
+    static class StatementCountingConfig {
+
+        @Bean
+        static BeanPostProcessor statementCountingDataSourcePostProcessor() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof DataSource dataSource ? new StatementCountingDataSource(dataSource) : bean;
+                }
+            };
+        }
+    }
+
+    // 커넥션에서 문을 준비할 때마다 센다 (JDBC 배치는 여러 행을 보내도 문 하나로 준비됨)
+    static class StatementCountingDataSource extends DelegatingDataSource {
+
+        StatementCountingDataSource(DataSource targetDataSource) {
+            super(targetDataSource);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            return counting(super.getConnection());
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return counting(super.getConnection(username, password));
+        }
+
+        private static Connection counting(Connection connection) {
+            return (Connection) Proxy.newProxyInstance(
+                    Connection.class.getClassLoader(), new Class<?>[]{Connection.class},
+                    (proxy, method, args) -> {
+                        String name = method.getName();
+                        if (Thread.currentThread() == measuredThread
+                                && (name.startsWith("prepare") || name.equals("createStatement"))) {
+                            PREPARED_STATEMENTS.incrementAndGet();
+                        }
+                        try {
+                            return method.invoke(connection, args);
+                        } catch (InvocationTargetException e) {
+                            throw e.getTargetException();
+                        }
+                    }
+            );
+        }
+    }
+
+    private List<Product> newProducts(int lineCount) {
+        Store store = storeRepository.save(
+                Store.builder()
+                        .name("벤치마크상점-" + lineCount)
+                        .isActivate(true)
+                        .build()
+        );
+        Vendor vendor = vendorRepository.save(
+                Vendor.builder()
+                        .store(store)
+                        .name("발주처")
+                        .channel(VendorChannel.KAKAO)
+                        .phoneNumber("010-0000-0000")
+                        .orderMethod("주문 방법")
+                        .activated(true)
+                        .build()
+        );
+
+        List<Product> products = new ArrayList<>();
+        for (int i = 0; i < lineCount; i++) {
+            Product product = productRepository.save(
+                    Product.builder()
+                            .store(store)
+                            .vendor(vendor)
+                            .name("벤치상품-" + i)
+                            .code("BENCH-" + lineCount + "-" + i)
+                            .unit(ProductUnit.EA)
+                            .activated(true)
+                            .costPrice(1000)
+                            .retailPrice(1500)
+                            .wholesalePrice(1200)
+                            .build()
+            );
+            inventoryService.createInventory(product, new InitialInventoryValues(
+                    BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO
+            ));
+            products.add(product);
+        }
+        entityManager.flush();
+        entityManager.clear();
+        return products;
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {10, 100, 300})
+    void 일괄_반영은_라인_수와_무관하게_SQL_문_수가_일정하다(int lineCount) {
+        // given
+        List<Product> products = newProducts(lineCount);
+        measuredThread = Thread.currentThread();
+
+        // when - 라인별 반영
+        PREPARED_STATEMENTS.set(0);
+        long loopStart = System.nanoTime();
+        for (Product product : products) {
+            inventoryService.increaseIncomingStockFromOrder(product, BigDecimal.ONE);
+        }
+        entityManager.flush();
+        long loopMillis = (System.nanoTime() - loopStart) / 1_000_000;
+        long loopStatements = PREPARED_STATEMENTS.get();
+        entityManager.clear();
+
+        // when - 일괄 반영
+        List<InventoryDelta> deltas = products.stream()
+                .map(product -> InventoryDelta.orderReserved(product.getId(), BigDecimal.ONE))
+                .toList();
+        PREPARED_STATEMENTS.set(0);
+        long batchStart = System.nanoTime();
+        inventoryService.applyBatch(deltas);
+        entityManager.flush();
+        long batchMillis = (System.nanoTime() - batchStart) / 1_000_000;
+        long batchStatements = PREPARED_STATEMENTS.get();
+
+        log.info("[InventoryBatchBenchmark] lines={} | loop: {} statements, {} ms | batch: {} statements, {} ms",
+                lineCount, loopStatements, loopMillis, batchStatements, batchMillis);
+
+        // then: 대상 재고 id 조회 + 재고 UPDATE 배치 + 반영 후 재고 조회 + 변동 이력 INSERT 배치
+        assertThat(loopStatements).isGreaterThanOrEqualTo(lineCount * 3L);
+        assertThat(batchStatements).isLessThanOrEqualTo(BATCH_STATEMENT_CEILING);
+    }
+}
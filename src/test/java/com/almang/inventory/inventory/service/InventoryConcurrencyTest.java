@@ -0,0 +1,187 @@
+package com.almang.inventory.inventory.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.almang.inventory.inventory.domain.Inventory;
+import com.almang.inventory.inventory.dto.InitialInventoryValues;
+import com.almang.inventory.inventory.repository.InventoryRepository;
+import com.almang.inventory.product.domain.Product;
+import com.almang.inventory.product.domain.ProductUnit;
+import com.almang.inventory.product.repository.ProductRepository;
+import com.almang.inventory.store.domain.Store;
+import com.almang.inventory.store.repository.StoreRepository;
+import com.almang.inventory.vendor.domain.Vendor;
+import com.almang.inventory.vendor.domain.VendorChannel;
+import com.almang.inventory.vendor.repository.VendorRepository;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+// 여러 스레드가 각자 트랜잭션을 커밋해야 하므로 @Transactional 없이 실행하고, 생성한 데이터는 직접 정리
+@SpringBootTest
+@ActiveProfiles("test")
+class InventoryConcurrencyTest {
+
+    private static final int THREAD_COUNT = 8;
+    private static final int OPERATIONS_PER_THREAD = 25;
+
+    @Autowired private InventoryService inventoryService;
+    @Autowired private InventoryRepository inventoryRepository;
+    @Autowired private StoreRepository storeRepository;
+    @Autowired private VendorRepository vendorRepository;
+    @Autowired private ProductRepository productRepository;
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    private final List<Long> storeIds = new ArrayList<>();
+    private final List<Long> vendorIds = new ArrayList<>();
+    private final List<Long> productIds = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        productIds.forEach(id -> jdbcTemplate.update(
+                "DELETE FROM inventory_movements WHERE inventory_id IN "
+                        + "(SELECT inventory_id FROM inventories WHERE product_id = ?)", id));
+        productIds.forEach(id -> jdbcTemplate.update("DELETE FROM inventories WHERE product_id = ?", id));
+        productIds.forEach(id -> jdbcTemplate.update("DELETE FROM products WHERE product_id = ?", id));
+        vendorIds.forEach(id -> jdbcTemplate.update("DELETE FROM vendors WHERE vendor_id = ?", id));
+        storeIds.forEach(id -> jdbcTemplate.update("DELETE FROM stores WHERE store_id = ?", id));
+    }
+
+    private Product newProductWithInventory(String code, BigDecimal displayStock) {
+        return newProductWithInventory(code, displayStock, BigDecimal.ZERO);
+    }
+
+    private Product newProductWithInventory(String code, BigDecimal displayStock, BigDecimal warehouseStock) {
+        Store store = storeRepository.save(
+                Store.builder()
+                        .name("동시성상점-" + code)
+                        .isActivate(true)
+                        .build()
+        );
+        storeIds.add(store.getId());
+
+        Vendor vendor = vendorRepository.save(
+                Vendor.builder()
+                        .store(store)
+                        .name("발주처")
+                        .channel(VendorChannel.KAKAO)
+                        .phoneNumber("010-0000-0000")
+                        .orderMethod("주문 방법")
+                        .activated(true)
+                        .build()
+        );
+        vendorIds.add(vendor.getId());
+
+        Product product = productRepository.save(
+                Product.builder()
+                        .store(store)
+                        .vendor(vendor)
+                        .name("동시성상품")
+                        .code(code)
+                        .unit(ProductUnit.EA)
+                        .activated(true)
+                        .costPrice(1000)
+                        .retailPrice(1500)
+                        .wholesalePrice(1200)
+                        .build()
+        );
+        productIds.add(product.getId());
+
+        inventoryService.createInventory(product, new InitialInventoryValues(
+                BigDecimal.ZERO, displayStock, warehouseStock, BigDecimal.ZERO, BigDecimal.ZERO
+        ));
+        return product;
+    }
+
+    private void runConcurrently(Runnable task) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch ready = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(THREAD_COUNT);
+
+        for (int t = 0; t < THREAD_COUNT; t++) {
+            executor.submit(() -> {
+                try {
+                    ready.await();
+                    for (int i = 0; i < OPERATIONS_PER_THREAD; i++) {
+                        task.run();
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        ready.countDown();
+        assertThat(done.await(60, TimeUnit.SECONDS)).isTrue();
+        executor.shutdown();
+    }
+
+    @Test
+    void 입고_예정_수량을_동시에_증가시켜도_갱신이_유실되지_않는다() throws InterruptedException {
+        // given
+        Product product = newProductWithInventory("STRESS-INCOMING", BigDecimal.ZERO);
+
+        // when
+        runConcurrently(() -> inventoryService.increaseIncomingStockFromOrder(product, BigDecimal.ONE));
+
+        // then
+        Inventory inventory = inventoryRepository.findByProduct_Id(product.getId()).orElseThrow();
+        assertThat(inventory.getIncomingReserved())
+                .isEqualByComparingTo(BigDecimal.valueOf(THREAD_COUNT * OPERATIONS_PER_THREAD));
+    }
+
+    @Test
+    void 매대_재고를_동시에_차감해도_보유_수량을_초과하여_차감하지_않는다() throws InterruptedException {
+        // given
+        BigDecimal initialDisplay = BigDecimal.valueOf(100);
+        Product product = newProductWithInventory("STRESS-DISPLAY", initialDisplay);
+        Inventory inventory = inventoryRepository.findByProduct_Id(product.getId()).orElseThrow();
+        AtomicInteger successCount = new AtomicInteger();
+
+        // when
+        runConcurrently(() -> {
+            if (inventoryService.decreaseDisplayStockFromRetail(inventory, BigDecimal.ONE)) {
+                successCount.incrementAndGet();
+            }
+        });
+
+        // then
+        Inventory result = inventoryRepository.findByProduct_Id(product.getId()).orElseThrow();
+        assertThat(successCount.get()).isEqualTo(initialDisplay.intValue());
+        assertThat(result.getDisplayStock()).isEqualByComparingTo(BigDecimal.ZERO);
+    }
+
+    @Test
+    void 같은_상품에_온라인_주문이_몰려도_가용_재고를_초과하여_예약하지_않는다() throws InterruptedException {
+        // given
+        BigDecimal initialWarehouse = BigDecimal.valueOf(150);
+        Product product = newProductWithInventory("STRESS-ONLINE", BigDecimal.ZERO, initialWarehouse);
+        AtomicInteger successCount = new AtomicInteger();
+
+        // when
+        runConcurrently(() -> {
+            if (inventoryService.reserveOutgoingForCustomerOrder(product, BigDecimal.ONE)) {
+                successCount.incrementAndGet();
+            }
+        });
+
+        // then
+        Inventory result = inventoryRepository.findByProduct_Id(product.getId()).orElseThrow();
+        assertThat(successCount.get()).isEqualTo(initialWarehouse.intValue());
+        assertThat(result.getOutgoingReserved()).isEqualByComparingTo(initialWarehouse);
+        assertThat(result.getAvailableStock()).isEqualByComparingTo(BigDecimal.ZERO);
+    }
+}
@@ -0,0 +1,146 @@
+package com.almang.inventory.inventory.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+import com.almang.inventory.inventory.domain.Inventory;
+import com.almang.inventory.inventory.domain.InventoryStatus;
+import com.almang.inventory.product.domain.Product;
+import com.almang.inventory.store.domain.Store;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+class InventoryEventStreamTest {
+
+    private static final Long STORE_ID = 1L;
+
+    private InventoryEventStream newStream(Executor executor, int clientBufferSize, int replaySize) {
+        return new InventoryEventStream(
+                null, new ObjectMapper(), executor, false, Duration.ofMinutes(1), clientBufferSize, replaySize
+        );
+    }
+
+    private Inventory inventory(Long inventoryId, long warehouseStock) {
+        return Inventory.builder()
+                .id(inventoryId)
+                .store(Store.builder().id(STORE_ID).name("테스트 상점").isActivate(true).build())
+                .product(Product.builder().id(inventoryId * 10).name("상품").code("P" + inventoryId).build())
+                .displayStock(BigDecimal.ONE)
+                .warehouseStock(BigDecimal.valueOf(warehouseStock))
+                .outgoingReserved(BigDecimal.ZERO)
+                .incomingReserved(BigDecimal.ZERO)
+                .reorderTriggerPoint(BigDecimal.valueOf(5))
+                .status(InventoryStatus.from(BigDecimal.valueOf(warehouseStock), BigDecimal.valueOf(5)))
+                .revision(warehouseStock)
+                .build();
+    }
+
+    private MockMvc mockMvc(InventoryEventStream stream) {
+        return MockMvcBuilders.standaloneSetup(new StreamController(stream)).build();
+    }
+
+    private String subscribe(MockMvc mockMvc, Long lastEventId) throws Exception {
+        var builder = get("/stream");
+        if (lastEventId != null) {
+            builder.header("Last-Event-ID", lastEventId);
+        }
+        return mockMvc.perform(builder)
+                .andExpect(request().asyncStarted())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+    }
+
+    @Test
+    void 커밋된_재고_변경을_구독자에게_전송한다() throws Exception {
+        // given
+        InventoryEventStream stream = newStream(Runnable::run, 16, 16);
+        MockMvc mockMvc = mockMvc(stream);
+        var result = mockMvc.perform(get("/stream"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // when
+        stream.touch(inventory(10L, 3));
+
+        // then
+        String content = result.getResponse().getContentAsString();
+        assertThat(content).contains("id:1\n", "event:inventory\n", "\"inventoryId\":10", "\"status\":\"LOW\"", "\"revision\":3");
+        assertThat(stream.subscriberCount(STORE_ID)).isEqualTo(1);
+    }
+
+    @Test
+    void 재연결시_마지막으로_받은_이벤트_이후만_다시_보낸다() throws Exception {
+        // given
+        InventoryEventStream stream = newStream(Runnable::run, 16, 16);
+        stream.touch(inventory(10L, 3));
+        stream.touch(inventory(11L, 0));
+        stream.touch(inventory(12L, 10));
+
+        // when
+        String content = subscribe(mockMvc(stream), 1L);
+
+        // then
+        assertThat(content).doesNotContain("id:1\n").contains("id:2\n", "id:3\n");
+        assertThat(content.indexOf("id:2\n")).isLessThan(content.indexOf("id:3\n"));
+    }
+
+    @Test
+    void 보관_범위를_벗어난_이벤트_id_로_재연결하면_resync_를_보낸다() throws Exception {
+        // given
+        InventoryEventStream stream = newStream(Runnable::run, 16, 2);
+        stream.touch(inventory(10L, 3));
+        stream.touch(inventory(11L, 0));
+        stream.touch(inventory(12L, 10));
+
+        // when
+        String content = subscribe(mockMvc(stream), 1L);
+
+        // then
+        assertThat(content).contains("event:resync\n").doesNotContain("event:inventory\n");
+    }
+
+    @Test
+    void 전송_대기열이_넘친_구독자는_연결을_종료한다() {
+        // given
+        List<Runnable> pendingTasks = new ArrayList<>();
+        InventoryEventStream stream = newStream(pendingTasks::add, 4, 16);
+        stream.subscribe(STORE_ID, null);
+
+        // when
+        for (long i = 1; i <= 5; i++) {
+            stream.touch(inventory(i, 3));
+        }
+
+        // then
+        assertThat(pendingTasks).hasSize(1);
+        assertThat(stream.subscriberCount(STORE_ID)).isZero();
+    }
+
+    @RestController
+    static class StreamController {
+
+        private final InventoryEventStream stream;
+
+        StreamController(InventoryEventStream stream) {
+            this.stream = stream;
+        }
+
+        @GetMapping("/stream")
+        public SseEmitter subscribe(@RequestHeader(name = "Last-Event-ID", required = false) Long lastEventId) {
+            return stream.subscribe(STORE_ID, lastEventId);
+        }
+    }
+}
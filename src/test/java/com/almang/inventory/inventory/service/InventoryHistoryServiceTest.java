@@ -0,0 +1,242 @@
+package com.almang.inventory.inventory.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.almang.inventory.global.api.PageResponse;
+import com.almang.inventory.global.exception.BaseException;
+import com.almang.inventory.global.exception.ErrorCode;
+import com.almang.inventory.inventory.domain.Inventory;
+import com.almang.inventory.inventory.domain.InventorySnapshot;
+import com.almang.inventory.inventory.domain.InventoryMovementType;
+import com.almang.inventory.inventory.dto.InitialInventoryValues;
+import com.almang.inventory.inventory.dto.response.InventoryAsOfResponse;
+import com.almang.inventory.inventory.dto.response.InventoryMovementResponse;
+import com.almang.inventory.inventory.repository.InventoryRepository;
+import com.almang.inventory.inventory.repository.InventorySnapshotRepository;
+import com.almang.inventory.product.domain.Product;
+import com.almang.inventory.product.domain.ProductUnit;
+import com.almang.inventory.product.repository.ProductRepository;
+import com.almang.inventory.store.domain.Store;
+import com.almang.inventory.store.repository.StoreRepository;
+import com.almang.inventory.user.domain.User;
+import com.almang.inventory.user.domain.UserRole;
+import com.almang.inventory.user.repository.UserRepository;
+import com.almang.inventory.vendor.domain.Vendor;
+import com.almang.inventory.vendor.domain.VendorChannel;
+import com.almang.inventory.vendor.repository.VendorRepository;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+@SpringBootTest
+@Transactional
+@ActiveProfiles("test")
+class InventoryHistoryServiceTest {
+
+    @Autowired private InventoryHistoryService inventoryHistoryService;
+    @Autowired private InventoryService inventoryService;
+    @Autowired private InventoryRepository inventoryRepository;
+    @Autowired private InventorySnapshotRepository inventorySnapshotRepository;
+    @Autowired private StoreRepository storeRepository;
+    @Autowired private UserRepository userRepository;
+    @Autowired private VendorRepository vendorRepository;
+    @Autowired private ProductRepository productRepository;
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    private Store newStore(String name) {
+        return storeRepository.save(
+                Store.builder()
+                        .name(name)
+                        .isActivate(true)
+                        .build()
+        );
+    }
+
+    private User newUser(Store store, String username) {
+        return userRepository.save(
+                User.builder()
+                        .store(store)
+                        .username(username)
+                        .password("encoded-password")
+                        .name("테스트 유저")
+                        .role(UserRole.ADMIN)
+                        .build()
+        );
+    }
+
+    private Vendor newVendor(Store store, String name) {
+        return vendorRepository.save(
+                Vendor.builder()
+                        .store(store)
+                        .name(name)
+                        .channel(VendorChannel.KAKAO)
+                        .phoneNumber("010-0000-0000")
+                        .orderMethod("주문 방법")
+                        .activated(true)
+                        .build()
+        );
+    }
+
+    private Product newProduct(Store store, Vendor vendor, String name, String code) {
+        return productRepository.save(
+                Product.builder()
+                        .store(store)
+                        .vendor(vendor)
+                        .name(name)
+                        .code(code)
+                        .unit(ProductUnit.EA)
+                        .activated(true)
+                        .costPrice(1000)
+                        .retailPrice(1500)
+                        .wholesalePrice(1200)
+                        .build()
+        );
+    }
+
+    private Inventory newInventory(Product product, BigDecimal displayStock, BigDecimal warehouseStock) {
+        inventoryService.createInventory(product, new InitialInventoryValues(
+                BigDecimal.ZERO, displayStock, warehouseStock, BigDecimal.ZERO, BigDecimal.ZERO
+        ));
+        return inventoryRepository.findByProduct_Id(product.getId()).orElseThrow();
+    }
+
+    @Test
+    void 재고_변경시_변동_이력이_기록된다() {
+        // given
+        Store store = newStore("이력상점");
+        User user = newUser(store, "historyUser");
+        Vendor vendor = newVendor(store, "발주처");
+        Product product = newProduct(store, vendor, "상품1", "HIST-001");
+        Inventory inventory = newInventory(product, BigDecimal.valueOf(10), BigDecimal.ZERO);
+
+        // when
+        inventoryService.increaseIncomingStockFromOrder(product, BigDecimal.valueOf(5));
+        inventoryService.applyReceipt(product, BigDecimal.valueOf(5), BigDecimal.valueOf(4));
+        inventoryService.decreaseDisplayStockFromRetail(inventory, BigDecimal.valueOf(3));
+
+        PageResponse<InventoryMovementResponse> response =
+                inventoryHistoryService.getInventoryMovements(inventory.getId(), 1, 20, user.getId());
+
+        // then
+        assertThat(response.content()).extracting(InventoryMovementResponse::type)
+                .containsExactly(
+                        InventoryMovementType.RETAIL_SALE,
+                        InventoryMovementType.RECEIPT_CONFIRMED,
+                        InventoryMovementType.ORDER_RESERVED,
+                        InventoryMovementType.INITIAL
+                );
+
+        InventoryMovementResponse receipt = response.content().get(1);
+        assertThat(receipt.incomingDelta()).isEqualByComparingTo(BigDecimal.valueOf(-5));
+        assertThat(receipt.warehouseDelta()).isEqualByComparingTo(BigDecimal.valueOf(4));
+    }
+
+    @Test
+    void 시점_재고는_스냅샷_이후_이력만_재생하여_계산한다() {
+        // given
+        Store store = newStore("시점조회상점");
+        User user = newUser(store, "asOfUser");
+        Vendor vendor = newVendor(store, "발주처");
+        Product product = newProduct(store, vendor, "상품1", "HIST-002");
+        Inventory inventory = newInventory(product, BigDecimal.valueOf(10), BigDecimal.valueOf(20));
+
+        inventoryService.increaseIncomingStockFromOrder(product, BigDecimal.valueOf(5));
+        inventoryHistoryService.compactInventory(inventory.getId(), LocalDateTime.now());
+        inventoryService.increaseIncomingStockFromOrder(product, BigDecimal.valueOf(3));
+
+        // when
+        InventoryAsOfResponse response =
+                inventoryHistoryService.getInventoryAsOf(inventory.getId(), LocalDateTime.now(), user.getId());
+
+        // then
+        assertThat(inventorySnapshotRepository.findTopByInventory_IdOrderByLastRevisionDesc(inventory.getId()))
+                .isPresent();
+        assertThat(response.baseSnapshotAt()).isNotNull();
+        assertThat(response.replayedMovementCount()).isEqualTo(1L);
+        assertThat(response.displayStock()).isEqualByComparingTo(BigDecimal.valueOf(10));
+        assertThat(response.warehouseStock()).isEqualByComparingTo(BigDecimal.valueOf(20));
+        assertThat(response.incomingReserved()).isEqualByComparingTo(BigDecimal.valueOf(8));
+    }
+
+    @Test
+    void 스냅샷_이후에_커밋된_이전_시각의_이력도_다음_스냅샷에_누적된다() {
+        // given
+        Store store = newStore("늦은커밋상점");
+        User user = newUser(store, "lateCommitUser");
+        Vendor vendor = newVendor(store, "발주처");
+        Product product = newProduct(store, vendor, "상품1", "HIST-005");
+        Inventory inventory = newInventory(product, BigDecimal.valueOf(10), BigDecimal.valueOf(20));
+
+        inventoryService.increaseIncomingStockFromOrder(product, BigDecimal.valueOf(5));
+        inventoryHistoryService.compactInventory(inventory.getId(), LocalDateTime.now());
+
+        // 스냅샷 기준 시각보다 먼저 기록되었지만 스냅샷 이후에 커밋된 이력 (긴 트랜잭션)
+        Timestamp createdAt = Timestamp.valueOf(LocalDateTime.now().minusHours(1));
+        jdbcTemplate.update("""
+                INSERT INTO inventory_movements
+                    (inventory_id, movement_type, display_delta, warehouse_delta, outgoing_delta, incoming_delta,
+                     inventory_revision, created_at, updated_at)
+                VALUES (?, 'ORDER_RESERVED', 0, 0, 0, 3, 2, ?, ?)
+                """, inventory.getId(), createdAt, createdAt);
+
+        // when
+        boolean compacted = inventoryHistoryService.compactInventory(inventory.getId(), LocalDateTime.now());
+        InventoryAsOfResponse response =
+                inventoryHistoryService.getInventoryAsOf(inventory.getId(), LocalDateTime.now(), user.getId());
+
+        // then
+        InventorySnapshot latest = inventorySnapshotRepository
+                .findTopByInventory_IdOrderByLastRevisionDesc(inventory.getId())
+                .orElseThrow();
+        assertThat(compacted).isTrue();
+        assertThat(latest.getLastRevision()).isEqualTo(2L);
+        assertThat(latest.getIncomingReserved()).isEqualByComparingTo(BigDecimal.valueOf(8));
+        assertThat(response.replayedMovementCount()).isZero();
+        assertThat(response.incomingReserved()).isEqualByComparingTo(BigDecimal.valueOf(8));
+    }
+
+    @Test
+    void 재고_생성_이전_시점의_재고는_0이다() {
+        // given
+        Store store = newStore("이전시점상점");
+        User user = newUser(store, "beforeUser");
+        Vendor vendor = newVendor(store, "발주처");
+        Product product = newProduct(store, vendor, "상품1", "HIST-003");
+        LocalDateTime before = LocalDateTime.now().minusDays(1);
+        Inventory inventory = newInventory(product, BigDecimal.valueOf(10), BigDecimal.valueOf(20));
+
+        // when
+        InventoryAsOfResponse response =
+                inventoryHistoryService.getInventoryAsOf(inventory.getId(), before, user.getId());
+
+        // then
+        assertThat(response.baseSnapshotAt()).isNull();
+        assertThat(response.replayedMovementCount()).isZero();
+        assertThat(response.displayStock()).isEqualByComparingTo(BigDecimal.ZERO);
+        assertThat(response.warehouseStock()).isEqualByComparingTo(BigDecimal.ZERO);
+    }
+
+    @Test
+    void 다른_상점의_재고_시점_조회시_예외가_발생한다() {
+        // given
+        Store store = newStore("내상점");
+        Store otherStore = newStore("다른상점");
+        User otherUser = newUser(otherStore, "otherHistoryUser");
+        Vendor vendor = newVendor(store, "발주처");
+        Product product = newProduct(store, vendor, "상품1", "HIST-004");
+        Inventory inventory = newInventory(product, BigDecimal.ONE, BigDecimal.ONE);
+
+        // when & then
+        assertThatThrownBy(() ->
+                inventoryHistoryService.getInventoryAsOf(inventory.getId(), LocalDateTime.now(), otherUser.getId()))
+                .isInstanceOf(BaseException.class)
+                .hasMessageContaining(ErrorCode.INVENTORY_ACCESS_DENIED.getMessage());
+    }
+}
@@ -3,6 +3,7 @@ package com.almang.inventory.inventory.service;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import com.almang.inventory.global.api.CursorResponse;
 import com.almang.inventory.global.api.PageResponse;
 import com.almang.inventory.global.exception.BaseException;
 import com.almang.inventory.global.exception.ErrorCode;
@@ -10,6 +11,7 @@ import com.almang.inventory.inventory.domain.Inventory;
 import com.almang.inventory.inventory.domain.InventoryMoveDirection;
 import com.almang.inventory.inventory.domain.InventoryStatus;
 import com.almang.inventory.inventory.dto.InitialInventoryValues;
+import com.almang.inventory.inventory.dto.InventoryDelta;
 import com.almang.inventory.inventory.dto.request.MoveInventoryRequest;
 import com.almang.inventory.inventory.dto.request.UpdateInventoryRequest;
 import com.almang.inventory.inventory.dto.response.InventoryResponse;
@@ -26,9 +28,12 @@ import com.almang.inventory.vendor.domain.Vendor;
 import com.almang.inventory.vendor.domain.VendorChannel;
 import com.almang.inventory.vendor.repository.VendorRepository;
 import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -43,6 +48,7 @@ class InventoryServiceTest {
     @Autowired private UserRepository userRepository;
     @Autowired private VendorRepository vendorRepository;
     @Autowired private ProductRepository productRepository;
+    @Autowired private JdbcTemplate jdbcTemplate;
 
     private Store newStore(String name) {
         return storeRepository.save(
@@ -530,6 +536,76 @@ class InventoryServiceTest {
                 .containsExactly("고무장갑", "실리콘 용기", "치약");
     }
 
+    @Test
+    void 상점_재고_목록_커서_조회시_상품명_순서로_이어서_조회한다() {
+        // given
+        Store store = newStore("커서상점");
+        User user = newUser(store, "cursorUser");
+        Vendor vendor = newVendor(store, "발주처");
+
+        Product p3 = newProduct(store, vendor, "치약", "P003");
+        Product p1 = newProduct(store, vendor, "고무장갑", "P001");
+        Product p2 = newProduct(store, vendor, "실리콘 용기", "P002");
+
+        InitialInventoryValues initialInventoryValues = new InitialInventoryValues(
+                BigDecimal.valueOf(30), BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO
+        );
+        inventoryService.createInventory(p1, initialInventoryValues);
+        inventoryService.createInventory(p2, initialInventoryValues);
+        inventoryService.createInventory(p3, initialInventoryValues);
+
+        // when
+        CursorResponse<InventoryResponse> first = inventoryService.getStoreInventoryListByCursor(
+                user.getId(), null, 2, "all", null, "productName"
+        );
+        CursorResponse<InventoryResponse> second = inventoryService.getStoreInventoryListByCursor(
+                user.getId(), first.nextCursor(), 2, "all", null, "productName"
+        );
+
+        // then
+        assertThat(first.content()).extracting(InventoryResponse::productName)
+                .containsExactly("고무장갑", "실리콘 용기");
+        assertThat(first.hasNext()).isTrue();
+        assertThat(second.content()).extracting(InventoryResponse::productName)
+                .containsExactly("치약");
+        assertThat(second.hasNext()).isFalse();
+    }
+
+    @Test
+    void 상점_재고_목록_커서_조회_중_재고가_바뀌어도_빠지거나_중복되지_않는다() {
+        // given
+        Store store = newStore("커서변경상점");
+        User user = newUser(store, "cursorChangeUser");
+        Vendor vendor = newVendor(store, "발주처");
+
+        Product p1 = newProduct(store, vendor, "고무장갑", "P001");
+        Product p2 = newProduct(store, vendor, "실리콘 용기", "P002");
+        Product p3 = newProduct(store, vendor, "치약", "P003");
+
+        InitialInventoryValues initialInventoryValues = new InitialInventoryValues(
+                BigDecimal.valueOf(30), BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO
+        );
+        inventoryService.createInventory(p1, initialInventoryValues);
+        inventoryService.createInventory(p2, initialInventoryValues);
+        inventoryService.createInventory(p3, initialInventoryValues);
+
+        // when
+        CursorResponse<InventoryResponse> first = inventoryService.getStoreInventoryListByCursor(
+                user.getId(), null, 2, "all", null, null
+        );
+        inventoryService.increaseIncomingStockFromOrder(p1, BigDecimal.valueOf(5));
+        CursorResponse<InventoryResponse> second = inventoryService.getStoreInventoryListByCursor(
+                user.getId(), first.nextCursor(), 2, "all", null, null
+        );
+
+        // then
+        assertThat(first.content()).extracting(InventoryResponse::productName)
+                .containsExactly("치약", "실리콘 용기");
+        assertThat(second.content()).extracting(InventoryResponse::productName)
+                .containsExactly("고무장갑");
+        assertThat(second.hasNext()).isFalse();
+    }
+
     @Test
     void 창고에서_매대로_재고_이동에_성공한다() {
         // given
@@ -825,4 +901,180 @@ class InventoryServiceTest {
         // then
         assertThat(response.inventoryStatus()).isEqualTo(InventoryStatus.OUT_OF_STOCK);
     }
+
+    @Test
+    void 여러_라인의_재고_증감을_일괄_반영한다() {
+        // given
+        Store store = newStore("일괄반영상점");
+        Vendor vendor = newVendor(store, "발주처");
+        Product product1 = newProduct(store, vendor, "상품1", "BATCH-001");
+        Product product2 = newProduct(store, vendor, "상품2", "BATCH-002");
+
+        inventoryService.createInventory(product1, new InitialInventoryValues(
+                BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.valueOf(10), BigDecimal.ZERO, BigDecimal.valueOf(5)
+        ));
+        inventoryService.createInventory(product2, new InitialInventoryValues(
+                BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO
+        ));
+
+        List<InventoryDelta> deltas = List.of(
+                InventoryDelta.receiptConfirmed(product1.getId(), BigDecimal.valueOf(5), BigDecimal.valueOf(4)),
+                InventoryDelta.orderReserved(product2.getId(), BigDecimal.valueOf(3)),
+                InventoryDelta.orderReserved(product2.getId(), BigDecimal.valueOf(2))
+        );
+
+        // when
+        Map<Long, Inventory> result = inventoryService.applyBatch(deltas);
+
+        // then
+        Inventory inventory1 = result.get(product1.getId());
+        Inventory inventory2 = result.get(product2.getId());
+        assertThat(inventory1.getWarehouseStock()).isEqualByComparingTo(BigDecimal.valueOf(14));
+        assertThat(inventory1.getIncomingReserved()).isEqualByComparingTo(BigDecimal.ZERO);
+        assertThat(inventory2.getIncomingReserved()).isEqualByComparingTo(BigDecimal.valueOf(5));
+    }
+
+    @Test
+    void 영속성_컨텍스트에_있던_재고도_최신_값_기준으로_일괄_반영한다() {
+        // given
+        Store store = newStore("일괄반영최신값상점");
+        Vendor vendor = newVendor(store, "발주처");
+        Product product = newProduct(store, vendor, "상품1", "BATCH-004");
+
+        inventoryService.createInventory(product, new InitialInventoryValues(
+                BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.valueOf(10), BigDecimal.ZERO, BigDecimal.valueOf(5)
+        ));
+        Inventory loaded = inventoryRepository.findByProduct_Id(product.getId()).orElseThrow();
+        // 엔티티를 거치지 않은 다른 변경 (동시 요청의 조건부 UPDATE 와 같은 상황)
+        jdbcTemplate.update("UPDATE inventories SET warehouse_stock = 20 WHERE product_id = ?", product.getId());
+
+        // when
+        Map<Long, Inventory> result = inventoryService.applyBatch(List.of(
+                InventoryDelta.receiptConfirmed(product.getId(), BigDecimal.valueOf(5), BigDecimal.valueOf(4))
+        ));
+
+        // then
+        assertThat(result.get(product.getId()).getWarehouseStock()).isEqualByComparingTo(BigDecimal.valueOf(24));
+        assertThat(loaded.getWarehouseStock()).isEqualByComparingTo(BigDecimal.valueOf(24));
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT warehouse_stock FROM inventories WHERE product_id = ?", BigDecimal.class, product.getId()
+        )).isEqualByComparingTo(BigDecimal.valueOf(24));
+    }
+
+    @Test
+    void 재고_수량이_바뀔_때마다_변경_순번이_증가한다() {
+        // given
+        Store store = newStore("변경순번상점");
+        User user = newUser(store, "revisionUser");
+        Vendor vendor = newVendor(store, "발주처");
+        Product product = newProduct(store, vendor, "상품1", "REV-001");
+
+        inventoryService.createInventory(product, new InitialInventoryValues(
+                BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.TEN, BigDecimal.ZERO, BigDecimal.ZERO
+        ));
+        Inventory inventory = inventoryRepository.findByProduct_Id(product.getId()).orElseThrow();
+        long initialRevision = inventory.getRevision();
+
+        // when
+        InventoryResponse moved = inventoryService.moveInventory(inventory.getId(),
+                new MoveInventoryRequest(BigDecimal.valueOf(3), InventoryMoveDirection.WAREHOUSE_TO_DISPLAY), user.getId());
+        Map<Long, Inventory> batched = inventoryService.applyBatch(List.of(
+                InventoryDelta.orderReserved(product.getId(), BigDecimal.ONE)
+        ));
+
+        // then
+        assertThat(moved.revision()).isEqualTo(initialRevision + 1);
+        assertThat(batched.get(product.getId()).getRevision()).isEqualTo(initialRevision + 2);
+    }
+
+    @Test
+    void 일괄_반영시_수량이_부족한_라인이_있으면_예외가_발생한다() {
+        // given
+        Store store = newStore("일괄반영실패상점");
+        Vendor vendor = newVendor(store, "발주처");
+        Product product = newProduct(store, vendor, "상품1", "BATCH-003");
+
+        inventoryService.createInventory(product, new InitialInventoryValues(
+                BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.valueOf(2)
+        ));
+
+        List<InventoryDelta> deltas = List.of(
+                InventoryDelta.orderReservationReleased(product.getId(), BigDecimal.valueOf(3))
+        );
+
+        // when & then
+        assertThatThrownBy(() -> inventoryService.applyBatch(deltas))
+                .isInstanceOf(BaseException.class)
+                .hasMessageContaining(ErrorCode.INCOMING_STOCK_NOT_ENOUGH.getMessage());
+    }
+
+    @Test
+    void 창고_재고가_바뀌면_재고_상태도_함께_저장된다() {
+        // given
+        Store store = newStore("상태저장상점");
+        User user = newUser(store, "statusSaveUser");
+        Vendor vendor = newVendor(store, "발주처");
+        Product product = newProduct(store, vendor, "상품1", "STATUS-001");
+
+        inventoryService.createInventory(product, new InitialInventoryValues(
+                BigDecimal.valueOf(5), BigDecimal.ZERO, BigDecimal.valueOf(10), BigDecimal.ZERO, BigDecimal.ZERO
+        ));
+        Inventory inventory = inventoryRepository.findByProduct_Id(product.getId())
+                .orElseThrow();
+        assertThat(inventory.getStatus()).isEqualTo(InventoryStatus.NORMAL);
+        assertThat(inventory.getStore().getId()).isEqualTo(store.getId());
+
+        // when
+        inventoryService.moveInventory(inventory.getId(),
+                new MoveInventoryRequest(BigDecimal.valueOf(6), InventoryMoveDirection.WAREHOUSE_TO_DISPLAY), user.getId());
+
+        // then
+        assertThat(inventoryRepository.findById(inventory.getId()).orElseThrow().getStatus())
+                .isEqualTo(InventoryStatus.LOW);
+
+        // when
+        inventoryService.moveInventory(inventory.getId(),
+                new MoveInventoryRequest(BigDecimal.valueOf(4), InventoryMoveDirection.WAREHOUSE_TO_DISPLAY), user.getId());
+
+        // then
+        assertThat(inventoryRepository.findById(inventory.getId()).orElseThrow().getStatus())
+                .isEqualTo(InventoryStatus.OUT_OF_STOCK);
+    }
+
+    @Test
+    void 재주문_필요_재고를_재주문점_대비_창고_재고가_적은_순으로_조회한다() {
+        // given
+        Store store = newStore("재주문상점");
+        User user = newUser(store, "lowStockUser");
+        Vendor vendor = newVendor(store, "발주처");
+        Product outOfStock = newProduct(store, vendor, "품절상품", "LOW-001");
+        Product almostLow = newProduct(store, vendor, "부족상품1", "LOW-002");
+        Product veryLow = newProduct(store, vendor, "부족상품2", "LOW-003");
+        Product normal = newProduct(store, vendor, "정상상품", "LOW-004");
+
+        inventoryService.createInventory(outOfStock, new InitialInventoryValues(
+                BigDecimal.valueOf(5), BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO
+        ));
+        inventoryService.createInventory(almostLow, new InitialInventoryValues(
+                BigDecimal.valueOf(5), BigDecimal.ZERO, BigDecimal.valueOf(4), BigDecimal.ZERO, BigDecimal.ZERO
+        ));
+        inventoryService.createInventory(veryLow, new InitialInventoryValues(
+                BigDecimal.valueOf(5), BigDecimal.ZERO, BigDecimal.valueOf(2), BigDecimal.ZERO, BigDecimal.ZERO
+        ));
+        inventoryService.createInventory(normal, new InitialInventoryValues(
+                BigDecimal.valueOf(5), BigDecimal.ZERO, BigDecimal.valueOf(10), BigDecimal.ZERO, BigDecimal.ZERO
+        ));
+
+        // when
+        List<InventoryResponse> all = inventoryService.getLowStockInventories(user.getId(), null);
+        List<InventoryResponse> limited = inventoryService.getLowStockInventories(user.getId(), 2);
+
+        // then
+        assertThat(all).extracting(InventoryResponse::productId)
+                .containsExactly(outOfStock.getId(), veryLow.getId(), almostLow.getId());
+        assertThat(all).extracting(InventoryResponse::inventoryStatus)
+                .containsExactly(InventoryStatus.OUT_OF_STOCK, InventoryStatus.LOW, InventoryStatus.LOW);
+        assertThat(limited).extracting(InventoryResponse::productId)
+                .containsExactly(outOfStock.getId(), veryLow.getId());
+    }
 }
@@ -0,0 +1,131 @@
+package com.almang.inventory.inventory.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.almang.inventory.inventory.domain.InventoryStatus;
+import com.almang.inventory.inventory.dto.LowStockEntry;
+import com.almang.inventory.inventory.repository.InventoryRepository;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.LinkedHashSet;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+@ExtendWith(MockitoExtension.class)
+class LowStockWatchlistTest {
+
+    private static final Long STORE_ID = 1L;
+    private static final String KEY = "inventory:low-stock:1";
+    private static final String READY_KEY = "inventory:low-stock:1:ready";
+    private static final String GENERATION_KEY = "inventory:low-stock:1:gen";
+
+    @Mock private InventoryRepository inventoryRepository;
+    @Mock private RedisTemplate<String, String> redisTemplate;
+    @Mock private ZSetOperations<String, String> zSetOperations;
+    @Mock private ValueOperations<String, String> valueOperations;
+
+    private LowStockWatchlist lowStockWatchlist;
+
+    @BeforeEach
+    void init() {
+        lowStockWatchlist = new LowStockWatchlist(inventoryRepository, redisTemplate, true, Duration.ofHours(1));
+    }
+
+    private void givenLowStockEntries() {
+        given(inventoryRepository.findLowStockEntries(STORE_ID, InventoryStatus.REORDER_REQUIRED)).willReturn(List.of(
+                new LowStockEntry(10L, BigDecimal.valueOf(4), BigDecimal.valueOf(5)),
+                new LowStockEntry(11L, BigDecimal.ZERO, BigDecimal.valueOf(5)),
+                new LowStockEntry(12L, BigDecimal.valueOf(2), BigDecimal.valueOf(5))
+        ));
+    }
+
+    @Test
+    void 목록이_준비되어_있으면_Redis_에서만_조회한다() {
+        // given
+        given(redisTemplate.hasKey(READY_KEY)).willReturn(true);
+        given(redisTemplate.opsForZSet()).willReturn(zSetOperations);
+        given(zSetOperations.range(KEY, 0, 1)).willReturn(new LinkedHashSet<>(List.of("11", "12")));
+
+        // when
+        List<Long> result = lowStockWatchlist.findMostUrgent(STORE_ID, 2);
+
+        // then
+        assertThat(result).containsExactly(11L, 12L);
+        verify(inventoryRepository, never()).findLowStockEntries(eq(STORE_ID), any());
+    }
+
+    @Test
+    void 준비_표시가_없으면_DB_에서_임시_키에_목록을_만들어_교체한다() {
+        // given
+        givenLowStockEntries();
+        given(redisTemplate.hasKey(READY_KEY)).willReturn(false);
+        given(redisTemplate.opsForZSet()).willReturn(zSetOperations);
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        given(valueOperations.get(GENERATION_KEY)).willReturn("7");
+        given(redisTemplate.execute(any(RedisScript.class), anyList(), any(), any())).willReturn(1L);
+        given(zSetOperations.range(KEY, 0, 9)).willReturn(new LinkedHashSet<>(List.of("11", "12", "10")));
+
+        // when
+        List<Long> result = lowStockWatchlist.findMostUrgent(STORE_ID, 10);
+
+        // then
+        assertThat(result).containsExactly(11L, 12L, 10L);
+        ArgumentCaptor<List> keys = ArgumentCaptor.forClass(List.class);
+        verify(redisTemplate).execute(any(RedisScript.class), keys.capture(), eq("7"), eq("3600000"));
+        List<?> swapKeys = keys.getValue();
+        String reloadKey = (String) swapKeys.get(1);
+        assertThat(swapKeys).containsExactly(KEY, reloadKey, GENERATION_KEY, READY_KEY);
+        assertThat(reloadKey).startsWith(KEY + ":reload:");
+        verify(zSetOperations).add(eq(reloadKey), anySet());
+        verify(redisTemplate, never()).delete(KEY);
+    }
+
+    @Test
+    void 재구성_중_다른_변경이_반영되어_교체하지_못하면_DB_에서_조회한다() {
+        // given
+        givenLowStockEntries();
+        given(redisTemplate.hasKey(READY_KEY)).willReturn(false);
+        given(redisTemplate.opsForZSet()).willReturn(zSetOperations);
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        given(redisTemplate.execute(any(RedisScript.class), anyList(), any(), any())).willReturn(0L);
+
+        // when
+        List<Long> result = lowStockWatchlist.findMostUrgent(STORE_ID, 2);
+
+        // then
+        assertThat(result).containsExactly(11L, 12L);
+        verify(zSetOperations, never()).range(anyString(), anyLong(), anyLong());
+    }
+
+    @Test
+    void Redis_를_쓸_수_없으면_DB_에서_비율순으로_조회한다() {
+        // given
+        givenLowStockEntries();
+        given(redisTemplate.hasKey(anyString())).willThrow(new RedisConnectionFailureException("연결 실패"));
+
+        // when
+        List<Long> result = lowStockWatchlist.findMostUrgent(STORE_ID, 2);
+
+        // then
+        assertThat(result).containsExactly(11L, 12L);
+    }
+}
@@ -0,0 +1,152 @@
+package com.almang.inventory.order.replenishment.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.groups.Tuple.tuple;
+
+import com.almang.inventory.inventory.dto.InitialInventoryValues;
+import com.almang.inventory.inventory.repository.InventoryRepository;
+import com.almang.inventory.inventory.service.InventoryService;
+import com.almang.inventory.order.domain.OrderStatus;
+import com.almang.inventory.order.dto.DraftOrderLine;
+import com.almang.inventory.order.dto.response.OrderResponse;
+import com.almang.inventory.order.service.OrderService;
+import com.almang.inventory.product.domain.Product;
+import com.almang.inventory.product.domain.ProductUnit;
+import com.almang.inventory.product.repository.ProductRepository;
+import com.almang.inventory.retail.domain.Retail;
+import com.almang.inventory.retail.repository.RetailRepository;
+import com.almang.inventory.store.domain.Store;
+import com.almang.inventory.store.repository.StoreRepository;
+import com.almang.inventory.vendor.domain.Vendor;
+import com.almang.inventory.vendor.domain.VendorChannel;
+import com.almang.inventory.vendor.repository.VendorRepository;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+@SpringBootTest
+@Transactional
+@ActiveProfiles("test")
+class ReplenishmentServiceTest {
+
+    @Autowired private ReplenishmentService replenishmentService;
+    @Autowired private OrderService orderService;
+    @Autowired private StoreRepository storeRepository;
+    @Autowired private VendorRepository vendorRepository;
+    @Autowired private ProductRepository productRepository;
+    @Autowired private RetailRepository retailRepository;
+    @Autowired private InventoryService inventoryService;
+    @Autowired private InventoryRepository inventoryRepository;
+
+    private Store newStore() {
+        return storeRepository.save(Store.builder().name("테스트 상점").isActivate(true).build());
+    }
+
+    private Vendor newVendor(Store store, String name) {
+        return vendorRepository.save(
+                Vendor.builder()
+                        .store(store)
+                        .name(name)
+                        .channel(VendorChannel.KAKAO)
+                        .phoneNumber("010-1111-1111")
+                        .orderMethod("주문 방법")
+                        .activated(true)
+                        .build()
+        );
+    }
+
+    private Product newProduct(
+            Store store, Vendor vendor, String code,
+            int reorderTriggerPoint, int warehouseStock, int incomingReserved
+    ) {
+        Product product = productRepository.save(
+                Product.builder()
+                        .store(store)
+                        .vendor(vendor)
+                        .name("상품 " + code)
+                        .code(code)
+                        .unit(ProductUnit.EA)
+                        .activated(true)
+                        .costPrice(1000)
+                        .retailPrice(1500)
+                        .wholesalePrice(1200)
+                        .build()
+        );
+        inventoryService.createInventory(product, new InitialInventoryValues(
+                BigDecimal.valueOf(reorderTriggerPoint), BigDecimal.ZERO, BigDecimal.valueOf(warehouseStock),
+                BigDecimal.ZERO, BigDecimal.valueOf(incomingReserved)
+        ));
+        return product;
+    }
+
+    private void sold(Store store, Product product, LocalDate soldDate, int quantity) {
+        retailRepository.save(
+                Retail.builder()
+                        .store(store)
+                        .product(product)
+                        .productCode(product.getCode())
+                        .productName(product.getName())
+                        .soldDate(soldDate)
+                        .quantity(BigDecimal.valueOf(quantity))
+                        .build()
+        );
+    }
+
+    @Test
+    void 재주문점_이하_재고만_판매_속도를_반영해_발주_초안_라인을_만든다() {
+        // given
+        Store store = newStore();
+        Vendor vendor = newVendor(store, "발주처");
+        Product fastMoving = newProduct(store, vendor, "P001", 30, 0, 0);
+        Product noSales = newProduct(store, vendor, "P002", 30, 10, 0);
+        newProduct(store, vendor, "P003", 30, 50, 0);
+        newProduct(store, vendor, "P004", 30, 0, 40);
+        newProduct(store, vendor, "P005", 0, 0, 0);
+
+        // 최근 28일 280개 판매 -> 일 10개, 14일치 140개
+        sold(store, fastMoving, LocalDate.now().minusDays(3), 200);
+        sold(store, fastMoving, LocalDate.now().minusDays(10), 80);
+        sold(store, fastMoving, LocalDate.now().minusDays(60), 1000);
+
+        // when
+        Map<Long, List<DraftOrderLine>> plan = replenishmentService.planDraftOrderLines();
+
+        // then
+        assertThat(plan.get(store.getId()))
+                .extracting(DraftOrderLine::productId, DraftOrderLine::quantity)
+                .containsExactly(
+                        tuple(fastMoving.getId(), 170),
+                        tuple(noSales.getId(), 50)
+                );
+    }
+
+    @Test
+    void 발주처별로_발주_초안을_만들고_다음_실행에서는_다시_제안하지_않는다() {
+        // given
+        Store store = newStore();
+        Vendor vendor1 = newVendor(store, "발주처1");
+        Vendor vendor2 = newVendor(store, "발주처2");
+        Product product1 = newProduct(store, vendor1, "P001", 30, 0, 0);
+        newProduct(store, vendor1, "P002", 30, 0, 0);
+        newProduct(store, vendor2, "P003", 30, 0, 0);
+
+        // when
+        List<DraftOrderLine> lines = replenishmentService.planDraftOrderLines().get(store.getId());
+        List<OrderResponse> orders = orderService.createDraftOrders(store.getId(), lines);
+
+        // then
+        assertThat(orders).hasSize(2);
+        assertThat(orders).extracting(OrderResponse::orderStatus).containsOnly(OrderStatus.DRAFT);
+        assertThat(orders).extracting(OrderResponse::vendorId)
+                .containsExactlyInAnyOrder(vendor1.getId(), vendor2.getId());
+        assertThat(inventoryRepository.findByProduct_Id(product1.getId()).orElseThrow().getIncomingReserved())
+                .isEqualByComparingTo(BigDecimal.valueOf(60));
+        assertThat(replenishmentService.planDraftOrderLines()).doesNotContainKey(store.getId());
+    }
+}
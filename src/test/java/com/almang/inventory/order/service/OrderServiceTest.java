@@ -3,6 +3,7 @@ package com.almang.inventory.order.service;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import com.almang.inventory.global.api.CursorResponse;
 import com.almang.inventory.global.api.PageResponse;
 import com.almang.inventory.global.exception.BaseException;
 import com.almang.inventory.global.exception.ErrorCode;
@@ -617,6 +618,44 @@ class OrderServiceTest {
         assertThat(first.orderMessage()).isEqualTo("오늘 발주");
     }
 
+    @Test
+    void 발주_목록_커서_조회시_다음_커서로_이어서_조회한다() {
+        // given
+        Store store = newStore("테스트 상점");
+        User user = newUser(store, "order_cursor_user");
+        Vendor vendor = newVendor(store, "발주처1");
+        Product product = newProduct(store, vendor, "상품", "P001");
+
+        for (int i = 1; i <= 3; i++) {
+            orderService.createOrder(
+                    new CreateOrderRequest(
+                            vendor.getId(), "메시지" + i, 1,
+                            List.of(new CreateOrderItemRequest(product.getId(), 1, null))
+                    ),
+                    user.getId()
+            );
+        }
+
+        // when
+        CursorResponse<OrderResponse> first = orderService.getOrderListByCursor(
+                user.getId(), null, null, 2, null, null, null
+        );
+        CursorResponse<OrderResponse> second = orderService.getOrderListByCursor(
+                user.getId(), null, first.nextCursor(), 2, null, null, null
+        );
+
+        // then
+        assertThat(first.content()).extracting(OrderResponse::orderMessage)
+                .containsExactly("메시지1", "메시지2");
+        assertThat(first.hasNext()).isTrue();
+        assertThat(first.nextCursor()).isNotNull();
+
+        assertThat(second.content()).extracting(OrderResponse::orderMessage)
+                .containsExactly("메시지3");
+        assertThat(second.hasNext()).isFalse();
+        assertThat(second.nextCursor()).isNull();
+    }
+
     @Test
     void 발주_목록_조회시_사용자가_존재하지_않으면_예외가_발생한다() {
         // given
@@ -2,6 +2,7 @@ package com.almang.inventory.product.controller;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.authentication;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
@@ -21,6 +22,7 @@ import com.almang.inventory.product.domain.ProductUnit;
 import com.almang.inventory.product.dto.request.CreateProductRequest;
 import com.almang.inventory.product.dto.request.UpdateProductRequest;
 import com.almang.inventory.product.dto.response.DeleteProductResponse;
+import com.almang.inventory.product.dto.response.ProductAutocompleteResponse;
 import com.almang.inventory.product.dto.response.ProductResponse;
 import com.almang.inventory.product.service.ProductService;
 import com.almang.inventory.vendor.domain.VendorChannel;
@@ -540,6 +542,31 @@ public class ProductControllerTest {
                 .andExpect(jsonPath("$.data").doesNotExist());
     }
 
+    @Test
+    void 품목_자동완성에_성공한다() throws Exception {
+        // given
+        List<ProductAutocompleteResponse> response = List.of(
+                new ProductAutocompleteResponse(1L, "샴푸바", "SH-001"),
+                new ProductAutocompleteResponse(2L, "샴푸 리필", "SH-002")
+        );
+
+        when(productService.autocompleteProducts(anyLong(), eq("ㅅㅍ"), eq(5)))
+                .thenReturn(response);
+
+        // when & then
+        mockMvc.perform(get("/api/v1/product/autocomplete")
+                        .with(authentication(auth()))
+                        .param("q", "ㅅㅍ")
+                        .param("limit", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value(200))
+                .andExpect(jsonPath("$.message").value(SuccessMessage.AUTOCOMPLETE_PRODUCT_SUCCESS.getMessage()))
+                .andExpect(jsonPath("$.data.length()").value(2))
+                .andExpect(jsonPath("$.data[0].productId").value(1L))
+                .andExpect(jsonPath("$.data[0].name").value("샴푸바"))
+                .andExpect(jsonPath("$.data[1].code").value("SH-002"));
+    }
+
     @Test
     void 품목_삭제에_성공한다() throws Exception {
         // given
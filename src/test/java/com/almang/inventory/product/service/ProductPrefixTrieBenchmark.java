@@ -0,0 +1,103 @@
+package com.almang.inventory.product.service;
+
+import com.almang.inventory.global.util.HangulUtil;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * 상품 5만 개 상점 기준 자동완성 트라이의 메모리 사용량과 조회 지연 측정
+ * - main 에서 먼저 트라이 구성 전후 힙 사용량 차이(GC 후)를 출력한 뒤 JMH 를 실행
+ * - choseong: 초성 2글자("ㅅㅍ"), keystrokes: 입력 중인 음절("샴ㅍ"), code: 상품 코드 접두어
+ * 실행: 테스트 클래스패스에서 main 실행 (JUnit 테스트로는 실행되지 않음)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ProductPrefixTrieBenchmark {
+
+    private static final int PRODUCT_COUNT = 50_000;
+    private static final int LIMIT = 10;
+
+    private static final String[] ADJECTIVES = {
+            "고체", "대용량", "리필", "무향", "천연", "유기농", "실리콘", "대나무", "스테인리스", "친환경"
+    };
+    private static final String[] NOUNS = {
+            "샴푸", "린스", "치약", "칫솔", "수세미", "비누", "세제", "빨대", "텀블러", "주방세제",
+            "섬유유연제", "핸드크림", "바디워시", "밀랍랩", "면생리대", "도시락통", "장바구니", "고무장갑"
+    };
+    private static final String[] SUFFIXES = {"", "바", "세트", "500ml", "1kg", "소형", "대형", "라벤더향"};
+
+    @Param({"ㅅㅍ", "샴ㅍ", "p012"})
+    private String prefix;
+
+    private ProductPrefixTrie trie;
+    private String key;
+
+    @Setup
+    public void setUp() {
+        trie = buildTrie();
+        String normalized = ProductSearchIndex.normalize(prefix);
+        key = HangulUtil.isChoseongOnly(normalized) ? normalized : HangulUtil.toKeystrokes(normalized);
+    }
+
+    @Benchmark
+    public Set<Long> autocomplete() {
+        return trie.collect(key, LIMIT);
+    }
+
+    static ProductPrefixTrie buildTrie() {
+        Random random = new Random(42);
+        ProductPrefixTrie trie = new ProductPrefixTrie();
+        for (long productId = 1; productId <= PRODUCT_COUNT; productId++) {
+            String name = ADJECTIVES[random.nextInt(ADJECTIVES.length)] + " "
+                    + NOUNS[random.nextInt(NOUNS.length)]
+                    + SUFFIXES[random.nextInt(SUFFIXES.length)] + " " + productId;
+            String code = String.format("P%06d", productId);
+            for (String autocompleteKey : ProductSearchIndex.autocompleteKeys(
+                    ProductSearchIndex.normalize(name), ProductSearchIndex.normalize(code))) {
+                trie.insert(autocompleteKey, productId);
+            }
+        }
+        return trie;
+    }
+
+    private static long usedHeapAfterGc() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        long before = usedHeapAfterGc();
+        ProductPrefixTrie trie = buildTrie();
+        long after = usedHeapAfterGc();
+        System.out.printf("상품 %d개 자동완성 트라이 힙 사용량: 약 %.1f MB (%d 바이트/상품), 샘플 결과 %d개%n",
+                PRODUCT_COUNT, (after - before) / 1024.0 / 1024.0, (after - before) / PRODUCT_COUNT,
+                trie.collect("ㅅㅍ", LIMIT).size());
+
+        new Runner(new OptionsBuilder()
+                .include(ProductPrefixTrieBenchmark.class.getSimpleName())
+                .build()
+        ).run();
+    }
+}
@@ -0,0 +1,309 @@
+package com.almang.inventory.product.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.almang.inventory.product.domain.Product;
+import com.almang.inventory.product.dto.search.ProductSearchEntry;
+import com.almang.inventory.product.repository.ProductRepository;
+import com.almang.inventory.store.domain.Store;
+import java.nio.charset.StandardCharsets;
+import java.text.Normalizer;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@ExtendWith(MockitoExtension.class)
+class ProductSearchIndexTest {
+
+    private static final Long STORE_ID = 1L;
+
+    @Mock private ProductRepository productRepository;
+    @Mock private RedisTemplate<String, String> redisTemplate;
+
+    private ProductSearchIndex productSearchIndex;
+
+    @BeforeEach
+    void init() {
+        productSearchIndex = new ProductSearchIndex(productRepository, redisTemplate, false);
+    }
+
+    private void givenStoreProducts(ProductSearchEntry... entries) {
+        given(productRepository.findSearchEntriesByStoreId(STORE_ID)).willReturn(List.of(entries));
+    }
+
+    private Product product(Long productId, String name, String code) {
+        Store store = Store.builder().id(STORE_ID).name("테스트 상점").isActivate(true).build();
+        return Product.builder().id(productId).store(store).name(name).code(code).build();
+    }
+
+    @Test
+    void 상품명의_한글_부분_문자열로_검색한다() {
+        // given
+        givenStoreProducts(
+                new ProductSearchEntry(1L, STORE_ID, "고체 치약", "P001"),
+                new ProductSearchEntry(2L, STORE_ID, "고무장갑", "P002"),
+                new ProductSearchEntry(3L, STORE_ID, "실리콘 용기", "P003")
+        );
+
+        // when & then
+        assertThat(productSearchIndex.search(STORE_ID, "고")).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(productSearchIndex.search(STORE_ID, "치약")).containsExactly(1L);
+        assertThat(productSearchIndex.search(STORE_ID, "고체 치약")).containsExactly(1L);
+        assertThat(productSearchIndex.search(STORE_ID, "장갑고무")).isEmpty();
+    }
+
+    @Test
+    void 자모가_분리된_검색어도_같은_음절로_찾는다() {
+        // given
+        givenStoreProducts(new ProductSearchEntry(1L, STORE_ID, "고무장갑", "P001"));
+        String decomposed = Normalizer.normalize("장갑", Normalizer.Form.NFD);
+
+        // when & then
+        assertThat(decomposed).isNotEqualTo("장갑");
+        assertThat(productSearchIndex.search(STORE_ID, decomposed)).containsExactly(1L);
+    }
+
+    @Test
+    void 상품_코드를_대소문자_구분_없이_검색한다() {
+        // given
+        givenStoreProducts(
+                new ProductSearchEntry(1L, STORE_ID, "고무장갑", "GLV-001"),
+                new ProductSearchEntry(2L, STORE_ID, "치약", "TP-001")
+        );
+
+        // when & then
+        assertThat(productSearchIndex.search(STORE_ID, "glv")).containsExactly(1L);
+        assertThat(productSearchIndex.search(STORE_ID, "-001")).containsExactlyInAnyOrder(1L, 2L);
+    }
+
+    @Test
+    void 상품_수정과_삭제를_색인에_반영한다() {
+        // given
+        givenStoreProducts(new ProductSearchEntry(1L, STORE_ID, "고무장갑", "P001"));
+        productSearchIndex.search(STORE_ID, "고무");
+
+        // when
+        productSearchIndex.index(product(1L, "실리콘 장갑", "P001"));
+        productSearchIndex.index(product(2L, "고무 대야", "P002"));
+
+        // then
+        assertThat(productSearchIndex.search(STORE_ID, "고무")).containsExactly(2L);
+        assertThat(productSearchIndex.search(STORE_ID, "실리콘")).containsExactly(1L);
+
+        // when
+        productSearchIndex.remove(product(2L, "고무 대야", "P002"));
+
+        // then
+        assertThat(productSearchIndex.search(STORE_ID, "고무")).isEmpty();
+        verify(productRepository, times(1)).findSearchEntriesByStoreId(STORE_ID);
+    }
+
+    @Test
+    void 트랜잭션_안의_상품_변경은_커밋된_뒤에야_색인에_반영된다() {
+        // given
+        givenStoreProducts(new ProductSearchEntry(1L, STORE_ID, "고무장갑", "P001"));
+        productSearchIndex.search(STORE_ID, "고무");
+        TransactionSynchronizationManager.initSynchronization();
+
+        try {
+            // when
+            productSearchIndex.index(product(2L, "고무 대야", "P002"));
+
+            // then
+            assertThat(productSearchIndex.search(STORE_ID, "대야")).isEmpty();
+
+            // when
+            completeTransaction(TransactionSynchronization.STATUS_COMMITTED);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        // then
+        assertThat(productSearchIndex.search(STORE_ID, "대야")).containsExactly(2L);
+        verify(productRepository, times(1)).findSearchEntriesByStoreId(STORE_ID);
+    }
+
+    @Test
+    void 롤백된_상품_변경은_색인에_반영되지_않는다() {
+        // given
+        givenStoreProducts(new ProductSearchEntry(1L, STORE_ID, "고무장갑", "P001"));
+        productSearchIndex.search(STORE_ID, "고무");
+        TransactionSynchronizationManager.initSynchronization();
+
+        try {
+            // when
+            productSearchIndex.index(product(1L, "실리콘 장갑", "P001"));
+            completeTransaction(TransactionSynchronization.STATUS_ROLLED_BACK);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        // then
+        assertThat(productSearchIndex.search(STORE_ID, "고무")).containsExactly(1L);
+        assertThat(productSearchIndex.search(STORE_ID, "실리콘")).isEmpty();
+    }
+
+    private void completeTransaction(int status) {
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(synchronization -> synchronization.afterCompletion(status));
+    }
+
+    @Test
+    void 색인을_만드는_도중_반영된_변경은_조회_이전_값으로_덮이지_않는다() {
+        // given - 조회가 끝나기 전에 상품 수정이 커밋되어 반영됨
+        given(productRepository.findSearchEntriesByStoreId(STORE_ID))
+                .willAnswer(invocation -> {
+                    productSearchIndex.index(product(1L, "실리콘 장갑", "P001"));
+                    return List.of(new ProductSearchEntry(1L, STORE_ID, "고무장갑", "P001"));
+                })
+                .willReturn(List.of(new ProductSearchEntry(1L, STORE_ID, "실리콘 장갑", "P001")));
+        productSearchIndex.search(STORE_ID, "장갑");
+
+        // when & then
+        assertThat(productSearchIndex.search(STORE_ID, "실리콘")).containsExactly(1L);
+        assertThat(productSearchIndex.search(STORE_ID, "고무")).isEmpty();
+        verify(productRepository, times(2)).findSearchEntriesByStoreId(STORE_ID);
+    }
+
+    @Test
+    void 전체_재구성_도중_반영된_변경은_재구성_결과로_덮이지_않는다() {
+        // given
+        givenStoreProducts(new ProductSearchEntry(1L, STORE_ID, "고무장갑", "P001"));
+        productSearchIndex.search(STORE_ID, "고무");
+        given(productRepository.findAllSearchEntries()).willAnswer(invocation -> {
+            productSearchIndex.index(product(1L, "실리콘 장갑", "P001"));
+            return List.of(new ProductSearchEntry(1L, STORE_ID, "고무장갑", "P001"));
+        });
+
+        // when
+        productSearchIndex.rebuild();
+
+        // then
+        assertThat(productSearchIndex.search(STORE_ID, "실리콘")).containsExactly(1L);
+        assertThat(productSearchIndex.search(STORE_ID, "고무")).isEmpty();
+    }
+
+    @Test
+    void 초성으로_상품을_자동완성한다() {
+        // given
+        givenStoreProducts(
+                new ProductSearchEntry(1L, STORE_ID, "샴푸바", "SH-001"),
+                new ProductSearchEntry(2L, STORE_ID, "대용량 샴푸 리필", "SH-002"),
+                new ProductSearchEntry(3L, STORE_ID, "수세미", "SC-001")
+        );
+
+        // when
+        List<ProductSearchEntry> result = productSearchIndex.autocomplete(STORE_ID, "ㅅㅍ", 10);
+
+        // then
+        assertThat(result).extracting(ProductSearchEntry::productId).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(result).extracting(ProductSearchEntry::name).contains("샴푸바");
+        assertThat(productSearchIndex.autocomplete(STORE_ID, "ㄷㅇㄹ ㅅㅍ", 10))
+                .extracting(ProductSearchEntry::productId).containsExactly(2L);
+    }
+
+    @Test
+    void 입력_중인_음절과_상품_코드_접두어로_자동완성한다() {
+        // given
+        givenStoreProducts(
+                new ProductSearchEntry(1L, STORE_ID, "샴푸바", "SH-001"),
+                new ProductSearchEntry(2L, STORE_ID, "삼베 수세미", "SC-001"),
+                new ProductSearchEntry(3L, STORE_ID, "과탄산소다", "SD-001")
+        );
+
+        // when & then
+        assertThat(productSearchIndex.autocomplete(STORE_ID, "샴ㅍ", 10))
+                .extracting(ProductSearchEntry::productId).containsExactly(1L);
+        assertThat(productSearchIndex.autocomplete(STORE_ID, "사", 10))
+                .extracting(ProductSearchEntry::productId).containsExactly(2L);
+        assertThat(productSearchIndex.autocomplete(STORE_ID, "고", 10))
+                .extracting(ProductSearchEntry::productId).containsExactly(3L);
+        assertThat(productSearchIndex.autocomplete(STORE_ID, "수세", 10))
+                .extracting(ProductSearchEntry::productId).containsExactly(2L);
+        assertThat(productSearchIndex.autocomplete(STORE_ID, "s", 10))
+                .extracting(ProductSearchEntry::productId).containsExactlyInAnyOrder(1L, 2L, 3L);
+        assertThat(productSearchIndex.autocomplete(STORE_ID, "s", 2)).hasSize(2);
+    }
+
+    @Test
+    void 상품_수정과_삭제를_자동완성에_반영한다() {
+        // given
+        givenStoreProducts(new ProductSearchEntry(1L, STORE_ID, "샴푸바", "SH-001"));
+        productSearchIndex.autocomplete(STORE_ID, "ㅅㅍ", 10);
+
+        // when
+        productSearchIndex.index(product(1L, "린스바", "RN-001"));
+        productSearchIndex.index(product(2L, "샴푸 리필", "SH-002"));
+
+        // then
+        assertThat(productSearchIndex.autocomplete(STORE_ID, "ㅅㅍ", 10))
+                .extracting(ProductSearchEntry::productId).containsExactly(2L);
+        assertThat(productSearchIndex.autocomplete(STORE_ID, "sh", 10))
+                .extracting(ProductSearchEntry::productId).containsExactly(2L);
+
+        // when
+        productSearchIndex.remove(product(2L, "샴푸 리필", "SH-002"));
+
+        // then
+        assertThat(productSearchIndex.autocomplete(STORE_ID, "ㅅㅍ", 10)).isEmpty();
+        assertThat(productSearchIndex.autocomplete(STORE_ID, "ㄹㅅ", 10))
+                .extracting(ProductSearchEntry::productId).containsExactly(1L);
+    }
+
+    @Test
+    void 초성만_입력한_검색어는_초성으로_검색한다() {
+        // given
+        givenStoreProducts(
+                new ProductSearchEntry(1L, STORE_ID, "샴푸바", "SH-001"),
+                new ProductSearchEntry(2L, STORE_ID, "수세미", "SC-001")
+        );
+
+        // when & then
+        assertThat(productSearchIndex.search(STORE_ID, "ㅅㅍ")).containsExactly(1L);
+        assertThat(productSearchIndex.search(STORE_ID, "ㅅ")).containsExactlyInAnyOrder(1L, 2L);
+    }
+
+    @Test
+    void 다른_노드의_무효화_메시지를_받으면_상점_색인을_다시_만든다() {
+        // given
+        givenStoreProducts(new ProductSearchEntry(1L, STORE_ID, "고무장갑", "P001"));
+        productSearchIndex.search(STORE_ID, "고무");
+
+        // when
+        productSearchIndex.onMessage(new DefaultMessage(
+                ProductSearchIndex.INVALIDATION_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                ("other-node:" + STORE_ID).getBytes(StandardCharsets.UTF_8)
+        ), null);
+        productSearchIndex.search(STORE_ID, "고무");
+
+        // then
+        verify(productRepository, times(2)).findSearchEntriesByStoreId(STORE_ID);
+    }
+
+    @Test
+    void 전체_재구성시_상점별로_색인을_만든다() {
+        // given
+        given(productRepository.findAllSearchEntries()).willReturn(List.of(
+                new ProductSearchEntry(1L, 1L, "고무장갑", "P001"),
+                new ProductSearchEntry(2L, 2L, "고무장갑", "P001")
+        ));
+
+        // when
+        productSearchIndex.rebuild();
+
+        // then
+        assertThat(productSearchIndex.indexedStoreCount()).isEqualTo(2);
+        assertThat(productSearchIndex.search(1L, "장갑")).containsExactly(1L);
+        assertThat(productSearchIndex.search(2L, "장갑")).containsExactly(2L);
+    }
+}
@@ -0,0 +1,94 @@
+package com.almang.inventory.retail.parser;
+
+import com.almang.inventory.retail.dto.excel.RetailExcelRowDto;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * 대용량 POS 엑셀(.xlsx)에서 DOM 파싱과 스트리밍(SAX) 파싱의 소요 시간과 할당량 비교
+ * - dom: WorkbookFactory 로 전체 시트를 읽어 행 목록 반환
+ * - streaming: 행 콜백으로 한 행씩 전달
+ * 할당량은 GC 프로파일러(gc.alloc.rate.norm)로 함께 출력합니다.
+ * 실행: 테스트 클래스패스에서 main 실행 (JUnit 테스트로는 실행되지 않음)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class RetailExcelParserBenchmark {
+
+    @Param({"30000"})
+    private int rowCount;
+
+    private final RetailExcelParser parser = new RetailExcelParser();
+    private byte[] bytes;
+
+    @Setup
+    public void setUp() {
+        bytes = writeLargeWorkbook(rowCount);
+    }
+
+    @Benchmark
+    public List<RetailExcelRowDto> dom() throws IOException {
+        return parser.parse(new ByteArrayInputStream(bytes));
+    }
+
+    @Benchmark
+    public void streaming(Blackhole blackhole) throws IOException {
+        parser.parse(new ByteArrayInputStream(bytes), blackhole::consume);
+    }
+
+    // 헤더 아래 rowCount 개 행(상품코드, 상품명, 수량, 실매출)을 SXSSF 로 기록
+    static byte[] writeLargeWorkbook(int rowCount) {
+        try (SXSSFWorkbook workbook = new SXSSFWorkbook(100)) {
+            Sheet sheet = workbook.createSheet("소매");
+            sheet.createRow(0).createCell(1).setCellValue("상품코드");
+            for (int i = 1; i <= rowCount; i++) {
+                Row row = sheet.createRow(i);
+                row.createCell(1).setCellValue("CODE-" + i);
+                row.createCell(2).setCellValue("상품-" + i);
+                row.createCell(3).setCellValue(i % 7 + 1);
+                row.createCell(4).setCellValue(i * 100);
+            }
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            workbook.write(out);
+            workbook.dispose();
+            return out.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(RetailExcelParserBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()
+        ).run();
+    }
+}
@@ -0,0 +1,127 @@
+package com.almang.inventory.retail.parser;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.almang.inventory.retail.dto.excel.RetailExcelRowDto;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.poi.hssf.usermodel.HSSFWorkbook;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.Test;
+
+class RetailExcelParserTest {
+
+    private final RetailExcelParser parser = new RetailExcelParser();
+
+    private byte[] writeSampleWorkbook(Workbook workbook) throws IOException {
+        try (workbook) {
+            Sheet sheet = workbook.createSheet("소매");
+            CellStyle zeroPadded = workbook.createCellStyle();
+            zeroPadded.setDataFormat(workbook.createDataFormat().getFormat("00000"));
+
+            Row header = sheet.createRow(0);
+            header.createCell(1).setCellValue("상품코드");
+            header.createCell(2).setCellValue("상품명");
+            header.createCell(3).setCellValue("수량");
+            header.createCell(4).setCellValue("실매출");
+
+            Row row1 = sheet.createRow(1);
+            row1.createCell(1).setCellValue(" P001 ");
+            row1.createCell(2).setCellValue("상품1");
+            row1.createCell(3).setCellValue(2);
+            row1.createCell(4).setCellValue(3000);
+
+            // 숫자 코드의 표시 형식("00123")과 문자열 수량/매출
+            Row row2 = sheet.createRow(2);
+            row2.createCell(1).setCellValue(123);
+            row2.getCell(1).setCellStyle(zeroPadded);
+            row2.createCell(3).setCellValue("1,500");
+            row2.createCell(4).setCellValue("2,500.6");
+
+            // 코드 없음 → 스킵
+            Row row3 = sheet.createRow(3);
+            row3.createCell(2).setCellValue("코드없음");
+            row3.createCell(3).setCellValue(1);
+
+            // 수량 0 → 스킵
+            Row row4 = sheet.createRow(4);
+            row4.createCell(1).setCellValue("P004");
+            row4.createCell(3).setCellValue(0);
+
+            // 수식 수량 → 값 없음으로 취급되어 스킵
+            Row row5 = sheet.createRow(5);
+            row5.createCell(1).setCellValue("P005");
+            row5.createCell(3).setCellFormula("1+1");
+
+            // 중간에 빈 행이 있어도 rowIndex 는 엑셀 행 번호 유지
+            Row row9 = sheet.createRow(9);
+            row9.createCell(1).setCellValue("P009");
+            row9.createCell(2).setCellValue("상품9");
+            row9.createCell(3).setCellValue(1.5);
+
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            workbook.write(out);
+            return out.toByteArray();
+        }
+    }
+
+    private List<RetailExcelRowDto> parseStreaming(byte[] bytes) throws IOException {
+        List<RetailExcelRowDto> rows = new ArrayList<>();
+        parser.parse(new ByteArrayInputStream(bytes), rows::add);
+        return rows;
+    }
+
+    @Test
+    void XLSX_스트리밍_파싱_결과가_DOM_파싱과_동일하다() throws IOException {
+        // given
+        byte[] bytes = writeSampleWorkbook(new XSSFWorkbook());
+
+        // when
+        List<RetailExcelRowDto> dom = parser.parse(new ByteArrayInputStream(bytes));
+        List<RetailExcelRowDto> streaming = parseStreaming(bytes);
+
+        // then
+        assertThat(streaming).containsExactlyElementsOf(dom);
+        assertThat(streaming).extracting(RetailExcelRowDto::rowIndex).containsExactly(2, 3, 10);
+        assertThat(streaming.get(0).code()).isEqualTo("P001");
+        assertThat(streaming.get(1).code()).isEqualTo("00123");
+        assertThat(streaming.get(1).quantity()).isEqualByComparingTo(BigDecimal.valueOf(1500));
+        assertThat(streaming.get(1).actualSales()).isEqualTo(2501);
+        assertThat(streaming.get(2).quantity()).isEqualByComparingTo(new BigDecimal("1.5"));
+    }
+
+    @Test
+    void XLS_스트리밍_파싱_결과가_DOM_파싱과_동일하다() throws IOException {
+        // given
+        byte[] bytes = writeSampleWorkbook(new HSSFWorkbook());
+
+        // when
+        List<RetailExcelRowDto> dom = parser.parse(new ByteArrayInputStream(bytes));
+        List<RetailExcelRowDto> streaming = parseStreaming(bytes);
+
+        // then
+        assertThat(streaming).containsExactlyElementsOf(dom);
+        assertThat(streaming).extracting(RetailExcelRowDto::code).containsExactly("P001", "00123", "P009");
+    }
+
+    @Test
+    void SXSSF_로_쓴_여러_행_파일도_스트리밍_파싱_결과가_DOM_파싱과_동일하다() throws IOException {
+        // given
+        byte[] bytes = RetailExcelParserBenchmark.writeLargeWorkbook(500);
+
+        // when
+        List<RetailExcelRowDto> dom = parser.parse(new ByteArrayInputStream(bytes));
+        List<RetailExcelRowDto> streaming = parseStreaming(bytes);
+
+        // then
+        assertThat(streaming).hasSize(500).containsExactlyElementsOf(dom);
+    }
+}
@@ -0,0 +1,380 @@
+package com.almang.inventory.retail.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.almang.inventory.inventory.domain.Inventory;
+import com.almang.inventory.inventory.dto.InitialInventoryValues;
+import com.almang.inventory.inventory.repository.InventoryMovementRepository;
+import com.almang.inventory.inventory.repository.InventoryRepository;
+import com.almang.inventory.inventory.service.InventoryService;
+import com.almang.inventory.product.domain.Product;
+import com.almang.inventory.product.domain.ProductUnit;
+import com.almang.inventory.product.repository.ProductRepository;
+import com.almang.inventory.retail.domain.Retail;
+import com.almang.inventory.retail.parser.RetailExcelParser;
+import com.almang.inventory.retail.repository.RetailRepository;
+import com.almang.inventory.retail.service.RetailService.RetailUploadResult;
+import com.almang.inventory.store.domain.Store;
+import com.almang.inventory.store.repository.StoreRepository;
+import com.almang.inventory.user.domain.User;
+import com.almang.inventory.user.domain.UserRole;
+import com.almang.inventory.user.repository.UserRepository;
+import com.almang.inventory.vendor.domain.Vendor;
+import com.almang.inventory.vendor.domain.VendorChannel;
+import com.almang.inventory.vendor.repository.VendorRepository;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Optional;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.transaction.annotation.Transactional;
+
+@SpringBootTest
+@Transactional
+@ActiveProfiles("test")
+class RetailServiceTest {
+
+    private static final ZoneId SEOUL_ZONE = ZoneId.of("Asia/Seoul");
+
+    @Autowired private RetailService retailService;
+    @Autowired private InventoryService inventoryService;
+    @Autowired private InventoryRepository inventoryRepository;
+    @Autowired private StoreRepository storeRepository;
+    @Autowired private UserRepository userRepository;
+    @Autowired private VendorRepository vendorRepository;
+    @Autowired private ProductRepository productRepository;
+    @Autowired private RetailRepository retailRepository;
+    @Autowired private InventoryMovementRepository inventoryMovementRepository;
+    @MockitoBean private RetailUploadFingerprintStore retailUploadFingerprintStore;
+    @MockitoSpyBean private RetailExcelParser retailExcelParser;
+
+    private Store newStore(String name) {
+        return storeRepository.save(
+                Store.builder()
+                        .name(name)
+                        .isActivate(true)
+                        .build()
+        );
+    }
+
+    private User newUser(Store store, String username) {
+        return userRepository.save(
+                User.builder()
+                        .store(store)
+                        .username(username)
+                        .password("encoded-password")
+                        .name("테스트 유저")
+                        .role(UserRole.ADMIN)
+                        .build()
+        );
+    }
+
+    private Vendor newVendor(Store store, String name) {
+        return vendorRepository.save(
+                Vendor.builder()
+                        .store(store)
+                        .name(name)
+                        .channel(VendorChannel.KAKAO)
+                        .phoneNumber("010-0000-0000")
+                        .orderMethod("주문 방법")
+                        .activated(true)
+                        .build()
+        );
+    }
+
+    private Product newProduct(Store store, Vendor vendor, String name, String code) {
+        return productRepository.save(
+                Product.builder()
+                        .store(store)
+                        .vendor(vendor)
+                        .name(name)
+                        .code(code)
+                        .unit(ProductUnit.EA)
+                        .activated(true)
+                        .costPrice(1000)
+                        .retailPrice(1500)
+                        .wholesalePrice(1200)
+                        .build()
+        );
+    }
+
+    private void newInventory(Product product, BigDecimal displayStock) {
+        inventoryService.createInventory(product, new InitialInventoryValues(
+                BigDecimal.ZERO, displayStock, BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO
+        ));
+    }
+
+    // 행 배열: { 상품코드, 상품명, 수량 }
+    private MockMultipartFile newRetailExcel(Object[]... rows) throws IOException {
+        try (XSSFWorkbook workbook = new XSSFWorkbook()) {
+            Sheet sheet = workbook.createSheet("소매");
+            Row header = sheet.createRow(0);
+            header.createCell(1).setCellValue("상품코드");
+            header.createCell(2).setCellValue("상품명");
+            header.createCell(3).setCellValue("수량");
+            header.createCell(4).setCellValue("실매출");
+
+            for (int i = 0; i < rows.length; i++) {
+                Row row = sheet.createRow(i + 1);
+                row.createCell(1).setCellValue((String) rows[i][0]);
+                row.createCell(2).setCellValue((String) rows[i][1]);
+                row.createCell(3).setCellValue(((Number) rows[i][2]).doubleValue());
+                row.createCell(4).setCellValue(1000);
+            }
+
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            workbook.write(out);
+            return new MockMultipartFile("file", "retail.xlsx",
+                    "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet", out.toByteArray());
+        }
+    }
+
+    @Test
+    void 소매_엑셀_업로드_시_같은_상품_코드의_행은_합산하여_재고를_차감한다() throws IOException {
+        // given
+        Store store = newStore("소매상점");
+        User user = newUser(store, "retailUser");
+        Vendor vendor = newVendor(store, "발주처");
+        Product product = newProduct(store, vendor, "상품1", "R001");
+        newInventory(product, BigDecimal.valueOf(10));
+
+        MockMultipartFile file = newRetailExcel(
+                new Object[]{"R001", "상품1", 3},
+                new Object[]{"R001", "상품1", 2}
+        );
+
+        // when
+        RetailUploadResult result = retailService.processRetailExcel(file, user.getId());
+
+        // then
+        assertThat(result.processedCount()).isEqualTo(2);
+        assertThat(result.skippedProducts()).isEmpty();
+        Inventory inventory = inventoryRepository.findByProduct_Id(product.getId()).orElseThrow();
+        assertThat(inventory.getDisplayStock()).isEqualByComparingTo(BigDecimal.valueOf(5));
+        List<Retail> retails = retailRepository.findAllByStoreIdAndSoldDate(store.getId(), LocalDate.now(SEOUL_ZONE));
+        assertThat(retails).hasSize(1);
+        assertThat(retails.get(0).getQuantity()).isEqualByComparingTo(BigDecimal.valueOf(5));
+    }
+
+    @Test
+    void 소매_엑셀_업로드_시_처리할_수_없는_행은_사유와_함께_스킵된다() throws IOException {
+        // given
+        Store store = newStore("소매상점");
+        User user = newUser(store, "retailUser");
+        Vendor vendor = newVendor(store, "발주처");
+        Product product = newProduct(store, vendor, "상품1", "R001");
+        newInventory(product, BigDecimal.valueOf(10));
+        newProduct(store, vendor, "재고없는상품", "R002");
+        Product lowStockProduct = newProduct(store, vendor, "재고부족상품", "R004");
+        newInventory(lowStockProduct, BigDecimal.valueOf(5));
+
+        Store otherStore = newStore("다른상점");
+        Product otherProduct = newProduct(otherStore, newVendor(otherStore, "다른발주처"), "다른상점상품", "R003");
+        newInventory(otherProduct, BigDecimal.valueOf(10));
+
+        MockMultipartFile file = newRetailExcel(
+                new Object[]{"R001", "상품1", 3},
+                new Object[]{"R002", "재고없는상품", 1},
+                new Object[]{"R003", "다른상점상품", 1},
+                new Object[]{"UNKNOWN", "없는상품", 1},
+                new Object[]{"R004", "재고부족상품", 20}
+        );
+
+        // when
+        RetailUploadResult result = retailService.processRetailExcel(file, user.getId());
+
+        // then
+        assertThat(result.processedCount()).isEqualTo(1);
+        assertThat(result.skippedProducts()).hasSize(4);
+        assertThat(result.skippedProducts().get(0)).isEqualTo("R002 (재고없는상품) - 재고 레코드 없음");
+        assertThat(result.skippedProducts().get(1)).isEqualTo("R003 (다른상점상품)");
+        assertThat(result.skippedProducts().get(2)).isEqualTo("UNKNOWN (없는상품)");
+        assertThat(result.skippedProducts().get(3)).startsWith("R004 (재고부족상품) - 재고 부족");
+        Inventory otherInventory = inventoryRepository.findByProduct_Id(otherProduct.getId()).orElseThrow();
+        assertThat(otherInventory.getDisplayStock()).isEqualByComparingTo(BigDecimal.valueOf(10));
+    }
+
+    @Test
+    void 같은_날_재업로드_시_수량_차이만큼만_재고를_차감하거나_복원한다() throws IOException {
+        // given
+        Store store = newStore("소매상점");
+        User user = newUser(store, "retailUser");
+        Vendor vendor = newVendor(store, "발주처");
+        Product increased = newProduct(store, vendor, "증가상품", "D001");
+        Product decreased = newProduct(store, vendor, "감소상품", "D002");
+        Product removed = newProduct(store, vendor, "삭제상품", "D003");
+        newInventory(increased, BigDecimal.valueOf(10));
+        newInventory(decreased, BigDecimal.valueOf(10));
+        newInventory(removed, BigDecimal.valueOf(10));
+
+        retailService.processRetailExcel(newRetailExcel(
+                new Object[]{"D001", "증가상품", 2},
+                new Object[]{"D002", "감소상품", 5},
+                new Object[]{"D003", "삭제상품", 3}
+        ), user.getId());
+
+        // when
+        RetailUploadResult result = retailService.processRetailExcel(newRetailExcel(
+                new Object[]{"D001", "증가상품", 6},
+                new Object[]{"D002", "감소상품", 1}
+        ), user.getId());
+
+        // then
+        // 파일에서 빠진 D003 은 파일 행이 아니므로 처리 행 수에 포함되지 않음
+        assertThat(result.processedCount()).isEqualTo(2);
+        assertThat(result.skippedProducts()).isEmpty();
+        assertThat(displayStockOf(increased)).isEqualByComparingTo(BigDecimal.valueOf(4));
+        assertThat(displayStockOf(decreased)).isEqualByComparingTo(BigDecimal.valueOf(9));
+        assertThat(displayStockOf(removed)).isEqualByComparingTo(BigDecimal.valueOf(10));
+
+        List<Retail> retails = retailRepository.findAllByStoreIdAndSoldDate(store.getId(), LocalDate.now(SEOUL_ZONE));
+        assertThat(retails).extracting(Retail::getProductCode).containsExactlyInAnyOrder("D001", "D002");
+        assertThat(retails).filteredOn(retail -> retail.getProductCode().equals("D001"))
+                .singleElement()
+                .satisfies(retail -> assertThat(retail.getQuantity()).isEqualByComparingTo(BigDecimal.valueOf(6)));
+    }
+
+    @Test
+    void 같은_파일을_다시_업로드하면_아무것도_반영하지_않는다() throws IOException {
+        // given
+        Store store = newStore("소매상점");
+        User user = newUser(store, "retailUser");
+        Vendor vendor = newVendor(store, "발주처");
+        Product product = newProduct(store, vendor, "상품1", "S001");
+        newInventory(product, BigDecimal.valueOf(10));
+
+        retailService.processRetailExcel(newRetailExcel(new Object[]{"S001", "상품1", 3}), user.getId());
+        long movementCount = inventoryMovementRepository.count();
+
+        // when
+        RetailUploadResult result = retailService.processRetailExcel(
+                newRetailExcel(new Object[]{"S001", "상품1", 3}), user.getId());
+
+        // then - 행은 이미 반영된 그대로이므로 처리 행 수에는 포함되지만 재고와 이력은 쓰지 않음
+        assertThat(result.processedCount()).isEqualTo(1);
+        assertThat(displayStockOf(product)).isEqualByComparingTo(BigDecimal.valueOf(7));
+        assertThat(inventoryMovementRepository.count()).isEqualTo(movementCount);
+    }
+
+    @Test
+    void 같은_상품_코드의_행_중_재고가_부족한_행만_스킵한다() throws IOException {
+        // given
+        Store store = newStore("소매상점");
+        User user = newUser(store, "retailUser");
+        Vendor vendor = newVendor(store, "발주처");
+        Product product = newProduct(store, vendor, "상품1", "P001");
+        newInventory(product, BigDecimal.valueOf(5));
+
+        MockMultipartFile file = newRetailExcel(
+                new Object[]{"P001", "상품1", 3},
+                new Object[]{"P001", "상품1", 4},
+                new Object[]{"P001", "상품1", 2}
+        );
+
+        // when
+        RetailUploadResult result = retailService.processRetailExcel(file, user.getId());
+
+        // then
+        assertThat(result.processedCount()).isEqualTo(2);
+        assertThat(result.skippedProducts()).singleElement()
+                .satisfies(skipped -> assertThat(skipped).startsWith("P001 (상품1) - 재고 부족"));
+        assertThat(displayStockOf(product)).isEqualByComparingTo(BigDecimal.ZERO);
+        List<Retail> retails = retailRepository.findAllByStoreIdAndSoldDate(store.getId(), LocalDate.now(SEOUL_ZONE));
+        assertThat(retails).singleElement()
+                .satisfies(retail -> assertThat(retail.getQuantity()).isEqualByComparingTo(BigDecimal.valueOf(5)));
+    }
+
+    @Test
+    void 재업로드_시_재고가_부족한_행은_처음부터_반영하는_것처럼_스킵한다() throws IOException {
+        // given
+        Store store = newStore("소매상점");
+        User user = newUser(store, "retailUser");
+        Vendor vendor = newVendor(store, "발주처");
+        Product product = newProduct(store, vendor, "상품1", "S001");
+        newInventory(product, BigDecimal.valueOf(5));
+
+        retailService.processRetailExcel(newRetailExcel(new Object[]{"S001", "상품1", 4}), user.getId());
+
+        // when - 이전에 차감한 4 를 포함해도 매대 재고 5 로는 두 번째 행(4)이 들어가지 않음
+        RetailUploadResult result = retailService.processRetailExcel(newRetailExcel(
+                new Object[]{"S001", "상품1", 2},
+                new Object[]{"S001", "상품1", 4}
+        ), user.getId());
+
+        // then
+        assertThat(result.processedCount()).isEqualTo(1);
+        assertThat(result.skippedProducts()).hasSize(1);
+        assertThat(result.skippedProducts().get(0)).startsWith("S001 (상품1) - 재고 부족");
+        assertThat(displayStockOf(product)).isEqualByComparingTo(BigDecimal.valueOf(3));
+        List<Retail> retails = retailRepository.findAllByStoreIdAndSoldDate(store.getId(), LocalDate.now(SEOUL_ZONE));
+        assertThat(retails).singleElement()
+                .satisfies(retail -> assertThat(retail.getQuantity()).isEqualByComparingTo(BigDecimal.valueOf(2)));
+    }
+
+    @Test
+    void 마지막으로_반영된_파일과_같은_파일이면_반영하지_않고_이전_결과를_반환한다() throws IOException {
+        // given
+        Store store = newStore("소매상점");
+        User user = newUser(store, "retailUser");
+        Vendor vendor = newVendor(store, "발주처");
+        Product product = newProduct(store, vendor, "상품1", "H001");
+        newInventory(product, BigDecimal.valueOf(10));
+
+        MockMultipartFile file = newRetailExcel(new Object[]{"H001", "상품1", 3});
+        String contentHash = RetailUploadFingerprintStore.sha256(new ByteArrayInputStream(file.getBytes()));
+        RetailUploadResult previousResult = new RetailUploadResult(1, List.of());
+        given(retailUploadFingerprintStore.findResult(eq(store.getId()), any(LocalDate.class), eq(contentHash)))
+                .willReturn(Optional.of(previousResult));
+
+        // when
+        RetailUploadResult result = retailService.processRetailExcel(file, user.getId());
+
+        // then
+        assertThat(result).isEqualTo(previousResult);
+        verify(retailExcelParser, never()).parse(any(), any());
+        assertThat(displayStockOf(product)).isEqualByComparingTo(BigDecimal.valueOf(10));
+        assertThat(retailRepository.findAllByStoreIdAndSoldDate(store.getId(), LocalDate.now(SEOUL_ZONE))).isEmpty();
+    }
+
+    @Test
+    void 업로드를_반영하면_파일_지문과_처리_결과를_저장한다() throws IOException {
+        // given
+        Store store = newStore("소매상점");
+        User user = newUser(store, "retailUser");
+        Vendor vendor = newVendor(store, "발주처");
+        Product product = newProduct(store, vendor, "상품1", "H001");
+        newInventory(product, BigDecimal.valueOf(10));
+
+        MockMultipartFile file = newRetailExcel(new Object[]{"H001", "상품1", 3});
+        String contentHash = RetailUploadFingerprintStore.sha256(new ByteArrayInputStream(file.getBytes()));
+
+        // when
+        RetailUploadResult result = retailService.processRetailExcel(file, user.getId());
+
+        // then
+        verify(retailUploadFingerprintStore).saveAfterCommit(
+                eq(store.getId()), any(LocalDate.class), eq(contentHash), eq(result));
+    }
+
+    private BigDecimal displayStockOf(Product product) {
+        return inventoryRepository.findByProduct_Id(product.getId()).orElseThrow().getDisplayStock();
+    }
+}
@@ -0,0 +1,95 @@
+package com.almang.inventory.retail.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.verify;
+
+import com.almang.inventory.retail.service.RetailService.RetailUploadResult;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+@ExtendWith(MockitoExtension.class)
+class RetailUploadFingerprintStoreTest {
+
+    private static final LocalDate SOLD_DATE = LocalDate.of(2025, 1, 15);
+    private static final String KEY = "retail:upload:last:1:2025-01-15";
+
+    @Mock private RedisTemplate<String, String> redisTemplate;
+    @Mock private ValueOperations<String, String> valueOperations;
+
+    private RetailUploadFingerprintStore fingerprintStore;
+
+    @BeforeEach
+    void init() {
+        fingerprintStore = new RetailUploadFingerprintStore(redisTemplate, new ObjectMapper());
+        lenient().when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+    }
+
+    @Test
+    void 스트림의_SHA256_지문을_계산한다() throws IOException {
+        // when
+        String hash = RetailUploadFingerprintStore.sha256(
+                new ByteArrayInputStream("abc".getBytes(StandardCharsets.UTF_8)));
+
+        // then
+        assertThat(hash).isEqualTo("ba7816bf8f01cfea414140de5dae2223b00361a396177a9cb410ff61f20015ad");
+    }
+
+    @Test
+    void 저장한_지문과_같으면_이전_처리_결과를_반환한다() {
+        // given
+        RetailUploadResult result = new RetailUploadResult(2, List.of("P001 (상품1)"));
+        fingerprintStore.saveAfterCommit(1L, SOLD_DATE, "hash-a", result);
+
+        ArgumentCaptor<String> value = ArgumentCaptor.forClass(String.class);
+        verify(valueOperations).set(eq(KEY), value.capture(), eq(Duration.ofDays(2)));
+        given(valueOperations.get(KEY)).willReturn(value.getValue());
+
+        // when
+        Optional<RetailUploadResult> same = fingerprintStore.findResult(1L, SOLD_DATE, "hash-a");
+        Optional<RetailUploadResult> different = fingerprintStore.findResult(1L, SOLD_DATE, "hash-b");
+
+        // then
+        assertThat(same).contains(result);
+        assertThat(different).isEmpty();
+    }
+
+    @Test
+    void Redis_장애_시_지문이_없는_것으로_처리한다() {
+        // given
+        given(valueOperations.get(anyString())).willThrow(new RedisConnectionFailureException("connection refused"));
+
+        // when
+        Optional<RetailUploadResult> result = fingerprintStore.findResult(1L, SOLD_DATE, "hash-a");
+
+        // then
+        assertThat(result).isEmpty();
+    }
+
+    @Test
+    void 지문을_삭제한다() {
+        // when
+        fingerprintStore.evict(1L, SOLD_DATE);
+
+        // then
+        verify(redisTemplate).delete(KEY);
+    }
+}
@@ -0,0 +1,363 @@
+package com.almang.inventory.retail.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.almang.inventory.global.exception.BaseException;
+import com.almang.inventory.global.exception.ErrorCode;
+import com.almang.inventory.inventory.domain.Inventory;
+import com.almang.inventory.inventory.dto.InitialInventoryValues;
+import com.almang.inventory.inventory.repository.InventoryRepository;
+import com.almang.inventory.inventory.service.InventoryService;
+import com.almang.inventory.product.domain.Product;
+import com.almang.inventory.product.domain.ProductUnit;
+import com.almang.inventory.product.repository.ProductRepository;
+import com.almang.inventory.retail.domain.RetailUploadJob;
+import com.almang.inventory.retail.domain.RetailUploadJobStatus;
+import com.almang.inventory.retail.dto.response.RetailUploadJobResponse;
+import com.almang.inventory.retail.repository.RetailRepository;
+import com.almang.inventory.retail.repository.RetailUploadJobRepository;
+import com.almang.inventory.retail.service.RetailService.RetailUploadResult;
+import com.almang.inventory.store.domain.Store;
+import com.almang.inventory.store.repository.StoreRepository;
+import com.almang.inventory.user.domain.User;
+import com.almang.inventory.user.domain.UserRole;
+import com.almang.inventory.user.repository.UserRepository;
+import com.almang.inventory.vendor.domain.Vendor;
+import com.almang.inventory.vendor.domain.VendorChannel;
+import com.almang.inventory.vendor.repository.VendorRepository;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Transactional;
+
+@SpringBootTest
+@Transactional
+@ActiveProfiles("test")
+class RetailUploadJobServiceTest {
+
+    private static final ZoneId SEOUL_ZONE = ZoneId.of("Asia/Seoul");
+
+    @Autowired private RetailUploadJobService retailUploadJobService;
+    @Autowired private RetailUploadJobWorker retailUploadJobWorker;
+    @Autowired private RetailUploadJobRepository retailUploadJobRepository;
+    @Autowired private InventoryService inventoryService;
+    @Autowired private InventoryRepository inventoryRepository;
+    @Autowired private StoreRepository storeRepository;
+    @Autowired private UserRepository userRepository;
+    @Autowired private VendorRepository vendorRepository;
+    @Autowired private ProductRepository productRepository;
+    @Autowired private RetailRepository retailRepository;
+    @Autowired private JdbcTemplate jdbcTemplate;
+    @MockitoBean private RetailUploadFingerprintStore retailUploadFingerprintStore;
+
+    private Store newStore(String name) {
+        return storeRepository.save(
+                Store.builder()
+                        .name(name)
+                        .isActivate(true)
+                        .build()
+        );
+    }
+
+    private User newUser(Store store, String username) {
+        return userRepository.save(
+                User.builder()
+                        .store(store)
+                        .username(username)
+                        .password("encoded-password")
+                        .name("테스트 유저")
+                        .role(UserRole.ADMIN)
+                        .build()
+        );
+    }
+
+    private Vendor newVendor(Store store, String name) {
+        return vendorRepository.save(
+                Vendor.builder()
+                        .store(store)
+                        .name(name)
+                        .channel(VendorChannel.KAKAO)
+                        .phoneNumber("010-0000-0000")
+                        .orderMethod("주문 방법")
+                        .activated(true)
+                        .build()
+        );
+    }
+
+    private Product newProduct(Store store, Vendor vendor, String name, String code) {
+        return productRepository.save(
+                Product.builder()
+                        .store(store)
+                        .vendor(vendor)
+                        .name(name)
+                        .code(code)
+                        .unit(ProductUnit.EA)
+                        .activated(true)
+                        .costPrice(1000)
+                        .retailPrice(1500)
+                        .wholesalePrice(1200)
+                        .build()
+        );
+    }
+
+    private void newInventory(Product product, BigDecimal displayStock) {
+        inventoryService.createInventory(product, new InitialInventoryValues(
+                BigDecimal.ZERO, displayStock, BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO
+        ));
+    }
+
+    // 행 배열: { 상품코드, 상품명, 수량 }
+    private MockMultipartFile newRetailExcel(Object[]... rows) throws IOException {
+        try (XSSFWorkbook workbook = new XSSFWorkbook()) {
+            Sheet sheet = workbook.createSheet("소매");
+            Row header = sheet.createRow(0);
+            header.createCell(1).setCellValue("상품코드");
+            header.createCell(2).setCellValue("상품명");
+            header.createCell(3).setCellValue("수량");
+            header.createCell(4).setCellValue("실매출");
+
+            for (int i = 0; i < rows.length; i++) {
+                Row row = sheet.createRow(i + 1);
+                row.createCell(1).setCellValue((String) rows[i][0]);
+                row.createCell(2).setCellValue((String) rows[i][1]);
+                row.createCell(3).setCellValue(((Number) rows[i][2]).doubleValue());
+                row.createCell(4).setCellValue(1000);
+            }
+
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            workbook.write(out);
+            return new MockMultipartFile("file", "retail.xlsx",
+                    "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet", out.toByteArray());
+        }
+    }
+
+    // 행 배열: { 상품코드, 상품명, 수량 }
+    private Path newRetailExcelFile(Object[]... rows) throws IOException {
+        Path file = Files.createTempFile("retail-upload-test-", ".upload");
+        try (XSSFWorkbook workbook = new XSSFWorkbook(); OutputStream out = Files.newOutputStream(file)) {
+            Sheet sheet = workbook.createSheet("소매");
+            sheet.createRow(0).createCell(1).setCellValue("상품코드");
+            for (int i = 0; i < rows.length; i++) {
+                Row row = sheet.createRow(i + 1);
+                row.createCell(1).setCellValue((String) rows[i][0]);
+                row.createCell(2).setCellValue((String) rows[i][1]);
+                row.createCell(3).setCellValue(((Number) rows[i][2]).doubleValue());
+            }
+            workbook.write(out);
+        }
+        return file;
+    }
+
+    private RetailUploadJob newJob(Store store, User user, Path file) {
+        return newJob(store, user, file, LocalDate.now(SEOUL_ZONE));
+    }
+
+    private RetailUploadJob newJob(Store store, User user, Path file, LocalDate soldDate) {
+        return retailUploadJobRepository.save(
+                RetailUploadJob.builder()
+                        .store(store)
+                        .userId(user.getId())
+                        .originalFilename("retail.xlsx")
+                        .storedFilePath(file.toString())
+                        .soldDate(soldDate)
+                        .contentHash("test-content-hash")
+                        .status(RetailUploadJobStatus.PENDING)
+                        .build()
+        );
+    }
+
+    @Test
+    void 업로드_작업을_처리하면_진행_상황과_결과가_작업에_기록된다() throws IOException {
+        // given
+        Store store = newStore("소매상점");
+        User user = newUser(store, "retailJobUser");
+        Vendor vendor = newVendor(store, "발주처");
+        Product product = newProduct(store, vendor, "상품1", "J001");
+        newInventory(product, BigDecimal.valueOf(10));
+
+        Path file = newRetailExcelFile(
+                new Object[]{"J001", "상품1", 4},
+                new Object[]{"UNKNOWN", "없는상품", 1}
+        );
+        RetailUploadJob job = newJob(store, user, file);
+
+        // when
+        retailUploadJobWorker.process(job.getId());
+        RetailUploadJobResponse response = retailUploadJobService.getUploadJob(job.getId(), user.getId());
+
+        // then
+        assertThat(response.status()).isEqualTo(RetailUploadJobStatus.COMPLETED);
+        assertThat(response.processedCount()).isEqualTo(1);
+        assertThat(response.skippedCount()).isEqualTo(1);
+        assertThat(response.result()).isNotNull();
+        assertThat(response.result().skippedProducts()).containsExactly("UNKNOWN (없는상품)");
+        assertThat(response.startedAt()).isNotNull();
+        assertThat(response.completedAt()).isNotNull();
+        assertThat(Files.exists(file)).isFalse();
+
+        Inventory inventory = inventoryRepository.findByProduct_Id(product.getId()).orElseThrow();
+        assertThat(inventory.getDisplayStock()).isEqualByComparingTo(BigDecimal.valueOf(6));
+        verify(retailUploadFingerprintStore).saveAfterCommit(
+                eq(store.getId()), any(LocalDate.class), eq("test-content-hash"), any(RetailUploadResult.class));
+    }
+
+    @Test
+    void 자정을_넘겨_처리되는_작업도_접수한_날의_판매일로_반영된다() throws IOException {
+        // given
+        Store store = newStore("소매상점");
+        User user = newUser(store, "retailJobUser");
+        Vendor vendor = newVendor(store, "발주처");
+        Product product = newProduct(store, vendor, "상품1", "J001");
+        newInventory(product, BigDecimal.valueOf(10));
+
+        LocalDate submittedDate = LocalDate.now(SEOUL_ZONE).minusDays(1);
+        RetailUploadJob job = newJob(store, user, newRetailExcelFile(new Object[]{"J001", "상품1", 4}), submittedDate);
+
+        // when
+        retailUploadJobWorker.process(job.getId());
+
+        // then
+        assertThat(retailRepository.findAllByStoreIdAndSoldDate(store.getId(), submittedDate)).hasSize(1);
+        assertThat(retailRepository.findAllByStoreIdAndSoldDate(store.getId(), LocalDate.now(SEOUL_ZONE))).isEmpty();
+        verify(retailUploadFingerprintStore).saveAfterCommit(
+                eq(store.getId()), eq(submittedDate), eq("test-content-hash"), any(RetailUploadResult.class));
+    }
+
+    @Test
+    void 업로드_파일을_읽을_수_없으면_작업이_실패로_기록된다() throws IOException {
+        // given
+        Store store = newStore("소매상점");
+        User user = newUser(store, "retailJobUser");
+        Path file = Files.createTempFile("retail-upload-test-", ".upload");
+        Files.writeString(file, "not an excel file");
+        RetailUploadJob job = newJob(store, user, file);
+
+        // when
+        retailUploadJobWorker.process(job.getId());
+        RetailUploadJobResponse response = retailUploadJobService.getUploadJob(job.getId(), user.getId());
+
+        // then
+        assertThat(response.status()).isEqualTo(RetailUploadJobStatus.FAILED);
+        assertThat(response.errorMessage()).isEqualTo(ErrorCode.EXCEL_PARSE_ERROR.getMessage());
+        assertThat(response.result()).isNull();
+        verify(retailUploadFingerprintStore, never()).saveAfterCommit(any(), any(), any(), any());
+    }
+
+    // 처리하던 노드가 멈춘 것처럼 처리 중 상태와 오래된 갱신 시각으로 바꿈
+    private void markStale(RetailUploadJob job) {
+        jdbcTemplate.update(
+                "UPDATE retail_upload_jobs SET status = 'PROCESSING', claim_token = 'stale-token', processed_count = 3, "
+                        + "updated_at = ? WHERE retail_upload_job_id = ?",
+                LocalDateTime.now().minusHours(1), job.getId()
+        );
+    }
+
+    @Test
+    void 갱신이_멈춘_작업은_다시_대기열에_넣고_처리를_맡긴다() throws IOException {
+        // given
+        Store store = newStore("소매상점");
+        User user = newUser(store, "retailJobUser");
+        RetailUploadJob staleJob = newJob(store, user, newRetailExcelFile(new Object[]{"J001", "상품1", 1}));
+        RetailUploadJob activeJob = newJob(store, user, newRetailExcelFile(new Object[]{"J002", "상품2", 1}));
+        markStale(staleJob);
+
+        RetailUploadJobWorker worker = mock(RetailUploadJobWorker.class);
+        RetailUploadJobRecovery recovery = new RetailUploadJobRecovery(
+                retailUploadJobRepository, worker, true, Duration.ofMinutes(15));
+
+        // when
+        int resubmitted = recovery.recover();
+
+        // then
+        assertThat(resubmitted).isEqualTo(1);
+        verify(worker).run(staleJob.getId());
+        verify(worker, never()).run(activeJob.getId());
+
+        RetailUploadJob requeued = retailUploadJobRepository.findById(staleJob.getId()).orElseThrow();
+        assertThat(requeued.getStatus()).isEqualTo(RetailUploadJobStatus.PENDING);
+        assertThat(requeued.getProcessedCount()).isZero();
+        assertThat(requeued.getClaimToken()).isNull();
+        assertThat(requeued.getStartedAt()).isNull();
+    }
+
+    @Test
+    void 다시_대기열에_들어간_작업은_이전_실행이_진행_상황을_기록하지_못한다() throws IOException {
+        // given
+        Store store = newStore("소매상점");
+        User user = newUser(store, "retailJobUser");
+        RetailUploadJob job = newJob(store, user, newRetailExcelFile(new Object[]{"J001", "상품1", 1}));
+        markStale(job);
+        RetailUploadJobRecovery recovery = new RetailUploadJobRecovery(
+                retailUploadJobRepository, mock(RetailUploadJobWorker.class), true, Duration.ofMinutes(15));
+        recovery.recover();
+
+        // when
+        int touched = retailUploadJobRepository.heartbeat(
+                job.getId(), RetailUploadJobStatus.PROCESSING, "stale-token", LocalDateTime.now());
+
+        // then
+        assertThat(touched).isZero();
+    }
+
+    @Test
+    void 업로드_파일이_없는_멈춘_작업은_실패로_기록된다() throws IOException {
+        // given
+        Store store = newStore("소매상점");
+        User user = newUser(store, "retailJobUser");
+        Path file = newRetailExcelFile(new Object[]{"J001", "상품1", 1});
+        RetailUploadJob job = newJob(store, user, file);
+        markStale(job);
+        Files.delete(file);
+
+        RetailUploadJobWorker worker = mock(RetailUploadJobWorker.class);
+        RetailUploadJobRecovery recovery = new RetailUploadJobRecovery(
+                retailUploadJobRepository, worker, true, Duration.ofMinutes(15));
+
+        // when
+        int resubmitted = recovery.recover();
+        RetailUploadJobResponse response = retailUploadJobService.getUploadJob(job.getId(), user.getId());
+
+        // then
+        assertThat(resubmitted).isZero();
+        verify(worker, never()).run(any());
+        assertThat(response.status()).isEqualTo(RetailUploadJobStatus.FAILED);
+        assertThat(response.errorMessage()).isEqualTo(ErrorCode.RETAIL_UPLOAD_JOB_INTERRUPTED.getMessage());
+    }
+
+    @Test
+    void 다른_상점의_업로드_작업은_조회할_수_없다() throws IOException {
+        // given
+        Store store = newStore("소매상점");
+        User user = newUser(store, "retailJobUser");
+        RetailUploadJob job = newJob(store, user, Files.createTempFile("retail-upload-test-", ".upload"));
+
+        Store otherStore = newStore("다른상점");
+        User otherUser = newUser(otherStore, "otherRetailJobUser");
+
+        // when & then
+        assertThatThrownBy(() -> retailUploadJobService.getUploadJob(job.getId(), otherUser.getId()))
+                .isInstanceOf(BaseException.class)
+                .hasMessageContaining(ErrorCode.RETAIL_UPLOAD_JOB_ACCESS_DENIED.getMessage());
+    }
+}
@@ -0,0 +1,184 @@
+package com.almang.inventory.user.auth.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Iterator;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+
+@ExtendWith(MockitoExtension.class)
+class AccessTokenBlacklistFilterTest {
+
+    private static final int CAPACITY = 1000;
+    private static final int EXPIRATION_MINUTES = 5;
+
+    @Mock private RedisTemplate<String, String> redisTemplate;
+
+    private AccessTokenBlacklistFilter filter;
+    private Instant now;
+
+    @BeforeEach
+    void init() {
+        filter = new AccessTokenBlacklistFilter(redisTemplate, true, true, CAPACITY, EXPIRATION_MINUTES);
+        now = Instant.now();
+        filter.setClock(Clock.fixed(now, ZoneOffset.UTC));
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenBlacklistKeys(String... tokens) {
+        Iterator<String> keys = List.of(tokens).stream()
+                .map(token -> "blacklist:access:" + token)
+                .iterator();
+        Cursor<String> cursor = mock(Cursor.class);
+        lenient().when(cursor.hasNext()).thenAnswer(invocation -> keys.hasNext());
+        lenient().when(cursor.next()).thenAnswer(invocation -> keys.next());
+        given(redisTemplate.scan(any(ScanOptions.class))).willReturn(cursor);
+    }
+
+    private void advance(Duration duration) {
+        now = now.plus(duration);
+        filter.setClock(Clock.fixed(now, ZoneOffset.UTC));
+    }
+
+    @Test
+    void 재구성_전에는_모든_토큰을_Redis로_확인한다() {
+        // when & then
+        assertThat(filter.isReady()).isFalse();
+        assertThat(filter.mightBeBlacklisted("unknown-token")).isTrue();
+    }
+
+    @Test
+    void 재구성_후에는_블랙리스트에_없는_토큰을_걸러낸다() {
+        // given
+        givenBlacklistKeys("revoked-1", "revoked-2");
+
+        // when
+        filter.rebuild();
+
+        // then
+        assertThat(filter.isReady()).isTrue();
+        assertThat(filter.mightBeBlacklisted("revoked-1")).isTrue();
+        assertThat(filter.mightBeBlacklisted("revoked-2")).isTrue();
+        assertThat(filter.mightBeBlacklisted("active-token")).isFalse();
+    }
+
+    @Test
+    void 재구성에_실패하면_계속_Redis로_확인한다() {
+        // given
+        given(redisTemplate.scan(any(ScanOptions.class)))
+                .willThrow(new RedisConnectionFailureException("connection refused"));
+
+        // when
+        filter.rebuild();
+
+        // then
+        assertThat(filter.isReady()).isFalse();
+        assertThat(filter.mightBeBlacklisted("active-token")).isTrue();
+    }
+
+    @Test
+    void 추가한_토큰은_즉시_필터에_반영되고_다른_노드에_전파된다() {
+        // given
+        givenBlacklistKeys();
+        filter.rebuild();
+
+        // when
+        filter.add("logout-token");
+
+        // then
+        assertThat(filter.mightBeBlacklisted("logout-token")).isTrue();
+        verify(redisTemplate).convertAndSend(eq(AccessTokenBlacklistFilter.BLACKLIST_CHANNEL), anyString());
+    }
+
+    @Test
+    void 다른_노드에서_받은_다이제스트를_필터에_반영한다() {
+        // given
+        givenBlacklistKeys();
+        filter.rebuild();
+        AccessTokenBlacklistFilter otherNode =
+                new AccessTokenBlacklistFilter(redisTemplate, true, true, CAPACITY, EXPIRATION_MINUTES);
+        otherNode.add("remote-token");
+        ArgumentCaptor<String> digest = ArgumentCaptor.forClass(String.class);
+        verify(redisTemplate).convertAndSend(eq(AccessTokenBlacklistFilter.BLACKLIST_CHANNEL), digest.capture());
+
+        // when
+        filter.onMessage(new DefaultMessage(
+                AccessTokenBlacklistFilter.BLACKLIST_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                digest.getValue().getBytes(StandardCharsets.UTF_8)
+        ), null);
+
+        // then
+        assertThat(filter.mightBeBlacklisted("remote-token")).isTrue();
+    }
+
+    @Test
+    void 유효_기간이_지나도_이전_세대를_유지하고_봉인_후_유효_기간이_지나면_버린다() {
+        // given
+        givenBlacklistKeys();
+        filter.rebuild();
+        filter.add("logout-token");
+
+        // when - 한 유효 기간 경과: 새 세대로 교체되지만 이전 세대는 남아 있음
+        advance(Duration.ofMinutes(EXPIRATION_MINUTES));
+        boolean afterOneWindow = filter.mightBeBlacklisted("logout-token");
+
+        // when - 봉인 후 유효 기간 + 여유 시간 경과: 이전 세대 폐기
+        advance(Duration.ofMinutes(EXPIRATION_MINUTES + 1));
+        boolean afterTwoWindows = filter.mightBeBlacklisted("logout-token");
+
+        // then
+        assertThat(afterOneWindow).isTrue();
+        assertThat(afterTwoWindows).isFalse();
+    }
+
+    @Test
+    void 세대_용량에_도달하면_새_세대로_교체하여_오탐률을_유지한다() {
+        // given
+        givenBlacklistKeys();
+        filter.rebuild();
+
+        // when
+        int inserted = CAPACITY * 2 + CAPACITY / 2;
+        for (int i = 0; i < inserted; i++) {
+            filter.add("revoked-" + i);
+        }
+
+        int falsePositives = 0;
+        int probes = 10_000;
+        for (int i = 0; i < probes; i++) {
+            if (filter.mightBeBlacklisted("active-" + i)) {
+                falsePositives++;
+            }
+        }
+
+        // then
+        assertThat(filter.generationCount()).isEqualTo(3);
+        for (int i = 0; i < inserted; i++) {
+            assertThat(filter.mightBeBlacklisted("revoked-" + i)).isTrue();
+        }
+        // 세대당 1% 목표, 세대 3개 → 합산 오탐률은 약 3% 이하
+        assertThat((double) falsePositives / probes).isLessThan(0.05);
+    }
+}
@@ -0,0 +1,167 @@
+package com.almang.inventory.user.auth.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import com.github.fppt.jedismock.RedisServer;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.test.util.ReflectionTestUtils;
+
+// 인메모리 Redis 서버(jedis-mock)에 실제로 Lua 스크립트를 실행하여 리프레시 토큰 연산의 원자성 검증
+class RedisServiceScriptTest {
+
+    private static RedisServer redisServer;
+    private static LettuceConnectionFactory connectionFactory;
+
+    private RedisTemplate<String, String> redisTemplate;
+    private RedisService redisService;
+
+    @BeforeAll
+    static void startServer() throws IOException {
+        redisServer = RedisServer.newRedisServer();
+        redisServer.start();
+
+        connectionFactory = new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration(redisServer.getHost(), redisServer.getBindPort())
+        );
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+    }
+
+    @AfterAll
+    static void stopServer() throws IOException {
+        connectionFactory.destroy();
+        redisServer.stop();
+    }
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate = new RedisTemplate<>();
+        redisTemplate.setKeySerializer(new StringRedisSerializer());
+        redisTemplate.setValueSerializer(new StringRedisSerializer());
+        redisTemplate.setConnectionFactory(connectionFactory);
+        redisTemplate.afterPropertiesSet();
+
+        try (RedisConnection connection = connectionFactory.getConnection()) {
+            connection.serverCommands().flushAll();
+        }
+
+        redisService = new RedisService(redisTemplate, mock(AccessTokenBlacklistFilter.class));
+        ReflectionTestUtils.setField(redisService, "refreshTokenExpiration", 7);
+    }
+
+    @Test
+    void 리프레시_토큰을_양방향_키로_TTL과_함께_저장한다() {
+        // when
+        redisService.saveRefreshToken("1", "token-a");
+
+        // then
+        assertThat(redisService.getRefreshTokenByUserId("1")).isEqualTo("token-a");
+        assertThat(redisService.getUserIdByRefreshToken("token-a")).isEqualTo("1");
+        assertThat(redisTemplate.getExpire("refresh:user:1")).isPositive();
+        assertThat(redisTemplate.getExpire("refresh:token:token-a")).isPositive();
+    }
+
+    @Test
+    void 기존_토큰이_일치하면_새_토큰으로_교체한다() {
+        // given
+        redisService.saveRefreshToken("1", "token-a");
+
+        // when
+        boolean rotated = redisService.rotateRefreshToken("1", "token-a", "token-b");
+
+        // then
+        assertThat(rotated).isTrue();
+        assertThat(redisService.getUserIdByRefreshToken("token-a")).isNull();
+        assertThat(redisService.getUserIdByRefreshToken("token-b")).isEqualTo("1");
+        assertThat(redisService.getRefreshTokenByUserId("1")).isEqualTo("token-b");
+    }
+
+    @Test
+    void 이미_교체된_토큰으로는_다시_교체할_수_없다() {
+        // given
+        redisService.saveRefreshToken("1", "token-a");
+        redisService.rotateRefreshToken("1", "token-a", "token-b");
+
+        // when
+        boolean rotated = redisService.rotateRefreshToken("1", "token-a", "token-c");
+
+        // then
+        assertThat(rotated).isFalse();
+        assertThat(redisService.getUserIdByRefreshToken("token-c")).isNull();
+        assertThat(redisService.getRefreshTokenByUserId("1")).isEqualTo("token-b");
+    }
+
+    @Test
+    void 같은_토큰으로_동시에_교체하면_하나만_성공한다() throws Exception {
+        // given
+        redisService.saveRefreshToken("1", "token-a");
+        int concurrency = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(concurrency);
+
+        // when
+        List<Callable<Boolean>> tasks = new ArrayList<>();
+        for (int i = 0; i < concurrency; i++) {
+            String newToken = "token-new-" + i;
+            tasks.add(() -> redisService.rotateRefreshToken("1", "token-a", newToken));
+        }
+        List<String> winners = new ArrayList<>();
+        List<Future<Boolean>> results = executor.invokeAll(tasks);
+        for (int i = 0; i < concurrency; i++) {
+            if (results.get(i).get()) {
+                winners.add("token-new-" + i);
+            }
+        }
+        executor.shutdown();
+
+        // then
+        assertThat(winners).hasSize(1);
+        String winner = winners.get(0);
+        assertThat(redisService.getRefreshTokenByUserId("1")).isEqualTo(winner);
+        for (int i = 0; i < concurrency; i++) {
+            String token = "token-new-" + i;
+            assertThat(redisService.getUserIdByRefreshToken(token)).isEqualTo(token.equals(winner) ? "1" : null);
+        }
+    }
+
+    @Test
+    void userId로_삭제하면_양방향_키가_모두_삭제된다() {
+        // given
+        redisService.saveRefreshToken("1", "token-a");
+
+        // when
+        redisService.deleteByUserId("1");
+
+        // then
+        assertThat(redisService.getRefreshTokenByUserId("1")).isNull();
+        assertThat(redisService.getUserIdByRefreshToken("token-a")).isNull();
+    }
+
+    @Test
+    void refreshToken으로_삭제하면_양방향_키가_모두_삭제된다() {
+        // given
+        redisService.saveRefreshToken("1", "token-a");
+
+        // when
+        redisService.deleteByRefreshToken("token-a");
+
+        // then
+        assertThat(redisService.getRefreshTokenByUserId("1")).isNull();
+        assertThat(redisService.getUserIdByRefreshToken("token-a")).isNull();
+    }
+}
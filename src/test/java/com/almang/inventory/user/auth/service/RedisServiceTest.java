@@ -1,12 +1,16 @@
 package com.almang.inventory.user.auth.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 
 import java.time.Duration;
+import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -15,6 +19,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.test.util.ReflectionTestUtils;
 
 @ExtendWith(MockitoExtension.class)
@@ -22,9 +27,12 @@ public class RedisServiceTest {
 
     @Mock private RedisTemplate<String, String> redisTemplate;
     @Mock private ValueOperations<String, String> valueOperations;
+    @Mock private AccessTokenBlacklistFilter accessTokenBlacklistFilter;
 
     @InjectMocks private RedisService redisService;
 
+    private static final String SEVEN_DAYS_IN_SECONDS = "604800";
+
     @BeforeEach
     void init() {
         ReflectionTestUtils.setField(redisService, "refreshTokenExpiration", 7);
@@ -41,8 +49,10 @@ public class RedisServiceTest {
         redisService.saveRefreshToken(userId, refreshToken);
 
         // then
-        verify(valueOperations).set("refresh:user:1", refreshToken, Duration.ofDays(7));
-        verify(valueOperations).set("refresh:token:token-value", userId, Duration.ofDays(7));
+        verify(redisTemplate).execute(
+                any(RedisScript.class), eq(List.of("refresh:user:1", "refresh:token:token-value")),
+                eq(refreshToken), eq(userId), eq(SEVEN_DAYS_IN_SECONDS)
+        );
     }
 
     @Test
@@ -76,30 +86,26 @@ public class RedisServiceTest {
     void userId로_리프레시_토큰을_삭제한다() {
         // given
         String userId = "1";
-        given(redisTemplate.opsForValue()).willReturn(valueOperations);
-        given(valueOperations.get("refresh:user:1")).willReturn("token-value");
 
         // when
         redisService.deleteByUserId(userId);
 
         // then
-        verify(redisTemplate).delete("refresh:token:token-value");
-        verify(redisTemplate).delete("refresh:user:1");
+        verify(redisTemplate).execute(any(RedisScript.class), eq(List.of("refresh:user:1")), eq("refresh:token:"));
     }
 
     @Test
     void refreshToken으로_리프레시_토큰을_삭제한다() {
         // given
         String token = "token-value";
-        given(redisTemplate.opsForValue()).willReturn(valueOperations);
-        given(valueOperations.get("refresh:token:token-value")).willReturn("1");
 
         // when
         redisService.deleteByRefreshToken(token);
 
         // then
-        verify(redisTemplate).delete("refresh:user:1");
-        verify(redisTemplate).delete("refresh:token:token-value");
+        verify(redisTemplate).execute(
+                any(RedisScript.class), eq(List.of("refresh:token:token-value")), eq("refresh:user:")
+        );
     }
 
     @Test
@@ -108,15 +114,16 @@ public class RedisServiceTest {
         String userId = "1";
         String oldToken = "old-token";
         String newToken = "new-token";
+        List<String> keys = List.of("refresh:token:old-token", "refresh:user:1", "refresh:token:new-token");
+        given(redisTemplate.execute(
+                any(RedisScript.class), eq(keys), eq(userId), eq(newToken), eq(SEVEN_DAYS_IN_SECONDS)
+        )).willReturn(1L);
 
         // when
-        redisService.rotateRefreshToken(userId, oldToken, newToken);
+        boolean rotated = redisService.rotateRefreshToken(userId, oldToken, newToken);
 
         // then
-        verify(redisTemplate).delete("refresh:token:old-token");
-        verify(redisTemplate).delete("refresh:user:1");
-        verify(valueOperations).set("refresh:user:1", newToken, Duration.ofDays(7));
-        verify(valueOperations).set("refresh:token:new-token", userId, Duration.ofDays(7));
+        assertThat(rotated).isTrue();
     }
 
     @Test
@@ -129,8 +136,7 @@ public class RedisServiceTest {
         redisService.deleteRefreshToken(userId, refreshToken);
 
         // then
-        verify(redisTemplate).delete("refresh:user:1");
-        verify(redisTemplate).delete("refresh:token:token-value");
+        verify(redisTemplate).delete(List.of("refresh:user:1", "refresh:token:token-value"));
     }
 
     @Test
@@ -144,6 +150,7 @@ public class RedisServiceTest {
 
         // then
         verify(valueOperations).set("blacklist:access:access-token", "true", Duration.ofMillis(remainingMillis));
+        verify(accessTokenBlacklistFilter).add(accessToken);
     }
 
     @Test
@@ -163,6 +170,7 @@ public class RedisServiceTest {
     void 액세스_토큰이_블랙리스트에_포함되어_있으면_true를_반환한다() {
         // given
         String accessToken = "access-token";
+        given(accessTokenBlacklistFilter.mightBeBlacklisted(accessToken)).willReturn(true);
         given(redisTemplate.hasKey("blacklist:access:access-token")).willReturn(true);
 
         // when
@@ -176,6 +184,7 @@ public class RedisServiceTest {
     void 액세스_토큰이_블랙리스트에_포함되어_있지_않으면_false를_반환한다() {
         // given
         String accessToken = "access-token";
+        given(accessTokenBlacklistFilter.mightBeBlacklisted(accessToken)).willReturn(true);
         given(redisTemplate.hasKey("blacklist:access:access-token")).willReturn(false);
 
         // when
@@ -184,4 +193,18 @@ public class RedisServiceTest {
         // then
         assertThat(result).isFalse();
     }
+
+    @Test
+    void 로컬_필터에_없는_액세스_토큰은_Redis를_조회하지_않고_false를_반환한다() {
+        // given
+        String accessToken = "access-token";
+        given(accessTokenBlacklistFilter.mightBeBlacklisted(accessToken)).willReturn(false);
+
+        // when
+        boolean result = redisService.isAccessTokenBlacklisted(accessToken);
+
+        // then
+        assertThat(result).isFalse();
+        verify(redisTemplate, never()).hasKey("blacklist:access:access-token");
+    }
 }
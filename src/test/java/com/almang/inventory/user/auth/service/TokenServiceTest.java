@@ -87,6 +87,7 @@ class TokenServiceTest {
         Cookie refreshCookie = new Cookie("refreshToken", oldRefreshToken);
         when(httpServletRequest.getCookies()).thenReturn(new Cookie[] {refreshCookie});
         when(redisService.getUserIdByRefreshToken(oldRefreshToken)).thenReturn(userId);
+        when(redisService.rotateRefreshToken(eq(userId), eq(oldRefreshToken), anyString())).thenReturn(true);
         when(jwtTokenProvider.generateAccessToken(1L)).thenReturn(newAccessToken);
 
         // when
@@ -146,6 +147,21 @@ class TokenServiceTest {
                 .hasMessageContaining(ErrorCode.REFRESH_TOKEN_NOT_FOUND.getMessage());
     }
 
+    @Test
+    void 다른_요청이_먼저_같은_refreshToken을_교체했으면_재발급_시_예외가_발생한다() {
+        // given
+        String refreshToken = "old-refresh-token";
+        Cookie cookie = new Cookie("refreshToken", refreshToken);
+        when(httpServletRequest.getCookies()).thenReturn(new Cookie[] {cookie});
+        when(redisService.getUserIdByRefreshToken(refreshToken)).thenReturn("1");
+        when(redisService.rotateRefreshToken(eq("1"), eq(refreshToken), anyString())).thenReturn(false);
+
+        // when & then
+        assertThatThrownBy(() -> tokenService.reissueAccessToken(httpServletRequest, httpServletResponse))
+                .isInstanceOf(BaseException.class)
+                .hasMessageContaining(ErrorCode.REFRESH_TOKEN_NOT_FOUND.getMessage());
+    }
+
     @Test
     void 액세스_토큰과_리프레시_토큰을_모두_폐기한다() {
         // given